@@ -17,6 +17,7 @@ import com.ia.core.communication.service.model.mensagem.dto.MensagemDTO;
 import com.ia.core.communication.service.model.mensagem.dto.MensagemTranslator;
 import com.ia.core.communication.service.model.modelomensagem.dto.ProcessadorVariaveis;
 import com.ia.core.communication.service.modelomensagem.ModeloMensagemRepository;
+import com.ia.core.model.BaseEntity;
 import com.ia.core.resilience4j.annotation.Resilient;
 import com.ia.core.resilience4j.profile.ResilienceProfile;
 import com.ia.core.security.service.CrudSecuredBaseService;
@@ -218,31 +219,35 @@ public class MensagemService
     var processador = getProcessadorVariaveis();
     var corpoModelo = modeloMensagem.getCorpoModelo() != null ? modeloMensagem.getCorpoModelo() : "";
 
-    for (ContatoMensagem contato : contatos) {
-      try {
-        // Converter entidade para DTO (que implementa HasVariavel)
-        ContatoMensagemDTO contatoDTO = mapper != null ? mapper.toDTO(contato) : null;
-        if (contatoDTO == null) {
-          falhas.add("Contato sem mapper: " + (contato != null ? contato.getTelefone() : "null"));
-          continue;
-        }
-
-        // Processar variáveis usando o DTO
-        String conteudoProcessado;
-        if (processador != null) {
-          conteudoProcessado = processador.processar(corpoModelo, contatoDTO);
-        } else {
-          conteudoProcessado = corpoModelo;
+    // Um identificador por contato, reservado de uma só vez e atribuído às
+    // mensagens na ordem de envio
+    try (var ids = BaseEntity.reserveIds(contatos.size())) {
+      for (ContatoMensagem contato : contatos) {
+        try {
+          // Converter entidade para DTO (que implementa HasVariavel)
+          ContatoMensagemDTO contatoDTO = mapper != null ? mapper.toDTO(contato) : null;
+          if (contatoDTO == null) {
+            falhas.add("Contato sem mapper: " + (contato != null ? contato.getTelefone() : "null"));
+            continue;
+          }
+
+          // Processar variáveis usando o DTO
+          String conteudoProcessado;
+          if (processador != null) {
+            conteudoProcessado = processador.processar(corpoModelo, contatoDTO);
+          } else {
+            conteudoProcessado = corpoModelo;
+          }
+
+          // Criar e enviar mensagem
+          MensagemDTO mensagemDTO = new MensagemDTO();
+          mensagemDTO.setTipoCanal(modeloMensagem.getTipoCanal());
+          mensagemDTO.setTelefoneDestinatario(contato.getTelefone() != null ? contato.getTelefone() : "");
+          mensagemDTO.setCorpoMensagem(conteudoProcessado);
+          this.enviar(mensagemDTO);
+        } catch (Exception e) {
+          falhas.add("Contato " + contato.getTelefone() + ": " + e.getMessage());
         }
-
-        // Criar e enviar mensagem
-        MensagemDTO mensagemDTO = new MensagemDTO();
-        mensagemDTO.setTipoCanal(modeloMensagem.getTipoCanal());
-        mensagemDTO.setTelefoneDestinatario(contato.getTelefone() != null ? contato.getTelefone() : "");
-        mensagemDTO.setCorpoMensagem(conteudoProcessado);
-        this.enviar(mensagemDTO);
-      } catch (Exception e) {
-        falhas.add("Contato " + contato.getTelefone() + ": " + e.getMessage());
       }
     }
     return falhas.isEmpty() ? "Batch enviado com sucesso" : "Batch com falhas: " + String.join(", ", falhas);
@@ -0,0 +1,55 @@
+package com.ia.core.llm.rest.web;
+
+import com.google.gson.Gson;
+import com.ia.core.llm.service.chat.ChatService;
+import com.ia.core.llm.service.model.chat.ChatRequestDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Controller REST para perguntas ao modelo de linguagem.
+ * <p>
+ * Expõe a pergunta com resposta completa e a variante em streaming via
+ * Server-Sent Events, em que cada evento traz um trecho da resposta
+ * codificado como string JSON (preservando quebras de linha). O
+ * encerramento da conexão pelo cliente cancela a geração no modelo.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/${api.version}/llm/chat")
+@Tag(name = "Chat", description = "Perguntas ao modelo de linguagem")
+@RequiredArgsConstructor
+public class ChatController {
+
+  private static final Gson GSON = new Gson();
+
+  private final ChatService chatService;
+
+  @PostMapping
+  @Operation(summary = "Perguntar", description = "Envia a pergunta e retorna a resposta completa do modelo")
+  public String ask(@RequestBody @Valid ChatRequestDTO dto) {
+    log.debug("Pergunta ao modelo: sessionId={}", dto.getSessionId());
+    return chatService.ask(dto);
+  }
+
+  @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "Perguntar em streaming", description = "Envia a pergunta e retorna a resposta em trechos via Server-Sent Events")
+  public Flux<String> askStream(@RequestBody @Valid ChatRequestDTO dto) {
+    log.debug("Pergunta ao modelo em streaming: sessionId={}", dto.getSessionId());
+    return chatService.askStream(dto)
+        .map(GSON::toJson)
+        .doOnCancel(() -> log.debug("Streaming cancelado pelo cliente: sessionId={}", dto.getSessionId()));
+  }
+}
@@ -0,0 +1,88 @@
+package com.ia.core.owl.service.model;
+
+import com.ia.core.service.dto.DTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado da ingestão de um lote de axiomas em uma ontologia.
+ * <p>
+ * Os axiomas válidos são aplicados de uma só vez e a consistência é verificada
+ * em um único ciclo do reasoner; os erros de interpretação são informados por
+ * axioma, pela posição no lote.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoIngestaoAxiomasDTO implements DTO<Serializable> {
+
+  /** Serial UID */
+  private static final long serialVersionUID = -6127739250147310928L;
+
+  /**
+   * Indica se a ontologia ficou consistente após a ingestão.
+   */
+  private boolean consistente;
+
+  /**
+   * Quantidade de axiomas OWL efetivamente adicionados à ontologia.
+   */
+  private int axiomasAdicionados;
+
+  /**
+   * Erros de interpretação, indexados pela posição do axioma no lote.
+   */
+  @Builder.Default
+  private Map<Integer, String> errosInterpretacao = new LinkedHashMap<>();
+
+  /**
+   * Inconsistências detectadas pelo reasoner.
+   */
+  @Builder.Default
+  private List<String> inconsistencias = new ArrayList<>();
+
+  /**
+   * Tempo de processamento em milissegundos.
+   */
+  private long tempoProcessamentoMs;
+
+  /**
+   * @param indice posição do axioma no lote
+   * @return {@code true} se o axioma foi interpretado e aplicado
+   */
+  public boolean isAplicado(int indice) {
+    return !errosInterpretacao.containsKey(indice);
+  }
+
+  @Override
+  public ResultadoIngestaoAxiomasDTO cloneObject() {
+    return toBuilder()
+        .errosInterpretacao(new LinkedHashMap<>(errosInterpretacao))
+        .inconsistencias(new ArrayList<>(inconsistencias))
+        .build();
+  }
+
+  /**
+   * Constantes para nomes dos campos deste DTO.
+   */
+  @SuppressWarnings("javadoc")
+  public static class CAMPOS {
+    public static final String CONSISTENTE = "consistente";
+    public static final String AXIOMAS_ADICIONADOS = "axiomasAdicionados";
+    public static final String ERROS_INTERPRETACAO = "errosInterpretacao";
+    public static final String INCONSISTENCIAS = "inconsistencias";
+    public static final String TEMPO_PROCESSAMENTO_MS = "tempoProcessamentoMs";
+  }
+}
@@ -1,10 +1,16 @@
 package com.ia.core.llm;
 
+import com.ia.core.llm.service.chat.ChatMemorySummarizer;
 import com.ia.core.llm.service.chat.ChatSessionService;
 import com.ia.core.llm.service.chat.ChatSessionServiceImpl;
+import com.ia.core.llm.service.chat.CompactingChatMemory;
+import com.ia.core.llm.service.chat.DefaultLlmResponseCache;
+import com.ia.core.llm.service.chat.LlmResponseCache;
+import com.ia.core.llm.service.chat.TsidJdbcChatMemoryRepository;
 import com.ia.core.llm.service.config.LlmConfigurationProvider;
 import com.ia.core.llm.service.config.LlmModuleProperties;
 import com.ia.core.llm.service.config.SpringAiProperties;
+import com.ia.core.llm.service.metrics.LlmMetrics;
 import com.ia.core.llm.service.template.PromptTemplateServiceImpl;
 import com.ia.core.llm.service.template.TemplateRepository;
 import com.ia.core.llm.service.vector.VectorStoreOperations;
@@ -26,6 +32,9 @@ import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.vectorstore.SimpleVectorStore;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
 
@@ -54,30 +63,62 @@ public class LLMConfiguration {
     }
 
     /**
-     * Configura ChatMemory com persistência em banco de dados.
+     * Configura o repositório da memória de conversação conforme
+     * {@code ia-core.llm.memory.store}: em memória, local ao nó, ou na tabela
+     * JDBC compartilhada entre os nós.
      *
      * @param dataSource DataSource para conexão com banco de dados
-     * @return ChatMemory configurado com JdbcChatMemoryRepository
+     * @param transactionManager gerenciador de transações do DataSource
+     * @return repositório da memória de conversação
      */
     @Bean
-    ChatMemoryRepository jdbcChatMemoryRepository(DataSource dataSource) {
+    ChatMemoryRepository jdbcChatMemoryRepository(DataSource dataSource,
+                                                  PlatformTransactionManager transactionManager) {
+        if (configurationProvider.getLlmProperties().getMemory().getStore() == LlmModuleProperties.Memory.Store.JDBC) {
+            return new TsidJdbcChatMemoryRepository(new JdbcTemplate(dataSource),
+                                                    new TransactionTemplate(transactionManager));
+        }
         return new InMemoryChatMemoryRepository();
     }
 
     /**
-     * Configura ChatMemory com MessageWindowChatMemory.
+     * Configura ChatMemory em janela, resumindo as mensagens que saem dela
+     * quando {@code ia-core.llm.memory.summary-max-chars} é positivo.
      *
      * @param chatMemoryRepository Repositório de chat memory
      * @return ChatMemory configurado
      */
     @Bean
     ChatMemory chatMemory(ChatMemoryRepository chatMemoryRepository) {
+        LlmModuleProperties.Memory config = configurationProvider.getLlmProperties().getMemory();
+        if (config.getSummaryMaxChars() > 0) {
+            return new CompactingChatMemory(chatMemoryRepository, config.getMaxMessages(),
+                                            ChatMemorySummarizer.truncating(config.getSummaryMaxChars()));
+        }
         return MessageWindowChatMemory.builder()
             .chatMemoryRepository(chatMemoryRepository)
-            .maxMessages(50)
+            .maxMessages(config.getMaxMessages())
             .build();
     }
 
+    /**
+     * Configura o cache de respostas LLM. O nível semântico usa um vector
+     * store próprio, separado do usado como contexto pelo
+     * {@code QuestionAnswerAdvisor}.
+     *
+     * @param embeddingModel modelo de embeddings do nível semântico
+     * @param llmMetrics métricas de acertos do cache
+     * @return cache de respostas
+     */
+    @Bean
+    LlmResponseCache llmResponseCache(EmbeddingModel embeddingModel, LlmMetrics llmMetrics) {
+        LlmModuleProperties.ResponseCache config = configurationProvider.getLlmProperties().getResponseCache();
+        VectorStore semanticStore = config.getSemantic().isEnabled()
+            ? SimpleVectorStore.builder(embeddingModel).build()
+            : null;
+        return new DefaultLlmResponseCache(config, semanticStore, llmMetrics);
+    }
+
     @Bean
     VectorStoreOperations vectorStoreOperations(VectorStoreService vectorStoreService) {
         return new VectorStoreOperationsImpl(vectorStoreService);
@@ -88,9 +129,22 @@ public class LLMConfiguration {
         return new PromptTemplateServiceImpl(templateRepository);
     }
 
+    /**
+     * Configura o registro de sessões de chat. Com memória local, o histórico
+     * da sessão descartada por inatividade ou tamanho é apagado junto.
+     *
+     * @param chatMemory memória de conversação
+     * @param llmMetrics métricas das sessões
+     * @return registro de sessões
+     */
     @Bean
-    ChatSessionService chatSessionService() {
-        return new ChatSessionServiceImpl();
+    ChatSessionService chatSessionService(ChatMemory chatMemory, LlmMetrics llmMetrics) {
+        LlmModuleProperties properties = configurationProvider.getLlmProperties();
+        boolean localMemory = properties.getMemory().getStore() == LlmModuleProperties.Memory.Store.IN_MEMORY;
+        ChatSessionServiceImpl service = new ChatSessionServiceImpl(properties.getSession(),
+                                                                    localMemory ? chatMemory : null);
+        llmMetrics.bindChatSessions(service);
+        return service;
     }
 
     @Bean
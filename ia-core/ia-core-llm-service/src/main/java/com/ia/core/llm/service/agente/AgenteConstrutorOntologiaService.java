@@ -1,5 +1,6 @@
 package com.ia.core.llm.service.agente;
 
+import com.ia.core.llm.model.ontologia.OntologyFormat;
 import com.ia.core.llm.service.chat.ChatService;
 import com.ia.core.llm.service.model.agente.RequisicaoConstrucaoOntologiaDTO;
 import com.ia.core.llm.service.model.agente.ResultadoConstrucaoOntologiaDTO;
@@ -7,6 +8,7 @@ import com.ia.core.llm.service.model.ontologia.EstatisticasOntologiaDTO;
 import com.ia.core.llm.service.model.ontologia.OntologiaDTO;
 import com.ia.core.llm.service.model.ontologia.ResultadoValidacaoDTO;
 import com.ia.core.owl.service.DefaultOwlService;
+import com.ia.core.owl.service.model.ResultadoIngestaoAxiomasDTO;
 import com.ia.core.owl.service.model.axioma.AxiomaDTO;
 import com.ia.core.owl.service.validation.LoopLLMRaciocinador;
 import lombok.extern.slf4j.Slf4j;
@@ -247,7 +249,16 @@ public class AgenteConstrutorOntologiaService extends AgenteConversacionalOntolo
     List<AxiomaDTO> axiomasValidados = new ArrayList<>();
     int inconsistenciasCorrigidas = 0;
 
-    for (AxiomaDTO axioma : axiomas) {
+    // Um único ciclo do reasoner para o lote: se o conjunto for consistente,
+    // apenas os axiomas não interpretados precisam de validação individual
+    ResultadoIngestaoAxiomasDTO lote = validarLote(axiomas);
+
+    for (int i = 0; i < axiomas.size(); i++) {
+      AxiomaDTO axioma = axiomas.get(i);
+      if (lote != null && lote.isConsistente() && lote.isAplicado(i)) {
+        axiomasValidados.add(axioma);
+        continue;
+      }
       ResultadoValidacaoDTO resultado = getOwlService().validarAxioma(axioma);
 
       if (resultado.isConsistente()) {
@@ -277,6 +288,30 @@ public class AgenteConstrutorOntologiaService extends AgenteConversacionalOntolo
     return axiomasValidados;
   }
 
+  /**
+   * Valida o lote inteiro em uma ontologia temporária.
+   *
+   * @return resultado da ingestão; {@code null} se o lote não puder ser
+   *         processado
+   */
+  private ResultadoIngestaoAxiomasDTO validarLote(List<AxiomaDTO> axiomas) {
+    if (axiomas.isEmpty()) {
+      return null;
+    }
+    OntologiaDTO temporaria = OntologiaDTO.builder()
+        .iri("http://example.com/")
+        .prefixo("ex")
+        .formato(OntologyFormat.MANCHESTER)
+        .conteudo("")
+        .build();
+    try {
+      return getOwlService().addAxiomsBatch(temporaria, axiomas);
+    } catch (Exception e) {
+      log.warn("Falha ao validar lote de axiomas, validando individualmente: {}", e.getMessage());
+      return null;
+    }
+  }
+
   private OntologiaDTO construirOntologia(JobConstrucao job, List<AxiomaDTO> axiomas) {
     String iri = job.getRequisicao().getTargetIri();
     if (iri == null || iri.isEmpty()) {
@@ -288,15 +323,35 @@ public class AgenteConstrutorOntologiaService extends AgenteConversacionalOntolo
       nome = "Ontologia: " + job.getRequisicao().getDomain();
     }
 
-    return OntologiaDTO.builder()
+    OntologiaDTO ontologia = OntologiaDTO.builder()
         .iri(iri)
         .nome(nome)
         .descricao("Ontologia gerada automaticamente pelo agente construtor")
         .versao("1.0.0")
+        .prefixo("ex")
+        .formato(OntologyFormat.MANCHESTER)
+        .conteudo("")
         .consistente(true)
         .dataCriacao(LocalDateTime.now())
         .ultimaModificacao(LocalDateTime.now())
         .build();
+
+    // Todos os axiomas validados em uma única aplicação e um único ciclo do
+    // reasoner
+    if (!axiomas.isEmpty()) {
+      try {
+        ResultadoIngestaoAxiomasDTO resultado = getOwlService()
+            .addAxiomsBatch(ontologia, axiomas);
+        if (!resultado.getErrosInterpretacao().isEmpty()) {
+          log.warn("Axiomas não interpretados na construção: jobId={}, erros={}",
+                   job.getJobId(), resultado.getErrosInterpretacao());
+        }
+      } catch (Exception e) {
+        log.warn("Falha ao montar conteúdo da ontologia: jobId={}, erro={}",
+                 job.getJobId(), e.getMessage());
+      }
+    }
+    return ontologia;
   }
 
   @lombok.Builder
@@ -1,15 +1,24 @@
 package com.ia.core.llm.service.agente;
 
+import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
 import com.ia.core.llm.service.chat.ChatService;
+import com.ia.core.llm.service.config.LlmModuleProperties;
+import com.ia.core.resilience4j.profile.ResilienceProfile;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,55 +37,69 @@ public class AnaliseCorpus {
 
   private final ChatService chatService;
   private final ExtratorEntidadesRelacoes extrator;
+  private final LlmModuleProperties.Corpus config;
 
   private static final Pattern FRASE_PATTERN = Pattern.compile("[.!?]+\\s*");
   private static final Pattern PALAVRA_PATTERN = Pattern.compile("\\b[a-zA-ZÀ-ÿ]{3,}\\b");
 
   public AnaliseCorpus(ChatService chatService,
                       ExtratorEntidadesRelacoes extrator) {
+    this(chatService, extrator, new LlmModuleProperties.Corpus());
+  }
+
+  @Autowired
+  public AnaliseCorpus(ChatService chatService,
+                      ExtratorEntidadesRelacoes extrator,
+                      LlmModuleProperties properties) {
+    this(chatService, extrator, properties.getCorpus());
+  }
+
+  AnaliseCorpus(ChatService chatService,
+                ExtratorEntidadesRelacoes extrator,
+                LlmModuleProperties.Corpus config) {
     this.chatService = chatService;
     this.extrator = extrator;
+    this.config = config;
   }
 
   /**
    * Analisa um corpus completo e extrai elementos ontológicos.
+   * <p>
+   * No modo em lotes ({@code ia-core.llm.corpus.batch-enabled}), as sentenças
+   * são agrupadas e cada lote é extraído em uma única chamada ao LLM, com os
+   * lotes despachados em threads virtuais. O número de lotes simultâneos é
+   * limitado pelo bulkhead do perfil {@link ResilienceProfile#LLM_SERVICE},
+   * para não gerar rejeições na resiliência do {@link ChatService}. Os
+   * resultados são incorporados à medida que cada lote termina.
    *
    * @param corpus texto do corpus
    * @return mapa com elementos extraídos
    */
   @Tool(description = "Analisa um corpus de texto e extrai elementos ontológicos (classes, propriedades, indivíduos, relações). " +
-                     "Divide o texto em sentenças e usa o ExtratorEntidadesRelacoes para identificar elementos em cada sentença. " +
+                     "Divide o texto em sentenças e usa o ExtratorEntidadesRelacoes para identificar elementos em lotes de sentenças. " +
                      "Remove duplicatas e retorna um mapa com listas de elementos únicos.")
   public Map<String, List<String>> analisarCorpus(@ToolParam(description = "Texto do corpus a ser analisado") String corpus,
                                                  @ToolParam(description = "ID da sessão para contexto") String sessionId) {
     log.info("Iniciando análise de corpus: tamanho={} caracteres", corpus.length());
 
-    Map<String, List<String>> elementos = new TreeMap<>();
-
-    // Divide em sentenças para análise
-    List<String> sentencas = dividirEmSentencas(corpus);
+    // Divide em sentenças para análise, ignorando as muito curtas
+    List<String> sentencas = dividirEmSentencas(corpus).stream()
+        .filter(sentenca -> sentenca.length() >= 10)
+        .toList();
     log.debug("Corpus dividido em {} sentenças", sentencas.size());
 
-    // Extrai elementos de cada sentença
-    List<String> todasClasses = new ArrayList<>();
-    List<String> todasPropriedades = new ArrayList<>();
-    List<String> todosIndividuos = new ArrayList<>();
-    List<String> todasRelacoes = new ArrayList<>();
-
-    for (String sentenca : sentencas) {
-      if (sentenca.length() < 10) continue; // Ignora sentenças muito curtas
-
-      todasClasses.addAll(extrator.extrairClasses(sentenca, sessionId));
-      todasPropriedades.addAll(extrator.extrairPropriedadesObjeto(sentenca, sessionId));
-      todosIndividuos.addAll(extrator.extrairIndividuos(sentenca, sessionId));
-      todasRelacoes.addAll(extrator.extrairRelacoes(sentenca, sessionId));
+    ElementosAcumulados acumulados = new ElementosAcumulados();
+    if (config.isBatchEnabled()) {
+      extrairEmLotes(sentencas, sessionId, acumulados);
+    } else {
+      for (String sentenca : sentencas) {
+        acumulados.add(new ElementosExtraidos(extrator.extrairClasses(sentenca, sessionId),
+                                              extrator.extrairPropriedadesObjeto(sentenca, sessionId),
+                                              extrator.extrairIndividuos(sentenca, sessionId),
+                                              extrator.extrairRelacoes(sentenca, sessionId)));
+      }
     }
-
-    // Remove duplicatas
-    elementos.put("classes", new ArrayList<>(new java.util.LinkedHashSet<>(todasClasses)));
-    elementos.put("propriedades", new ArrayList<>(new java.util.LinkedHashSet<>(todasPropriedades)));
-    elementos.put("individuos", new ArrayList<>(new java.util.LinkedHashSet<>(todosIndividuos)));
-    elementos.put("relacoes", new ArrayList<>(new java.util.LinkedHashSet<>(todasRelacoes)));
+    Map<String, List<String>> elementos = acumulados.toMap();
 
     log.info("Análise concluída: classes={}, propriedades={}, individuos={}, relacoes={}",
              elementos.get("classes").size(),
@@ -87,6 +110,48 @@ public class AnaliseCorpus {
     return elementos;
   }
 
+  /**
+   * Extrai os elementos em lotes de sentenças, com no máximo
+   * {@link #maxEmVoo()} lotes em execução simultânea.
+   */
+  private void extrairEmLotes(List<String> sentencas, String sessionId,
+                              ElementosAcumulados acumulados) {
+    int tamanhoLote = Math.max(1, config.getBatchSize());
+    Semaphore emVoo = new Semaphore(maxEmVoo());
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int inicio = 0; inicio < sentencas.size(); inicio += tamanhoLote) {
+        List<String> lote = sentencas
+            .subList(inicio, Math.min(sentencas.size(), inicio + tamanhoLote));
+        try {
+          emVoo.acquire();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          log.warn("Análise de corpus interrompida antes de despachar todos os lotes");
+          break;
+        }
+        executor.execute(() -> {
+          try {
+            acumulados.add(extrator.extrairElementosEmLote(lote, sessionId));
+          } catch (RuntimeException e) {
+            log.warn("Erro ao extrair elementos do lote: {}", e.getMessage());
+          } finally {
+            emVoo.release();
+          }
+        });
+      }
+    }
+  }
+
+  /**
+   * @return lotes simultâneos permitidos, limitados ao bulkhead do perfil
+   *         {@link ResilienceProfile#LLM_SERVICE}
+   */
+  int maxEmVoo() {
+    int bulkhead = ResilienceProfile.LLM_SERVICE.getBulkheadMaxConcurrentCalls();
+    int configurado = config.getMaxInFlight();
+    return configurado <= 0 ? bulkhead : Math.min(configurado, bulkhead);
+  }
+
   /**
    * Extrai elementos ontológicos usando LLM para análise profunda.
    *
@@ -124,7 +189,8 @@ public class AnaliseCorpus {
     Map<String, List<String>> elementos = new TreeMap<>();
 
     try {
-      String resposta = chatService.ask("", prompt, sessionId);
+      String resposta = chatService.askDeterministic("", prompt,
+          FinalidadePromptEnum.EXTRAIR_OBJETO);
 
       // Parse simplificado do JSON (na implementação completa, usaria biblioteca JSON)
       parseRespostaLLM(resposta, elementos);
@@ -164,7 +230,8 @@ public class AnaliseCorpus {
         """, corpus.length() > 2000 ? corpus.substring(0, 2000) : corpus);
 
     try {
-      String resposta = chatService.ask("", prompt, sessionId);
+      String resposta = chatService.askDeterministic("", prompt,
+          FinalidadePromptEnum.RESPOSTA_TEXTUAL);
       String dominio = resposta.trim().split("\n")[0];
       log.debug("Domínio identificado: {}", dominio);
       return dominio;
@@ -317,4 +384,40 @@ public class AnaliseCorpus {
 
     return valores;
   }
+
+  /**
+   * Elementos extraídos sem repetição, incorporados por lotes concorrentes.
+   */
+  private static final class ElementosAcumulados {
+
+    private final Set<String> classes = ConcurrentHashMap.newKeySet();
+    private final Set<String> propriedades = ConcurrentHashMap.newKeySet();
+    private final Set<String> individuos = ConcurrentHashMap.newKeySet();
+    private final Set<String> relacoes = ConcurrentHashMap.newKeySet();
+
+    void add(ElementosExtraidos extraidos) {
+      classes.addAll(extraidos.classes());
+      propriedades.addAll(extraidos.propriedades());
+      individuos.addAll(extraidos.individuos());
+      relacoes.addAll(extraidos.relacoes());
+    }
+
+    /**
+     * @return mapa com os elementos em ordem alfabética
+     */
+    Map<String, List<String>> toMap() {
+      Map<String, List<String>> elementos = new TreeMap<>();
+      elementos.put("classes", ordenados(classes));
+      elementos.put("propriedades", ordenados(propriedades));
+      elementos.put("individuos", ordenados(individuos));
+      elementos.put("relacoes", ordenados(relacoes));
+      return elementos;
+    }
+
+    private static List<String> ordenados(Set<String> valores) {
+      List<String> lista = new ArrayList<>(valores);
+      lista.sort(null);
+      return lista;
+    }
+  }
 }
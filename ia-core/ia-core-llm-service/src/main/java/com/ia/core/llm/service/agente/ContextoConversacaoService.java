@@ -1,6 +1,7 @@
 package com.ia.core.llm.service.agente;
 
 import com.ia.core.llm.model.agente.ContextoConversacao;
+import com.ia.core.model.util.BoundedCache;
 import com.ia.core.llm.model.ontologia.Ontologia;
 import com.ia.core.llm.service.agente.mapper.ContextoConversacaoMapper;
 import com.ia.core.llm.service.agente.mapper.OntologiaMapper;
@@ -9,16 +10,23 @@ import com.ia.core.llm.service.model.agente.ContextConversacaoDTO;
 import com.ia.core.llm.service.model.ontologia.OntologiaDTO;
 import com.ia.core.llm.service.repository.ContextoConversacaoRepository;
 import com.ia.core.owl.service.DefaultOwlService;
-import com.ia.core.owl.service.model.axioma.AxiomaDTO;
+import com.ia.core.owl.service.LiveOntology;
 import com.ia.core.resilience4j.annotation.Resilient;
 import com.ia.core.resilience4j.profile.ResilienceProfile;
 import com.ia.core.service.CrudBaseService;
 import com.ia.core.service.annotations.TransactionalReadOnly;
 import com.ia.core.service.annotations.TransactionalWrite;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,6 +44,14 @@ import java.util.Optional;
  * <li>Garantir privacidade (ontologia não exposta ao usuário via API)</li>
  * <li>Auditoria de interações com IA (integrado de AiInteractionAuditService)</li>
  * </ul>
+ * <p>
+ * A ontologia de cada sessão ativa é mantida em memória ({@link LiveOntology})
+ * num cache limitado por quantidade e tempo de vida
+ * ({@code ia-core.llm.context-ontology}). Os axiomas são aplicados de forma
+ * incremental e o conteúdo só é serializado e gravado em
+ * {@link #commitContextOntology(String)} ou quando a sessão sai do cache. A
+ * gravação do descarte é feita numa transação própria, independente da
+ * transação (possivelmente somente leitura) que provocou o descarte.
  *
  * @author Israel Araújo
  * @since 1.0.0
@@ -47,13 +63,23 @@ public class ContextoConversacaoService extends CrudBaseService<ContextoConversa
     private final OntologiaMapper ontologiaMapper;
     private final ContextoConversacaoRepository contextoConversacaoRepository;
     private final LlmModuleProperties llmModuleProperties;
+    private final DefaultOwlService owlService = new DefaultOwlService();
+    private final BoundedCache<String, LiveOntology> liveOntologies;
+    private final TransactionTemplate evictionTemplate;
 
     public ContextoConversacaoService(ContextOntologyServiceConfig config,
-                                      LlmModuleProperties llmModuleProperties) {
+                                      LlmModuleProperties llmModuleProperties,
+                                      PlatformTransactionManager transactionManager) {
         super(config);
+        this.evictionTemplate = new TransactionTemplate(transactionManager);
+        this.evictionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         this.ontologiaMapper = config.getOntologiaMapper();
         this.contextoConversacaoRepository = (ContextoConversacaoRepository) super.getRepository();
         this.llmModuleProperties = llmModuleProperties;
+        LlmModuleProperties.ContextOntology cacheConfig = llmModuleProperties.getContextOntology();
+        this.liveOntologies = new BoundedCache<>(cacheConfig.getMaxSessions(),
+                                                 cacheConfig.getTtl(),
+                                                 this::onEviction);
     }
 
     @Override
@@ -130,7 +156,8 @@ public class ContextoConversacaoService extends CrudBaseService<ContextoConversa
     public Optional<ContextConversacaoDTO> getContextOntology(String sessionId) {
         log.debug("Recuperando ontologia de contexto: sessionId={}", sessionId);
         return getRepository().findBySessionId(sessionId)
-            .map(getMapper()::toDTO);
+            .map(getMapper()::toDTO)
+            .map(this::withLiveContent);
     }
 
     /**
@@ -148,7 +175,6 @@ public class ContextoConversacaoService extends CrudBaseService<ContextoConversa
         throws com.ia.core.owl.service.exception.OWLParserException,
         org.semanticweb.owlapi.model.OWLOntologyCreationException {
         log.debug("Atualizando ontologia de contexto: sessionId={}, axiom={}", sessionId, manchesterAxiom);
-        DefaultOwlService owlService = new DefaultOwlService();
         Optional<ContextoConversacao> optional = getRepository().findBySessionId(sessionId);
         if (optional.isEmpty()) {
             throw new IllegalArgumentException("Contexto não encontrado para sessionId: " + sessionId);
@@ -159,15 +185,11 @@ public class ContextoConversacaoService extends CrudBaseService<ContextoConversa
         if (ontologiaDTO == null) {
             throw new IllegalStateException("Ontologia not found for context: " + sessionId);
         }
-        // Adiciona axioma ao conteúdo da ontologia
-        AxiomaDTO axiomaDTO = owlService.addAxiom(ontologiaDTO, manchesterAxiom);
-        // The ontology content is already updated by the addAxiom method
+        // Adiciona o axioma à ontologia em memória, com verificação incremental
+        // de consistência; o conteúdo é gravado no commit ou no descarte
+        boolean isConsistent = liveOntology(sessionId, ontologiaDTO)
+            .addAxiom(manchesterAxiom);
         ontologiaDTO.setUltimaModificacao(LocalDateTime.now());
-
-        // Usa DefaultOwlService para verificar consistência
-
-        var analise = owlService.checkInferrences(ontologiaDTO);
-        boolean isConsistent = analise.isConsistente();
         ontologiaDTO.setConsistente(isConsistent);
 
         if (!isConsistent) {
@@ -202,6 +224,7 @@ public class ContextoConversacaoService extends CrudBaseService<ContextoConversa
     @Resilient(ResilienceProfile.DATABASE)
     public void deleteContextOntology(String sessionId) {
         log.debug("Removendo ontologia de contexto: sessionId={}", sessionId);
+        discardLiveOntology(sessionId);
 
         // Remove contexto do banco
         getRepository().deleteBySessionId(sessionId);
@@ -226,6 +249,8 @@ public class ContextoConversacaoService extends CrudBaseService<ContextoConversa
             throw new IllegalArgumentException("Contexto não encontrado para sessionId: " + sessionId);
         }
 
+        // o conteúdo informado substitui o da ontologia em memória
+        discardLiveOntology(sessionId);
         ContextoConversacao entity = optional.get();
         entity.setOntologia(ontologiaMapper.toModel(ontologiaDTO));
         entity.setUltimaAtividade(LocalDateTime.now());
@@ -249,5 +274,135 @@ public class ContextoConversacaoService extends CrudBaseService<ContextoConversa
         return getRepository().existsBySessionId(sessionId);
     }
 
+    /**
+     * Lista as inconsistências atuais da ontologia de contexto em memória.
+     *
+     * @param sessionId ID da sessão de conversação
+     * @return descrições das inconsistências; vazia se a ontologia for
+     *         consistente ou não estiver carregada
+     */
+    public List<String> detectContextInconsistencies(String sessionId) {
+        LiveOntology live = liveOntologies.get(sessionId);
+        return live == null ? List.of() : live.inconsistencies();
+    }
 
+    /**
+     * Grava o conteúdo da ontologia em memória da sessão, se alterado.
+     *
+     * @param sessionId ID da sessão de conversação
+     */
+    @TransactionalWrite
+    @Resilient(ResilienceProfile.DATABASE)
+    public void commitContextOntology(String sessionId) {
+        LiveOntology live = liveOntologies.get(sessionId);
+        if (live != null && live.isDirty()) {
+            String written = persist(sessionId, live);
+            afterCommit(() -> live.markClean(written));
+        }
+    }
+
+    /**
+     * Grava as ontologias alteradas e libera as mantidas em memória.
+     */
+    @PreDestroy
+    public void flushLiveOntologies() {
+        liveOntologies.clear();
+    }
+
+    /**
+     * Obtém a ontologia em memória da sessão, carregando-a na primeira vez.
+     */
+    private LiveOntology liveOntology(String sessionId, OntologiaDTO ontologiaDTO)
+        throws com.ia.core.owl.service.exception.OWLParserException,
+        org.semanticweb.owlapi.model.OWLOntologyCreationException {
+        // grava e libera as sessões expiradas, que não seriam consultadas
+        liveOntologies.purgeExpired();
+        LiveOntology live = liveOntologies.get(sessionId);
+        if (live == null) {
+            LiveOntology loaded = LiveOntology.load(owlService, ontologiaDTO);
+            live = liveOntologies.putIfAbsent(sessionId, loaded);
+            if (live != loaded) {
+                loaded.close();
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Reflete no DTO o conteúdo ainda não gravado da ontologia em memória.
+     */
+    private ContextConversacaoDTO withLiveContent(ContextConversacaoDTO dto) {
+        LiveOntology live = liveOntologies.get(dto.getSessionId());
+        if (live != null && live.isDirty() && dto.getOntologia() != null) {
+            dto.getOntologia().setConteudo(live.snapshot());
+        }
+        return dto;
+    }
+
+    /**
+     * Remove a ontologia em memória sem gravar as alterações pendentes.
+     */
+    private void discardLiveOntology(String sessionId) {
+        LiveOntology live = liveOntologies.get(sessionId);
+        if (live != null) {
+            live.markClean();
+            liveOntologies.remove(sessionId);
+        }
+    }
+
+    /**
+     * Grava o conteúdo atual da ontologia em memória na transação corrente.
+     *
+     * @return conteúdo gravado
+     */
+    private String persist(String sessionId, LiveOntology live) {
+        String content = live.snapshot();
+        getRepository().findBySessionId(sessionId).ifPresent(entity -> {
+            Ontologia ontologia = entity.getOntologia();
+            if (ontologia != null) {
+                ontologia.setConteudo(content);
+                ontologia.setConsistente(live.isConsistent());
+                ontologia.setUltimaModificacao(LocalDateTime.now());
+                getRepository().save(entity);
+            }
+        });
+        return content;
+    }
+
+    /**
+     * Executa a ação após o commit da transação corrente ou imediatamente, se
+     * não houver transação.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Grava as alterações pendentes da ontologia que saiu do cache, numa
+     * transação própria, e libera o reasoner. O descarte pode ocorrer dentro
+     * da transação de outra sessão ou de uma consulta somente leitura, que não
+     * devem receber essa gravação.
+     */
+    private void onEviction(String sessionId, LiveOntology live) {
+        try {
+            if (live.isDirty()) {
+                String written = evictionTemplate.execute(status -> persist(sessionId, live));
+                live.markClean(written);
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar ontologia de contexto descartada, alterações perdidas: sessionId={}",
+                      sessionId, e);
+        } finally {
+            live.close();
+        }
+    }
 }
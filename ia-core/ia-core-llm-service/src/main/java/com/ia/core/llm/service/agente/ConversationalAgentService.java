@@ -64,6 +64,8 @@ public class ConversationalAgentService {
         buildSystemPrompt(contexto.getDominio()),
         contexto.getSessionId(),owlTools.toArray()
     );
+    // grava uma única vez os axiomas adicionados pelas tools neste turno
+    contextoConversacaoService.commitContextOntology(sessionId);
 
     contexto.setUltimaAtividade(LocalDateTime.now());
 
@@ -0,0 +1,28 @@
+package com.ia.core.llm.service.agente;
+
+import java.util.List;
+
+/**
+ * Elementos ontológicos extraídos de um lote de sentenças em uma única
+ * chamada ao LLM.
+ *
+ * @param classes      classes encontradas
+ * @param propriedades propriedades de objeto encontradas
+ * @param individuos   indivíduos encontrados
+ * @param relacoes     relações no formato {@code entidade1:relação:entidade2}
+ * @author Israel Araújo
+ * @see ExtratorEntidadesRelacoes#extrairElementosEmLote(List, String)
+ * @since 1.0.0
+ */
+public record ElementosExtraidos(List<String> classes,
+                                 List<String> propriedades,
+                                 List<String> individuos,
+                                 List<String> relacoes) {
+
+  /**
+   * @return resultado sem elementos
+   */
+  public static ElementosExtraidos vazio() {
+    return new ElementosExtraidos(List.of(), List.of(), List.of(), List.of());
+  }
+}
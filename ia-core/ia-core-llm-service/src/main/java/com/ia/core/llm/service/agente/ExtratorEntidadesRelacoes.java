@@ -1,5 +1,11 @@
 package com.ia.core.llm.service.agente;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
 import com.ia.core.llm.service.chat.ChatService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.tool.annotation.Tool;
@@ -114,7 +120,8 @@ public class ExtratorEntidadesRelacoes {
         """, texto);
 
     try {
-      String resposta = chatService.ask("", prompt, sessionId);
+      String resposta = chatService.askDeterministic("", prompt,
+          FinalidadePromptEnum.EXTRAIR_LISTA);
       String[] linhas = resposta.split("\n");
 
       for (String linha : linhas) {
@@ -131,6 +138,102 @@ public class ExtratorEntidadesRelacoes {
     return relacoes;
   }
 
+  /**
+   * Extrai classes, propriedades de objeto, indivíduos e relações de um lote de
+   * sentenças em uma única chamada ao LLM, com resposta estruturada em JSON.
+   * <p>
+   * Substitui as quatro chamadas por sentença de {@link #extrairClasses},
+   * {@link #extrairPropriedadesObjeto}, {@link #extrairIndividuos} e
+   * {@link #extrairRelacoes}. Em caso de falha, retorna
+   * {@link ElementosExtraidos#vazio()}.
+   *
+   * @param sentencas sentenças do lote
+   * @param sessionId ID da sessão para contexto
+   * @return elementos extraídos do lote
+   */
+  public ElementosExtraidos extrairElementosEmLote(List<String> sentencas,
+                                                   String sessionId) {
+    if (sentencas == null || sentencas.isEmpty()) {
+      return ElementosExtraidos.vazio();
+    }
+    StringBuilder texto = new StringBuilder();
+    for (int i = 0; i < sentencas.size(); i++) {
+      texto.append(i + 1).append(". ").append(sentencas.get(i)).append('\n');
+    }
+
+    String prompt = String.format("""
+        Você é um especialista em ontologias OWL 2 DL.
+        Analise as sentenças numeradas abaixo e extraia, considerando todas elas:
+        1. Classes (conceitos principais)
+        2. Propriedades de objeto (relações entre classes)
+        3. Indivíduos (entidades específicas)
+        4. Relações (instâncias de propriedades entre indivíduos)
+
+        Retorne no formato JSON:
+        {
+          "classes": ["classe1", "classe2"],
+          "propriedades": ["prop1", "prop2"],
+          "individuos": ["individuo1", "individuo2"],
+          "relacoes": ["individuo1:prop1:individuo2"]
+        }
+
+        Sentenças:
+        %s
+        Retorne APENAS o JSON, sem explicações adicionais.
+        """, texto);
+
+    try {
+      return parseElementos(chatService.askDeterministic("", prompt,
+                                                         FinalidadePromptEnum.EXTRAIR_OBJETO));
+    } catch (Exception e) {
+      log.warn("Erro ao extrair elementos do lote com LLM: {}", e.getMessage());
+      return ElementosExtraidos.vazio();
+    }
+  }
+
+  /**
+   * Interpreta a resposta JSON do LLM, que pode vir entre blocos de código.
+   */
+  static ElementosExtraidos parseElementos(String resposta) {
+    if (resposta == null) {
+      return ElementosExtraidos.vazio();
+    }
+    int inicio = resposta.indexOf('{');
+    int fim = resposta.lastIndexOf('}');
+    if (inicio < 0 || fim < inicio) {
+      return ElementosExtraidos.vazio();
+    }
+    try {
+      JsonObject json = JsonParser.parseString(resposta.substring(inicio, fim + 1))
+          .getAsJsonObject();
+      return new ElementosExtraidos(valores(json, "classes"),
+                                    valores(json, "propriedades"),
+                                    valores(json, "individuos"),
+                                    valores(json, "relacoes"));
+    } catch (JsonParseException | IllegalStateException e) {
+      log.warn("Erro ao interpretar resposta JSON do LLM: {}", e.getMessage());
+      return ElementosExtraidos.vazio();
+    }
+  }
+
+  private static List<String> valores(JsonObject json, String chave) {
+    List<String> valores = new ArrayList<>();
+    JsonElement elemento = json.get(chave);
+    if (elemento == null || !elemento.isJsonArray()) {
+      return valores;
+    }
+    JsonArray array = elemento.getAsJsonArray();
+    for (JsonElement item : array) {
+      if (item.isJsonPrimitive()) {
+        String valor = item.getAsString().trim();
+        if (!valor.isEmpty()) {
+          valores.add(valor);
+        }
+      }
+    }
+    return valores;
+  }
+
   /**
    * Usa LLM para extrair classes quando regex não é suficiente.
    */
@@ -148,7 +251,8 @@ public class ExtratorEntidadesRelacoes {
         """, texto);
 
     try {
-      String resposta = chatService.ask("", prompt, sessionId);
+      String resposta = chatService.askDeterministic("", prompt,
+          FinalidadePromptEnum.EXTRAIR_LISTA);
       String[] linhas = resposta.split("\n");
 
       for (String linha : linhas) {
@@ -181,7 +285,8 @@ public class ExtratorEntidadesRelacoes {
         """, texto);
 
     try {
-      String resposta = chatService.ask("", prompt, sessionId);
+      String resposta = chatService.askDeterministic("", prompt,
+          FinalidadePromptEnum.EXTRAIR_LISTA);
       String[] linhas = resposta.split("\n");
 
       for (String linha : linhas) {
@@ -214,7 +319,8 @@ public class ExtratorEntidadesRelacoes {
         """, texto);
 
     try {
-      String resposta = chatService.ask("", prompt, sessionId);
+      String resposta = chatService.askDeterministic("", prompt,
+          FinalidadePromptEnum.EXTRAIR_LISTA);
       String[] linhas = resposta.split("\n");
 
       for (String linha : linhas) {
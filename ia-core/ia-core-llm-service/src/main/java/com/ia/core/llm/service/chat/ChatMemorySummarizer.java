@@ -0,0 +1,59 @@
+package com.ia.core.llm.service.chat;
+
+import org.springframework.ai.chat.messages.Message;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Resume as mensagens que saem da janela do {@link CompactingChatMemory}.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ChatMemorySummarizer {
+
+  /**
+   * Combina o resumo anterior com as mensagens descartadas.
+   *
+   * @param previousSummary resumo anterior (vazio se não houver)
+   * @param dropped         mensagens que saíram da janela, em ordem
+   * @return novo resumo
+   */
+  String summarize(String previousSummary, List<Message> dropped);
+
+  /**
+   * Resumo sem chamada ao modelo: cada mensagem vira uma linha
+   * {@code TIPO: texto} abreviada, e apenas as linhas mais recentes que cabem
+   * no limite são mantidas.
+   *
+   * @param maxChars tamanho máximo do resumo
+   * @return resumidor
+   */
+  static ChatMemorySummarizer truncating(int maxChars) {
+    Pattern whitespace = Pattern.compile("\\s+");
+    int maxLine = Math.max(40, maxChars / 10);
+    return (previousSummary, dropped) -> {
+      StringBuilder summary = new StringBuilder(previousSummary);
+      for (Message message : dropped) {
+        String text = message.getText() == null ? ""
+                                                : whitespace.matcher(message.getText().strip())
+                                                    .replaceAll(" ");
+        if (text.length() > maxLine) {
+          text = text.substring(0, maxLine - 1) + "…";
+        }
+        if (!summary.isEmpty()) {
+          summary.append('\n');
+        }
+        summary.append(message.getMessageType().name()).append(": ").append(text);
+      }
+      if (summary.length() <= maxChars) {
+        return summary.toString();
+      }
+      int start = summary.indexOf("\n", summary.length() - maxChars);
+      return start < 0 ? summary.substring(summary.length() - maxChars)
+                       : summary.substring(start + 1);
+    };
+  }
+}
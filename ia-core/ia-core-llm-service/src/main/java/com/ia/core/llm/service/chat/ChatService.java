@@ -6,17 +6,20 @@ import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
 import com.ia.core.llm.service.prompt.PromptRepository;
 import com.ia.core.llm.service.template.PromptTemplateService;
 import com.ia.core.resilience4j.annotation.Resilient;
+import com.ia.core.resilience4j.exception.BulkheadFullException;
 import com.ia.core.resilience4j.profile.ResilienceProfile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.chat.client.ChatClient.CallResponseSpec;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Semaphore;
 
 /**
  * Serviço principal de Chat que orquestra as operações de chat.
@@ -36,6 +39,9 @@ public class ChatService {
    */
   private static final String DEFAULT_SESSION_ID = "default";
 
+  /** Nome do limite de respostas em streaming simultâneas. */
+  private static final String STREAM_BULKHEAD = ResilienceProfile.LLM_SERVICE.getName() + "-askStream-stream";
+
   /** Serviço de Templates de Prompt */
   private final PromptTemplateService promptTemplateService;
 
@@ -48,6 +54,16 @@ public class ChatService {
   /** Repositório de Prompts para gerenciamento de templates */
   private final PromptRepository promptRepository;
 
+  /** Cache de respostas das perguntas determinísticas */
+  private final LlmResponseCache responseCache;
+
+  /**
+   * Respostas em streaming em andamento, limitadas ao bulkhead do perfil
+   * {@link ResilienceProfile#LLM_SERVICE}
+   */
+  private final Semaphore streamPermits = new Semaphore(
+      ResilienceProfile.LLM_SERVICE.getBulkheadMaxConcurrentCalls());
+
   /**
    * Realiza uma pergunta simples ao modelo.
    *
@@ -65,6 +81,33 @@ public class ChatService {
     return response.content();
   }
 
+  /**
+   * Realiza uma pergunta simples cuja resposta depende apenas do texto
+   * enviado, como as extrações de elementos ontológicos.
+   * <p>
+   * O prompt é enviado sem memória de conversa nem RAG
+   * ({@link com.ia.core.owl.service.LLMCommunicator#sendStatelessPrompt(Prompt)}),
+   * de modo que a resposta pode ser compartilhada entre sessões. Ela é obtida
+   * do {@link LlmResponseCache} quando o mesmo prompt (ou, com o nível
+   * semântico ativo, um prompt semelhante) já foi respondido pelo mesmo modelo
+   * e opções. A finalidade seleciona a configuração do cache e não altera o
+   * formato da resposta.
+   *
+   * @param document o documento base
+   * @param text a pergunta/texto
+   * @param finalidade finalidade do prompt
+   * @return resposta do modelo
+   */
+  public String askDeterministic(String document, String text,
+      FinalidadePromptEnum finalidade) {
+    Objects.requireNonNull(text, "Texto da pergunta não pode ser null");
+    Objects.requireNonNull(finalidade, "Finalidade não pode ser null");
+
+    Prompt prompt = promptTemplateService.createSimplePrompt(document, text);
+    LlmCacheKey key = LlmCacheKey.of(prompt, llmCommunicator.getModelName(), finalidade);
+    return responseCache.getOrCall(key, () -> llmCommunicator.sendStatelessPrompt(prompt).content());
+  }
+
   /**
    * Realiza uma pergunta ao modelo com template de sistema.
    *
@@ -208,6 +251,76 @@ public class ChatService {
     return ask("", params.text(), params.sessionId());
   }
 
+  /**
+   * Realiza uma pergunta ao modelo e devolve a resposta em trechos, à medida
+   * que são gerados.
+   * <p>
+   * Equivalente em streaming de {@link #ask(com.ia.core.llm.service.model.chat.ChatRequestDTO)}:
+   * prompts do banco de dados usam o conteúdo do template como prompt de
+   * sistema, e a resposta é entregue como texto, sem conversão para o tipo
+   * da finalidade. Nada é enviado ao modelo antes da assinatura, e cancelar a
+   * assinatura interrompe a geração.
+   * <p>
+   * O perfil {@link ResilienceProfile#LLM_SERVICE} é aplicado como em
+   * {@code ask(dto)}: o circuit breaker aberto e o rate limiter recusam a
+   * requisição antes de o fluxo ser devolvido. Como o aspecto protege apenas
+   * a montagem do fluxo, a concorrência é limitada na assinatura: cada
+   * resposta ocupa uma das vagas do bulkhead do perfil até terminar, falhar
+   * ou ser cancelada, e a assinatura sem vaga livre falha com
+   * {@link BulkheadFullException} sem aguardar, para não bloquear a thread
+   * reativa.
+   *
+   * @param dto DTO contendo a requisição de chat
+   * @return trechos da resposta do modelo
+   */
+  @Resilient(ResilienceProfile.LLM_SERVICE)
+  public Flux<String> askStream(com.ia.core.llm.service.model.chat.ChatRequestDTO dto) {
+    ChatRequestParams params = prepareChatRequestParams(dto, null);
+
+    if (params.text() == null || params.text().isBlank()) {
+      return Flux.empty();
+    }
+
+    return Flux.defer(() -> {
+      if (!streamPermits.tryAcquire()) {
+        return Flux.error(new BulkheadFullException(STREAM_BULKHEAD));
+      }
+      return Flux.defer(() -> stream(params)).doFinally(signal -> streamPermits.release());
+    });
+  }
+
+  /**
+   * Monta o prompt da requisição e inicia a resposta em streaming.
+   *
+   * @param params parâmetros da requisição
+   * @return trechos da resposta, ou vazio quando o prompt não existe
+   */
+  private Flux<String> stream(ChatRequestParams params) {
+    Prompt prompt = params.promptId() == null
+        ? promptTemplateService.createSimplePrompt("", params.text())
+        : promptRepository.findById(params.promptId())
+            .filter(entity -> entity.getTemplate() != null)
+            .map(entity -> promptTemplateService.createSystemPrompt("", params.text(),
+                entity.getTemplate().getConteudo(), entity.getFinalidade(),
+                Collections.emptyMap()))
+            .orElse(null);
+    return prompt == null ? Flux.empty() : stream(prompt, params.sessionId());
+  }
+
+  /**
+   * Executa uma chamada em streaming ao modelo com advisor de vector store.
+   *
+   * @param prompt o prompt a ser enviado
+   * @param chatSessionId identificador da sessão de chat
+   * @return trechos da resposta
+   */
+  protected Flux<String> stream(Prompt prompt, String chatSessionId) {
+    if (!chatSessionService.isSessionActive(chatSessionId)) {
+      chatSessionService.createSession(chatSessionId);
+    }
+    return llmCommunicator.streamPrompt(prompt, chatSessionId, null);
+  }
+
   /**
    * Prepara os parâmetros da requisição de chat a partir do DTO.
    *
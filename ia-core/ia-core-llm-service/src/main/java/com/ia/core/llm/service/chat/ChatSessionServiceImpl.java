@@ -1,26 +1,55 @@
 package com.ia.core.llm.service.chat;
 
-import java.util.concurrent.ConcurrentHashMap;
+import com.ia.core.llm.service.config.LlmModuleProperties;
+import com.ia.core.model.util.BoundedCache;
+import org.springframework.ai.chat.memory.ChatMemory;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementação de ChatSessionService.
  * <p>
- * Gerencia sessões de chat usando ConcurrentHashMap para thread-safety.
+ * Mantém as sessões ativas em um {@link BoundedCache} limitado por tamanho e
+ * por tempo de inatividade: cada consulta a uma sessão ativa renova seu
+ * prazo, e as sessões inativas são descartadas na consulta seguinte ou numa
+ * varredura feita, no máximo, a cada quarto do prazo ao criar sessões.
+ * <p>
+ * Quando a memória de conversação é local ao nó, o histórico da sessão é
+ * apagado junto com ela; memória compartilhada entre nós não é alterada.
  *
  * @author Israel Araújo
  * @since 1.0.0
  */
 public class ChatSessionServiceImpl implements ChatSessionService {
 
-  private final ConcurrentHashMap<String, Boolean> activeSessions;
+  private final BoundedCache<String, Boolean> activeSessions;
+  private final ChatMemory localMemory;
+  private final long purgeIntervalNanos;
+  private final AtomicLong lastPurge = new AtomicLong(System.nanoTime());
 
   public ChatSessionServiceImpl() {
-    this.activeSessions = new ConcurrentHashMap<>();
+    this(new LlmModuleProperties.Session(), null);
+  }
+
+  /**
+   * @param config      limites do registro de sessões
+   * @param localMemory memória local cujo histórico é apagado com a sessão
+   *                    ({@code null} para não apagar)
+   */
+  public ChatSessionServiceImpl(LlmModuleProperties.Session config,
+                                ChatMemory localMemory) {
+    this.localMemory = localMemory;
+    this.activeSessions = new BoundedCache<>(config.getMaxSize(),
+                                             config.getIdleTtl(),
+                                             (sessionId, active) -> discardHistory(sessionId));
+    this.purgeIntervalNanos = config.getIdleTtl() == null ? 0
+                                                          : config.getIdleTtl().toNanos() / 4;
   }
 
   @Override
   public String createSession(String sessionId) {
-    activeSessions.put(sessionId, true);
+    purgeExpiredIfDue();
+    activeSessions.put(sessionId, Boolean.TRUE);
     return sessionId;
   }
 
@@ -31,13 +60,55 @@ public class ChatSessionServiceImpl implements ChatSessionService {
 
   @Override
   public boolean isSessionActive(String sessionId) {
-    return activeSessions.getOrDefault(sessionId, false);
+    if (activeSessions.get(sessionId) == null) {
+      return false;
+    }
+    // mesmo valor: renova o prazo sem notificar descarte
+    activeSessions.put(sessionId, Boolean.TRUE);
+    return true;
   }
 
   @Override
   public void clearSessionHistory(String sessionId) {
-    if (activeSessions.containsKey(sessionId)) {
-      activeSessions.remove(sessionId);
+    activeSessions.remove(sessionId);
+  }
+
+  /**
+   * Descarta as sessões inativas.
+   *
+   * @return quantidade de sessões descartadas
+   */
+  public int purgeExpired() {
+    lastPurge.set(System.nanoTime());
+    return activeSessions.purgeExpired();
+  }
+
+  /**
+   * @return quantidade de sessões registradas (incluindo inativas ainda não
+   *         descartadas)
+   */
+  public int getActiveSessionCount() {
+    return activeSessions.size();
+  }
+
+  /**
+   * @return quantidade de sessões descartadas por tamanho ou inatividade
+   */
+  public long getEvictionCount() {
+    return activeSessions.evictionCount();
+  }
+
+  private void purgeExpiredIfDue() {
+    long last = lastPurge.get();
+    if (purgeIntervalNanos > 0 && System.nanoTime() - last >= purgeIntervalNanos
+        && lastPurge.compareAndSet(last, System.nanoTime())) {
+      activeSessions.purgeExpired();
+    }
+  }
+
+  private void discardHistory(String sessionId) {
+    if (localMemory != null) {
+      localMemory.clear(sessionId);
     }
   }
 }
@@ -0,0 +1,97 @@
+package com.ia.core.llm.service.chat;
+
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.SystemMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Memória de conversação em janela com resumo.
+ * <p>
+ * Mantém as {@code maxMessages - 1} mensagens mais recentes e, no lugar das
+ * anteriores, uma única {@link SystemMessage} com o resumo produzido pelo
+ * {@link ChatMemorySummarizer}. O resumo é identificado pelo prefixo
+ * {@link #SUMMARY_PREFIX}, de modo que sobrevive a repositórios que gravam
+ * apenas tipo e texto, como o {@link TsidJdbcChatMemoryRepository}.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+public class CompactingChatMemory
+  implements ChatMemory {
+
+  /** Prefixo da mensagem de resumo */
+  static final String SUMMARY_PREFIX = "[Resumo da conversa anterior]\n";
+
+  private final ChatMemoryRepository repository;
+  private final int maxMessages;
+  private final ChatMemorySummarizer summarizer;
+
+  /**
+   * @param repository  repositório das mensagens
+   * @param maxMessages mensagens mantidas, incluindo o resumo (mínimo 2)
+   * @param summarizer  resumidor das mensagens descartadas
+   */
+  public CompactingChatMemory(ChatMemoryRepository repository, int maxMessages,
+                              ChatMemorySummarizer summarizer) {
+    if (maxMessages < 2) {
+      throw new IllegalArgumentException("maxMessages deve ser maior que 1");
+    }
+    this.repository = Objects.requireNonNull(repository, "repository");
+    this.maxMessages = maxMessages;
+    this.summarizer = Objects.requireNonNull(summarizer, "summarizer");
+  }
+
+  @Override
+  public void add(String conversationId, List<Message> messages) {
+    Objects.requireNonNull(conversationId, "conversationId");
+    if (messages == null || messages.isEmpty()) {
+      return;
+    }
+    String summary = "";
+    List<Message> window = new ArrayList<>();
+    for (Message message : repository.findByConversationId(conversationId)) {
+      if (isSummary(message)) {
+        summary = message.getText().substring(SUMMARY_PREFIX.length());
+      } else {
+        window.add(message);
+      }
+    }
+    window.addAll(messages);
+
+    int excess = window.size() - (maxMessages - 1);
+    List<Message> compacted = new ArrayList<>(maxMessages);
+    if (excess > 0) {
+      summary = summarizer.summarize(summary, window.subList(0, excess));
+      window = window.subList(excess, window.size());
+    }
+    if (!summary.isEmpty()) {
+      compacted.add(new SystemMessage(SUMMARY_PREFIX + summary));
+    }
+    compacted.addAll(window);
+    repository.saveAll(conversationId, compacted);
+  }
+
+  @Override
+  public List<Message> get(String conversationId) {
+    Objects.requireNonNull(conversationId, "conversationId");
+    return repository.findByConversationId(conversationId);
+  }
+
+  @Override
+  public void clear(String conversationId) {
+    Objects.requireNonNull(conversationId, "conversationId");
+    repository.deleteByConversationId(conversationId);
+  }
+
+  private static boolean isSummary(Message message) {
+    return message.getMessageType() == MessageType.SYSTEM
+        && message.getText() != null
+        && message.getText().startsWith(SUMMARY_PREFIX);
+  }
+}
@@ -0,0 +1,165 @@
+package com.ia.core.llm.service.chat;
+
+import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
+import com.ia.core.llm.service.config.LlmModuleProperties;
+import com.ia.core.llm.service.metrics.LlmMetrics;
+import com.ia.core.model.util.BoundedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cache de respostas LLM em dois níveis.
+ * <p>
+ * O nível exato indexa a resposta pelo {@link LlmCacheKey#hash()}, com
+ * tamanho e tempo de vida definidos por {@link FinalidadePromptEnum} em
+ * {@code ia-core.llm.response-cache}. O nível semântico, opcional, indexa o
+ * texto normalizado dos prompts em um {@link VectorStore} próprio e, na falta
+ * do prompt exato, reaproveita a resposta do prompt mais semelhante do mesmo
+ * escopo (finalidade, modelo e opções) acima do limiar de similaridade.
+ * <p>
+ * O vector store do nível semântico deve ser exclusivo do cache: os prompts
+ * indexados não podem se misturar aos documentos usados como contexto pelo
+ * {@code QuestionAnswerAdvisor}.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+@Slf4j
+public class DefaultLlmResponseCache
+  implements LlmResponseCache {
+
+  private static final String SCOPE = "scope";
+  private static final String HASH = "hash";
+
+  private final boolean enabled;
+  private final Map<FinalidadePromptEnum, BoundedCache<String, String>> tiers = new EnumMap<>(FinalidadePromptEnum.class);
+  private final VectorStore semanticStore;
+  private final double similarityThreshold;
+  private final LlmMetrics metrics;
+
+  /**
+   * @param config        configuração do cache
+   * @param semanticStore vector store exclusivo do nível semântico;
+   *                      {@code null} desativa o nível
+   * @param metrics       métricas de acertos (pode ser {@code null})
+   */
+  public DefaultLlmResponseCache(LlmModuleProperties.ResponseCache config,
+                                 VectorStore semanticStore,
+                                 LlmMetrics metrics) {
+    this.enabled = config.isEnabled();
+    this.semanticStore = config.getSemantic().isEnabled() ? semanticStore
+                                                          : null;
+    this.similarityThreshold = config.getSemantic().getSimilarityThreshold();
+    this.metrics = metrics;
+    for (FinalidadePromptEnum finalidade : FinalidadePromptEnum.values()) {
+      LlmModuleProperties.ResponseCache.Tier tier = config.tier(finalidade);
+      if (tier.isEnabled()) {
+        tiers.put(finalidade,
+                  new BoundedCache<>(tier.getMaxSize(), tier.getTtl(),
+                                     this.semanticStore == null ? null
+                                                                : (hash, response) -> unindex(hash)));
+      }
+    }
+  }
+
+  @Override
+  public String getOrCall(LlmCacheKey key, Supplier<String> call) {
+    BoundedCache<String, String> cache = enabled ? tiers.get(key.finalidade())
+                                                 : null;
+    if (cache == null) {
+      return call.get();
+    }
+    String response = cache.get(key.hash());
+    if (response != null) {
+      record(key, "exact");
+      return response;
+    }
+    if (semanticStore != null) {
+      response = findSimilar(cache, key);
+      if (response != null) {
+        record(key, "semantic");
+        return response;
+      }
+    }
+    record(key, "miss");
+
+    response = call.get();
+    if (response != null && !response.isBlank()) {
+      cache.put(key.hash(), response);
+      index(key);
+    }
+    return response;
+  }
+
+  @Override
+  public void clear() {
+    tiers.values().forEach(BoundedCache::clear);
+  }
+
+  private String findSimilar(BoundedCache<String, String> cache,
+                             LlmCacheKey key) {
+    try {
+      List<Document> similares = semanticStore.similaritySearch(SearchRequest
+          .builder().query(key.text()).topK(1)
+          .similarityThreshold(similarityThreshold)
+          .filterExpression(new FilterExpressionBuilder()
+              .eq(SCOPE, key.scope()).build())
+          .build());
+      for (Document similar : similares) {
+        Object hash = similar.getMetadata().get(HASH);
+        String response = hash == null ? null : cache.get(hash.toString());
+        if (response != null) {
+          return response;
+        }
+      }
+    } catch (RuntimeException e) {
+      log.debug("Busca semântica no cache de respostas indisponível: {}",
+                e.getMessage());
+    }
+    return null;
+  }
+
+  private void index(LlmCacheKey key) {
+    if (semanticStore == null) {
+      return;
+    }
+    try {
+      semanticStore.add(List.of(Document.builder().id(documentId(key.hash()))
+          .text(key.text())
+          .metadata(Map.of(SCOPE, key.scope(), HASH, key.hash())).build()));
+    } catch (RuntimeException e) {
+      log.debug("Falha ao indexar prompt no cache semântico: {}",
+                e.getMessage());
+    }
+  }
+
+  private void unindex(String hash) {
+    try {
+      semanticStore.delete(List.of(documentId(hash)));
+    } catch (RuntimeException e) {
+      log.debug("Falha ao remover prompt do cache semântico: {}",
+                e.getMessage());
+    }
+  }
+
+  private static String documentId(String hash) {
+    return UUID.nameUUIDFromBytes(hash.getBytes(StandardCharsets.UTF_8))
+        .toString();
+  }
+
+  private void record(LlmCacheKey key, String result) {
+    if (metrics != null) {
+      metrics.recordCacheLookup(key.finalidade(), result);
+    }
+  }
+}
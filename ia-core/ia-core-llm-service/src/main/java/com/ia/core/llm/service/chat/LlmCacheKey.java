@@ -0,0 +1,85 @@
+package com.ia.core.llm.service.chat;
+
+import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Chave do cache de respostas LLM.
+ * <p>
+ * O texto das mensagens é normalizado (espaços em branco colapsados e
+ * removidos das extremidades) e combinado com o modelo e as opções de geração.
+ * {@link #scope()} identifica a partição (finalidade, modelo e opções) dentro
+ * da qual prompts semelhantes podem compartilhar a resposta;
+ * {@link #hash()} identifica o prompt exato dentro dela.
+ *
+ * @param finalidade finalidade do prompt
+ * @param scope      SHA-256 da finalidade, do modelo e das opções
+ * @param hash       SHA-256 do escopo e do texto normalizado
+ * @param text       texto normalizado das mensagens
+ * @author Israel Araújo
+ * @see LlmResponseCache
+ * @since 1.0.0
+ */
+public record LlmCacheKey(FinalidadePromptEnum finalidade, String scope,
+                          String hash, String text) {
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  /**
+   * Monta a chave de um prompt.
+   *
+   * @param prompt     prompt a enviar
+   * @param model      modelo padrão, usado quando o prompt não define outro
+   * @param finalidade finalidade do prompt
+   * @return chave do cache
+   */
+  public static LlmCacheKey of(Prompt prompt, String model,
+                               FinalidadePromptEnum finalidade) {
+    Objects.requireNonNull(prompt, "prompt cannot be null");
+    Objects.requireNonNull(finalidade, "finalidade cannot be null");
+
+    StringBuilder text = new StringBuilder();
+    for (Message message : prompt.getInstructions()) {
+      String content = message.getText() == null ? ""
+                                                 : WHITESPACE.matcher(message.getText().strip())
+                                                     .replaceAll(" ");
+      text.append(message.getMessageType().name()).append(':').append(content)
+          .append('\n');
+    }
+
+    StringBuilder scope = new StringBuilder(finalidade.name()).append('\n');
+    ChatOptions options = prompt.getOptions();
+    if (options != null) {
+      scope.append(options.getModel() != null ? options.getModel() : model)
+          .append('|').append(options.getTemperature())
+          .append('|').append(options.getTopP())
+          .append('|').append(options.getTopK())
+          .append('|').append(options.getMaxTokens());
+    } else {
+      scope.append(model);
+    }
+
+    String scopeHash = sha256(scope.toString());
+    String normalized = text.toString();
+    return new LlmCacheKey(finalidade, scopeHash,
+                           sha256(scopeHash + '\n' + normalized), normalized);
+  }
+
+  private static String sha256(String value) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+          .digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.ia.core.llm.service.chat;
+
+import java.util.function.Supplier;
+
+/**
+ * Cache de respostas do LLM usado por
+ * {@link ChatService#askDeterministic(String, String, com.ia.core.llm.model.prompt.FinalidadePromptEnum)}.
+ * <p>
+ * A implementação padrão é {@link DefaultLlmResponseCache}; módulos podem
+ * registrar outra implementação como bean.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+public interface LlmResponseCache {
+
+  /** Implementação que sempre chama o modelo. */
+  LlmResponseCache NONE = (key, call) -> call.get();
+
+  /**
+   * Retorna a resposta em cache para a chave ou chama o modelo e armazena a
+   * resposta.
+   *
+   * @param key  chave do prompt
+   * @param call chamada ao modelo
+   * @return resposta do modelo
+   */
+  String getOrCall(LlmCacheKey key, Supplier<String> call);
+
+  /**
+   * Descarta as respostas armazenadas.
+   */
+  default void clear() {
+  }
+}
@@ -0,0 +1,125 @@
+package com.ia.core.llm.service.chat;
+
+import com.ia.core.model.TSID;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Repositório JDBC da memória de conversação, compartilhado entre os nós.
+ * <p>
+ * Cada mensagem é uma linha de {@link #TABLE} identificada por um
+ * {@link TSID}; a ordem das mensagens de uma conversa é a ordem dos ids,
+ * reservados em bloco crescente a cada gravação. {@link #saveAll(String, List)}
+ * substitui as mensagens da conversa em uma única transação.
+ * <p>
+ * Mensagens de ferramentas não são gravadas.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+public class TsidJdbcChatMemoryRepository
+  implements ChatMemoryRepository {
+
+  /** Tabela das mensagens */
+  static final String TABLE = "LARGE_LANGUAGE_MODEL.LLM_CHAT_MEMORIA";
+  /** Conversas gravadas */
+  static final String SELECT_IDS_SQL = "SELECT DISTINCT conversation_id FROM "
+      + TABLE;
+  /** Mensagens de uma conversa */
+  static final String SELECT_SQL = "SELECT message_type, content FROM " + TABLE
+      + " WHERE conversation_id = ? ORDER BY id";
+  /** Inserção de uma mensagem */
+  static final String INSERT_SQL = "INSERT INTO " + TABLE
+      + " (id, conversation_id, message_type, content, created_at) VALUES (?, ?, ?, ?, ?)";
+  /** Exclusão das mensagens de uma conversa */
+  static final String DELETE_SQL = "DELETE FROM " + TABLE
+      + " WHERE conversation_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * @param jdbcTemplate        acesso JDBC
+   * @param transactionTemplate transação da substituição das mensagens
+   */
+  public TsidJdbcChatMemoryRepository(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  @Override
+  public List<String> findConversationIds() {
+    return jdbcTemplate.queryForList(SELECT_IDS_SQL, String.class);
+  }
+
+  @Override
+  public List<Message> findByConversationId(String conversationId) {
+    Objects.requireNonNull(conversationId, "conversationId");
+    return jdbcTemplate.query(SELECT_SQL, TsidJdbcChatMemoryRepository::toMessage,
+                              conversationId);
+  }
+
+  @Override
+  public void saveAll(String conversationId, List<Message> messages) {
+    Objects.requireNonNull(conversationId, "conversationId");
+    List<Message> stored = messages.stream()
+        .filter(message -> message.getMessageType() != MessageType.TOOL).toList();
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.update(DELETE_SQL, conversationId);
+      if (stored.isEmpty()) {
+        return;
+      }
+      long[] ids = TSID.Factory.getTsid4096Block(stored.size());
+      jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+        @Override
+        public void setValues(PreparedStatement ps, int i)
+          throws SQLException {
+          Message message = stored.get(i);
+          ps.setLong(1, ids[i]);
+          ps.setString(2, conversationId);
+          ps.setString(3, message.getMessageType().name());
+          ps.setString(4, message.getText());
+          ps.setTimestamp(5, now);
+        }
+
+        @Override
+        public int getBatchSize() {
+          return stored.size();
+        }
+      });
+    });
+  }
+
+  @Override
+  public void deleteByConversationId(String conversationId) {
+    Objects.requireNonNull(conversationId, "conversationId");
+    jdbcTemplate.update(DELETE_SQL, conversationId);
+  }
+
+  private static Message toMessage(ResultSet rs, int row)
+    throws SQLException {
+    String content = rs.getString(2);
+    return switch (MessageType.valueOf(rs.getString(1))) {
+      case ASSISTANT -> new AssistantMessage(content);
+      case SYSTEM -> new SystemMessage(content);
+      default -> new UserMessage(content);
+    };
+  }
+}
@@ -1,10 +1,14 @@
 package com.ia.core.llm.service.config;
 
+import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Propriedades de configuração do módulo LLM.
@@ -25,6 +29,12 @@ public class LlmModuleProperties {
   private Ferramenta ferramenta = new Ferramenta();
   private Audit audit = new Audit();
   private HttpConfig http = new HttpConfig();
+  private ContextOntology contextOntology = new ContextOntology();
+  private ReasonerCache reasonerCache = new ReasonerCache();
+  private Corpus corpus = new Corpus();
+  private ResponseCache responseCache = new ResponseCache();
+  private Session session = new Session();
+  private Memory memory = new Memory();
 
   @Data
   public static class Security {
@@ -82,6 +92,12 @@ public class LlmModuleProperties {
       private boolean enabled = true;
       private List<String> scanPackages = new ArrayList<>(List.of("com.ia"));
       private boolean refreshOnStartup = true;
+      /** Executa a descoberta da inicialização fora da thread principal */
+      private boolean async = true;
+      /** Varre os beans em paralelo */
+      private boolean parallel = true;
+      /** Ferramentas gravadas por transação */
+      private int batchSize = 100;
     }
   }
 
@@ -96,4 +112,103 @@ public class LlmModuleProperties {
     private int readTimeout = 600000;
     private int connectTimeout = 600000;
   }
+
+  /**
+   * Ontologias de contexto mantidas em memória por sessão de conversação.
+   */
+  @Data
+  public static class ContextOntology {
+    private int maxSessions = 256;
+    private Duration ttl = Duration.ofMinutes(30);
+  }
+
+  /**
+   * Cache de resultados do reasoner indexado pelo conteúdo da ontologia.
+   */
+  @Data
+  public static class ReasonerCache {
+    private int maxSize = 64;
+    private Duration ttl = Duration.ofHours(1);
+    /** Diretório de descarte em disco; vazio desativa o descarte */
+    private String spillDirectory;
+    private int maxDiskEntries = 1024;
+  }
+
+  /**
+   * Extração de elementos ontológicos de corpus em lotes de sentenças.
+   */
+  @Data
+  public static class Corpus {
+    private boolean batchEnabled = true;
+    private int batchSize = 20;
+    /**
+     * Lotes em execução simultânea; zero ou acima do bulkhead do perfil
+     * {@code LLM_SERVICE} usa o limite do bulkhead
+     */
+    private int maxInFlight = 0;
+  }
+
+  /**
+   * Cache de respostas do LLM para perguntas determinísticas.
+   */
+  @Data
+  public static class ResponseCache {
+    private boolean enabled = true;
+    /** Configuração usada pelas finalidades sem entrada em {@link #finalidade} */
+    private Tier defaults = new Tier();
+    private Map<FinalidadePromptEnum, Tier> finalidade = new EnumMap<>(FinalidadePromptEnum.class);
+    private Semantic semantic = new Semantic();
+
+    /**
+     * @param finalidade finalidade do prompt
+     * @return configuração da finalidade
+     */
+    public Tier tier(FinalidadePromptEnum finalidade) {
+      return this.finalidade.getOrDefault(finalidade, defaults);
+    }
+
+    @Data
+    public static class Tier {
+      private boolean enabled = true;
+      private int maxSize = 1000;
+      private Duration ttl = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class Semantic {
+      private boolean enabled = false;
+      private double similarityThreshold = 0.95;
+    }
+  }
+
+  /**
+   * Registro de sessões de chat ativas.
+   */
+  @Data
+  public static class Session {
+    private int maxSize = 10_000;
+    /** Inatividade após a qual a sessão é descartada */
+    private Duration idleTtl = Duration.ofMinutes(30);
+  }
+
+  /**
+   * Memória de conversação usada pelo {@code MessageChatMemoryAdvisor}.
+   */
+  @Data
+  public static class Memory {
+    private Store store = Store.IN_MEMORY;
+    private int maxMessages = 50;
+    /**
+     * Tamanho máximo do resumo das mensagens que saem da janela; zero
+     * descarta as mensagens sem resumo
+     */
+    private int summaryMaxChars = 2000;
+
+    public enum Store {
+      /** Memória local do nó, descartada com a sessão */
+      IN_MEMORY,
+      /** Tabela compartilhada entre os nós */
+      JDBC
+    }
+  }
 }
@@ -0,0 +1,66 @@
+package com.ia.core.llm.service.config;
+
+import com.ia.core.owl.service.ReasonerResultCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Configuração do cache compartilhado de resultados do reasoner.
+ * <p>
+ * Aplica as propriedades de {@code ia-core.llm.reasoner-cache} e registra as
+ * métricas de acertos (memória e disco), faltas, descartes, gravações em
+ * disco e tamanho do cache.
+ *
+ * @author Israel Araújo
+ * @see ReasonerResultCache
+ * @since 1.0.0
+ */
+@Component
+public class ReasonerResultCacheConfig {
+
+  /**
+   * Construtor com injeção de dependências.
+   *
+   * @param properties propriedades do módulo LLM
+   * @param registry   registro de métricas
+   */
+  public ReasonerResultCacheConfig(LlmModuleProperties properties,
+                                   MeterRegistry registry) {
+    LlmModuleProperties.ReasonerCache config = properties.getReasonerCache();
+    String spillDirectory = config.getSpillDirectory();
+    ReasonerResultCache
+        .configure(config.getMaxSize(), config.getTtl(),
+                   spillDirectory == null || spillDirectory.isBlank() ? null
+                                                                      : Path.of(spillDirectory),
+                   config.getMaxDiskEntries());
+
+    FunctionCounter.builder("owl_reasoner_cache_hits_total", this,
+                            c -> ReasonerResultCache.get().hitCount())
+        .description("Análises do reasoner atendidas pela memória")
+        .register(registry);
+    FunctionCounter.builder("owl_reasoner_cache_disk_hits_total", this,
+                            c -> ReasonerResultCache.get().diskHitCount())
+        .description("Análises do reasoner recuperadas do disco")
+        .register(registry);
+    FunctionCounter.builder("owl_reasoner_cache_misses_total", this,
+                            c -> ReasonerResultCache.get().missCount())
+        .description("Análises do reasoner ausentes da memória")
+        .register(registry);
+    FunctionCounter.builder("owl_reasoner_cache_evictions_total", this,
+                            c -> ReasonerResultCache.get().evictionCount())
+        .description("Análises do reasoner descartadas da memória por tamanho ou expiração")
+        .register(registry);
+    FunctionCounter.builder("owl_reasoner_cache_spills_total", this,
+                            c -> ReasonerResultCache.get().spillCount())
+        .description("Análises do reasoner gravadas em disco")
+        .register(registry);
+    Gauge.builder("owl_reasoner_cache_size", this,
+                  c -> ReasonerResultCache.get().size())
+        .description("Análises do reasoner em memória")
+        .register(registry);
+  }
+}
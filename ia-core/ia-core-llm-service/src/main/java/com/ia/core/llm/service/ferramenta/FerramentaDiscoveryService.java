@@ -3,25 +3,43 @@ package com.ia.core.llm.service.ferramenta;
 import com.ia.core.llm.model.ferramenta.Ferramenta;
 import com.ia.core.llm.model.ferramenta.TipoFerramentaEnum;
 import com.ia.core.llm.service.config.LlmModuleProperties;
+import com.ia.core.llm.service.model.ferramenta.FerramentaDTO;
 import com.ia.core.llm.service.model.ferramenta.FerramentaDiscoverable;
 import com.ia.core.model.filter.SearchRequest;
 import com.ia.core.model.specification.SearchSpecification;
 import com.ia.core.service.annotations.TransactionalWrite;
 import com.ia.core.service.dto.request.SearchRequestDTO;
+import com.ia.core.service.event.BaseServiceEvent;
+import com.ia.core.service.event.CrudOperationType;
 import com.ia.core.service.mapper.SearchRequestMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Serviço para descoberta automática de ferramentas.
@@ -30,6 +48,13 @@ import java.util.List;
  * e agentes especialistas automaticamente com o banco de dados.
  * Recupera ferramentas tanto do contexto Spring quanto do banco de dados
  * através da interface FerramentaDiscoverable, com suporte a paginação.
+ * <p>
+ * A sincronização da inicialização ocorre quando a aplicação fica pronta,
+ * por padrão em uma thread virtual, fora do caminho crítico. Os tipos dos
+ * beans são varridos uma única vez cada, opcionalmente em paralelo, e as
+ * ferramentas são gravadas em lotes: uma consulta por identificadores e uma
+ * gravação por lote, apenas das novas ou alteradas, cada lote em sua
+ * transação. Cada ferramenta gravada gera um {@link BaseServiceEvent}.
  *
  * @author Israel Araújo
  * @since 1.0.0
@@ -44,63 +69,87 @@ public class FerramentaDiscoveryService {
   private final ApplicationContext applicationContext;
   private final SearchRequestMapper searchRequestMapper;
   private final FerramentaMapper ferramentaMapper;
+  private final PlatformTransactionManager transactionManager;
+  private final ApplicationEventPublisher eventPublisher;
+  /** Sincronizações exclusivas; {@link ReentrantLock} não fixa a thread virtual na portadora */
+  private final ReentrantLock syncLock = new ReentrantLock();
 
-  @PostConstruct
+  @EventListener(ApplicationReadyEvent.class)
   public void onStartup() {
-    log.info("FerramentaDiscoveryService iniciado. refreshOnStartup: {}, enabled: {}",
-        llmModuleProperties.getFerramenta().getDiscovery().isRefreshOnStartup(),
-        llmModuleProperties.getFerramenta().getDiscovery().isEnabled());
-    if (llmModuleProperties.getFerramenta().getDiscovery().isRefreshOnStartup()) {
+    LlmModuleProperties.Ferramenta.Discovery discovery = llmModuleProperties.getFerramenta().getDiscovery();
+    log.info("FerramentaDiscoveryService iniciado. refreshOnStartup: {}, enabled: {}, async: {}",
+        discovery.isRefreshOnStartup(), discovery.isEnabled(), discovery.isAsync());
+    if (!discovery.isRefreshOnStartup()) {
+      return;
+    }
+    if (discovery.isAsync()) {
+      Thread.ofVirtual().name("ferramenta-discovery").start(this::syncOnStartup);
+    } else {
+      syncOnStartup();
+    }
+  }
+
+  private void syncOnStartup() {
+    try {
       syncFromDiscovery();
+    } catch (RuntimeException e) {
+      log.error("Falha na sincronização de ferramentas da inicialização", e);
     }
   }
 
-  @TransactionalWrite
+  /**
+   * Sincroniza as ferramentas descobertas com o banco de dados. Sem transação
+   * envolvente: cada lote é gravado em uma transação própria, e a falha de um
+   * lote não desfaz os demais.
+   */
   public void syncFromDiscovery() {
-    log.info("Iniciando sincronização de ferramentas. enabled: {}",
-        llmModuleProperties.getFerramenta().getDiscovery().isEnabled());
+    LlmModuleProperties.Ferramenta.Discovery discovery = llmModuleProperties.getFerramenta().getDiscovery();
+    log.info("Iniciando sincronização de ferramentas. enabled: {}", discovery.isEnabled());
 
-    if (!llmModuleProperties.getFerramenta().getDiscovery().isEnabled()) {
+    if (!discovery.isEnabled()) {
       log.warn("Descoberta de ferramentas está desabilitada");
       return;
     }
 
-    List<String> scanPackages = llmModuleProperties.getFerramenta().getDiscovery().getScanPackages();
+    List<String> scanPackages = discovery.getScanPackages();
     log.info("Pacotes de scan: {}", scanPackages);
 
-    DiscoveryResult result = discoverSpringTools(scanPackages);
-    log.info("Sincronização concluída. Ferramentas: {}, Beans verificados: {}",
-        result.ferramentaCount(), result.beansChecked());
+    long start = System.nanoTime();
+    syncLock.lock();
+    try {
+      DiscoveryResult result = discoverSpringTools(scanPackages, discovery.isParallel());
+      int saved = upsertTools(result.tools(), discovery.getBatchSize());
+      log.info("Sincronização concluída em {} ms. Ferramentas: {}, gravadas: {}, Beans verificados: {}",
+          (System.nanoTime() - start) / 1_000_000, result.tools().size(), saved, result.beansChecked());
+    } finally {
+      syncLock.unlock();
+    }
   }
 
-  private DiscoveryResult discoverSpringTools(List<String> scanPackages) {
-    int ferramentaCount = 0;
-    int beansChecked = 0;
-
-    log.info("Total de beans no ApplicationContext: {}", applicationContext.getBeanDefinitionNames().length);
+  private DiscoveryResult discoverSpringTools(List<String> scanPackages, boolean parallel) {
+    String[] beanNames = applicationContext.getBeanDefinitionNames();
+    log.info("Total de beans no ApplicationContext: {}", beanNames.length);
 
-    for (String beanName : applicationContext.getBeanDefinitionNames()) {
+    Set<Class<?>> types = new LinkedHashSet<>();
+    int beansChecked = 0;
+    for (String beanName : beanNames) {
       Class<?> type = applicationContext.getType(beanName);
       if (type == null || !isInScanPackages(type, scanPackages)) {
         continue;
       }
-
       beansChecked++;
       log.debug("Verificando bean: {} do tipo: {}", beanName, type.getName());
-
-      for (Method method : ReflectionUtils.getAllDeclaredMethods(type)) {
-        Tool tool = method.getAnnotation(Tool.class);
-        if (tool != null) {
-          ToolInfo info = extractToolInfo(tool, type, method);
-          log.info("Ferramenta descoberta: {} em método: {} da classe: {}",
-              info.id(), method.getName(), type.getSimpleName());
-          upsertTool(info);
-          ferramentaCount++;
-        }
-      }
+      types.add(type);
     }
 
-    return new DiscoveryResult(ferramentaCount, beansChecked);
+    Stream<Class<?>> stream = parallel ? types.parallelStream() : types.stream();
+    Map<String, ToolInfo> tools = stream
+        .flatMap(type -> Arrays.stream(ReflectionUtils.getAllDeclaredMethods(type))
+            .map(method -> toToolInfo(type, method))
+            .filter(Objects::nonNull))
+        .collect(Collectors.toMap(ToolInfo::id, Function.identity(),
+                                  (first, duplicate) -> first, LinkedHashMap::new));
+    return new DiscoveryResult(List.copyOf(tools.values()), beansChecked);
   }
 
   private boolean isInScanPackages(Class<?> type, List<String> scanPackages) {
@@ -113,21 +162,77 @@ public class FerramentaDiscoveryService {
     return result;
   }
 
+  private ToolInfo toToolInfo(Class<?> type, Method method) {
+    Tool tool = method.getAnnotation(Tool.class);
+    if (tool == null) {
+      return null;
+    }
+    ToolInfo info = extractToolInfo(tool, type, method);
+    log.info("Ferramenta descoberta: {} em método: {} da classe: {}",
+        info.id(), method.getName(), type.getSimpleName());
+    return info;
+  }
+
   private ToolInfo extractToolInfo(Tool tool, Class<?> type, Method method) {
     String id = tool.name().isBlank() ? type.getSimpleName() + "." + method.getName() : tool.name();
     String desc = tool.description().isBlank() ? method.getName() : tool.description();
     return new ToolInfo(id, desc, type.getSimpleName());
   }
 
-  private void upsertTool(ToolInfo info) {
-    ferramentaRepository.findByIdentificador(info.id())
-        .ifPresentOrElse(
-            existing -> updateExisting(existing, info),
-            () -> createNew(info));
+  /**
+   * Grava as ferramentas descobertas em lotes, cada um em uma transação nova;
+   * um lote com falha é registrado em log e os seguintes continuam.
+   *
+   * @param tools     ferramentas descobertas, sem identificadores repetidos
+   * @param batchSize ferramentas por lote
+   * @return quantidade de ferramentas criadas ou alteradas
+   */
+  private int upsertTools(List<ToolInfo> tools, int batchSize) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    int size = Math.max(1, batchSize);
+    int saved = 0;
+    for (int from = 0; from < tools.size(); from += size) {
+      List<ToolInfo> batch = tools.subList(from, Math.min(from + size, tools.size()));
+      try {
+        Integer count = transactionTemplate.execute(status -> upsertBatch(batch));
+        saved += count == null ? 0 : count;
+      } catch (RuntimeException e) {
+        log.error("Falha ao gravar lote de {} ferramentas a partir de {}", batch.size(),
+                  batch.get(0).id(), e);
+      }
+    }
+    return saved;
   }
 
-  private void createNew(ToolInfo info) {
-    Ferramenta nova = Ferramenta.builder()
+  private int upsertBatch(List<ToolInfo> batch) {
+    Map<String, Ferramenta> existing = ferramentaRepository
+        .findByIdentificadorIn(batch.stream().map(ToolInfo::id).toList()).stream()
+        .collect(Collectors.toMap(Ferramenta::getIdentificador, Function.identity()));
+    List<Ferramenta> changed = new ArrayList<>();
+    List<CrudOperationType> operations = new ArrayList<>();
+    for (ToolInfo info : batch) {
+      Ferramenta ferramenta = existing.get(info.id());
+      if (ferramenta == null) {
+        changed.add(createNew(info));
+        operations.add(CrudOperationType.CREATED);
+      } else if (updateExisting(ferramenta, info)) {
+        changed.add(ferramenta);
+        operations.add(CrudOperationType.UPDATED);
+      }
+    }
+    if (changed.isEmpty()) {
+      return 0;
+    }
+    List<Ferramenta> saved = ferramentaRepository.saveAll(changed);
+    for (int i = 0; i < saved.size(); i++) {
+      publishChanged(saved.get(i), operations.get(i));
+    }
+    return saved.size();
+  }
+
+  private Ferramenta createNew(ToolInfo info) {
+    return Ferramenta.builder()
         .titulo(info.id())
         .descricao(info.description())
         .identificador(info.id())
@@ -136,16 +241,34 @@ public class FerramentaDiscoveryService {
         .ativo(true)
         .descobertaAutomatica(true)
         .build();
-    ferramentaRepository.save(nova);
   }
 
-  private void updateExisting(Ferramenta existing, ToolInfo info) {
+  /**
+   * @return {@code true} se algum campo foi alterado
+   */
+  private boolean updateExisting(Ferramenta existing, ToolInfo info) {
+    if (Objects.equals(existing.getTitulo(), info.id())
+        && Objects.equals(existing.getDescricao(), info.description())
+        && Objects.equals(existing.getModuloOrigem(), info.module())
+        && existing.getTipo() == TipoFerramentaEnum.TOOL_SPRING
+        && existing.isDescobertaAutomatica()) {
+      return false;
+    }
     existing.setTitulo(info.id());
     existing.setDescricao(info.description());
     existing.setModuloOrigem(info.module());
     existing.setTipo(TipoFerramentaEnum.TOOL_SPRING);
     existing.setDescobertaAutomatica(true);
-    ferramentaRepository.save(existing);
+    return true;
+  }
+
+  private void publishChanged(Ferramenta ferramenta, CrudOperationType operation) {
+    FerramentaDTO dto = FerramentaDTO.builder()
+        .id(ferramenta.getId())
+        .version(ferramenta.getVersion())
+        .identificador(ferramenta.getIdentificador())
+        .build();
+    eventPublisher.publishEvent(new BaseServiceEvent<>(this, dto, operation));
   }
 
   /**
@@ -198,5 +321,5 @@ public class FerramentaDiscoveryService {
   }
 
   private record ToolInfo(String id, String description, String module) {}
-  private record DiscoveryResult(int ferramentaCount, int beansChecked) {}
+  private record DiscoveryResult(List<ToolInfo> tools, int beansChecked) {}
 }
@@ -4,6 +4,7 @@ import com.ia.core.llm.model.ferramenta.Ferramenta;
 import com.ia.core.llm.model.ferramenta.TipoFerramentaEnum;
 import com.ia.core.service.repository.BaseEntityRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,8 @@ public interface FerramentaRepository
 
   Optional<Ferramenta> findByIdentificador(String identificador);
 
+  List<Ferramenta> findByIdentificadorIn(Collection<String> identificadores);
+
   List<Ferramenta> findByAtivoTrue();
 
   List<Ferramenta> findByAtivoTrueAndTipo(TipoFerramentaEnum tipo);
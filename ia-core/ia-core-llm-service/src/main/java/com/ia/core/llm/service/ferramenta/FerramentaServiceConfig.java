@@ -7,6 +7,7 @@ import com.ia.core.service.mapper.BaseEntityMapper;
 import com.ia.core.service.mapper.SearchRequestMapper;
 import com.ia.core.service.translator.Translator;
 import com.ia.core.service.validators.IServiceValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -15,7 +16,8 @@ import java.util.List;
  * Configuração de injeção de dependência para FerramentaService.
  * <p>
  * Fornece as dependências necessárias para o serviço de ferramentas,
- * incluindo o serviço de descoberta automática.
+ * incluindo o serviço de descoberta automática. Os eventos de gravação e
+ * exclusão atualizam o catálogo do {@code FerramentaResolver}.
  *
  * @author Israel Araújo
  * @since 1.0.0
@@ -29,8 +31,10 @@ public class FerramentaServiceConfig
                                  SearchRequestMapper searchRequestMapper,
                                  Translator translator,
                                  FerramentaDiscoveryService discoveryService,
-                                 List<IServiceValidator<FerramentaDTO>> validators) {
-    super(repository, mapper, searchRequestMapper, translator, validators);
+                                 List<IServiceValidator<FerramentaDTO>> validators,
+                                 ApplicationEventPublisher eventPublisher) {
+    super(repository, mapper, searchRequestMapper, translator, validators,
+          eventPublisher);
     this.discoveryService = discoveryService;
   }
 
@@ -1,6 +1,10 @@
 package com.ia.core.llm.service.metrics;
 
+import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
+import com.ia.core.llm.service.chat.ChatSessionServiceImpl;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
@@ -19,10 +23,12 @@ import java.util.concurrent.TimeUnit;
 @Component
 public class LlmMetrics {
 
+  private final MeterRegistry registry;
   private final Counter llmRequestCounter;
   private final Timer llmResponseTimer;
 
   public LlmMetrics(MeterRegistry registry) {
+    this.registry = registry;
     this.llmRequestCounter = Counter.builder("llm_requests_total")
         .description("Total de requisições LLM")
         .tag("type", "agent")
@@ -51,4 +57,39 @@ public class LlmMetrics {
   public void recordResponseTime(long duration) {
     llmResponseTimer.record(duration, TimeUnit.MILLISECONDS);
   }
+
+  /**
+   * Registra uma consulta ao cache de respostas LLM. A taxa de acertos é a
+   * razão entre as consultas com {@code result} {@code exact} ou
+   * {@code semantic} e o total.
+   *
+   * @param finalidade finalidade do prompt consultado
+   * @param result     resultado: {@code exact}, {@code semantic} ou
+   *                   {@code miss}
+   */
+  public void recordCacheLookup(FinalidadePromptEnum finalidade, String result) {
+    Counter.builder("llm_response_cache_lookups_total")
+        .description("Consultas ao cache de respostas LLM")
+        .tag("finalidade", finalidade.name())
+        .tag("result", result)
+        .register(registry)
+        .increment();
+  }
+
+  /**
+   * Registra as métricas do registro de sessões de chat: sessões registradas
+   * e sessões descartadas por tamanho ou inatividade.
+   *
+   * @param sessions registro de sessões
+   */
+  public void bindChatSessions(ChatSessionServiceImpl sessions) {
+    Gauge.builder("llm_chat_sessions_active", sessions,
+                  ChatSessionServiceImpl::getActiveSessionCount)
+        .description("Sessões de chat registradas")
+        .register(registry);
+    FunctionCounter.builder("llm_chat_sessions_evictions_total", sessions,
+                            ChatSessionServiceImpl::getEvictionCount)
+        .description("Sessões de chat descartadas por tamanho ou inatividade")
+        .register(registry);
+  }
 }
@@ -3,18 +3,34 @@ package com.ia.core.llm.service.resolver;
 import com.ia.core.llm.model.ferramenta.Ferramenta;
 import com.ia.core.llm.service.ferramenta.FerramentaRepository;
 import com.ia.core.llm.service.model.ferramenta.FerramentaDTO;
+import com.ia.core.service.event.BaseServiceEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Utilitário compartilhado para resolver entidades {@link Ferramenta} a partir de DTOs.
  * <p>
  * Centraliza a lógica de resolução utilizada por
  * {@code AgenteService} e {@code FerramentaService}.
+ * <p>
+ * As ferramentas ficam em um catálogo em memória, carregado por completo na
+ * primeira resolução. As ausentes do catálogo são buscadas de uma só vez, por
+ * {@code id} e por {@code identificador}, e incorporadas a ele. Cada evento de
+ * gravação ou exclusão de ferramenta descarta a entrada afetada e avança a
+ * versão do catálogo, de modo que uma carga iniciada antes do evento não é
+ * incorporada. As entidades do catálogo são desanexadas: servem como
+ * referência em associações, sem acesso às coleções preguiçosas.
  *
  * @author Israel Araújo
  * @since 1.0.0
@@ -24,6 +40,7 @@ import java.util.List;
 public class FerramentaResolver {
 
   private final FerramentaRepository ferramentaRepository;
+  private final AtomicReference<Catalog> catalog = new AtomicReference<>(Catalog.EMPTY);
 
   public FerramentaResolver(FerramentaRepository ferramentaRepository) {
     this.ferramentaRepository = ferramentaRepository;
@@ -40,21 +57,151 @@ public class FerramentaResolver {
     if (ferramentaDtos == null || ferramentaDtos.isEmpty()) {
       return Collections.emptyList();
     }
+    Catalog current = loadedCatalog();
+    Set<Long> missingIds = new LinkedHashSet<>();
+    Set<String> missingIdentificadores = new LinkedHashSet<>();
+    for (FerramentaDTO f : ferramentaDtos) {
+      if (f == null) {
+        continue;
+      }
+      if (f.getId() != null) {
+        if (!current.byId().containsKey(f.getId())) {
+          missingIds.add(f.getId());
+        }
+      } else if (f.getIdentificador() != null
+          && !current.byIdentificador().containsKey(f.getIdentificador())) {
+        missingIdentificadores.add(f.getIdentificador());
+      }
+    }
+    if (!missingIds.isEmpty() || !missingIdentificadores.isEmpty()) {
+      current = loadMissing(current, missingIds, missingIdentificadores);
+    }
+
     List<Ferramenta> result = new ArrayList<>();
     for (FerramentaDTO f : ferramentaDtos) {
       if (f == null) {
         continue;
       }
       if (f.getId() != null) {
-        ferramentaRepository.findById(f.getId())
-            .ifPresentOrElse(result::add,
-                () -> log.warn("Ferramenta não encontrada por id: {}", f.getId()));
+        Ferramenta ferramenta = current.byId().get(f.getId());
+        if (ferramenta != null) {
+          result.add(ferramenta);
+        } else {
+          log.warn("Ferramenta não encontrada por id: {}", f.getId());
+        }
       } else if (f.getIdentificador() != null) {
-        ferramentaRepository.findByIdentificador(f.getIdentificador())
-            .ifPresentOrElse(result::add,
-                () -> log.warn("Ferramenta não encontrada por identificador: {}", f.getIdentificador()));
+        Ferramenta ferramenta = current.byIdentificador().get(f.getIdentificador());
+        if (ferramenta != null) {
+          result.add(ferramenta);
+        } else {
+          log.warn("Ferramenta não encontrada por identificador: {}", f.getIdentificador());
+        }
       }
     }
     return result;
   }
+
+  /**
+   * Descarta a ferramenta gravada ou excluída, inclusive sob o identificador
+   * anterior, se alterado. Em transação, o descarte ocorre após o commit.
+   *
+   * @param event evento publicado pelo {@code FerramentaService} ou pela
+   *              descoberta automática
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onFerramentaChanged(BaseServiceEvent<?> event) {
+    if (event.getDto() instanceof FerramentaDTO ferramenta) {
+      Catalog updated = catalog.updateAndGet(c -> c.without(ferramenta.getId(),
+                                                            ferramenta.getIdentificador()));
+      log.debug("Ferramenta {} {}: catálogo na versão {}", ferramenta.getIdentificador(),
+                event.getEventType().name(), updated.version());
+    }
+  }
+
+  /**
+   * Descarta todo o catálogo; a próxima resolução o recarrega.
+   */
+  public void invalidateAll() {
+    catalog.updateAndGet(Catalog::cleared);
+  }
+
+  /**
+   * @return versão do catálogo, avançada a cada descarte
+   */
+  public long getCatalogVersion() {
+    return catalog.get().version();
+  }
+
+  private Catalog loadedCatalog() {
+    Catalog current = catalog.get();
+    if (current.complete()) {
+      return current;
+    }
+    Catalog loaded = current.with(ferramentaRepository.findAll(), true);
+    // descartes durante a carga prevalecem: a carga vale apenas para esta resolução
+    catalog.compareAndSet(current, loaded);
+    return loaded;
+  }
+
+  private Catalog loadMissing(Catalog current, Set<Long> ids, Set<String> identificadores) {
+    List<Ferramenta> found = new ArrayList<>();
+    if (!ids.isEmpty()) {
+      found.addAll(ferramentaRepository.findAllById(ids));
+    }
+    if (!identificadores.isEmpty()) {
+      found.addAll(ferramentaRepository.findByIdentificadorIn(identificadores));
+    }
+    if (found.isEmpty()) {
+      return current;
+    }
+    Catalog loaded = current.with(found, false);
+    if (!catalog.compareAndSet(current, loaded)) {
+      log.debug("Catálogo de ferramentas alterado durante a carga; {} ferramenta(s) não incorporada(s)",
+                found.size());
+    }
+    return loaded;
+  }
+
+  /**
+   * Estado imutável do catálogo. Cada descarte produz uma nova versão.
+   *
+   * @param version          versão do catálogo
+   * @param complete         indica se todas as ferramentas foram carregadas
+   * @param byId             ferramentas por id
+   * @param byIdentificador  ferramentas por identificador
+   */
+  private record Catalog(long version, boolean complete, Map<Long, Ferramenta> byId,
+                         Map<String, Ferramenta> byIdentificador) {
+
+    static final Catalog EMPTY = new Catalog(0, false, Map.of(), Map.of());
+
+    Catalog with(Collection<Ferramenta> ferramentas, boolean loadedAll) {
+      Map<Long, Ferramenta> ids = new HashMap<>(byId);
+      Map<String, Ferramenta> identificadores = new HashMap<>(byIdentificador);
+      for (Ferramenta ferramenta : ferramentas) {
+        ids.put(ferramenta.getId(), ferramenta);
+        identificadores.put(ferramenta.getIdentificador(), ferramenta);
+      }
+      return new Catalog(version, complete || loadedAll, Map.copyOf(ids),
+                         Map.copyOf(identificadores));
+    }
+
+    Catalog without(Long id, String identificador) {
+      Map<Long, Ferramenta> ids = new HashMap<>(byId);
+      Map<String, Ferramenta> identificadores = new HashMap<>(byIdentificador);
+      Ferramenta previous = id == null ? null : ids.remove(id);
+      if (previous != null) {
+        identificadores.remove(previous.getIdentificador());
+      }
+      previous = identificador == null ? null : identificadores.remove(identificador);
+      if (previous != null) {
+        ids.remove(previous.getId());
+      }
+      return new Catalog(version + 1, complete, Map.copyOf(ids), Map.copyOf(identificadores));
+    }
+
+    Catalog cleared() {
+      return new Catalog(version + 1, false, Map.of(), Map.of());
+    }
+  }
 }
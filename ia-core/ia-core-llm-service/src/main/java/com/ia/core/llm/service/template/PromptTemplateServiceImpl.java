@@ -3,14 +3,21 @@ package com.ia.core.llm.service.template;
 import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
 import com.ia.core.llm.model.template.Template;
 import com.ia.core.llm.model.template.TemplateParameterEnum;
+import com.ia.core.llm.service.model.template.TemplateDTO;
+import com.ia.core.model.util.BoundedCache;
+import com.ia.core.service.event.BaseServiceEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.ai.chat.prompt.SystemPromptTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -19,6 +26,12 @@ import java.util.Optional;
  * Implementação de PromptTemplateService.
  * <p>
  * Fornece métodos para criação e manipulação de templates de prompt.
+ * <p>
+ * Os templates do banco são mantidos compilados por identificador e
+ * descartados após a confirmação da gravação ou exclusão publicada pelo
+ * {@link TemplateService}; o tempo de vida limita a defasagem em relação a
+ * alterações feitas por outros nós. O template constante
+ * {@code {document}\n\n{text}} é montado diretamente, sem renderização.
  *
  * @author Israel Araújo
  * @since 1.0.0
@@ -28,16 +41,20 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PromptTemplateServiceImpl implements PromptTemplateService {
 
+  /** Quantidade padrão de templates compilados mantidos */
+  static final int DEFAULT_MAX_TEMPLATES = 256;
+
+  /** Tempo de vida padrão dos templates compilados */
+  static final Duration DEFAULT_TEMPLATE_TTL = Duration.ofMinutes(10);
+
   private final TemplateRepository templateRepository;
 
+  private final BoundedCache<String, CompiledTemplate> compiledTemplates = new BoundedCache<>(DEFAULT_MAX_TEMPLATES,
+                                                                                              DEFAULT_TEMPLATE_TTL);
+
   @Override
   public Prompt createSimplePrompt(String document, String text) {
-    if (document == null) document = "";
-    if (text == null) text = "";
-    PromptTemplate pt = new PromptTemplate("{document}\n\n{text}");
-    pt.add("document", document);
-    pt.add("text", text);
-    return new Prompt(pt.createMessage());
+    return new Prompt(simpleMessage(document, text));
   }
 
   @Override
@@ -56,11 +73,7 @@ public class PromptTemplateServiceImpl implements PromptTemplateService {
 
     Message message = promptTemplate.createMessage(params);
 
-    PromptTemplate pt = new PromptTemplate("{document}\n\n{text}");
-    pt.add("document", document);
-    pt.add("text", text);
-
-    return new Prompt(List.of(message, pt.createMessage()));
+    return new Prompt(List.of(message, simpleMessage(document, text)));
   }
 
   @Override
@@ -79,27 +92,81 @@ public class PromptTemplateServiceImpl implements PromptTemplateService {
 
   @Override
   public String processTemplate(String templateId, Map<String, Object> params) {
-    String templateContent = getTemplateById(templateId);
-    if (templateContent == null) {
-      log.warn("Template retornado é null: {}", templateId);
+    CompiledTemplate compiled = compile(templateId);
+    if (compiled.template() == null) {
       return "";
     }
-    PromptTemplate promptTemplate = new PromptTemplate(templateContent);
-    return promptTemplate.render(params);
+    return compiled.template().render(params);
   }
 
   @Override
   public String getTemplateById(String templateId) {
+    return compile(templateId).conteudo();
+  }
+
+  /**
+   * Descarta o template compilado afetado por uma gravação ou exclusão,
+   * inclusive sob o identificador anterior, se alterado. Executado após a
+   * confirmação da transação, para que a próxima leitura obtenha o conteúdo
+   * gravado; a versão do evento não é comparada, pois o DTO é montado antes
+   * do incremento da versão no flush.
+   *
+   * @param event evento publicado pelo {@link TemplateService}
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onTemplateChanged(BaseServiceEvent<?> event) {
+    if (event.getDto() instanceof TemplateDTO template) {
+      int removed = compiledTemplates.removeIf((identificador, compiled) -> identificador
+          .equals(template.getIdentificador())
+          || (compiled.id() != null && compiled.id().equals(template.getId())));
+      log.debug("Template {} {}: {} compilado(s) descartado(s)", template.getIdentificador(),
+                event.getEventType().name(), removed);
+    }
+  }
+
+  /**
+   * Descarta todos os templates compilados.
+   */
+  public void clearCompiledTemplates() {
+    compiledTemplates.clear();
+  }
+
+  /**
+   * Obtém o template compilado, carregando-o do banco na primeira chamada.
+   *
+   * @param templateId identificador do template
+   * @return template compilado
+   * @throws IllegalArgumentException se o template não existir
+   */
+  private CompiledTemplate compile(String templateId) {
     if (templateRepository == null) {
       log.error("TemplateRepository não configurado");
       throw new IllegalArgumentException("TemplateRepository não configurado");
     }
-    Optional<Template> template = templateRepository.findByIdentificador(templateId);
-    if (template.isEmpty()) {
-      log.warn("Template não encontrado: {}", templateId);
-      throw new IllegalArgumentException("Template não encontrado: " + templateId);
-    }
-    String conteudo = template.get().getConteudo();
-    return conteudo != null ? conteudo : "";
+    return compiledTemplates.computeIfAbsent(templateId, identificador -> {
+      Optional<Template> template = templateRepository.findByIdentificador(identificador);
+      if (template.isEmpty()) {
+        log.warn("Template não encontrado: {}", identificador);
+        throw new IllegalArgumentException("Template não encontrado: " + identificador);
+      }
+      String conteudo = template.get().getConteudo() != null ? template.get().getConteudo() : "";
+      return new CompiledTemplate(template.get().getId(), conteudo,
+                                  conteudo.isEmpty() ? null : new PromptTemplate(conteudo));
+    });
+  }
+
+  private static Message simpleMessage(String document, String text) {
+    return new UserMessage((document == null ? "" : document) + "\n\n"
+        + (text == null ? "" : text));
+  }
+
+  /**
+   * Template do banco compilado.
+   *
+   * @param id       id da entidade
+   * @param conteudo conteúdo do template
+   * @param template template compilado ({@code null} se vazio)
+   */
+  private record CompiledTemplate(Long id, String conteudo, PromptTemplate template) {
   }
 }
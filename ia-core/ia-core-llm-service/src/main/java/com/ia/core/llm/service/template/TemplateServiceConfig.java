@@ -8,12 +8,16 @@ import com.ia.core.service.mapper.SearchRequestMapper;
 import com.ia.core.service.repository.BaseEntityRepository;
 import com.ia.core.service.translator.Translator;
 import com.ia.core.service.validators.IServiceValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
 /**
  * Configuração de injeção de dependência para TemplateService.
+ * <p>
+ * Os eventos de gravação e exclusão invalidam os templates compilados em
+ * {@link PromptTemplateServiceImpl}.
  *
  * @author Israel Araújo
  * @since 1.0.0
@@ -26,7 +30,9 @@ public class TemplateServiceConfig
                                BaseEntityMapper<Template, TemplateDTO> mapper,
                                SearchRequestMapper searchRequestMapper,
                                Translator translator,
-                               List<IServiceValidator<TemplateDTO>> validators) {
-    super(repository, mapper, searchRequestMapper, translator, validators);
+                               List<IServiceValidator<TemplateDTO>> validators,
+                               ApplicationEventPublisher eventPublisher) {
+    super(repository, mapper, searchRequestMapper, translator, validators,
+          eventPublisher);
   }
 }
@@ -0,0 +1,177 @@
+package com.ia.core.owl.service;
+
+import com.ia.core.llm.model.ferramenta.Ferramenta;
+import com.ia.core.model.util.BoundedCache;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.advisor.api.Advisor;
+import org.springframework.ai.chat.model.ChatModel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Registro de {@link ChatClient} reutilizáveis por conjunto de ferramentas.
+ * <p>
+ * Cada cliente é construído uma única vez por conjunto de tools (identidade
+ * dos objetos) e skills (id e versão da {@link Ferramenta}): a resolução
+ * reflexiva dos métodos {@code @Tool} acontece na construção e é reaproveitada
+ * pelas chamadas seguintes. Uma {@link Ferramenta} alterada tem nova versão e,
+ * portanto, novo cliente; o anterior deixa de ser usado e sai do registro pelo
+ * limite de tamanho. Os advisors, sem estado por requisição, são
+ * compartilhados por todos os clientes; o id da conversa é informado a cada
+ * requisição.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+class ChatClientRegistry {
+
+  /** Quantidade padrão de conjuntos de ferramentas mantidos. */
+  static final int DEFAULT_MAX_SIZE = 64;
+
+  private final ChatModel chatModel;
+  private final Supplier<List<Advisor>> advisors;
+  private final BoundedCache<ToolSet, ChatClient> clients;
+
+  /**
+   * @param chatModel modelo de chat
+   * @param advisors  advisors compartilhados, obtidos na primeira construção
+   * @param maxSize   quantidade máxima de conjuntos de ferramentas mantidos
+   */
+  ChatClientRegistry(ChatModel chatModel, Supplier<List<Advisor>> advisors,
+                     int maxSize) {
+    this.chatModel = chatModel;
+    this.advisors = advisors;
+    this.clients = new BoundedCache<>(maxSize);
+  }
+
+  /**
+   * Retorna o cliente do conjunto de ferramentas, construindo-o na primeira
+   * chamada.
+   *
+   * @param skills skills (Ferramenta com tipo SKILL)
+   * @param tools  tools a registrar; {@code null}, arrays e coleções
+   *               aninhados são achatados
+   * @return cliente de chat compartilhado
+   */
+  ChatClient client(List<Ferramenta> skills, Object... tools) {
+    return clients.computeIfAbsent(ToolSet.of(skills, tools), this::build);
+  }
+
+  /**
+   * @return quantidade de clientes mantidos
+   */
+  int size() {
+    return clients.size();
+  }
+
+  /**
+   * Descarta os clientes mantidos.
+   */
+  void clear() {
+    clients.clear();
+  }
+
+  private ChatClient build(ToolSet toolSet) {
+    ChatClient.Builder builder = ChatClient.builder(chatModel);
+
+    if (!toolSet.tools.isEmpty()) {
+      builder.defaultTools(toolSet.tools.toArray());
+    }
+
+    if (!toolSet.skills.isEmpty()) {
+      builder.defaultTools(toolSet.skills.toArray());
+    }
+
+    builder.defaultAdvisors(advisors.get());
+
+    return builder.build();
+  }
+
+  /**
+   * Chave do registro: tools comparadas por identidade e skills pelo id e
+   * versão, sem considerar a ordem nem repetições.
+   */
+  static final class ToolSet {
+
+    private final List<Object> tools;
+    private final List<Ferramenta> skills;
+    private final Set<Object> key;
+
+    private ToolSet(List<Object> tools, List<Ferramenta> skills) {
+      this.key = new HashSet<>();
+      this.tools = new ArrayList<>();
+      this.skills = new ArrayList<>();
+      for (Object tool : tools) {
+        if (key.add(new Identity(tool))) {
+          this.tools.add(tool);
+        }
+      }
+      for (Ferramenta skill : skills) {
+        if (key.add(skill.getId() != null
+                    ? new SkillVersion(skill.getId(), skill.getVersion())
+                    : new Identity(skill))) {
+          this.skills.add(skill);
+        }
+      }
+    }
+
+    static ToolSet of(Collection<Ferramenta> skills, Object... tools) {
+      List<Object> flatTools = new ArrayList<>();
+      List<Ferramenta> flatSkills = new ArrayList<>();
+      flatten(tools, flatTools, flatSkills);
+      flatten(skills, flatTools, flatSkills);
+      return new ToolSet(flatTools, flatSkills);
+    }
+
+    private static void flatten(Object value, List<Object> tools,
+                                List<Ferramenta> skills) {
+      if (value == null) {
+        return;
+      }
+      if (value instanceof Object[] array) {
+        for (Object item : array) {
+          flatten(item, tools, skills);
+        }
+      } else if (value instanceof Collection<?> collection) {
+        for (Object item : collection) {
+          flatten(item, tools, skills);
+        }
+      } else if (value instanceof Ferramenta skill) {
+        skills.add(skill);
+      } else {
+        tools.add(value);
+      }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ToolSet other && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode();
+    }
+  }
+
+  private record SkillVersion(Long id, Long version) {
+  }
+
+  private record Identity(Object target) {
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Identity other && target == other.target;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(target);
+    }
+  }
+}
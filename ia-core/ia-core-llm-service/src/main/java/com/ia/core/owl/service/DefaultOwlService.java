@@ -5,6 +5,7 @@ import com.ia.core.llm.service.model.ontologia.OntologiaDTO;
 import com.ia.core.llm.service.model.ontologia.ResultadoValidacaoDTO;
 import com.ia.core.owl.service.exception.OWLParserException;
 import com.ia.core.owl.service.model.AnaliseInferenciaDTO;
+import com.ia.core.owl.service.model.ResultadoIngestaoAxiomasDTO;
 import com.ia.core.owl.service.model.axioma.AxiomaDTO;
 import com.ia.core.owl.service.model.axioma.HasAxiomas;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +38,8 @@ public class DefaultOwlService
   DefaultOWLUseCase {
 
   private OWLReasoningService reasonerService;
+  /** Cache de análises; {@code null} usa a instância compartilhada */
+  private ReasonerResultCache resultCache;
 
   public DefaultOwlService() {
     this.reasonerService = new OpenlletReasonerService(this);
@@ -116,6 +119,21 @@ public class DefaultOwlService
     this.reasonerService = reasonerService;
   }
 
+  /**
+   * Define o cache de análises do reasoner usado por
+   * {@link #checkInferrences(OntologiaDTO)}.
+   *
+   * @param resultCache cache a usar; {@code null} para a instância
+   *                    compartilhada ({@link ReasonerResultCache#get()})
+   */
+  public void setResultCache(ReasonerResultCache resultCache) {
+    this.resultCache = resultCache;
+  }
+
+  private ReasonerResultCache resultCache() {
+    return resultCache != null ? resultCache : ReasonerResultCache.get();
+  }
+
   /**
    * Carrega uma ontologia a partir de uma coleção de axiomas e inicializa o
    * reasoner.
@@ -135,27 +153,16 @@ public class DefaultOwlService
     Objects.requireNonNull(ontologiaDTO, "ontologiaDTO cannot be null");
     Objects.requireNonNull(hasAxiomas, "Axiomas collection cannot be null");
 
-    // Convert OntologiaDTO to OWLOntology
-    OWLOntology ontology = parseOntology(
-        ontologiaDTO.getFormato().name(),
-        ontologiaDTO.getConteudo(),
-        ontologiaDTO.getPrefixo(),
-        ontologiaDTO.getIri()
-    );
-    OWLOntologyManager manager = ontology.getOWLOntologyManager();
-
-    for (AxiomaDTO axiom : hasAxiomas.getAxiomas()) {
-      StringDocumentSource source = new StringDocumentSource(axiom
-          .getExpressao()) {
-        @Override
-        public Optional<OWLDocumentFormat> getFormat() {
-          return Optional.of(createDocumentFormat());
-        }
-      };
-      OWLOntology axiomsOntology = manager
-          .loadOntologyFromOntologyDocument(source);
-      manager.addAxioms(ontology, axiomsOntology.getAxioms());
+    OWLOntology ontology = loadOntology(ontologiaDTO);
+    ManchesterBatchParser.Result parsed = ManchesterBatchParser
+        .parse(ontology, ontologiaDTO.getPrefixo(), ontologiaDTO.getIri(),
+               expressions(hasAxiomas.getAxiomas()));
+    if (!parsed.errors().isEmpty()) {
+      var erro = parsed.errors().entrySet().iterator().next();
+      throw new OWLParserException("Axioma inválido na posição "
+          + erro.getKey() + ": " + erro.getValue());
     }
+    applyAxioms(ontology, parsed.allAxioms());
 
     // Update the OntologiaDTO content with the updated ontology
     String updatedContent = saveOntologyToString(ontology);
@@ -164,6 +171,118 @@ public class DefaultOwlService
 
   }
 
+  /**
+   * Adiciona um lote de axiomas à ontologia em uma única passagem.
+   * <p>
+   * Os axiomas são interpretados em paralelo com um verificador de entidades
+   * compartilhado ({@link ManchesterBatchParser}), os válidos são aplicados
+   * com um único {@link OWLOntologyManager#applyChanges(List)} e a
+   * consistência é verificada com um único ciclo do reasoner. Axiomas que não
+   * puderem ser interpretados não interrompem o lote: são marcados como
+   * inconsistentes e informados no resultado.
+   *
+   * @param ontologiaDTO ontologia a ser atualizada (conteúdo e consistência)
+   * @param axiomas      axiomas em Manchester OWL Syntax
+   * @return resultado da ingestão, com os erros por posição no lote
+   * @throws OWLParserException           se o conteúdo da ontologia for
+   *                                      inválido
+   * @throws OWLOntologyCreationException se ocorrer erro na criação da
+   *                                      ontologia
+   */
+  public ResultadoIngestaoAxiomasDTO addAxiomsBatch(OntologiaDTO ontologiaDTO,
+                                                    List<AxiomaDTO> axiomas)
+    throws OWLParserException, OWLOntologyCreationException {
+    Objects.requireNonNull(ontologiaDTO, "ontologiaDTO cannot be null");
+    Objects.requireNonNull(axiomas, "axiomas cannot be null");
+    long startTime = System.currentTimeMillis();
+
+    OWLOntology ontology = loadOntology(ontologiaDTO);
+    ManchesterBatchParser.Result parsed = ManchesterBatchParser
+        .parse(ontology, ontologiaDTO.getPrefixo(), ontologiaDTO.getIri(),
+               expressions(axiomas));
+    parsed.errors().keySet()
+        .forEach(indice -> axiomas.get(indice).setConsistente(false));
+    int adicionados = applyAxioms(ontology, parsed.allAxioms());
+
+    OWLReasoningService reasoner = createReasoningService(ontology
+        .getOWLOntologyManager(), ontology, null);
+    try {
+      boolean consistente = reasoner.isConsistent();
+      List<String> inconsistencias = new ArrayList<>();
+      if (!consistente) {
+        try {
+          inconsistencias.addAll(reasoner.detectInconsistencies(ontology));
+        } catch (org.semanticweb.owlapi.reasoner.InconsistentOntologyException e) {
+          inconsistencias
+              .add("Ontologia inconsistente - existem contradições lógicas");
+        }
+      }
+      ontologiaDTO.setConteudo(saveOntologyToString(ontology));
+      ontologiaDTO.setConsistente(consistente);
+      ontologiaDTO.setUltimaModificacao(LocalDateTime.now());
+
+      log.debug("Lote de axiomas aplicado: {} expressões, {} axiomas, {} erros, consistente={}",
+                axiomas.size(), adicionados, parsed.errors().size(),
+                consistente);
+      return ResultadoIngestaoAxiomasDTO.builder()
+          .consistente(consistente)
+          .axiomasAdicionados(adicionados)
+          .errosInterpretacao(new LinkedHashMap<>(parsed.errors()))
+          .inconsistencias(inconsistencias)
+          .tempoProcessamentoMs(System.currentTimeMillis() - startTime)
+          .build();
+    } finally {
+      reasoner.dispose();
+    }
+  }
+
+  /**
+   * Carrega a ontologia de um {@link OntologiaDTO}. Conteúdo vazio gera uma
+   * ontologia vazia com o IRI informado.
+   *
+   * @param ontologiaDTO ontologia
+   * @return ontologia OWL em um gerenciador próprio
+   * @throws OWLParserException           se o conteúdo for inválido
+   * @throws OWLOntologyCreationException se ocorrer erro na criação da
+   *                                      ontologia
+   */
+  public OWLOntology loadOntology(OntologiaDTO ontologiaDTO)
+    throws OWLParserException, OWLOntologyCreationException {
+    String conteudo = ontologiaDTO.getConteudo();
+    if (conteudo == null || conteudo.isBlank()) {
+      return createOntologyManager()
+          .createOntology(IRI.create(ontologiaDTO.getIri()));
+    }
+    return parseOntology(ontologiaDTO.getFormato().name(), conteudo,
+                         ontologiaDTO.getPrefixo(), ontologiaDTO.getIri());
+  }
+
+  private static List<String> expressions(List<AxiomaDTO> axiomas) {
+    List<String> expressions = new ArrayList<>(axiomas.size());
+    for (AxiomaDTO axioma : axiomas) {
+      expressions.add(axioma.getExpressao());
+    }
+    return expressions;
+  }
+
+  /**
+   * Aplica os axiomas ausentes com uma única lista de alterações.
+   *
+   * @return quantidade de axiomas adicionados
+   */
+  private static int applyAxioms(OWLOntology ontology, Set<OWLAxiom> axioms) {
+    List<OWLOntologyChange> changes = new ArrayList<>(axioms.size());
+    for (OWLAxiom axiom : axioms) {
+      if (!ontology.containsAxiom(axiom)) {
+        changes.add(new AddAxiom(ontology, axiom));
+      }
+    }
+    if (!changes.isEmpty()) {
+      ontology.getOWLOntologyManager().applyChanges(changes);
+    }
+    return changes.size();
+  }
+
   @Override
   public AnaliseInferenciaDTO checkInferrences(OntologiaDTO ontologiaDTO) {
     try {
@@ -177,28 +296,12 @@ public class DefaultOwlService
           ontologiaDTO.getPrefixo(),
           ontologiaDTO.getIri()
       );
-      OWLOntologyManager manager = ontology.getOWLOntologyManager();
-
-      // Carrega a ontologia no reasoner
-      reasonerService.refreshReasoner(ontology);
-
-      boolean isConsistent = reasonerService.isConsistent();
-
-      if (isConsistent) {
-        List<AxiomaDTO> axiomasInferidos = extractInferredAxioms(ontology, reasonerService
-            .performInferences(ontology));
-        AnaliseInferenciaDTO resultado = new AnaliseInferenciaDTO(isConsistent,
-                                                                  new ArrayList<>(),
-                                                                  axiomasInferidos,
-                                                                  axiomasInferidos
-                                                                      .size());
-        reasonerService.classify();
-        return resultado;
+      try {
+        return resultCache().getOrCompute(ReasonerResultCache
+            .contentKey(ontology), () -> analyze(ontology));
+      } catch (ParserFailure e) {
+        throw e.getCause();
       }
-      return new AnaliseInferenciaDTO(false,
-                                      reasonerService
-                                          .detectInconsistencies(ontology),
-                                      new ArrayList<>(), 0);
 
     } catch (org.semanticweb.owlapi.reasoner.InconsistentOntologyException e) {
       return new AnaliseInferenciaDTO(false, Arrays.asList(String
@@ -215,6 +318,45 @@ public class DefaultOwlService
     }
   }
 
+  /**
+   * Executa o reasoner sobre a ontologia: consistência, inferências ou
+   * inconsistências.
+   *
+   * <p>
+   * Falhas de parsing dos axiomas inferidos saem como {@link ParserFailure},
+   * para que o {@link ReasonerResultCache} não as armazene.
+   *
+   * @param ontology ontologia interpretada
+   * @return análise da ontologia
+   */
+  private AnaliseInferenciaDTO analyze(OWLOntology ontology) {
+    // Carrega a ontologia no reasoner
+    reasonerService.refreshReasoner(ontology);
+
+    boolean isConsistent = reasonerService.isConsistent();
+
+    if (isConsistent) {
+      List<AxiomaDTO> axiomasInferidos;
+      try {
+        axiomasInferidos = extractInferredAxioms(ontology, reasonerService
+            .performInferences(ontology));
+      } catch (OWLParserException e) {
+        throw new ParserFailure(e);
+      }
+      AnaliseInferenciaDTO resultado = new AnaliseInferenciaDTO(isConsistent,
+                                                                new ArrayList<>(),
+                                                                axiomasInferidos,
+                                                                axiomasInferidos
+                                                                    .size());
+      reasonerService.classify();
+      return resultado;
+    }
+    return new AnaliseInferenciaDTO(false,
+                                    reasonerService
+                                        .detectInconsistencies(ontology),
+                                    new ArrayList<>(), 0);
+  }
+
   /**
    * Cria um objeto AxiomaDTO com as propriedades padrão.
    *
@@ -680,4 +822,22 @@ public class DefaultOwlService
     }
   }
 
+  /**
+   * Transporta uma {@link OWLParserException} para fora do cálculo da análise
+   * em cache.
+   */
+  private static final class ParserFailure
+    extends RuntimeException {
+    /** Serial UID */
+    private static final long serialVersionUID = 6207413980142853711L;
+
+    ParserFailure(OWLParserException cause) {
+      super(cause);
+    }
+
+    @Override
+    public synchronized OWLParserException getCause() {
+      return (OWLParserException) super.getCause();
+    }
+  }
 }
@@ -2,16 +2,17 @@ package com.ia.core.owl.service;
 
 import com.ia.core.llm.model.ferramenta.Ferramenta;
 import com.ia.core.llm.service.vector.VectorStoreOperations;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
+import org.springframework.ai.chat.client.advisor.api.Advisor;
 import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.content.Media;
 import org.springframework.ai.ollama.api.OllamaChatOptions;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -37,6 +38,10 @@ public class LLMCommunicator {
   private final VectorStoreOperations vectorStoreOperations;
   private final String ollamaBaseUrl;
   private final String modelName;
+  private final ChatClientRegistry clientRegistry;
+  /** Cliente sem advisors, para prompts que não dependem da sessão */
+  private final ChatClient statelessClient;
+  private volatile List<Advisor> sharedAdvisors;
 
   public LLMCommunicator(ChatModel chatModel,
                          ChatMemory chatMemory,
@@ -48,67 +53,131 @@ public class LLMCommunicator {
     this.vectorStoreOperations = vectorStoreOperations;
     this.ollamaBaseUrl = ollamaBaseUrl;
     this.modelName = modelName;
+    this.clientRegistry = new ChatClientRegistry(chatModel, this::sharedAdvisors,
+                                                 ChatClientRegistry.DEFAULT_MAX_SIZE);
+    this.statelessClient = ChatClient.builder(chatModel).build();
+  }
+
+  /**
+   * @return nome do modelo padrão
+   */
+  public String getModelName() {
+    return modelName;
   }
 
   public ChatClient.CallResponseSpec sendPrompt(String prompt, String chatSessionId, Object...tools) {
     log.info("Enviando prompt para LLM");
-    return createClient(chatSessionId, null, tools).prompt(new Prompt(new UserMessage(prompt), OllamaChatOptions
+    return request(chatSessionId, null, tools).prompt(new Prompt(new UserMessage(prompt), OllamaChatOptions
         .builder().model(modelName).temperature(0.1).build())).call();
   }
 
   public ChatClient.CallResponseSpec sendPrompt(Prompt prompt, String chatSessionId, Object...tools) {
     log.info("Enviando prompt para LLM");
-    return createClient(chatSessionId, null, tools).prompt(prompt).call();
+    return request(chatSessionId, null, tools).prompt(prompt).call();
   }
 
   public ChatClient.CallResponseSpec sendPrompt(String prompt, String chatSessionId, List<Ferramenta> skills, List<Object> tools) {
     log.info("Enviando prompt para LLM com skills e tools");
-    return createClient(chatSessionId, skills, tools.toArray(new Object[0])).prompt(new Prompt(new UserMessage(prompt), OllamaChatOptions
+    return request(chatSessionId, skills, tools.toArray(new Object[0])).prompt(new Prompt(new UserMessage(prompt), OllamaChatOptions
         .builder().model(modelName).temperature(0.1).build())).call();
   }
 
   public ChatClient.CallResponseSpec sendPrompt(Prompt prompt, String chatSessionId, List<Ferramenta> skills, List<Object> tools) {
     log.info("Enviando prompt para LLM com skills e tools");
-    return createClient(chatSessionId, skills, tools.toArray(new Object[0])).prompt(prompt).call();
+    return request(chatSessionId, skills, tools.toArray(new Object[0])).prompt(prompt).call();
   }
 
   public ChatClient.CallResponseSpec sendPrompt(String prompt, List<Media> media, String chatSessionId, Object...tools) {
     log.info("Enviando prompt com media para LLM");
-    return createClient(chatSessionId, null, tools).prompt(new Prompt(UserMessage.builder().text(prompt)
+    return request(chatSessionId, null, tools).prompt(new Prompt(UserMessage.builder().text(prompt)
         .media(media).build(),
         OllamaChatOptions.builder().model(modelName).temperature(0.1).build())).call();
   }
 
   public ChatClient.CallResponseSpec sendPrompt(Prompt prompt, List<Media> media, String chatSessionId, Object...tools) {
     log.info("Enviando prompt com media para LLM");
-    return createClient(chatSessionId, null, tools).prompt(prompt).call();
+    return request(chatSessionId, null, tools).prompt(prompt).call();
   }
 
   /**
-   * Cria um novo cliente de chat com todas as configurações necessárias.
+   * Envia o prompt sem memória de conversa nem RAG: a resposta depende apenas
+   * do prompt e do modelo, e nada é gravado na memória de uma sessão.
    *
+   * @param prompt prompt a enviar
+   * @return resposta da chamada
+   */
+  public ChatClient.CallResponseSpec sendStatelessPrompt(Prompt prompt) {
+    log.info("Enviando prompt sem sessão para LLM");
+    return statelessClient.prompt(prompt).call();
+  }
+
+  /**
+   * Envia o prompt e devolve a resposta em trechos, à medida que o modelo os
+   * gera.
+   * <p>
+   * A chamada ao modelo só começa na assinatura do {@link Flux}; cancelar a
+   * assinatura interrompe a geração.
+   *
+   * @param prompt prompt a enviar
    * @param chatSessionId identificador da sessão de chat
    * @param skills lista de skills (Ferramenta com tipo SKILL)
    * @param tools array de tools a serem registradas
-   * @return cliente de chat configurado
+   * @return trechos da resposta
    */
-  private ChatClient createClient(String chatSessionId, List<Ferramenta> skills, Object...tools) {
+  public Flux<String> streamPrompt(Prompt prompt, String chatSessionId, List<Ferramenta> skills, Object...tools) {
+    log.info("Enviando prompt para LLM em streaming");
+    return request(chatSessionId, skills, tools).prompt(prompt).stream().content();
+  }
 
-    ChatClient.Builder builder = ChatClient.builder(chatModel);
+  /**
+   * Obtém o cliente de chat do conjunto de ferramentas e vincula a sessão à
+   * requisição.
+   * <p>
+   * O cliente é reaproveitado entre chamadas com as mesmas tools e skills
+   * (ver {@link ChatClientRegistry}); apenas o id da conversa, lido pelo
+   * {@link MessageChatMemoryAdvisor} compartilhado, varia por requisição.
+   *
+   * @param chatSessionId identificador da sessão de chat
+   * @param skills lista de skills (Ferramenta com tipo SKILL)
+   * @param tools array de tools a serem registradas
+   * @return cliente de chat com a sessão vinculada
+   */
+  private BoundClient request(String chatSessionId, List<Ferramenta> skills, Object...tools) {
+    return new BoundClient(clientRegistry.client(skills, tools), chatSessionId);
+  }
 
-    if (tools != null && tools.length > 0) {
-      builder.defaultTools(tools);
+  /**
+   * Advisors compartilhados por todos os clientes, criados na primeira
+   * chamada.
+   *
+   * @return memória de conversa e RAG
+   */
+  private List<Advisor> sharedAdvisors() {
+    List<Advisor> advisors = sharedAdvisors;
+    if (advisors == null) {
+      synchronized (this) {
+        advisors = sharedAdvisors;
+        if (advisors == null) {
+          advisors = List.of(MessageChatMemoryAdvisor.builder(chatMemory).build(),
+                             vectorStoreOperations.getQuestionAnswerAdvisor());
+          sharedAdvisors = advisors;
+        }
+      }
     }
+    return advisors;
+  }
 
-    if (skills != null && !skills.isEmpty()) {
-      builder.defaultTools(skills.toArray(new Object[0]));
+  /**
+   * Cliente compartilhado com o id da conversa da requisição.
+   */
+  private record BoundClient(ChatClient client, String chatSessionId) {
+
+    ChatClient.ChatClientRequestSpec prompt(Prompt prompt) {
+      ChatClient.ChatClientRequestSpec spec = client.prompt(prompt);
+      if (chatSessionId != null) {
+        spec.advisors(advisor -> advisor.param(ChatMemory.CONVERSATION_ID, chatSessionId));
+      }
+      return spec;
     }
-
-    builder.defaultAdvisors(
-        MessageChatMemoryAdvisor.builder(chatMemory).conversationId(chatSessionId).build(),
-        vectorStoreOperations.getQuestionAnswerAdvisor()
-    );
-
-    return builder.build();
   }
 }
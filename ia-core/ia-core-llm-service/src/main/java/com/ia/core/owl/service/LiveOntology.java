@@ -0,0 +1,211 @@
+package com.ia.core.owl.service;
+
+import com.ia.core.llm.service.model.ontologia.OntologiaDTO;
+import com.ia.core.owl.service.exception.OWLParserException;
+import openllet.owlapi.OpenlletReasonerFactory;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Ontologia mantida em memória entre as interações de uma sessão, com o
+ * reasoner Openllet associado.
+ * <p>
+ * O conteúdo é interpretado uma única vez, na carga. Cada axioma adicionado é
+ * aplicado como {@link AddAxiom} e o reasoner, criado no modo com buffer,
+ * recebe apenas as alterações pendentes em {@link OWLReasoner#flush()}; o
+ * Openllet reaproveita o estado já computado para verificar a consistência,
+ * sem reclassificar a ontologia inteira.
+ * <p>
+ * A serialização ({@link #snapshot()}) é feita sob demanda e reaproveitada
+ * até a próxima alteração. {@link #isDirty()} indica se há alterações ainda
+ * não gravadas pelo proprietário da instância.
+ * <p>
+ * Os métodos são sincronizados: a mesma sessão pode receber chamadas
+ * concorrentes de ferramentas.
+ *
+ * @author Israel Araújo
+ * @see DefaultOwlService
+ * @since 1.0.0
+ */
+public class LiveOntology
+  implements AutoCloseable {
+
+  private final DefaultOwlService owlService;
+  private final OWLOntologyManager manager;
+  private final OWLOntology ontology;
+  private final OWLReasoner reasoner;
+  /** Última serialização; {@code null} se houve alteração desde então */
+  private String snapshot;
+  private boolean dirty;
+
+  private LiveOntology(DefaultOwlService owlService, OWLOntology ontology,
+                       String snapshot) {
+    this.owlService = owlService;
+    this.ontology = ontology;
+    this.manager = ontology.getOWLOntologyManager();
+    this.reasoner = OpenlletReasonerFactory.getInstance()
+        .createReasoner(ontology);
+    this.snapshot = snapshot;
+  }
+
+  /**
+   * Carrega a ontologia de um {@link OntologiaDTO}. Conteúdo vazio gera uma
+   * ontologia vazia com o IRI informado.
+   *
+   * @param owlService   serviço OWL usado na interpretação e serialização
+   * @param ontologiaDTO ontologia persistida
+   * @return ontologia em memória
+   * @throws OWLParserException           se o conteúdo for inválido
+   * @throws OWLOntologyCreationException se ocorrer erro na criação da
+   *                                      ontologia
+   */
+  public static LiveOntology load(DefaultOwlService owlService,
+                                  OntologiaDTO ontologiaDTO)
+    throws OWLParserException, OWLOntologyCreationException {
+    Objects.requireNonNull(owlService, "owlService cannot be null");
+    Objects.requireNonNull(ontologiaDTO, "ontologiaDTO cannot be null");
+
+    return new LiveOntology(owlService, owlService.loadOntology(ontologiaDTO),
+                            null);
+  }
+
+  /**
+   * Adiciona os axiomas de uma expressão Manchester e verifica a consistência
+   * de forma incremental.
+   *
+   * @param manchesterAxiom axioma(s) em Manchester OWL Syntax
+   * @return {@code true} se a ontologia continua consistente
+   * @throws OWLParserException se a expressão for inválida
+   */
+  public synchronized boolean addAxiom(String manchesterAxiom)
+    throws OWLParserException {
+    Objects.requireNonNull(manchesterAxiom, "manchesterAxiom cannot be null");
+    StringDocumentSource source = new StringDocumentSource(manchesterAxiom) {
+      @Override
+      public Optional<OWLDocumentFormat> getFormat() {
+        return Optional.of(owlService.createDocumentFormat());
+      }
+    };
+    OWLOntology parsed;
+    try {
+      parsed = manager.loadOntologyFromOntologyDocument(source);
+    } catch (OWLOntologyCreationException e) {
+      throw new OWLParserException("Axioma inválido: "
+          + e.getLocalizedMessage(), e);
+    }
+    try {
+      List<OWLOntologyChange> changes = new ArrayList<>();
+      for (OWLAxiom axiom : parsed.getAxioms()) {
+        if (!ontology.containsAxiom(axiom)) {
+          changes.add(new AddAxiom(ontology, axiom));
+        }
+      }
+      if (!changes.isEmpty()) {
+        manager.applyChanges(changes);
+        snapshot = null;
+        dirty = true;
+      }
+    } finally {
+      manager.removeOntology(parsed);
+    }
+    return isConsistent();
+  }
+
+  /**
+   * Verifica a consistência, aplicando antes as alterações pendentes no
+   * reasoner.
+   *
+   * @return {@code true} se a ontologia for consistente
+   */
+  public synchronized boolean isConsistent() {
+    reasoner.flush();
+    return reasoner.isConsistent();
+  }
+
+  /**
+   * Descreve as inconsistências da ontologia, no mesmo formato de
+   * {@link OpenlletReasonerService#detectInconsistencies(OWLOntology)}.
+   *
+   * @return mensagens; vazia se a ontologia for consistente
+   */
+  public synchronized List<String> inconsistencies() {
+    List<String> inconsistencies = new ArrayList<>();
+    if (!isConsistent()) {
+      inconsistencies
+          .add("Ontologia inconsistente - existem contradições lógicas");
+      return inconsistencies;
+    }
+    for (OWLClass cls : reasoner.getUnsatisfiableClasses()
+        .getEntitiesMinusBottom()) {
+      inconsistencies.add("Classe insatisfatível: " + cls.toString());
+    }
+    return inconsistencies;
+  }
+
+  /**
+   * @return conteúdo serializado em Manchester OWL Syntax
+   */
+  public synchronized String snapshot() {
+    if (snapshot == null) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      try {
+        manager.saveOntology(ontology, owlService.createDocumentFormat(),
+                             baos);
+      } catch (OWLOntologyStorageException e) {
+        throw new IllegalStateException("Falha ao serializar a ontologia", e);
+      }
+      snapshot = baos.toString(StandardCharsets.UTF_8);
+    }
+    return snapshot;
+  }
+
+  /**
+   * @return {@code true} se há alterações ainda não gravadas
+   */
+  public synchronized boolean isDirty() {
+    return dirty;
+  }
+
+  /**
+   * Indica que o conteúdo atual foi gravado (ou deve ser descartado).
+   */
+  public synchronized void markClean() {
+    dirty = false;
+  }
+
+  /**
+   * Indica que a serialização informada foi gravada. Se a ontologia foi
+   * alterada depois dela, continua pendente de gravação.
+   *
+   * @param written conteúdo gravado, obtido de {@link #snapshot()}
+   */
+  public synchronized void markClean(String written) {
+    if (written != null && written.equals(snapshot)) {
+      dirty = false;
+    }
+  }
+
+  /**
+   * @return quantidade de axiomas lógicos
+   */
+  public synchronized int getLogicalAxiomCount() {
+    return ontology.getLogicalAxiomCount();
+  }
+
+  /**
+   * Libera o reasoner e a ontologia.
+   */
+  @Override
+  public synchronized void close() {
+    reasoner.dispose();
+    manager.removeOntology(ontology);
+  }
+}
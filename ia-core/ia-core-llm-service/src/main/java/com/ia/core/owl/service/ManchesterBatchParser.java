@@ -0,0 +1,292 @@
+package com.ia.core.owl.service;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.expression.OWLEntityChecker;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.util.DefaultPrefixManager;
+import org.semanticweb.owlapi.util.mansyntax.ManchesterOWLSyntaxParser;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Interpretador em lote de axiomas em Manchester OWL Syntax.
+ * <p>
+ * Em vez de carregar cada axioma como um documento (com gerenciador, fonte e
+ * detecção de formato próprios), o lote é interpretado com um único
+ * verificador de entidades compartilhado, montado a partir da assinatura da
+ * ontologia de destino e dos quadros ({@code Class:}, {@code Individual:},
+ * ...) declarados em todos os axiomas do lote. Os axiomas são interpretados
+ * em paralelo no pool comum, em blocos, com um parser por bloco: o parser do
+ * OWL API não é seguro para uso concorrente, mas o verificador é apenas lido.
+ * <p>
+ * Linhas de cabeçalho ({@code Prefix:}, {@code Ontology:}, {@code Import:})
+ * são removidas. Os prefixos declarados nelas valem apenas para a própria
+ * expressão: ela é interpretada com uma cópia dos prefixos da ontologia
+ * acrescida das suas declarações, e as demais expressões do lote não são
+ * afetadas.
+ *
+ * @author Israel Araújo
+ * @see DefaultOwlService#addAxiomsBatch
+ * @since 1.0.0
+ */
+public final class ManchesterBatchParser {
+
+  /** Quantidade de axiomas interpretados por cada parser */
+  static final int CHUNK_SIZE = 32;
+
+  private static final Pattern FRAME = Pattern
+      .compile("(?m)^\\s*(Class|ObjectProperty|DataProperty|AnnotationProperty|Individual|Datatype):\\s*(\\S+)");
+  private static final Pattern PREFIX = Pattern
+      .compile("(?m)^\\s*Prefix:\\s*(\\S*:)\\s*<([^>]*)>");
+  private static final Pattern HEADER = Pattern
+      .compile("(?m)^\\s*(Prefix|Ontology|Import):.*$");
+
+  /**
+   * Resultado da interpretação.
+   *
+   * @param axioms axiomas interpretados, por posição; vazio nas posições com
+   *               erro
+   * @param errors mensagens de erro, por posição
+   */
+  public record Result(List<Set<OWLAxiom>> axioms,
+                       Map<Integer, String> errors) {
+
+    /**
+     * @return todos os axiomas interpretados, sem repetição
+     */
+    public Set<OWLAxiom> allAxioms() {
+      Set<OWLAxiom> all = new LinkedHashSet<>();
+      axioms.forEach(all::addAll);
+      return all;
+    }
+  }
+
+  private ManchesterBatchParser() {
+  }
+
+  /**
+   * Interpreta um lote de axiomas.
+   *
+   * @param target      ontologia de destino, usada apenas para leitura
+   * @param prefix      prefixo padrão da ontologia (ex: {@code ctx})
+   * @param uri         IRI da ontologia
+   * @param expressions axiomas em Manchester OWL Syntax
+   * @return axiomas interpretados e erros por posição
+   */
+  public static Result parse(OWLOntology target, String prefix, String uri,
+                             List<String> expressions) {
+    Objects.requireNonNull(target, "target cannot be null");
+    Objects.requireNonNull(expressions, "expressions cannot be null");
+
+    OWLDataFactory df = target.getOWLOntologyManager().getOWLDataFactory();
+    DefaultPrefixManager base = new DefaultPrefixManager(uri + "#");
+    if (prefix != null) {
+      base.setPrefix(prefix + ":", uri + "#");
+    }
+
+    // passo sequencial: prefixos, quadros declarados e texto sem cabeçalho
+    int size = expressions.size();
+    List<String> bodies = new ArrayList<>(size);
+    List<String[][]> frames = new ArrayList<>(size);
+    List<PrefixManager> prefixes = new ArrayList<>(size);
+    for (String expression : expressions) {
+      String text = expression == null ? "" : expression;
+      prefixes.add(prefixes(base, text));
+      List<String[]> declared = new ArrayList<>();
+      Matcher frameMatcher = FRAME.matcher(text);
+      while (frameMatcher.find()) {
+        declared.add(new String[] { frameMatcher.group(1),
+            frameMatcher.group(2) });
+      }
+      frames.add(declared.toArray(String[][]::new));
+      bodies.add(HEADER.matcher(text).replaceAll(""));
+    }
+
+    Set<OWLEntity> known = new HashSet<>(target.getSignature());
+    List<Set<OWLDeclarationAxiom>> declarations = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Set<OWLDeclarationAxiom> axioms = new LinkedHashSet<>();
+      for (String[] frame : frames.get(i)) {
+        IRI iri = resolve(prefixes.get(i), frame[1]);
+        if (iri != null) {
+          OWLEntity entity = entity(df, frame[0], iri);
+          known.add(entity);
+          axioms.add(df.getOWLDeclarationAxiom(entity));
+        }
+      }
+      declarations.add(axioms);
+    }
+    Set<OWLEntity> signature = Set.copyOf(known);
+    EntityChecker shared = new EntityChecker(df, base, signature);
+    List<EntityChecker> checkers = new ArrayList<>(size);
+    for (PrefixManager own : prefixes) {
+      checkers.add(own == base ? shared
+                               : new EntityChecker(df, own, signature));
+    }
+
+    // passo paralelo: um parser por bloco, verificadores apenas lidos
+    Map<Integer, String> errors = new ConcurrentHashMap<>();
+    int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    Set<OWLAxiom>[] parsed = newArray(size);
+    IntStream.range(0, chunks).parallel().forEach(chunk -> {
+      ManchesterOWLSyntaxParser parser = OWLManager.createManchesterParser();
+      parser.setDefaultOntology(target);
+      int end = Math.min(size, (chunk + 1) * CHUNK_SIZE);
+      for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+        try {
+          parser.setOWLEntityChecker(checkers.get(i));
+          parser.setStringToParse(bodies.get(i));
+          Set<OWLAxiom> result = new LinkedHashSet<>(declarations.get(i));
+          parser.parseFrames().forEach(pair -> result.add(pair.getAxiom()));
+          if (result.isEmpty()) {
+            errors.put(i, "Nenhum axioma encontrado na expressão");
+          } else {
+            parsed[i] = result;
+          }
+        } catch (RuntimeException e) {
+          errors.put(i, e.getLocalizedMessage());
+        }
+      }
+    });
+    List<Set<OWLAxiom>> axioms = new ArrayList<>(size);
+    for (Set<OWLAxiom> result : parsed) {
+      axioms.add(result == null ? Set.of() : result);
+    }
+    return new Result(axioms, new TreeMap<>(errors));
+  }
+
+  /**
+   * Prefixos de uma expressão: os da ontologia quando ela não declara
+   * prefixos, ou uma cópia deles acrescida das suas declarações.
+   */
+  private static PrefixManager prefixes(DefaultPrefixManager base,
+                                        String text) {
+    Matcher prefixMatcher = PREFIX.matcher(text);
+    DefaultPrefixManager own = null;
+    while (prefixMatcher.find()) {
+      if (own == null) {
+        own = new DefaultPrefixManager();
+        own.copyPrefixesFrom(base);
+      }
+      own.setPrefix(prefixMatcher.group(1), prefixMatcher.group(2));
+    }
+    return own == null ? base : own;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<OWLAxiom>[] newArray(int size) {
+    return new Set[size];
+  }
+
+  private static OWLEntity entity(OWLDataFactory df, String frame, IRI iri) {
+    return switch (frame) {
+      case "Class" -> df.getOWLClass(iri);
+      case "ObjectProperty" -> df.getOWLObjectProperty(iri);
+      case "DataProperty" -> df.getOWLDataProperty(iri);
+      case "AnnotationProperty" -> df.getOWLAnnotationProperty(iri);
+      case "Datatype" -> df.getOWLDatatype(iri);
+      default -> df.getOWLNamedIndividual(iri);
+    };
+  }
+
+  /**
+   * Resolve um nome como escrito na expressão ({@code <iri>},
+   * {@code prefixo:nome} ou {@code nome}) para o IRI completo.
+   */
+  private static IRI resolve(PrefixManager prefixes, String name) {
+    if (name.startsWith("<") && name.endsWith(">")) {
+      return IRI.create(name.substring(1, name.length() - 1));
+    }
+    int colon = name.indexOf(':');
+    String namespace = colon < 0 ? prefixes.getDefaultPrefix()
+                                 : prefixes.getPrefix(name.substring(0, colon + 1));
+    return namespace == null ? null
+                             : IRI.create(namespace + name.substring(colon + 1));
+  }
+
+  /**
+   * Verificador de entidades imutável: aceita as entidades conhecidas e o
+   * vocabulário embutido do OWL.
+   */
+  private static final class EntityChecker
+    implements OWLEntityChecker {
+
+    private final OWLDataFactory df;
+    private final PrefixManager prefixes;
+    private final Set<OWLEntity> known;
+
+    EntityChecker(OWLDataFactory df, PrefixManager prefixes,
+                  Set<OWLEntity> known) {
+      this.df = df;
+      this.prefixes = prefixes;
+      this.known = known;
+    }
+
+    @Override
+    public OWLClass getOWLClass(String name) {
+      IRI iri = resolve(prefixes, name);
+      if (iri == null) {
+        return null;
+      }
+      if (iri.equals(OWLRDFVocabulary.OWL_THING.getIRI())) {
+        return df.getOWLThing();
+      }
+      if (iri.equals(OWLRDFVocabulary.OWL_NOTHING.getIRI())) {
+        return df.getOWLNothing();
+      }
+      return known(df.getOWLClass(iri));
+    }
+
+    @Override
+    public OWLObjectProperty getOWLObjectProperty(String name) {
+      IRI iri = resolve(prefixes, name);
+      return iri == null ? null : known(df.getOWLObjectProperty(iri));
+    }
+
+    @Override
+    public OWLDataProperty getOWLDataProperty(String name) {
+      IRI iri = resolve(prefixes, name);
+      return iri == null ? null : known(df.getOWLDataProperty(iri));
+    }
+
+    @Override
+    public OWLNamedIndividual getOWLIndividual(String name) {
+      IRI iri = resolve(prefixes, name);
+      return iri == null ? null : known(df.getOWLNamedIndividual(iri));
+    }
+
+    @Override
+    public OWLDatatype getOWLDatatype(String name) {
+      IRI iri = resolve(prefixes, name);
+      if (iri == null) {
+        return null;
+      }
+      if (OWL2Datatype.isBuiltIn(iri)) {
+        return df.getOWLDatatype(iri);
+      }
+      return known(df.getOWLDatatype(iri));
+    }
+
+    @Override
+    public OWLAnnotationProperty getOWLAnnotationProperty(String name) {
+      IRI iri = resolve(prefixes, name);
+      if (iri == null) {
+        return null;
+      }
+      if (OWLRDFVocabulary.BUILT_IN_ANNOTATION_PROPERTY_IRIS.contains(iri)) {
+        return df.getOWLAnnotationProperty(iri);
+      }
+      return known(df.getOWLAnnotationProperty(iri));
+    }
+
+    private <E extends OWLEntity> E known(E entity) {
+      return known.contains(entity) ? entity : null;
+    }
+  }
+}
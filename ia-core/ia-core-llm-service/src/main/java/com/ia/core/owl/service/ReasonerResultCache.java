@@ -0,0 +1,354 @@
+package com.ia.core.owl.service;
+
+import com.ia.core.model.util.BoundedCache;
+import com.ia.core.owl.service.model.AnaliseInferenciaDTO;
+import com.ia.core.owl.service.model.axioma.AxiomaDTO;
+import com.ia.core.service.dto.AbstractDTO;
+import com.ia.core.service.dto.entity.AbstractBaseEntityDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache de resultados do reasoner indexado pelo conteúdo da ontologia.
+ * <p>
+ * A chave é o SHA-256 do conjunto de axiomas normalizado (ordenado). Como o
+ * resultado do reasoner depende apenas desse conteúdo, a tela de validação, o
+ * visualizador e o agente compartilham a mesma análise enquanto a ontologia
+ * não muda, e nenhuma invalidação explícita é necessária.
+ * <p>
+ * As entradas ficam em memória com tamanho e tempo de vida limitados. Quando
+ * um diretório de descarte é configurado, as entradas removidas da memória
+ * são gravadas em disco e promovidas de volta na próxima consulta do mesmo
+ * conteúdo; o disco mantém no máximo {@code maxDiskEntries} arquivos. A
+ * leitura do disco aceita apenas as classes da análise; arquivos com outras
+ * classes são descartados.
+ * <p>
+ * Assim como {@link DefaultOwlService}, que é
+ * instanciado fora do contexto Spring, o cache é um singleton estático
+ * configurado por {@link #configure(int, Duration, Path, int)}.
+ *
+ * @author Israel Araújo
+ * @see DefaultOwlService#checkInferrences(com.ia.core.llm.service.model.ontologia.OntologiaDTO)
+ * @since 1.0.0
+ */
+@Slf4j
+public final class ReasonerResultCache {
+
+  /** Tamanho máximo padrão em memória. */
+  public static final int DEFAULT_MAX_SIZE = 64;
+
+  /** Tempo de vida padrão em memória. */
+  public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+  /** Quantidade máxima padrão de arquivos em disco. */
+  public static final int DEFAULT_MAX_DISK_ENTRIES = 1_024;
+
+  private static final String SUFFIX = ".bin";
+
+  /**
+   * Classes aceitas na leitura dos arquivos em disco: a análise, os axiomas e
+   * as listas e valores que eles contêm. Qualquer outra classe é rejeitada.
+   */
+  private static final ObjectInputFilter SPILL_FILTER = ObjectInputFilter.Config
+      .createFilter(String.join(";",
+                                AnaliseInferenciaDTO.class.getName(),
+                                AxiomaDTO.class.getName(),
+                                AbstractBaseEntityDTO.class.getName(),
+                                AbstractDTO.class.getName(),
+                                "java.lang.Object", "java.lang.Number",
+                                "java.lang.Boolean", "java.lang.Integer",
+                                "java.lang.Long", "java.util.ArrayList",
+                                "java.util.Arrays$ArrayList",
+                                "java.util.CollSer",
+                                "java.util.ImmutableCollections$List*",
+                                "java.util.Collections$Empty*",
+                                "java.util.Collections$Unmodifiable*",
+                                "maxdepth=16", "!*"));
+
+  private static volatile ReasonerResultCache INSTANCE = null;
+
+  private final BoundedCache<String, AnaliseInferenciaDTO> cache;
+  private final Path spillDirectory;
+  private final int maxDiskEntries;
+  private final LongAdder diskHits = new LongAdder();
+  private final LongAdder spills = new LongAdder();
+
+  /**
+   * Cria um cache apenas em memória.
+   *
+   * @param maxSize número máximo de análises em memória
+   * @param ttl     tempo de vida em memória ({@code null} para não expirar)
+   */
+  public ReasonerResultCache(int maxSize, Duration ttl) {
+    this(maxSize, ttl, null, DEFAULT_MAX_DISK_ENTRIES);
+  }
+
+  /**
+   * Cria um cache com descarte opcional em disco.
+   *
+   * @param maxSize        número máximo de análises em memória
+   * @param ttl            tempo de vida em memória ({@code null} para não
+   *                       expirar)
+   * @param spillDirectory diretório de descarte ({@code null} para desativar)
+   * @param maxDiskEntries número máximo de análises em disco
+   */
+  public ReasonerResultCache(int maxSize, Duration ttl, Path spillDirectory,
+                             int maxDiskEntries) {
+    this.spillDirectory = prepare(spillDirectory);
+    this.maxDiskEntries = maxDiskEntries;
+    this.cache = new BoundedCache<>(maxSize, ttl,
+                                    this.spillDirectory == null ? null
+                                                                : this::spill);
+  }
+
+  /**
+   * Retorna a instância compartilhada do cache.
+   *
+   * @return a instância compartilhada
+   */
+  public static ReasonerResultCache get() {
+    if (INSTANCE == null) {
+      synchronized (ReasonerResultCache.class) {
+        if (INSTANCE == null) {
+          INSTANCE = new ReasonerResultCache(DEFAULT_MAX_SIZE, DEFAULT_TTL);
+        }
+      }
+    }
+    return INSTANCE;
+  }
+
+  /**
+   * Substitui a instância compartilhada. As entradas em memória são
+   * descartadas; as gravadas em disco continuam válidas.
+   *
+   * @param maxSize        número máximo de análises em memória
+   * @param ttl            tempo de vida em memória
+   * @param spillDirectory diretório de descarte ({@code null} para desativar)
+   * @param maxDiskEntries número máximo de análises em disco
+   */
+  public static synchronized void configure(int maxSize, Duration ttl,
+                                            Path spillDirectory,
+                                            int maxDiskEntries) {
+    log.info("Configurando cache de resultados do reasoner com {} entradas, descarte em {}",
+             maxSize, spillDirectory);
+    INSTANCE = new ReasonerResultCache(maxSize, ttl, spillDirectory,
+                                       maxDiskEntries);
+  }
+
+  /**
+   * Calcula a chave de conteúdo de uma ontologia.
+   *
+   * @param ontology ontologia interpretada
+   * @return SHA-256 em hexadecimal
+   */
+  public static String contentKey(OWLOntology ontology) {
+    Objects.requireNonNull(ontology, "ontology cannot be null");
+    List<String> axioms = new ArrayList<>(ontology.getAxiomCount());
+    for (OWLAxiom axiom : ontology.getAxioms()) {
+      axioms.add(axiom.toString());
+    }
+    axioms.sort(null);
+    MessageDigest digest = sha256();
+    for (String axiom : axioms) {
+      digest.update(axiom.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Retorna a análise associada à chave, executando o reasoner apenas quando
+   * ela não estiver em memória nem em disco.
+   *
+   * @param key      chave de conteúdo ({@link #contentKey})
+   * @param analysis execução do reasoner
+   * @return cópia da análise, que pode ser alterada pelo chamador
+   */
+  public AnaliseInferenciaDTO getOrCompute(String key,
+                                           Supplier<AnaliseInferenciaDTO> analysis) {
+    Objects.requireNonNull(key, "key cannot be null");
+    AnaliseInferenciaDTO cached = cache.computeIfAbsent(key, k -> {
+      AnaliseInferenciaDTO restored = restore(k);
+      return restored != null ? restored : analysis.get();
+    });
+    return copy(cached);
+  }
+
+  /**
+   * Descarta as análises em memória. Com o descarte em disco ativo, elas
+   * continuam disponíveis no disco.
+   */
+  public void clear() {
+    cache.clear();
+  }
+
+  /**
+   * @return número de análises em memória
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * @return número de consultas atendidas pela memória
+   */
+  public long hitCount() {
+    return cache.hitCount();
+  }
+
+  /**
+   * @return número de consultas atendidas pelo disco
+   */
+  public long diskHitCount() {
+    return diskHits.sum();
+  }
+
+  /**
+   * @return número de consultas não atendidas pela memória
+   */
+  public long missCount() {
+    return cache.missCount();
+  }
+
+  /**
+   * @return número de análises descartadas da memória por tamanho ou
+   *         expiração
+   */
+  public long evictionCount() {
+    return cache.evictionCount();
+  }
+
+  /**
+   * @return número de análises gravadas em disco
+   */
+  public long spillCount() {
+    return spills.sum();
+  }
+
+  private static AnaliseInferenciaDTO copy(AnaliseInferenciaDTO analise) {
+    return analise.toBuilder()
+        .inconsistencias(new ArrayList<>(analise.getInconsistencias()))
+        .axiomasInferidos(analise.getAxiomasInferidos().stream()
+            .map(AxiomaDTO::cloneObject)
+            .collect(Collectors.toCollection(ArrayList::new)))
+        .build();
+  }
+
+  private static Path prepare(Path directory) {
+    if (directory == null) {
+      return null;
+    }
+    try {
+      return Files.createDirectories(directory);
+    } catch (IOException e) {
+      log.warn("Descarte em disco desativado, diretório indisponível: {}",
+               directory, e);
+      return null;
+    }
+  }
+
+  private void spill(String key, AnaliseInferenciaDTO analise) {
+    Path file = spillDirectory.resolve(key + SUFFIX);
+    if (Files.exists(file)) {
+      return;
+    }
+    try {
+      Path temp = Files.createTempFile(spillDirectory, key, ".tmp");
+      try (OutputStream out = Files.newOutputStream(temp);
+          ObjectOutputStream oos = new ObjectOutputStream(out)) {
+        oos.writeObject(analise);
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+                 StandardCopyOption.ATOMIC_MOVE);
+      spills.increment();
+      trimDisk();
+    } catch (IOException e) {
+      log.warn("Falha ao gravar análise do reasoner em disco: {}", key, e);
+    }
+  }
+
+  private AnaliseInferenciaDTO restore(String key) {
+    if (spillDirectory == null) {
+      return null;
+    }
+    Path file = spillDirectory.resolve(key + SUFFIX);
+    if (!Files.exists(file)) {
+      return null;
+    }
+    try (InputStream in = Files.newInputStream(file);
+        ObjectInputStream ois = new ObjectInputStream(in)) {
+      ois.setObjectInputFilter(SPILL_FILTER);
+      AnaliseInferenciaDTO analise = (AnaliseInferenciaDTO) ois.readObject();
+      diskHits.increment();
+      return analise;
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      log.warn("Análise do reasoner em disco ilegível, descartando: {}", key,
+               e);
+      deleteQuietly(file);
+      return null;
+    }
+  }
+
+  private void trimDisk() throws IOException {
+    List<Path> files;
+    try (Stream<Path> list = Files.list(spillDirectory)) {
+      files = list.filter(p -> p.getFileName().toString().endsWith(SUFFIX))
+          .toList();
+    }
+    if (files.size() <= maxDiskEntries) {
+      return;
+    }
+    files.stream()
+        .sorted(Comparator.comparingLong(ReasonerResultCache::lastModified))
+        .limit(files.size() - maxDiskEntries)
+        .forEach(ReasonerResultCache::deleteQuietly);
+  }
+
+  private static long lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException e) {
+      return 0L;
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.debug("Falha ao remover {}", file, e);
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+}
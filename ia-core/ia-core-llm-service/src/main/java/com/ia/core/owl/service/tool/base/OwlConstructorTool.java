@@ -2,6 +2,7 @@ package com.ia.core.owl.service.tool.base;
 
 import com.ia.core.llm.model.ontologia.OntologyFormat;
 import com.ia.core.llm.service.agente.ContextoConversacaoService;
+import com.ia.core.llm.service.model.agente.ContextConversacaoDTO;
 import com.ia.core.llm.service.model.ontologia.OntologiaDTO;
 import com.ia.core.owl.service.DefaultOwlService;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +32,9 @@ public abstract class OwlConstructorTool extends AbstractOwlToolBase {
    * Cria um axioma na ontologia da sessão usando Manchester OWL Syntax.
    * <p>
    * Este método template adiciona o axioma, valida a consistência da ontologia,
-   * e retorna feedback ao usuário caso haja inconsistências.
+   * e retorna feedback ao usuário caso haja inconsistências. O axioma é
+   * aplicado à ontologia da sessão mantida em memória pelo
+   * {@link ContextoConversacaoService}, sem reinterpretar o conteúdo.
    * <p>
    * Subclasses podem chamar este método após processar seus parâmetros específicos.
    *
@@ -40,24 +43,18 @@ public abstract class OwlConstructorTool extends AbstractOwlToolBase {
    * @return resultado da operação com feedback sobre consistência
    */
   protected String createAxiom(String sessionId, String manchesterAxiom) {
-    DefaultOwlService owlService = new DefaultOwlService();
-
-    // Get current ontology DTO
-    OntologiaDTO ontologiaDTO = getOntologyForSession(sessionId);
-
-    // Add axiom using the proper method
+    ContextConversacaoDTO contexto;
     try {
-      owlService.addAxiom(ontologiaDTO, manchesterAxiom);
+      contexto = contextoConversacaoService.updateContextOntology(sessionId,
+                                                                  manchesterAxiom);
     } catch (Exception e) {
       log.error("Failed to add axiom: {}", e.getMessage(), e);
       return "Erro ao adicionar axioma: " + e.getMessage();
     }
 
-    // Save updated ontology
-    saveOntologyForSession(sessionId, ontologiaDTO);
-
-    if (!validateOntology(ontologiaDTO)) {
-      List<String> inconsistencies = detectInconsistencies(ontologiaDTO);
+    if (!contexto.isOntologiaConsistente()) {
+      List<String> inconsistencies = contextoConversacaoService
+          .detectContextInconsistencies(sessionId);
       return "Axioma criado: " + manchesterAxiom + "\n" +
              "\nALERTA: Ontologia inconsistente. Inconsistências detectadas:\n" +
              String.join("\n", inconsistencies) +
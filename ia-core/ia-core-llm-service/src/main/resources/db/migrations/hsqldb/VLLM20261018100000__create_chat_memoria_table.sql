@@ -0,0 +1,15 @@
+-- VLLM20261018100000__create_chat_memoria_table.sql (ia-core-llm-service)
+-- Creates LLM_CHAT_MEMORIA table (memória de conversação compartilhada entre nós)
+-- Author: IA
+-- Dependencies: VLLM20250210103000__create_schema.sql
+
+CREATE TABLE IF NOT EXISTS LARGE_LANGUAGE_MODEL.LLM_CHAT_MEMORIA (
+    id BIGINT NOT NULL PRIMARY KEY,
+    conversation_id VARCHAR(255) NOT NULL,
+    message_type VARCHAR(20) NOT NULL,
+    content CLOB,
+    created_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_llm_chat_memoria_conversation
+    ON LARGE_LANGUAGE_MODEL.LLM_CHAT_MEMORIA (conversation_id, id);
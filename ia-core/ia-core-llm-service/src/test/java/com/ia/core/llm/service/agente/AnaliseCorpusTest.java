@@ -0,0 +1,117 @@
+package com.ia.core.llm.service.agente;
+
+import com.ia.core.llm.service.chat.ChatService;
+import com.ia.core.llm.service.config.LlmModuleProperties;
+import com.ia.core.resilience4j.profile.ResilienceProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes para {@link AnaliseCorpus}.
+ *
+ * @author Israel Araújo
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnaliseCorpus")
+class AnaliseCorpusTest {
+
+  @Mock
+  private ChatService chatService;
+
+  @Mock
+  private ExtratorEntidadesRelacoes extrator;
+
+  private static String corpus(int sentencas) {
+    StringBuilder texto = new StringBuilder();
+    for (int i = 0; i < sentencas; i++) {
+      texto.append("O cachorro número ").append(i).append(" late alto. ");
+    }
+    return texto.toString();
+  }
+
+  private AnaliseCorpus analise(int batchSize, int maxInFlight) {
+    LlmModuleProperties.Corpus config = new LlmModuleProperties.Corpus();
+    config.setBatchSize(batchSize);
+    config.setMaxInFlight(maxInFlight);
+    return new AnaliseCorpus(chatService, extrator, config);
+  }
+
+  @Test
+  @DisplayName("Deve extrair em lotes, uma chamada por lote, sem duplicatas")
+  void deveExtrairEmLotes() {
+    when(extrator.extrairElementosEmLote(anyList(), eq("s")))
+        .thenReturn(new ElementosExtraidos(List.of("Cachorro", "Animal"),
+                                           List.of("late"), List.of("rex"),
+                                           List.of("rex:late:alto")));
+
+    Map<String, List<String>> elementos = analise(20, 0)
+        .analisarCorpus(corpus(45), "s");
+
+    verify(extrator, times(3)).extrairElementosEmLote(anyList(), eq("s"));
+    verify(extrator, never()).extrairClasses(anyString(), anyString());
+    assertThat(elementos.get("classes")).containsExactly("Animal", "Cachorro");
+    assertThat(elementos.get("relacoes")).containsExactly("rex:late:alto");
+  }
+
+  @Test
+  @DisplayName("Deve limitar os lotes simultâneos")
+  void deveLimitarLotesSimultaneos() {
+    AtomicInteger emVoo = new AtomicInteger();
+    AtomicInteger maximo = new AtomicInteger();
+    when(extrator.extrairElementosEmLote(anyList(), anyString()))
+        .thenAnswer(invocation -> {
+          maximo.accumulateAndGet(emVoo.incrementAndGet(), Math::max);
+          Thread.sleep(20);
+          emVoo.decrementAndGet();
+          return ElementosExtraidos.vazio();
+        });
+
+    analise(1, 2).analisarCorpus(corpus(12), "s");
+
+    verify(extrator, times(12)).extrairElementosEmLote(anyList(), anyString());
+    assertThat(maximo.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Deve limitar os lotes simultâneos ao bulkhead do perfil LLM_SERVICE")
+  void deveLimitarAoBulkhead() {
+    int bulkhead = ResilienceProfile.LLM_SERVICE.getBulkheadMaxConcurrentCalls();
+
+    assertThat(analise(20, 0).maxEmVoo()).isEqualTo(bulkhead);
+    assertThat(analise(20, bulkhead + 10).maxEmVoo()).isEqualTo(bulkhead);
+    assertThat(analise(20, 1).maxEmVoo()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Deve interpretar a resposta estruturada entre blocos de código")
+  void deveInterpretarResposta() {
+    ElementosExtraidos extraidos = ExtratorEntidadesRelacoes.parseElementos("""
+        ```json
+        {"classes": ["Animal"], "propriedades": [], "individuos": ["rex", " "],
+         "relacoes": ["rex:tipo:Animal"]}
+        ```
+        """);
+
+    assertThat(extraidos.classes()).containsExactly("Animal");
+    assertThat(extraidos.individuos()).containsExactly("rex");
+    assertThat(extraidos.relacoes()).containsExactly("rex:tipo:Animal");
+    assertThat(ExtratorEntidadesRelacoes.parseElementos("sem json"))
+        .isEqualTo(ElementosExtraidos.vazio());
+  }
+}
@@ -19,6 +19,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -26,6 +28,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -62,12 +65,17 @@ class ContextoConversacaoServiceTest {
   @Mock
   private com.ia.core.llm.service.agente.mapper.OntologiaMapper ontologiaMapper;
 
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private ContextOntologyServiceConfig config;
+
   private ContextoConversacaoService service;
 
   @BeforeEach
   void setUp() {
     // Create config with all required dependencies
-    ContextOntologyServiceConfig config = new ContextOntologyServiceConfig(
+    config = new ContextOntologyServiceConfig(
         repository,
         mapper,
         searchRequestMapper,
@@ -75,7 +83,8 @@ class ContextoConversacaoServiceTest {
         eventPublisher,
         ontologiaMapper
     );
-    service = new ContextoConversacaoService(config, new LlmModuleProperties());
+    service = new ContextoConversacaoService(config, new LlmModuleProperties(),
+                                             transactionManager);
   }
 
   @Nested
@@ -236,6 +245,66 @@ class ContextoConversacaoServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("descarte da ontologia em memória")
+  class TestesDescarteOntologia {
+
+    private static final String NS = "http://example.com/ontologia/teste#";
+
+    private ContextoConversacao contexto(String sessionId) {
+      ContextoConversacao entity = new ContextoConversacao();
+      entity.setSessionId(sessionId);
+      entity.setTotalAxiomasExtraidos(0);
+      entity.setOntologia(Ontologia.builder()
+          .iri("http://example.com/ontologia/" + sessionId)
+          .prefixo("ctx")
+          .formato(com.ia.core.llm.model.ontologia.OntologyFormat.MANCHESTER)
+          .conteudo("")
+          .build());
+
+      ContextConversacaoDTO dto = new ContextConversacaoDTO();
+      dto.setSessionId(sessionId);
+      dto.setTotalAxiomasExtraidos(0);
+      dto.setOntologia(OntologiaDTO.builder()
+          .iri("http://example.com/ontologia/" + sessionId)
+          .prefixo("ctx")
+          .formato(com.ia.core.llm.model.ontologia.OntologyFormat.MANCHESTER)
+          .conteudo("")
+          .build());
+
+      when(repository.findBySessionId(sessionId)).thenReturn(Optional.of(entity));
+      when(mapper.toDTO(entity)).thenReturn(dto);
+      when(mapper.toModel(dto)).thenReturn(entity);
+      return entity;
+    }
+
+    @Test
+    @DisplayName("Deve gravar em transação própria a ontologia descartada do cache")
+    void deveGravarOntologiaDescartadaEmTransacaoPropria() throws Exception {
+      // Dado
+      LlmModuleProperties properties = new LlmModuleProperties();
+      properties.getContextOntology().setMaxSessions(1);
+      service = new ContextoConversacaoService(config, properties,
+                                               transactionManager);
+      ContextoConversacao primeira = contexto("a");
+      contexto("b");
+      when(repository.save(any(ContextoConversacao.class)))
+          .thenAnswer(invocation -> invocation.getArgument(0));
+      String axioma = "Ontology:\n\nClass: <" + NS + "Animal>\n    SubClassOf: <"
+          + NS + "Ser>\n";
+      service.updateContextOntology("a", axioma);
+
+      // Quando: a segunda sessão tira a primeira do cache
+      service.updateContextOntology("b", axioma);
+
+      // Então
+      verify(transactionManager).getTransaction(argThat(definition -> definition
+          .getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+      verify(transactionManager).commit(any());
+      assertThat(primeira.getOntologia().getConteudo()).contains(NS + "Animal");
+    }
+  }
+
   @Nested
   @DisplayName("deleteContextOntology")
   class TestesDeleteContextOntology {
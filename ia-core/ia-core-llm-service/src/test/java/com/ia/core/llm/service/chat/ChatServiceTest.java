@@ -2,8 +2,11 @@ package com.ia.core.llm.service.chat;
 
 import com.ia.core.llm.model.ferramenta.Ferramenta;
 import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
+import com.ia.core.llm.service.model.chat.ChatRequestDTO;
 import com.ia.core.llm.service.prompt.PromptRepository;
 import com.ia.core.llm.service.template.PromptTemplateService;
+import com.ia.core.resilience4j.exception.BulkheadFullException;
+import com.ia.core.resilience4j.profile.ResilienceProfile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -13,12 +16,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.client.ChatClient.CallResponseSpec;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.core.ParameterizedTypeReference;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -50,7 +58,8 @@ class ChatServiceTest {
 
   @BeforeEach
   void setUp() {
-    chatService = new ChatService(promptTemplateService, chatSessionService, llmCommunicator, promptRepository);
+    chatService = new ChatService(promptTemplateService, chatSessionService, llmCommunicator, promptRepository,
+                                  LlmResponseCache.NONE);
   }
 
   @Test
@@ -262,4 +271,82 @@ class ChatServiceTest {
     assertEquals(expectedResponse, result);
     verify(llmCommunicator).sendPrompt(any(Prompt.class), eq(chatSessionId), any(List.class), any(Object[].class));
   }
+
+  @Test
+  void testAskDeterministicSendsPromptWithoutSession() {
+    // Arrange
+    Prompt prompt = new Prompt("Test prompt");
+    when(promptTemplateService.createSimplePrompt("", "Extraia")).thenReturn(prompt);
+    when(llmCommunicator.sendStatelessPrompt(prompt)).thenReturn(callResponseSpec);
+    when(callResponseSpec.content()).thenReturn("Animal");
+
+    // Act
+    String result = chatService.askDeterministic("", "Extraia", FinalidadePromptEnum.EXTRAIR_LISTA);
+
+    // Assert
+    assertEquals("Animal", result);
+    verify(llmCommunicator).getModelName();
+    verify(llmCommunicator).sendStatelessPrompt(prompt);
+    verifyNoMoreInteractions(llmCommunicator);
+    verifyNoInteractions(chatSessionService);
+  }
+
+  @Test
+  void testAskStreamEmitsTokensOnlyAfterSubscription() {
+    // Arrange
+    String chatSessionId = "session-123";
+    Prompt prompt = new Prompt("Pergunta");
+    ChatRequestDTO dto = ChatRequestDTO.builder().request("Pergunta").sessionId(chatSessionId).build();
+
+    when(promptTemplateService.createSimplePrompt("", "Pergunta")).thenReturn(prompt);
+    when(chatSessionService.isSessionActive(chatSessionId)).thenReturn(true);
+    when(llmCommunicator.streamPrompt(eq(prompt), eq(chatSessionId), isNull())).thenReturn(Flux.just("Olá", ", ", "mundo"));
+
+    // Act
+    Flux<String> tokens = chatService.askStream(dto);
+    verifyNoInteractions(llmCommunicator);
+
+    // Assert
+    assertEquals(List.of("Olá", ", ", "mundo"), tokens.collectList().block());
+  }
+
+  @Test
+  void testAskStreamWithBlankTextReturnsEmpty() {
+    // Arrange
+    ChatRequestDTO dto = ChatRequestDTO.builder().request(" ").build();
+
+    // Act
+    List<String> tokens = chatService.askStream(dto).collectList().block();
+
+    // Assert
+    assertEquals(List.of(), tokens);
+    verifyNoInteractions(llmCommunicator);
+  }
+
+  @Test
+  void testAskStreamLimitsConcurrentStreamsToLlmBulkhead() {
+    // Arrange
+    String chatSessionId = "session-123";
+    Prompt prompt = new Prompt("Pergunta");
+    ChatRequestDTO dto = ChatRequestDTO.builder().request("Pergunta").sessionId(chatSessionId).build();
+    int limit = ResilienceProfile.LLM_SERVICE.getBulkheadMaxConcurrentCalls();
+
+    when(promptTemplateService.createSimplePrompt("", "Pergunta")).thenReturn(prompt);
+    when(chatSessionService.isSessionActive(chatSessionId)).thenReturn(true);
+    AtomicInteger calls = new AtomicInteger();
+    when(llmCommunicator.streamPrompt(eq(prompt), eq(chatSessionId), isNull()))
+        .thenAnswer(invocation -> calls.incrementAndGet() <= limit ? Flux.never() : Flux.just("Olá"));
+
+    // Act
+    List<Disposable> running = new ArrayList<>();
+    for (int i = 0; i < limit; i++) {
+      running.add(chatService.askStream(dto).subscribe());
+    }
+
+    // Assert
+    assertThrows(BulkheadFullException.class, () -> chatService.askStream(dto).blockLast());
+    running.get(0).dispose();
+    assertEquals(List.of("Olá"), chatService.askStream(dto).collectList().block());
+    running.forEach(Disposable::dispose);
+  }
 }
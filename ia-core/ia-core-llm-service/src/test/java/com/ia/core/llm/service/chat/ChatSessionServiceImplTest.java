@@ -0,0 +1,82 @@
+package com.ia.core.llm.service.chat;
+
+import com.ia.core.llm.service.config.LlmModuleProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.memory.ChatMemory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes para {@link ChatSessionServiceImpl}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("ChatSessionServiceImpl")
+class ChatSessionServiceImplTest {
+
+  private static LlmModuleProperties.Session config(int maxSize,
+                                                    Duration idleTtl) {
+    LlmModuleProperties.Session config = new LlmModuleProperties.Session();
+    config.setMaxSize(maxSize);
+    config.setIdleTtl(idleTtl);
+    return config;
+  }
+
+  @Test
+  @DisplayName("Deve descartar a sessão menos recente e seu histórico ao exceder o limite")
+  void deveDescartarPorTamanho() {
+    ChatMemory memory = mock(ChatMemory.class);
+    ChatSessionServiceImpl sessions = new ChatSessionServiceImpl(config(2, null),
+                                                                 memory);
+
+    sessions.createSession("a");
+    sessions.createSession("b");
+    sessions.isSessionActive("a");
+    sessions.createSession("c");
+
+    assertThat(sessions.isSessionActive("a")).isTrue();
+    assertThat(sessions.isSessionActive("b")).isFalse();
+    assertThat(sessions.isSessionActive("c")).isTrue();
+    assertThat(sessions.getActiveSessionCount()).isEqualTo(2);
+    assertThat(sessions.getEvictionCount()).isEqualTo(1);
+    verify(memory).clear("b");
+    verify(memory, never()).clear("a");
+  }
+
+  @Test
+  @DisplayName("Deve expirar a sessão inativa e renovar o prazo da sessão consultada")
+  void deveExpirarPorInatividade() throws InterruptedException {
+    ChatSessionServiceImpl sessions = new ChatSessionServiceImpl(config(10, Duration.ofMillis(200)),
+                                                                 null);
+    sessions.createSession("ativa");
+    sessions.createSession("inativa");
+
+    for (int i = 0; i < 3; i++) {
+      Thread.sleep(100);
+      assertThat(sessions.isSessionActive("ativa")).isTrue();
+    }
+
+    assertThat(sessions.isSessionActive("inativa")).isFalse();
+    assertThat(sessions.getEvictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Deve descartar sessões sem memória local associada")
+  void deveDescartarSemMemoriaLocal() {
+    ChatSessionServiceImpl sessions = new ChatSessionServiceImpl(config(1, null),
+                                                                 null);
+
+    sessions.createSession("a");
+    sessions.createSession("b");
+    sessions.endSession("b");
+
+    assertThat(sessions.getActiveSessionCount()).isZero();
+    assertThat(sessions.getEvictionCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,68 @@
+package com.ia.core.llm.service.chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.memory.InMemoryChatMemoryRepository;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes para {@link CompactingChatMemory}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("CompactingChatMemory")
+class CompactingChatMemoryTest {
+
+  @Test
+  @DisplayName("Deve manter a janela e resumir as mensagens descartadas")
+  void deveResumirMensagensDescartadas() {
+    CompactingChatMemory memory = new CompactingChatMemory(new InMemoryChatMemoryRepository(),
+                                                           3,
+                                                           ChatMemorySummarizer.truncating(500));
+
+    for (int i = 1; i <= 5; i++) {
+      memory.add("s", new UserMessage("mensagem " + i));
+    }
+
+    List<Message> messages = memory.get("s");
+    assertThat(messages).hasSize(3);
+    assertThat(messages.get(0).getMessageType()).isEqualTo(MessageType.SYSTEM);
+    assertThat(messages.get(0).getText())
+        .startsWith(CompactingChatMemory.SUMMARY_PREFIX)
+        .contains("USER: mensagem 1", "USER: mensagem 3")
+        .doesNotContain("mensagem 4");
+    assertThat(messages.subList(1, 3)).extracting(Message::getText)
+        .containsExactly("mensagem 4", "mensagem 5");
+  }
+
+  @Test
+  @DisplayName("Deve limitar o resumo às linhas mais recentes")
+  void deveLimitarResumo() {
+    String resumo = ChatMemorySummarizer.truncating(40)
+        .summarize("USER: antiga", List.of(new UserMessage("primeira"),
+                                           new UserMessage("segunda")));
+
+    assertThat(resumo).hasSizeLessThanOrEqualTo(40)
+        .doesNotContain("antiga")
+        .endsWith("USER: segunda");
+  }
+
+  @Test
+  @DisplayName("Deve apagar o histórico da conversa")
+  void deveApagarHistorico() {
+    CompactingChatMemory memory = new CompactingChatMemory(new InMemoryChatMemoryRepository(),
+                                                           3,
+                                                           ChatMemorySummarizer.truncating(500));
+    memory.add("s", new UserMessage("olá"));
+
+    memory.clear("s");
+
+    assertThat(memory.get("s")).isEmpty();
+  }
+}
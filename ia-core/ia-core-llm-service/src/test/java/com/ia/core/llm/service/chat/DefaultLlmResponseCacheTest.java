@@ -0,0 +1,133 @@
+package com.ia.core.llm.service.chat;
+
+import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
+import com.ia.core.llm.service.config.LlmModuleProperties;
+import com.ia.core.llm.service.metrics.LlmMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes para {@link DefaultLlmResponseCache}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("DefaultLlmResponseCache")
+class DefaultLlmResponseCacheTest {
+
+  private SimpleMeterRegistry registry;
+  private LlmMetrics metrics;
+  private AtomicInteger chamadas;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    metrics = new LlmMetrics(registry);
+    chamadas = new AtomicInteger();
+  }
+
+  private String chamar() {
+    return "resposta " + chamadas.incrementAndGet();
+  }
+
+  private static LlmCacheKey chave(String texto, FinalidadePromptEnum finalidade) {
+    return LlmCacheKey.of(new Prompt(new UserMessage(texto)), "modelo",
+                          finalidade);
+  }
+
+  private double consultas(String result) {
+    return registry.get("llm_response_cache_lookups_total")
+        .tag("result", result).counter().count();
+  }
+
+  @Test
+  @DisplayName("Deve reaproveitar a resposta de prompt idêntico após normalização")
+  void deveReaproveitarPromptIdentico() {
+    DefaultLlmResponseCache cache = new DefaultLlmResponseCache(new LlmModuleProperties.ResponseCache(),
+                                                                null, metrics);
+
+    String primeira = cache.getOrCall(chave("Extraia  as classes\n de: cão",
+                                            FinalidadePromptEnum.EXTRAIR_LISTA),
+                                      this::chamar);
+    String segunda = cache.getOrCall(chave(" Extraia as classes de: cão ",
+                                           FinalidadePromptEnum.EXTRAIR_LISTA),
+                                     this::chamar);
+
+    assertThat(segunda).isEqualTo(primeira);
+    assertThat(chamadas).hasValue(1);
+    assertThat(consultas("exact")).isEqualTo(1);
+    assertThat(consultas("miss")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Deve separar as respostas por finalidade, modelo e opções")
+  void deveSepararPorEscopo() {
+    Prompt frio = new Prompt(new UserMessage("texto"),
+                             ChatOptions.builder().temperature(0.1).build());
+    Prompt quente = new Prompt(new UserMessage("texto"),
+                               ChatOptions.builder().temperature(0.9).build());
+
+    assertThat(LlmCacheKey.of(frio, "modelo", FinalidadePromptEnum.EXTRAIR_LISTA).hash())
+        .isNotEqualTo(LlmCacheKey.of(quente, "modelo", FinalidadePromptEnum.EXTRAIR_LISTA).hash())
+        .isNotEqualTo(LlmCacheKey.of(frio, "outro", FinalidadePromptEnum.EXTRAIR_LISTA).hash())
+        .isNotEqualTo(LlmCacheKey.of(frio, "modelo", FinalidadePromptEnum.EXTRAIR_OBJETO).hash());
+  }
+
+  @Test
+  @DisplayName("Deve chamar sempre o modelo para finalidade com cache desativado")
+  void deveRespeitarFinalidadeDesativada() {
+    LlmModuleProperties.ResponseCache config = new LlmModuleProperties.ResponseCache();
+    LlmModuleProperties.ResponseCache.Tier desativado = new LlmModuleProperties.ResponseCache.Tier();
+    desativado.setEnabled(false);
+    config.getFinalidade().put(FinalidadePromptEnum.RESPOSTA_TEXTUAL, desativado);
+    DefaultLlmResponseCache cache = new DefaultLlmResponseCache(config, null,
+                                                                metrics);
+
+    cache.getOrCall(chave("olá", FinalidadePromptEnum.RESPOSTA_TEXTUAL), this::chamar);
+    cache.getOrCall(chave("olá", FinalidadePromptEnum.RESPOSTA_TEXTUAL), this::chamar);
+    cache.getOrCall(chave("olá", FinalidadePromptEnum.EXTRAIR_LISTA), this::chamar);
+    cache.getOrCall(chave("olá", FinalidadePromptEnum.EXTRAIR_LISTA), this::chamar);
+
+    assertThat(chamadas).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("Deve reaproveitar a resposta de prompt semelhante no nível semântico")
+  void deveReaproveitarPromptSemelhante() {
+    LlmModuleProperties.ResponseCache config = new LlmModuleProperties.ResponseCache();
+    config.getSemantic().setEnabled(true);
+    VectorStore store = mock(VectorStore.class);
+    DefaultLlmResponseCache cache = new DefaultLlmResponseCache(config, store,
+                                                                metrics);
+    LlmCacheKey original = chave("Extraia as classes de: o cão late",
+                                 FinalidadePromptEnum.EXTRAIR_LISTA);
+    cache.getOrCall(original, this::chamar);
+    when(store.similaritySearch(any(SearchRequest.class)))
+        .thenReturn(List.of(Document.builder().text(original.text())
+            .metadata(Map.of("hash", original.hash())).build()));
+
+    String resposta = cache.getOrCall(chave("Extraia as classes de: o cachorro late",
+                                            FinalidadePromptEnum.EXTRAIR_LISTA),
+                                      this::chamar);
+
+    assertThat(resposta).isEqualTo("resposta 1");
+    assertThat(chamadas).hasValue(1);
+    assertThat(consultas("semantic")).isEqualTo(1);
+  }
+}
@@ -0,0 +1,120 @@
+package com.ia.core.llm.service.resolver;
+
+import com.ia.core.llm.model.ferramenta.Ferramenta;
+import com.ia.core.llm.service.ferramenta.FerramentaRepository;
+import com.ia.core.llm.service.model.ferramenta.FerramentaDTO;
+import com.ia.core.service.event.BaseServiceEvent;
+import com.ia.core.service.event.CrudOperationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes para {@link FerramentaResolver}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("FerramentaResolver")
+class FerramentaResolverTest {
+
+  private FerramentaRepository repository;
+  private FerramentaResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(FerramentaRepository.class);
+    resolver = new FerramentaResolver(repository);
+  }
+
+  private static Ferramenta ferramenta(long id, String identificador) {
+    return Ferramenta.builder().id(id).identificador(identificador).titulo(identificador).build();
+  }
+
+  private static FerramentaDTO porId(long id) {
+    return FerramentaDTO.builder().id(id).build();
+  }
+
+  private static FerramentaDTO porIdentificador(String identificador) {
+    return FerramentaDTO.builder().identificador(identificador).build();
+  }
+
+  @Test
+  @DisplayName("Deve carregar o catálogo uma única vez")
+  void deveCarregarCatalogoUmaVez() {
+    Ferramenta relogio = ferramenta(1, "relogio");
+    Ferramenta calculadora = ferramenta(2, "calculadora");
+    when(repository.findAll()).thenReturn(List.of(relogio, calculadora));
+
+    assertThat(resolver.resolve(List.of(porId(2), porIdentificador("relogio"))))
+        .containsExactly(calculadora, relogio);
+    assertThat(resolver.resolve(List.of(porId(1)))).containsExactly(relogio);
+
+    verify(repository, times(1)).findAll();
+    verify(repository, never()).findAllById(any());
+    verify(repository, never()).findByIdentificadorIn(any());
+  }
+
+  @Test
+  @DisplayName("Deve buscar as ferramentas ausentes do catálogo em uma única consulta")
+  void deveBuscarAusentesEmLote() {
+    Ferramenta relogio = ferramenta(1, "relogio");
+    Ferramenta calculadora = ferramenta(2, "calculadora");
+    Ferramenta agenda = ferramenta(3, "agenda");
+    when(repository.findAll()).thenReturn(List.of());
+    when(repository.findAllById(Set.of(1L, 2L, 9L))).thenReturn(List.of(relogio, calculadora));
+    when(repository.findByIdentificadorIn(Set.of("agenda"))).thenReturn(List.of(agenda));
+
+    List<Ferramenta> resolved = resolver.resolve(List.of(porId(2), porIdentificador("agenda"),
+                                                         porId(9), porId(1)));
+
+    assertThat(resolved).containsExactly(calculadora, agenda, relogio);
+    verify(repository, times(1)).findAllById(any());
+    verify(repository, times(1)).findByIdentificadorIn(any());
+
+    assertThat(resolver.resolve(List.of(porId(1), porIdentificador("agenda"))))
+        .containsExactly(relogio, agenda);
+    verify(repository, times(1)).findAllById(any());
+    verify(repository, times(1)).findByIdentificadorIn(any());
+  }
+
+  @Test
+  @DisplayName("Deve recarregar a ferramenta alterada após o evento de gravação")
+  void deveRecarregarAposEvento() {
+    Ferramenta antiga = ferramenta(1, "relogio");
+    Ferramenta nova = ferramenta(1, "relogio-utc");
+    when(repository.findAll()).thenReturn(List.of(antiga));
+    when(repository.findAllById(Set.of(1L))).thenReturn(List.of(nova));
+
+    assertThat(resolver.resolve(List.of(porId(1)))).containsExactly(antiga);
+    long version = resolver.getCatalogVersion();
+
+    FerramentaDTO alterada = FerramentaDTO.builder().id(1L).identificador("relogio-utc").build();
+    resolver.onFerramentaChanged(new BaseServiceEvent<>(this, alterada, CrudOperationType.UPDATED));
+
+    assertThat(resolver.getCatalogVersion()).isGreaterThan(version);
+    assertThat(resolver.resolve(List.of(porId(1)))).containsExactly(nova);
+    assertThat(resolver.resolve(List.of(porIdentificador("relogio-utc")))).containsExactly(nova);
+    verify(repository, times(1)).findAll();
+    verify(repository, times(1)).findAllById(any());
+    verify(repository, never()).findByIdentificadorIn(any());
+  }
+
+  @Test
+  @DisplayName("Deve ignorar entradas nulas e lista vazia sem consultar o banco")
+  void deveIgnorarEntradasVazias() {
+    assertThat(resolver.resolve(null)).isEmpty();
+    assertThat(resolver.resolve(List.of())).isEmpty();
+    verify(repository, never()).findAll();
+  }
+}
@@ -2,6 +2,9 @@ package com.ia.core.llm.service.template;
 
 import com.ia.core.llm.model.prompt.FinalidadePromptEnum;
 import com.ia.core.llm.model.template.Template;
+import com.ia.core.llm.service.model.template.TemplateDTO;
+import com.ia.core.service.event.BaseServiceEvent;
+import com.ia.core.service.event.CrudOperationType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +18,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -206,4 +210,93 @@ class PromptTemplateServiceImplTest {
     assertNotNull(result);
     assertEquals(2, result.getInstructions().size());
   }
+
+  @Test
+  void testProcessTemplate_ReusesCompiledTemplate() {
+    // Arrange
+    Template template = new Template();
+    template.setId(1L);
+    template.setVersion(1L);
+    template.setIdentificador("saudacao");
+    template.setConteudo("Olá {name}");
+
+    when(templateRepository.findByIdentificador("saudacao")).thenReturn(Optional.of(template));
+
+    // Act
+    String first = promptTemplateService.processTemplate("saudacao", Map.of("name", "Ana"));
+    String second = promptTemplateService.processTemplate("saudacao", Map.of("name", "Bia"));
+
+    // Assert
+    assertEquals("Olá Ana", first);
+    assertEquals("Olá Bia", second);
+    verify(templateRepository, times(1)).findByIdentificador("saudacao");
+  }
+
+  @Test
+  void testOnTemplateChanged_EvictsOnUpdateWithUnflushedVersion() {
+    // Arrange
+    Template template = new Template();
+    template.setId(1L);
+    template.setVersion(1L);
+    template.setIdentificador("saudacao");
+    template.setConteudo("Olá {name}");
+    when(templateRepository.findByIdentificador("saudacao")).thenReturn(Optional.of(template));
+    assertEquals("Olá {name}", promptTemplateService.getTemplateById("saudacao"));
+
+    // O DTO do evento é montado antes do flush: mesma versão do template em cache
+    Template edited = new Template();
+    edited.setId(1L);
+    edited.setVersion(1L);
+    edited.setIdentificador("saudacao");
+    edited.setConteudo("Oi {name}");
+    TemplateDTO saved = new TemplateDTO();
+    saved.setId(edited.getId());
+    saved.setVersion(edited.getVersion());
+    saved.setIdentificador(edited.getIdentificador());
+    saved.setConteudo(edited.getConteudo());
+    when(templateRepository.findByIdentificador("saudacao")).thenReturn(Optional.of(edited));
+
+    // Act
+    promptTemplateService.onTemplateChanged(new BaseServiceEvent<>(this, saved, CrudOperationType.UPDATED));
+    String afterUpdate = promptTemplateService.getTemplateById("saudacao");
+    promptTemplateService.onTemplateChanged(new BaseServiceEvent<>(this, saved, CrudOperationType.DELETED));
+    promptTemplateService.getTemplateById("saudacao");
+
+    // Assert
+    assertEquals("Oi {name}", afterUpdate);
+    verify(templateRepository, times(3)).findByIdentificador("saudacao");
+  }
+
+  @Test
+  void testOnTemplateChanged_EvictsPreviousIdentifier() {
+    // Arrange
+    Template template = new Template();
+    template.setId(1L);
+    template.setVersion(1L);
+    template.setIdentificador("saudacao");
+    template.setConteudo("Olá {name}");
+    when(templateRepository.findByIdentificador("saudacao")).thenReturn(Optional.of(template));
+    promptTemplateService.getTemplateById("saudacao");
+
+    TemplateDTO renamed = new TemplateDTO();
+    renamed.setId(1L);
+    renamed.setVersion(1L);
+    renamed.setIdentificador("boas-vindas");
+
+    // Act
+    promptTemplateService.onTemplateChanged(new BaseServiceEvent<>(this, renamed, CrudOperationType.UPDATED));
+    promptTemplateService.getTemplateById("saudacao");
+
+    // Assert
+    verify(templateRepository, times(2)).findByIdentificador("saudacao");
+  }
+
+  @Test
+  void testCreateSimplePrompt_KeepsTemplateLayout() {
+    // Act
+    Prompt result = promptTemplateService.createSimplePrompt("doc {x}", null);
+
+    // Assert
+    assertEquals("doc {x}\n\n", result.getInstructions().get(0).getText());
+  }
 }
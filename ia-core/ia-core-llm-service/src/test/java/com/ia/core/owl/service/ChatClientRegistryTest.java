@@ -0,0 +1,104 @@
+package com.ia.core.owl.service;
+
+import com.ia.core.llm.model.ferramenta.Ferramenta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.tool.annotation.Tool;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Testes para {@link ChatClientRegistry}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("ChatClientRegistry")
+class ChatClientRegistryTest {
+
+  private AtomicInteger advisorsResolvidos;
+  private ChatClientRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    advisorsResolvidos = new AtomicInteger();
+    registry = new ChatClientRegistry(mock(ChatModel.class), () -> {
+      advisorsResolvidos.incrementAndGet();
+      return List.of();
+    }, ChatClientRegistry.DEFAULT_MAX_SIZE);
+  }
+
+  @Test
+  @DisplayName("Deve reaproveitar o cliente do mesmo conjunto de tools")
+  void deveReaproveitarCliente() {
+    Relogio relogio = new Relogio();
+    Calculadora calculadora = new Calculadora();
+
+    ChatClient primeiro = registry.client(null, relogio, calculadora);
+    ChatClient segundo = registry.client(List.of(), calculadora, relogio);
+
+    assertThat(segundo).isSameAs(primeiro);
+    assertThat(registry.size()).isEqualTo(1);
+    assertThat(advisorsResolvidos).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Deve separar os clientes por instância de tool")
+  void deveSepararPorInstancia() {
+    ChatClient primeiro = registry.client(null, new Relogio());
+    ChatClient segundo = registry.client(null, new Relogio());
+
+    assertThat(segundo).isNotSameAs(primeiro);
+    assertThat(registry.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Deve ignorar tools nulas e achatar arrays aninhados")
+  void deveAchatarTools() {
+    Relogio relogio = new Relogio();
+
+    ChatClient semTools = registry.client(null);
+    ChatClient nulas = registry.client(null, null, null);
+    ChatClient aninhada = registry.client(null, null, new Object[] { relogio });
+    ChatClient direta = registry.client(null, relogio, relogio);
+
+    assertThat(nulas).isSameAs(semTools);
+    assertThat(direta).isSameAs(aninhada);
+    assertThat(registry.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Deve separar os clientes por versão da skill")
+  void deveSepararPorVersaoDaSkill() {
+    Ferramenta original = Ferramenta.builder().id(1L).version(1L).build();
+    Ferramenta mesmaVersao = Ferramenta.builder().id(1L).version(1L).build();
+    Ferramenta alterada = Ferramenta.builder().id(1L).version(2L).build();
+
+    assertThat(ChatClientRegistry.ToolSet.of(List.of(mesmaVersao)))
+        .isEqualTo(ChatClientRegistry.ToolSet.of(List.of(original)));
+    assertThat(ChatClientRegistry.ToolSet.of(List.of(alterada)))
+        .isNotEqualTo(ChatClientRegistry.ToolSet.of(List.of(original)));
+  }
+
+  static class Relogio {
+
+    @Tool(description = "Retorna a hora atual")
+    String agora() {
+      return "12:00";
+    }
+  }
+
+  static class Calculadora {
+
+    @Tool(description = "Soma dois números")
+    int somar(int a, int b) {
+      return a + b;
+    }
+  }
+}
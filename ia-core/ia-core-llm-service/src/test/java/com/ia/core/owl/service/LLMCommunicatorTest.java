@@ -15,7 +15,11 @@ import org.springframework.ai.content.Media;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -43,7 +47,7 @@ class LLMCommunicatorTest {
     llmCommunicator = new LLMCommunicator(chatModel, chatMemory, vectorStoreOperations, "http://localhost:11434", "llama3");
     // Mock the advisor to avoid null advisor errors
     QuestionAnswerAdvisor mockAdvisor = mock(QuestionAnswerAdvisor.class);
-    when(vectorStoreOperations.getQuestionAnswerAdvisor()).thenReturn(mockAdvisor);
+    lenient().when(vectorStoreOperations.getQuestionAnswerAdvisor()).thenReturn(mockAdvisor);
   }
 
   @Test
@@ -139,4 +143,26 @@ class LLMCommunicatorTest {
     // Act & Assert
     assertDoesNotThrow(() -> llmCommunicator.sendPrompt(promptText, chatSessionId));
   }
+
+  @Test
+  void testSendPromptReusesSharedAdvisors() {
+    // Arrange
+    String promptText = "Test prompt";
+
+    // Act
+    llmCommunicator.sendPrompt(promptText, "session-1");
+    llmCommunicator.sendPrompt(promptText, "session-2");
+
+    // Assert
+    verify(vectorStoreOperations, times(1)).getQuestionAnswerAdvisor();
+  }
+
+  @Test
+  void testSendStatelessPromptSkipsMemoryAndRagAdvisors() {
+    // Act
+    assertDoesNotThrow(() -> llmCommunicator.sendStatelessPrompt(new Prompt("Test prompt")));
+
+    // Assert
+    verify(vectorStoreOperations, never()).getQuestionAnswerAdvisor();
+  }
 }
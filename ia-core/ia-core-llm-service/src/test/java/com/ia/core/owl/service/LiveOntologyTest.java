@@ -0,0 +1,103 @@
+package com.ia.core.owl.service;
+
+import com.ia.core.llm.model.ontologia.OntologyFormat;
+import com.ia.core.llm.service.model.ontologia.OntologiaDTO;
+import com.ia.core.owl.service.exception.OWLParserException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes para {@link LiveOntology}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("LiveOntology")
+class LiveOntologyTest {
+
+  private static final String NS = "http://example.com/ontologia/teste#";
+
+  private static OntologiaDTO vazia() {
+    return OntologiaDTO.builder()
+        .iri("http://example.com/ontologia/teste")
+        .prefixo("ctx")
+        .formato(OntologyFormat.MANCHESTER)
+        .conteudo("")
+        .build();
+  }
+
+  private static String classes(String frame) {
+    return "Ontology:\n\nClass: <" + NS + "A>\n\nClass: <" + NS + "B>\n\n"
+        + frame;
+  }
+
+  @Test
+  @DisplayName("Deve aplicar axiomas incrementalmente e serializar apenas sob demanda")
+  void deveAplicarAxiomasIncrementalmente() throws Exception {
+    try (LiveOntology live = LiveOntology.load(new DefaultOwlService(),
+                                               vazia())) {
+      assertThat(live.isDirty()).isFalse();
+
+      assertThat(live.addAxiom(classes("Class: <" + NS + "A>\n    SubClassOf: <"
+          + NS + "B>\n"))).isTrue();
+
+      assertThat(live.isDirty()).isTrue();
+      assertThat(live.getLogicalAxiomCount()).isEqualTo(1);
+      String snapshot = live.snapshot();
+      assertThat(snapshot).contains(NS + "A");
+      assertThat(live.snapshot()).isSameAs(snapshot);
+
+      live.markClean();
+      assertThat(live.isDirty()).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("Deve manter pendente a alteração posterior ao conteúdo gravado")
+  void deveManterAlteracaoPosteriorAGravacao() throws Exception {
+    try (LiveOntology live = LiveOntology.load(new DefaultOwlService(),
+                                               vazia())) {
+      live.addAxiom(classes("Class: <" + NS + "A>\n    SubClassOf: <" + NS
+          + "B>\n"));
+      String gravado = live.snapshot();
+      live.addAxiom(classes("Class: <" + NS + "B>\n    DisjointWith: <" + NS
+          + "A>\n"));
+
+      live.markClean(gravado);
+      assertThat(live.isDirty()).isTrue();
+
+      live.markClean(live.snapshot());
+      assertThat(live.isDirty()).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("Deve detectar inconsistência após novo axioma")
+  void deveDetectarInconsistencia() throws Exception {
+    try (LiveOntology live = LiveOntology.load(new DefaultOwlService(),
+                                               vazia())) {
+      assertThat(live.addAxiom(classes("Class: <" + NS
+          + "A>\n    DisjointWith: <" + NS + "B>\n"))).isTrue();
+
+      boolean consistente = live.addAxiom(classes("Individual: <" + NS
+          + "x>\n    Types: <" + NS + "A>, <" + NS + "B>\n"));
+
+      assertThat(consistente).isFalse();
+      assertThat(live.inconsistencies()).isNotEmpty();
+    }
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar expressão inválida sem alterar a ontologia")
+  void deveRejeitarExpressaoInvalida() throws Exception {
+    try (LiveOntology live = LiveOntology.load(new DefaultOwlService(),
+                                               vazia())) {
+      assertThatThrownBy(() -> live.addAxiom("Class: <" + NS
+          + "A> SubClassOf:"))
+          .isInstanceOf(OWLParserException.class);
+      assertThat(live.isDirty()).isFalse();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.ia.core.owl.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes para {@link ManchesterBatchParser}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("ManchesterBatchParser")
+class ManchesterBatchParserTest {
+
+  private static final String IRI_ONTOLOGIA = "http://example.com/lote";
+
+  @Test
+  @DisplayName("Deve interpretar o lote com declarações entre axiomas e erros por posição")
+  void deveInterpretarLote() throws Exception {
+    OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology = manager.createOntology(IRI.create(IRI_ONTOLOGIA));
+    OWLDataFactory df = manager.getOWLDataFactory();
+
+    ManchesterBatchParser.Result result = ManchesterBatchParser
+        .parse(ontology, "ex", IRI_ONTOLOGIA, List.of(
+            "Class: ex:Animal",
+            "Class: ex:Cachorro\n    SubClassOf: ex:Animal",
+            "Class: ex:Gato\n    SubClassOf: ex:Inexistente"));
+
+    assertThat(result.errors()).containsOnlyKeys(2);
+    assertThat(result.axioms().get(2)).isEmpty();
+    assertThat(result.allAxioms())
+        .contains(df.getOWLSubClassOfAxiom(
+            df.getOWLClass(IRI.create(IRI_ONTOLOGIA + "#Cachorro")),
+            df.getOWLClass(IRI.create(IRI_ONTOLOGIA + "#Animal"))));
+    assertThat(ontology.getAxiomCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Deve interpretar lotes maiores que um bloco preservando as posições")
+  void deveInterpretarVariosBlocos() throws Exception {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager()
+        .createOntology(IRI.create(IRI_ONTOLOGIA));
+    List<String> expressoes = new ArrayList<>();
+    for (int i = 0; i < ManchesterBatchParser.CHUNK_SIZE * 3 + 1; i++) {
+      expressoes.add(i == 40 ? "Class: ex:Invalida SubClassOf:"
+                             : "Class: ex:C" + i);
+    }
+
+    ManchesterBatchParser.Result result = ManchesterBatchParser
+        .parse(ontology, "ex", IRI_ONTOLOGIA, expressoes);
+
+    assertThat(result.axioms()).hasSize(expressoes.size());
+    assertThat(result.errors()).containsOnlyKeys(40);
+  }
+
+  @Test
+  @DisplayName("Deve aplicar os prefixos declarados apenas à própria expressão")
+  void deveIsolarPrefixosPorExpressao() throws Exception {
+    OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology = manager.createOntology(IRI.create(IRI_ONTOLOGIA));
+    OWLDataFactory df = manager.getOWLDataFactory();
+
+    ManchesterBatchParser.Result result = ManchesterBatchParser
+        .parse(ontology, "ex", IRI_ONTOLOGIA, List.of(
+            "Prefix: ex: <http://example.com/outra#>\nClass: ex:Externa",
+            "Class: ex:Local"));
+
+    assertThat(result.errors()).isEmpty();
+    assertThat(result.axioms().get(0)).contains(df.getOWLDeclarationAxiom(
+        df.getOWLClass(IRI.create("http://example.com/outra#Externa"))));
+    assertThat(result.axioms().get(1)).contains(df.getOWLDeclarationAxiom(
+        df.getOWLClass(IRI.create(IRI_ONTOLOGIA + "#Local"))));
+  }
+}
@@ -0,0 +1,163 @@
+package com.ia.core.owl.service;
+
+import com.ia.core.llm.model.ontologia.OntologyFormat;
+import com.ia.core.llm.service.model.ontologia.OntologiaDTO;
+import com.ia.core.owl.service.model.AnaliseInferenciaDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes para {@link ReasonerResultCache}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("ReasonerResultCache")
+class ReasonerResultCacheTest {
+
+  private static final String NS = "http://example.com/ontologia/teste#";
+
+  private static AnaliseInferenciaDTO analise(String inconsistencia) {
+    return AnaliseInferenciaDTO.builder()
+        .consistente(false)
+        .inconsistencias(new ArrayList<>(List.of(inconsistencia)))
+        .build();
+  }
+
+  @Test
+  @DisplayName("Deve gerar a mesma chave para o mesmo conjunto de axiomas em qualquer ordem")
+  void deveGerarChaveIndependenteDaOrdem() throws Exception {
+    OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+    OWLDataFactory df = manager.getOWLDataFactory();
+    OWLAxiom ab = df.getOWLSubClassOfAxiom(df.getOWLClass(IRI.create(NS + "A")),
+                                           df.getOWLClass(IRI.create(NS + "B")));
+    OWLAxiom bc = df.getOWLSubClassOfAxiom(df.getOWLClass(IRI.create(NS + "B")),
+                                           df.getOWLClass(IRI.create(NS + "C")));
+
+    OWLOntology primeira = manager.createOntology();
+    manager.addAxiom(primeira, ab);
+    manager.addAxiom(primeira, bc);
+    OWLOntology segunda = manager.createOntology();
+    manager.addAxiom(segunda, bc);
+    manager.addAxiom(segunda, ab);
+    OWLOntology terceira = manager.createOntology();
+    manager.addAxiom(terceira, ab);
+
+    assertThat(ReasonerResultCache.contentKey(primeira))
+        .isEqualTo(ReasonerResultCache.contentKey(segunda))
+        .isNotEqualTo(ReasonerResultCache.contentKey(terceira));
+  }
+
+  @Test
+  @DisplayName("Deve executar a análise uma única vez e devolver cópias independentes")
+  void deveExecutarAnaliseUmaVez() {
+    ReasonerResultCache cache = new ReasonerResultCache(4, null);
+    AtomicInteger execucoes = new AtomicInteger();
+
+    AnaliseInferenciaDTO primeira = cache.getOrCompute("k", () -> {
+      execucoes.incrementAndGet();
+      return analise("x");
+    });
+    primeira.getInconsistencias().add("alterada");
+    AnaliseInferenciaDTO segunda = cache.getOrCompute("k", () -> {
+      execucoes.incrementAndGet();
+      return analise("y");
+    });
+
+    assertThat(execucoes).hasValue(1);
+    assertThat(segunda.getInconsistencias()).containsExactly("x");
+    assertThat(cache.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Deve gravar em disco as análises descartadas e promovê-las na próxima consulta")
+  void deveDescartarEmDisco(@TempDir Path diretorio) {
+    ReasonerResultCache cache = new ReasonerResultCache(1, Duration.ZERO,
+                                                        diretorio, 10);
+    cache.getOrCompute("a", () -> analise("a"));
+    cache.getOrCompute("b", () -> analise("b"));
+
+    assertThat(cache.spillCount()).isEqualTo(1);
+    AnaliseInferenciaDTO restaurada = cache
+        .getOrCompute("a", () -> analise("recalculada"));
+
+    assertThat(restaurada.getInconsistencias()).containsExactly("a");
+    assertThat(cache.diskHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Deve descartar análise em disco com classes fora das permitidas")
+  void deveRejeitarClassesNaoPermitidasEmDisco(@TempDir Path diretorio)
+    throws Exception {
+    Path arquivo = diretorio.resolve("a.bin");
+    try (ObjectOutputStream out = new ObjectOutputStream(Files
+        .newOutputStream(arquivo))) {
+      out.writeObject(AnaliseInferenciaDTO.builder().consistente(false)
+          .inconsistencias(new LinkedList<>(List.of("a"))).build());
+    }
+    ReasonerResultCache cache = new ReasonerResultCache(1, null, diretorio, 10);
+
+    AnaliseInferenciaDTO analise = cache
+        .getOrCompute("a", () -> analise("recalculada"));
+
+    assertThat(analise.getInconsistencias()).containsExactly("recalculada");
+    assertThat(cache.diskHitCount()).isZero();
+    assertThat(arquivo).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("Deve limitar a quantidade de análises em disco")
+  void deveLimitarDisco(@TempDir Path diretorio) throws Exception {
+    ReasonerResultCache cache = new ReasonerResultCache(1, null, diretorio, 2);
+    for (String chave : List.of("a", "b", "c", "d", "e")) {
+      cache.getOrCompute(chave, () -> analise(chave));
+    }
+
+    try (var arquivos = Files.list(diretorio)) {
+      assertThat(arquivos.filter(p -> p.toString().endsWith(".bin")))
+          .hasSizeLessThanOrEqualTo(2);
+    }
+  }
+
+  @Test
+  @DisplayName("Deve reaproveitar a análise de ontologia com conteúdo inalterado")
+  void deveReaproveitarAnaliseDoServico() {
+    ReasonerResultCache cache = new ReasonerResultCache(4, null);
+    DefaultOwlService owlService = new DefaultOwlService();
+    owlService.setResultCache(cache);
+    OntologiaDTO ontologia = OntologiaDTO.builder()
+        .iri("http://example.com/ontologia/teste")
+        .prefixo("ctx")
+        .formato(OntologyFormat.MANCHESTER)
+        .conteudo("Ontology: <http://example.com/ontologia/teste>\n\n"
+            + "Class: <" + NS + "A>\n    SubClassOf: <" + NS + "B>\n\n"
+            + "Class: <" + NS + "B>\n    SubClassOf: <" + NS + "C>\n\n"
+            + "Class: <" + NS + "C>\n")
+        .build();
+
+    AnaliseInferenciaDTO primeira = owlService.checkInferrences(ontologia);
+    AnaliseInferenciaDTO segunda = owlService.checkInferrences(ontologia);
+
+    assertThat(primeira.isConsistente()).isTrue();
+    assertThat(segunda).isEqualTo(primeira);
+    assertThat(cache.missCount()).isEqualTo(1);
+    assertThat(cache.hitCount()).isEqualTo(1);
+  }
+}
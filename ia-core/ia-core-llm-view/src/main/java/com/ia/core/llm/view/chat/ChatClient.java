@@ -3,7 +3,9 @@ package com.ia.core.llm.view.chat;
 import com.ia.core.llm.service.model.chat.ChatRequestDTO;
 import com.ia.core.resilience4j.annotation.Resilient;
 import com.ia.core.resilience4j.profile.ResilienceProfile;
+import feign.Response;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -32,4 +34,17 @@ public interface ChatClient {
    */
   @PostMapping
   String ask(@RequestBody @Valid ChatRequestDTO dto);
+
+  /**
+   * Realiza uma pergunta ao modelo de linguagem com resposta em streaming.
+   * <p>
+   * A resposta é um fluxo Server-Sent Events em que cada evento traz um
+   * trecho codificado como string JSON; o corpo deve ser lido e fechado pelo
+   * chamador (ver {@link ChatManager#askStream(ChatRequestDTO)}).
+   *
+   * @param dto {@link ChatRequestDTO} contendo os dados da pergunta
+   * @return resposta HTTP não decodificada
+   */
+  @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  Response askStream(@RequestBody @Valid ChatRequestDTO dto);
 }
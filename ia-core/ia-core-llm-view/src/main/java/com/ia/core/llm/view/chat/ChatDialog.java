@@ -9,6 +9,7 @@ import com.ia.core.view.properties.HasErrorHandle;
 import com.ia.core.view.utils.DataProviderFactory;
 import com.ia.core.view.utils.Size;
 import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.Unit;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.checkbox.Checkbox;
@@ -23,6 +24,7 @@ import com.vaadin.flow.data.binder.ValueContext;
 import com.vaadin.flow.data.converter.Converter;
 import com.vaadin.flow.data.provider.DataProvider;
 import lombok.Getter;
+import reactor.core.Disposable;
 
 import java.util.Locale;
 import java.util.Objects;
@@ -41,12 +43,16 @@ public class ChatDialog
   HasTextFieldCreator, HasTranslator, HasCheckBoxCreator,
   HasBinder<ChatDialogViewModel> {
 
+  /** Intervalo de consulta da UI, em ms, durante a resposta sem push */
+  private static final int STREAM_POLL_INTERVAL = 250;
+
   private TextArea responseField;
   private TextArea askField;
   private FlexLayout askLayout;
   private ComboBox<PromptDTO> promptField;
   @Getter
   private Binder<ChatDialogViewModel> binder;
+  private Disposable stream;
 
   /**
    *
@@ -59,6 +65,12 @@ public class ChatDialog
     createLayout();
     setWidth(width.getSize(), width.getUnit());
     setHeight(height.getSize(), height.getUnit());
+    addOpenedChangeListener(onChange -> {
+      if (!onChange.isOpened()) {
+        cancelStream();
+      }
+    });
+    addDetachListener(onDetach -> cancelStream());
   }
 
   /**
@@ -90,7 +102,7 @@ public class ChatDialog
   private Button createAskButton() {
     Button button = new Button(VaadinIcon.COMMENT.create(), onClick -> {
       try {
-        this.responseField.setValue(getViewModel().ask());
+        askStream(onClick.getSource().getUI().orElseThrow());
         this.askField.clear();
       } catch (Exception e) {
         handleError(e);
@@ -100,6 +112,45 @@ public class ChatDialog
     return button;
   }
 
+  /**
+   * Exibe a resposta à medida que os trechos chegam, enviando-os ao navegador
+   * por server push. Sem push habilitado, a UI passa a ser consultada
+   * periodicamente enquanto a resposta é gerada. Uma nova pergunta, ou o
+   * fechamento do diálogo, cancela a resposta em andamento.
+   *
+   * @param ui UI do diálogo
+   */
+  private void askStream(UI ui) {
+    cancelStream();
+    this.responseField.clear();
+    boolean poll = !ui.getPushConfiguration().getPushMode().isEnabled();
+    if (poll) {
+      ui.setPollInterval(STREAM_POLL_INTERVAL);
+    }
+    StringBuilder response = new StringBuilder();
+    stream = getViewModel().askStream()
+        .doFinally(signal -> {
+          if (poll && ui.isAttached()) {
+            ui.access(() -> ui.setPollInterval(-1));
+          }
+        })
+        .subscribe(token -> ui.access(() -> {
+          response.append(token);
+          this.responseField.setValue(response.toString());
+        }), error -> ui.access(() -> handleError(error instanceof Exception e ? e
+                                                                    : new IllegalStateException(error))));
+  }
+
+  /**
+   * Cancela a resposta em andamento, se houver.
+   */
+  private void cancelStream() {
+    if (stream != null) {
+      stream.dispose();
+      stream = null;
+    }
+  }
+
   /**
    * @return
    */
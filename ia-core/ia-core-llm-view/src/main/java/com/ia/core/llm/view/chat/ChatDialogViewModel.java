@@ -2,6 +2,8 @@ package com.ia.core.llm.view.chat;
 
 import com.ia.core.llm.service.model.chat.ChatRequestDTO;
 import com.ia.core.view.components.form.viewModel.FormViewModel;
+import reactor.core.publisher.Flux;
+
 /**
  * Model de dados para a view de chat dialog.
  * <p>
@@ -25,6 +27,14 @@ public class ChatDialogViewModel
     return this.getConfig().getChatService().ask(getModel());
   }
 
+  /**
+   * @return trechos da resposta à pergunta atual
+   * @see ChatManager#askStream(ChatRequestDTO)
+   */
+  public Flux<String> askStream() {
+    return this.getConfig().getChatService().askStream(getModel().cloneObject());
+  }
+
   @Override
   public ChatDialogViewModelConfig getConfig() {
     return (ChatDialogViewModelConfig) super.getConfig();
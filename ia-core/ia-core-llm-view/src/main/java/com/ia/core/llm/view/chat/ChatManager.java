@@ -1,10 +1,18 @@
 package com.ia.core.llm.view.chat;
 
+import com.google.gson.Gson;
 import com.ia.core.llm.service.model.chat.ChatRequestDTO;
+import feign.Response;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * @author Israel Araújo
@@ -22,6 +30,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ChatManager {
 
+  private static final Gson GSON = new Gson();
+
   @Getter
   private final ChatClient client;
 
@@ -29,6 +39,70 @@ public class ChatManager {
     return client.ask(request);
   }
 
+  /**
+   * Realiza a pergunta e devolve os trechos da resposta à medida que o
+   * servidor os envia.
+   * <p>
+   * A requisição é feita na assinatura, em thread de
+   * {@link Schedulers#boundedElastic()}. Cancelar a assinatura fecha a
+   * conexão, o que cancela a geração no servidor.
+   *
+   * @param request dados da pergunta
+   * @return trechos da resposta
+   */
+  public Flux<String> askStream(ChatRequestDTO request) {
+    return Flux.using(() -> client.askStream(request), ChatManager::readEvents,
+                      Response::close)
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Lê o corpo Server-Sent Events, emitindo o campo {@code data} de cada
+   * evento decodificado como string JSON.
+   *
+   * @param response resposta HTTP
+   * @return trechos da resposta
+   */
+  static Flux<String> readEvents(Response response) {
+    if (response.status() >= 400 || response.body() == null) {
+      return Flux.error(new IllegalStateException("Falha no streaming do chat: HTTP "
+          + response.status()));
+    }
+    return Flux.generate(() -> new BufferedReader(response.body()
+        .asReader(StandardCharsets.UTF_8)), (reader, sink) -> {
+          try {
+            String data = nextData(reader);
+            if (data == null) {
+              sink.complete();
+            } else {
+              sink.next(GSON.fromJson(data, String.class));
+            }
+          } catch (IOException | RuntimeException e) {
+            sink.error(e);
+          }
+          return reader;
+        });
+  }
+
+  private static String nextData(BufferedReader reader)
+    throws IOException {
+    StringBuilder data = null;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.isEmpty()) {
+        if (data != null) {
+          return data.toString();
+        }
+      } else if (line.startsWith("data:")) {
+        String value = line.substring(5);
+        value = value.startsWith(" ") ? value.substring(1) : value;
+        data = data == null ? new StringBuilder(value)
+                            : data.append('\n').append(value);
+      }
+    }
+    return data == null ? null : data.toString();
+  }
+
   @PostConstruct
   public void initBaseService() {
     log.info("{} inicializado com client {}", this.getClass(), client);
@@ -0,0 +1,82 @@
+package com.ia.core.llm.view.chat;
+
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes da leitura de Server-Sent Events do {@link ChatManager}.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+@DisplayName("ChatManager")
+class ChatManagerTest {
+
+  @Test
+  @DisplayName("Deve emitir um trecho por evento")
+  void deveEmitirUmTrechoPorEvento() {
+    Response response = response(200, "data:\"Olá\"\n\ndata: \", mundo\"\n\n");
+
+    assertThat(ChatManager.readEvents(response).collectList().block())
+        .containsExactly("Olá", ", mundo");
+  }
+
+  @Test
+  @DisplayName("Deve juntar os campos data do mesmo evento com quebra de linha")
+  void deveJuntarCamposDataDoMesmoEvento() {
+    Response response = response(200, "data: \"primeira\ndata: segunda\"\n\n");
+
+    assertThat(ChatManager.readEvents(response).collectList().block())
+        .containsExactly("primeira\nsegunda");
+  }
+
+  @Test
+  @DisplayName("Deve ignorar comentários e campos desconhecidos")
+  void deveIgnorarComentarios() {
+    Response response = response(200,
+        ": keep-alive\n\nevent: message\nid: 1\ndata: \"Olá\"\n: fim\n\n");
+
+    assertThat(ChatManager.readEvents(response).collectList().block())
+        .containsExactly("Olá");
+  }
+
+  @Test
+  @DisplayName("Deve emitir o último evento sem linha em branco final")
+  void deveEmitirUltimoEventoSemLinhaEmBranco() {
+    Response response = response(200, "data: \"Olá\"\n\ndata: \"mundo\"");
+
+    assertThat(ChatManager.readEvents(response).collectList().block())
+        .containsExactly("Olá", "mundo");
+  }
+
+  @Test
+  @DisplayName("Deve falhar quando o servidor responde com erro")
+  void deveFalharComErroHttp() {
+    Response response = response(503, "");
+
+    assertThatThrownBy(() -> ChatManager.readEvents(response).blockLast())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("503");
+  }
+
+  private static Response response(int status, String body) {
+    Request request = Request.create(Request.HttpMethod.POST, "/api/v1/llm/chat/stream",
+                                     Map.of(), null, StandardCharsets.UTF_8, null);
+    return Response.builder()
+        .status(status)
+        .reason("")
+        .request(request)
+        .headers(Map.of())
+        .body(body, StandardCharsets.UTF_8)
+        .build();
+  }
+}
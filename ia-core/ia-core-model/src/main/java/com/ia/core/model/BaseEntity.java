@@ -6,6 +6,7 @@ import lombok.Builder.Default;
 import lombok.experimental.SuperBuilder;
 
 import java.io.Serializable;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
 /**
@@ -75,19 +76,112 @@ public abstract class BaseEntity
           nullable = false)
   private Long version = HasVersion.DEFAULT_VERSION;
 
+  /**
+   * Bloco de identificadores reservado para a thread corrente.
+   *
+   * @see #reserveIds(int)
+   */
+  private static final ThreadLocal<IdReservation> RESERVED_IDS = new ThreadLocal<>();
+
   /**
    * Callback executado antes da persistência da entidade.
    * <p>
    * Gera automaticamente o identificador único (TSID) caso não tenha sido
-   * fornecido. Este método é chamado pelo JPA automaticamente durante a
-   * operação de persistência.
+   * fornecido. Se houver um bloco reservado na thread corrente por
+   * {@link #reserveIds(int)}, o próximo identificador do bloco é utilizado.
+   * Este método é chamado pelo JPA automaticamente durante a operação de
+   * persistência.
    *
    * @throws IllegalStateException se o gerador TSID não estiver disponível
    */
   @PrePersist
   public void generateIdIfAbsent() {
     if (this.id == null) {
-      this.id = TSID.Factory.getTsid4096().toLong();
+      IdReservation reservation = RESERVED_IDS.get();
+      this.id = reservation != null && reservation.hasNext()
+          ? reservation.next() : TSID.Factory.getTsid4096().toLong();
+    }
+  }
+
+  /**
+   * Reserva, de uma só vez, um bloco contíguo e ordenado de identificadores
+   * para as entidades persistidas pela thread corrente até o fechamento da
+   * reserva.
+   * <p>
+   * Indicado para persistência em lote: os {@code quantidade} identificadores
+   * são obtidos com uma única sincronização do gerador, e as entidades
+   * recebem identificadores crescentes na ordem de persistência. Esgotado o
+   * bloco, os identificadores voltam a ser gerados um a um. Identificadores
+   * não utilizados são descartados.
+   * <p>
+   * <b>Exemplo de uso:</b>
+   * </p>
+   * {@code try (var ids = BaseEntity.reserveIds(pessoas.size())) {
+   * pessoas.forEach(repository::save); } }
+   *
+   * @param quantidade quantidade de identificadores a reservar
+   * @return reserva, que deve ser fechada ao final do lote
+   * @throws IllegalArgumentException se a quantidade não for positiva
+   * @see TSID.Factory#generateBlock(int)
+   */
+  public static IdReservation reserveIds(int quantidade) {
+    IdReservation reservation = new IdReservation(TSID.Factory
+        .getTsid4096Block(quantidade), RESERVED_IDS.get());
+    RESERVED_IDS.set(reservation);
+    return reservation;
+  }
+
+  /**
+   * Reserva de identificadores da thread corrente. Ao ser fechada, restaura a
+   * reserva anterior, se houver.
+   *
+   * @see BaseEntity#reserveIds(int)
+   */
+  public static final class IdReservation
+    implements AutoCloseable {
+    private final long[] ids;
+    private final IdReservation previous;
+    private int position;
+
+    private IdReservation(long[] ids, IdReservation previous) {
+      this.ids = ids;
+      this.previous = previous;
+    }
+
+    /**
+     * @return <code>true</code> se ainda houver identificadores reservados
+     */
+    public boolean hasNext() {
+      return position < ids.length;
+    }
+
+    /**
+     * @return próximo identificador reservado
+     * @throws NoSuchElementException se a reserva estiver esgotada
+     */
+    public long next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("Reserva de identificadores esgotada");
+      }
+      return ids[position++];
+    }
+
+    /**
+     * @return quantidade de identificadores ainda não utilizados
+     */
+    public int remaining() {
+      return ids.length - position;
+    }
+
+    @Override
+    public void close() {
+      if (RESERVED_IDS.get() == this) {
+        if (previous == null) {
+          RESERVED_IDS.remove();
+        } else {
+          RESERVED_IDS.set(previous);
+        }
+      }
     }
   }
 
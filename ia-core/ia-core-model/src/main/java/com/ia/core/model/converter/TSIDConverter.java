@@ -20,8 +20,13 @@ import jakarta.persistence.Converter;
  *   <li>Elimina a necessidade de getters/setters customizados</li>
  * </ul>
  *
+ * <p>Como todo {@link AttributeConverter}, trafega o valor como {@link Long};
+ * para atributos lidos em grande volume, {@link TSIDUserType} evita essa
+ * conversão.
+ *
  * @author Israel Araújo
  * @see TSID
+ * @see TSIDUserType
  * @see AttributeConverter
  * @since 1.0.0
  */
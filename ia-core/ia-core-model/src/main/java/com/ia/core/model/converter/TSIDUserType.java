@@ -0,0 +1,94 @@
+package com.ia.core.model.converter;
+
+import com.ia.core.model.TSID;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Tipo Hibernate para {@link TSID} mapeado em coluna {@code BIGINT}.
+ *
+ * <p>Alternativa ao {@link TSIDConverter} para atributos lidos e gravados em
+ * grande volume: o valor trafega como {@code long} primitivo
+ * ({@link ResultSet#getLong(int)} / {@link PreparedStatement#setLong(int, long)}),
+ * sem o {@link Long} intermediário exigido por um
+ * {@link jakarta.persistence.AttributeConverter}.
+ *
+ * <p><b>Exemplo de uso:</b></p>
+ * {@code @Convert(disableConversion = true) @Type(TSIDUserType.class)
+ * private TSID codigo;}
+ *
+ * @author Israel Araújo
+ * @see TSID
+ * @see TSIDConverter
+ * @since 1.0.0
+ */
+public class TSIDUserType
+  implements UserType<TSID> {
+
+  @Override
+  public int getSqlType() {
+    return Types.BIGINT;
+  }
+
+  @Override
+  public Class<TSID> returnedClass() {
+    return TSID.class;
+  }
+
+  @Override
+  public boolean equals(TSID x, TSID y) {
+    return x == null ? y == null : x.equals(y);
+  }
+
+  @Override
+  public int hashCode(TSID x) {
+    return x.hashCode();
+  }
+
+  @Override
+  public TSID nullSafeGet(ResultSet rs, int position, WrapperOptions options)
+    throws SQLException {
+    long value = rs.getLong(position);
+    return rs.wasNull() ? null : TSID.from(value);
+  }
+
+  @Override
+  public void nullSafeSet(PreparedStatement st, TSID value, int index,
+                          WrapperOptions options)
+    throws SQLException {
+    if (value == null) {
+      st.setNull(index, Types.BIGINT);
+    } else {
+      st.setLong(index, value.toLong());
+    }
+  }
+
+  /**
+   * {@link TSID} é imutável: a própria instância é devolvida.
+   */
+  @Override
+  public TSID deepCopy(TSID value) {
+    return value;
+  }
+
+  @Override
+  public boolean isMutable() {
+    return false;
+  }
+
+  @Override
+  public Serializable disassemble(TSID value) {
+    return value;
+  }
+
+  @Override
+  public TSID assemble(Serializable cached, Object owner) {
+    return (TSID) cached;
+  }
+}
@@ -24,8 +24,6 @@ import java.util.Objects;
  */
 @SuppressWarnings({"unchecked", "rawtypes"})
 public enum Operator {
-
-
   /**
    * Operador de igualdade. Compara se o valor do campo é igual ao valor fornecido.
    *
@@ -33,22 +31,9 @@ public enum Operator {
    */
   EQUAL {
     @Override
-    public <T> Predicate build(Root<T> root, CriteriaBuilder cb,
-                               FilterRequest request, Predicate predicate,
-                               boolean disjunction) {
-      Object value = request.getFieldType().parse(request.getValue());
-      Expression<?> key = getPath(root, request.getKey());
-      Predicate newPredicate = cb.equal(key, value);
-      if (request.isNegate()) {
-        newPredicate = newPredicate.not();
-      }
-
-      if (disjunction) {
-        return cb.and(newPredicate, predicate);
-      }
-      return cb.or(cb.equal(key, value), predicate);
+    public Predicate build(Path<?> key, CriteriaBuilder cb, Object value) {
+      return cb.equal(key, value);
     }
-
   },
   /**
    * Operador de diferença. Compara se o valor do campo é diferente do valor fornecido.
@@ -57,23 +42,10 @@ public enum Operator {
    */
   NOT_EQUAL {
     @Override
-    public <T> Predicate build(Root<T> root, CriteriaBuilder cb,
-                               FilterRequest request, Predicate predicate,
-                               boolean disjunction) {
-      Object value = request.getFieldType().parse(request.getValue());
-      Expression<?> key = getPath(root, request.getKey());
-      Predicate newPredicate = cb.notEqual(key, value);
-      if (request.isNegate()) {
-        newPredicate = newPredicate.not();
-      }
-      if (disjunction) {
-        return cb.and(newPredicate, predicate);
-      }
-      return cb.or(cb.notEqual(key, value), predicate);
+    public Predicate build(Path<?> key, CriteriaBuilder cb, Object value) {
+      return cb.notEqual(key, value);
     }
-
   },
-
   /**
    * Operador de similaridade. Compara se o valor do campo contém o valor fornecido.
    *
@@ -82,28 +54,10 @@ public enum Operator {
    */
   LIKE {
     @Override
-    public <T> Predicate build(Root<T> root, CriteriaBuilder cb,
-                               FilterRequest request, Predicate predicate,
-                               boolean disjunction) {
-      Expression<String> key = getPath(root, request.getKey())
-          .as(String.class);
-      Predicate newPredicate = cb
-          .like(cb.upper(key), "%" + Objects.toString(
-                                                      request.getFieldType()
-                                                          .parse(request
-                                                              .getValue()),
-                                                      "")
-              .toUpperCase() + "%");
-      if (request.isNegate()) {
-        newPredicate = newPredicate.not();
-      }
-      if (disjunction) {
-        return cb.and(newPredicate, predicate);
-      }
-      return cb.or(newPredicate, predicate);
-
+    public Predicate build(Path<?> key, CriteriaBuilder cb, Object value) {
+      return cb.like(cb.upper(key.as(String.class)),
+                     "%" + Objects.toString(value, "").toUpperCase() + "%");
     }
-
   },
   /**
    * Operador de pertinência à lista. Compara se o valor do campo está contido
@@ -113,22 +67,11 @@ public enum Operator {
    */
   IN {
     @Override
-    public <T> Predicate build(Root<T> root, CriteriaBuilder cb,
-                               FilterRequest request, Predicate predicate,
-                               boolean disjunction) {
-      CriteriaBuilder.In<Object> inClause = cb
-          .in(getPath(root, request.getKey()));
-      inClause.value(request.getFieldType().parse(request.getValue()));
-      Predicate newPredicate = inClause;
-      if (request.isNegate()) {
-        newPredicate = newPredicate.not();
-      }
-      if (disjunction) {
-        return cb.and(newPredicate, predicate);
-      }
-      return cb.or(newPredicate, predicate);
+    public Predicate build(Path<?> key, CriteriaBuilder cb, Object value) {
+      CriteriaBuilder.In<Object> inClause = cb.in((Expression<Object>) key);
+      inClause.value(value);
+      return inClause;
     }
-
   },
   /**
    * Operador de maior que. Compara se o valor do campo é maior que o valor fornecido.
@@ -137,28 +80,10 @@ public enum Operator {
    * Funciona apenas com tipos {@link Comparable}.
    */
   GREATER_THAN {
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-
     @Override
-    public <T> Predicate build(Root<T> root, CriteriaBuilder cb,
-                               FilterRequest request, Predicate predicate,
-                               boolean disjunction) {
-      Comparable value = (Comparable) request.getFieldType()
-          .parse(request.getValue());
-      Expression<Comparable> key = (Expression<Comparable>) getPath(root,
-                                                                    request
-                                                                        .getKey());
-      Predicate newPredicate = cb.greaterThan(key, value);
-      if (request.isNegate()) {
-        newPredicate = newPredicate.not();
-      }
-      if (disjunction) {
-        return cb.and(newPredicate, predicate);
-      }
-      return cb.or(newPredicate, predicate);
-
+    public Predicate build(Path<?> key, CriteriaBuilder cb, Object value) {
+      return cb.greaterThan((Expression<Comparable>) key, (Comparable) value);
     }
-
   },
   /**
    * Operador de menor que. Compara se o valor do campo é menor que o valor fornecido.
@@ -167,21 +92,9 @@ public enum Operator {
    * Funciona apenas com tipos {@link Comparable}.
    */
   LESS_THAN {
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
-    public <T> Predicate build(Root<T> root, CriteriaBuilder cb,
-                               FilterRequest request, Predicate predicate,
-                               boolean disjunction) {
-      Comparable value = (Comparable) request.getFieldType()
-          .parse(request.getValue());
-      Expression<Comparable> key = (Expression<Comparable>) getPath(root,
-                                                                    request
-                                                                        .getKey());
-      Predicate newPredicate = cb.lessThan(key, value);
-      if (request.isNegate()) {
-        newPredicate = newPredicate.not();
-      }
-      return combinePredicate(newPredicate, predicate, disjunction, cb);
+    public Predicate build(Path<?> key, CriteriaBuilder cb, Object value) {
+      return cb.lessThan((Expression<Comparable>) key, (Comparable) value);
     }
   },
   /**
@@ -192,24 +105,10 @@ public enum Operator {
    * Funciona apenas com tipos {@link Comparable}.
    */
   GREATER_THAN_OR_EQUAL_TO {
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
-    public <T> Predicate build(Root<T> root, CriteriaBuilder cb,
-                               FilterRequest request, Predicate predicate,
-                               boolean disjunction) {
-      Comparable value = (Comparable) request.getFieldType()
-          .parse(request.getValue());
-      Expression<Comparable> key = (Expression<Comparable>) getPath(root,
-                                                                    request
-                                                                        .getKey());
-      Predicate newPredicate = cb.greaterThanOrEqualTo(key, value);
-      if (request.isNegate()) {
-        newPredicate = newPredicate.not();
-      }
-      if (disjunction) {
-        return cb.and(newPredicate, predicate);
-      }
-      return cb.or(newPredicate, predicate);
+    public Predicate build(Path<?> key, CriteriaBuilder cb, Object value) {
+      return cb.greaterThanOrEqualTo((Expression<Comparable>) key,
+                                     (Comparable) value);
     }
   },
   /**
@@ -220,29 +119,19 @@ public enum Operator {
    * Funciona apenas com tipos {@link Comparable}.
    */
   LESS_THAN_OR_EQUAL_TO {
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
-    public <T> Predicate build(Root<T> root, CriteriaBuilder cb,
-                               FilterRequest request, Predicate predicate,
-                               boolean disjunction) {
-      Comparable value = (Comparable) request.getFieldType()
-          .parse(request.getValue());
-      Expression<Comparable> key = (Expression<Comparable>) getPath(root,
-                                                                    request
-                                                                        .getKey());
-      Predicate newPredicate = cb.lessThanOrEqualTo(key, value);
-      if (request.isNegate()) {
-        newPredicate = newPredicate.not();
-      }
-      return combinePredicate(newPredicate, predicate, disjunction, cb);
+    public Predicate build(Path<?> key, CriteriaBuilder cb, Object value) {
+      return cb.lessThanOrEqualTo((Expression<Comparable>) key,
+                                  (Comparable) value);
     }
   };
 
   /**
-   * Constrói o predicado JPA para este operador.
+   * Constrói o predicado JPA para este operador e combina com o predicado
+   * anterior.
    *
-   * <p>Método abstrato que deve ser implementado por cada operador para
-   * criar o {@link Predicate} apropriado no JPA Criteria API.
+   * <p>Resolve o caminho, converte o valor pelo {@link FieldType} do filtro e
+   * aplica a negação antes de combinar.
    *
    * @param <T>         Tipo da entidade
    * @param root        Raiz da consulta (from clause)
@@ -252,10 +141,44 @@ public enum Operator {
    * @param disjunction Se {@code true}, usa disjunção (OR), senão conjunção (AND)
    * @return O {@link Predicate} resultante da aplicação do operador
    */
-  public abstract <T> Predicate build(Root<T> root, CriteriaBuilder cb,
-                                      FilterRequest request,
-                                      Predicate predicate,
-                                      boolean disjunction);
+  public <T> Predicate build(Root<T> root, CriteriaBuilder cb,
+                             FilterRequest request, Predicate predicate,
+                             boolean disjunction) {
+    Predicate newPredicate = build(getPath(root, request.getKey()), cb,
+                                   request.getFieldType(), request.getValue(),
+                                   request.isNegate());
+    return combinePredicate(newPredicate, predicate, disjunction, cb);
+  }
+
+  /**
+   * Constrói o predicado deste operador sobre um caminho já resolvido.
+   *
+   * @param key       Caminho do atributo
+   * @param cb        Construtor de critérios do JPA
+   * @param fieldType Tipo do campo, usado na conversão do valor
+   * @param value     Valor bruto do filtro
+   * @param negate    Se {@code true}, nega o predicado
+   * @return O {@link Predicate} do operador, sem composição
+   */
+  public Predicate build(Path<?> key, CriteriaBuilder cb, FieldType fieldType,
+                         Object value, boolean negate) {
+    Predicate predicate = build(key, cb, fieldType.parse(value));
+    return negate ? predicate.not() : predicate;
+  }
+
+  /**
+   * Constrói o predicado deste operador para um valor já convertido.
+   *
+   * <p>Método abstrato que deve ser implementado por cada operador para
+   * criar o {@link Predicate} apropriado no JPA Criteria API.
+   *
+   * @param key   Caminho do atributo
+   * @param cb    Construtor de critérios do JPA
+   * @param value Valor convertido
+   * @return O {@link Predicate} do operador
+   */
+  public abstract Predicate build(Path<?> key, CriteriaBuilder cb,
+                                  Object value);
 
   /**
    * Obtém o {@link Path} para um atributo, suportando caminhos compostos.
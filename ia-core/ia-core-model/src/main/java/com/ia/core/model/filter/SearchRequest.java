@@ -104,6 +104,20 @@ public class SearchRequest
   @Builder.Default
   private boolean disjunction = true;
 
+  /**
+   * Indica a paginação por chave (keyset): em vez de deslocamento, a busca
+   * continua a partir do {@link #cursor}, ordenando pelas chaves de
+   * {@link #sorts} seguidas do {@code id}.
+   */
+  @Builder.Default
+  private boolean keyset = false;
+
+  /**
+   * Cursor opaco da paginação por chave, devolvido na fatia anterior.
+   * {@code null} para a primeira fatia.
+   */
+  private String cursor;
+
   /**
    * Obtém a lista de filtros da requisição.
    *
@@ -1,6 +1,7 @@
 package com.ia.core.model.filter;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
@@ -24,9 +25,8 @@ public enum SortDirection {
    */
   ASC {
     @Override
-    public <T> Order build(Root<T> root, CriteriaBuilder cb,
-                           SortRequest request) {
-      return cb.asc(getPath(root, request.getKey()));
+    public Order build(Expression<?> key, CriteriaBuilder cb) {
+      return cb.asc(key);
     }
   },
   /**
@@ -36,9 +36,8 @@ public enum SortDirection {
    */
   DESC {
     @Override
-    public <T> Order build(Root<T> root, CriteriaBuilder cb,
-                           SortRequest request) {
-      return cb.desc(getPath(root, request.getKey()));
+    public Order build(Expression<?> key, CriteriaBuilder cb) {
+      return cb.desc(key);
     }
   };
 
@@ -51,8 +50,19 @@ public enum SortDirection {
    * @param request Requisição de ordenação
    * @return A {@link Order} resultante
    */
-  public abstract <T> Order build(Root<T> root, CriteriaBuilder cb,
-                                  SortRequest request);
+  public <T> Order build(Root<T> root, CriteriaBuilder cb,
+                         SortRequest request) {
+    return build(getPath(root, request.getKey()), cb);
+  }
+
+  /**
+   * Constrói a ordenação JPA desta direção sobre um caminho já resolvido.
+   *
+   * @param key Caminho do atributo
+   * @param cb  Construtor de critérios do JPA
+   * @return A {@link Order} resultante
+   */
+  public abstract Order build(Expression<?> key, CriteriaBuilder cb);
 
   /**
    * Obtém o {@link Path} para um atributo, suportando caminhos compostos.
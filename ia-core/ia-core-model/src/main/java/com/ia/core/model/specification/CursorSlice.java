@@ -0,0 +1,79 @@
+package com.ia.core.model.specification;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Fatia de uma busca paginada por chave (keyset), com o cursor opaco para a
+ * fatia seguinte.
+ * <p>
+ * Diferentemente de uma {@link org.springframework.data.domain.Page}, não há
+ * contagem total nem número de página: para continuar a busca, o cliente
+ * reenvia a mesma requisição com {@link #getNextCursor()}.
+ *
+ * @param <T> tipo dos elementos
+ * @author Israel Araújo
+ * @see KeysetCursor
+ * @since 1.0.0
+ */
+public class CursorSlice<T>
+  extends SliceImpl<T> {
+
+  private static final long serialVersionUID = 2417309462105389174L;
+
+  private final String nextCursor;
+
+  /**
+   * @param content    elementos da fatia
+   * @param size       tamanho solicitado
+   * @param hasNext    se há elementos depois desta fatia
+   * @param nextCursor cursor da fatia seguinte; {@code null} se não houver
+   */
+  public CursorSlice(List<T> content, int size, boolean hasNext,
+                     String nextCursor) {
+    this(content, Pageable.ofSize(Math.max(size, 1)), hasNext, nextCursor);
+  }
+
+  private CursorSlice(List<T> content, Pageable pageable, boolean hasNext,
+                      String nextCursor) {
+    super(content, pageable, hasNext);
+    this.nextCursor = nextCursor;
+  }
+
+  /**
+   * @param <T>  tipo dos elementos
+   * @param size tamanho solicitado
+   * @return fatia vazia, sem continuação
+   */
+  public static <T> CursorSlice<T> empty(int size) {
+    return new CursorSlice<>(List.of(), size, false, null);
+  }
+
+  /**
+   * @return cursor da fatia seguinte; {@code null} se esta for a última
+   */
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  @Override
+  public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+    return new CursorSlice<>(getConvertedContent(converter), getPageable(),
+                             hasNext(), nextCursor);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return this == obj || obj instanceof CursorSlice<?> other
+        && super.equals(other) && Objects.equals(nextCursor, other.nextCursor);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + Objects.hashCode(nextCursor);
+  }
+}
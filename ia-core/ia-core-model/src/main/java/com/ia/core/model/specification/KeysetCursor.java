@@ -0,0 +1,218 @@
+package com.ia.core.model.specification;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cursor da paginação por chave (keyset/seek): os valores das chaves de
+ * ordenação, mais o {@code id}, do último registro de uma fatia.
+ * <p>
+ * A forma serializada ({@link #encode()}) é opaca para o cliente: os valores
+ * são gravados como texto, separados por tabulação, e codificados em Base64
+ * seguro para URL. Os tipos não são gravados; na decodificação cada valor é
+ * convertido para o tipo Java do atributo correspondente
+ * ({@link #value(int, Class)}).
+ *
+ * @author Israel Araújo
+ * @see PredicatePlan
+ * @see CursorSlice
+ * @since 1.0.0
+ */
+public final class KeysetCursor {
+
+  private static final char SEPARATOR = '\t';
+  private static final char ESCAPE = '\\';
+  private static final char NULL = '~';
+
+  private final List<String> values;
+
+  private KeysetCursor(List<String> values) {
+    this.values = Collections.unmodifiableList(values);
+  }
+
+  /**
+   * Lê as chaves de um registro.
+   *
+   * @param row  registro (entidade)
+   * @param keys chaves, possivelmente compostas ({@code endereco.cidade})
+   * @return cursor posicionado no registro
+   */
+  public static KeysetCursor of(Object row, List<String> keys) {
+    BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+    List<String> values = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      values.add(toText(wrapper.getPropertyValue(key)));
+    }
+    return new KeysetCursor(values);
+  }
+
+  /**
+   * Lê um cursor serializado por {@link #encode()}.
+   *
+   * @param token cursor serializado
+   * @return cursor
+   * @throws IllegalArgumentException se o cursor for inválido
+   */
+  public static KeysetCursor decode(String token) {
+    String text;
+    try {
+      text = new String(Base64.getUrlDecoder().decode(token),
+                        StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Cursor de paginação inválido", e);
+    }
+    List<String> values = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean isNull = false;
+    for (int i = 0; i <= text.length(); i++) {
+      char c = i < text.length() ? text.charAt(i) : SEPARATOR;
+      if (c == SEPARATOR) {
+        values.add(isNull ? null : field.toString());
+        field.setLength(0);
+        isNull = false;
+      } else if (c == ESCAPE && i + 1 < text.length()) {
+        char escaped = text.charAt(++i);
+        field.append(escaped == 't' ? SEPARATOR : escaped);
+      } else if (c == NULL && field.isEmpty()) {
+        isNull = true;
+      } else {
+        field.append(c);
+      }
+    }
+    return new KeysetCursor(values);
+  }
+
+  /**
+   * @return cursor serializado
+   */
+  public String encode() {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        text.append(SEPARATOR);
+      }
+      String value = values.get(i);
+      if (value == null) {
+        text.append(NULL);
+        continue;
+      }
+      for (int j = 0; j < value.length(); j++) {
+        char c = value.charAt(j);
+        if (c == SEPARATOR) {
+          text.append(ESCAPE).append('t');
+        } else if (c == ESCAPE || (c == NULL && j == 0)) {
+          text.append(ESCAPE).append(c);
+        } else {
+          text.append(c);
+        }
+      }
+    }
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(text.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return quantidade de valores
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * Converte o valor de uma posição para o tipo do atributo.
+   *
+   * @param index posição
+   * @param type  tipo Java do atributo
+   * @return valor convertido, ou {@code null}
+   * @throws IllegalArgumentException se o valor não puder ser convertido
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public Object value(int index, Class<?> type) {
+    String text = values.get(index);
+    if (text == null || type == String.class) {
+      return text;
+    }
+    try {
+      if (type == Long.class || type == long.class) {
+        return Long.valueOf(text);
+      }
+      if (type == Integer.class || type == int.class) {
+        return Integer.valueOf(text);
+      }
+      if (type == Short.class || type == short.class) {
+        return Short.valueOf(text);
+      }
+      if (type == Double.class || type == double.class) {
+        return Double.valueOf(text);
+      }
+      if (type == Float.class || type == float.class) {
+        return Float.valueOf(text);
+      }
+      if (type == Boolean.class || type == boolean.class) {
+        return Boolean.valueOf(text);
+      }
+      if (type == BigDecimal.class) {
+        return new BigDecimal(text);
+      }
+      if (type == BigInteger.class) {
+        return new BigInteger(text);
+      }
+      if (type == LocalDate.class) {
+        return LocalDate.parse(text);
+      }
+      if (type == LocalDateTime.class) {
+        return LocalDateTime.parse(text);
+      }
+      if (type == LocalTime.class) {
+        return LocalTime.parse(text);
+      }
+      if (type == Instant.class) {
+        return Instant.parse(text);
+      }
+      if (type == OffsetDateTime.class) {
+        return OffsetDateTime.parse(text);
+      }
+      if (type == ZonedDateTime.class) {
+        return ZonedDateTime.parse(text);
+      }
+      if (type == UUID.class) {
+        return UUID.fromString(text);
+      }
+      if (type.isEnum()) {
+        return Enum.valueOf((Class<? extends Enum>) type, text);
+      }
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Cursor de paginação inválido", e);
+    }
+    throw new IllegalArgumentException("Tipo não suportado na paginação por cursor: "
+        + type.getName());
+  }
+
+  private static String toText(Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Enum<?> constant) {
+      return constant.name();
+    }
+    if (value instanceof BigDecimal decimal) {
+      return decimal.toPlainString();
+    }
+    return value.toString();
+  }
+}
@@ -0,0 +1,292 @@
+package com.ia.core.model.specification;
+
+import com.ia.core.model.filter.FieldType;
+import com.ia.core.model.filter.FilterRequest;
+import com.ia.core.model.filter.Operator;
+import com.ia.core.model.filter.SearchRequest;
+import com.ia.core.model.filter.SortDirection;
+import com.ia.core.model.filter.SortRequest;
+import com.ia.core.model.util.BoundedCache;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plano compilado de uma busca, obtido a partir do "formato" de um
+ * {@link SearchRequest}: chaves, operadores, tipos de campo, negações,
+ * ordenações e o modo de combinação, sem os valores.
+ *
+ * <p>Requisições com o mesmo formato (por exemplo, o mesmo filtro de grid com
+ * valores diferentes) compartilham o plano, que guarda os caminhos já
+ * decompostos e os operadores resolvidos. A cada consulta o plano apenas
+ * resolve cada caminho distinto uma única vez na {@link Root} e associa os
+ * valores, que o provedor JPA envia como parâmetros.
+ *
+ * <p>Os predicados são combinados diretamente com
+ * {@link CriteriaBuilder#and(Predicate...)} ou
+ * {@link CriteriaBuilder#or(Predicate...)}, sem o predicado literal inicial,
+ * de modo que requisições com o mesmo formato geram o mesmo SQL e aproveitam
+ * o cache de comandos do banco.
+ *
+ * <p>Na paginação por chave ({@link SearchRequest#isKeyset()}) o plano ordena
+ * pelas chaves de ordenação seguidas do {@code id} (crescente, como desempate)
+ * e, havendo cursor, acrescenta o predicado de busca pela posição:
+ * {@code (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...}, com a comparação
+ * invertida nas chaves descendentes. As chaves devem ser não nulas.
+ *
+ * @author Israel Araújo
+ * @see SearchSpecification
+ * @since 1.0.0
+ */
+public final class PredicatePlan {
+
+  /** Quantidade máxima de formatos mantidos em cache */
+  static final int MAX_PLANS = 1024;
+
+  private static final BoundedCache<String, PredicatePlan> PLANS = new BoundedCache<>(MAX_PLANS);
+
+  private static final char FIELD_SEPARATOR = '\u0000';
+  private static final char ITEM_SEPARATOR = '\u0001';
+  private static final char SECTION_SEPARATOR = '\u0002';
+
+  /** Chave de desempate da paginação por chave */
+  static final String ID = "id";
+
+  /**
+   * Filtro compilado.
+   */
+  private record Step(String key, String[] path, Operator operator,
+                      FieldType fieldType, boolean negate) {
+
+    Predicate build(Root<?> root, CriteriaBuilder cb, Object value,
+                    Map<String, Path<?>> paths) {
+      return operator.build(resolve(root, key, path, paths), cb, fieldType,
+                            value, negate);
+    }
+  }
+
+  /**
+   * Ordenação compilada.
+   */
+  private record SortStep(String key, String[] path, SortDirection direction) {
+
+    Order build(Root<?> root, CriteriaBuilder cb, Map<String, Path<?>> paths) {
+      return direction.build(resolve(root, key, path, paths), cb);
+    }
+  }
+
+  private final boolean disjunction;
+  private final boolean keyset;
+  private final List<Step> filters;
+  private final List<Step> context;
+  private final List<SortStep> sorts;
+  private final List<String> keysetKeys;
+
+  private PredicatePlan(SearchRequest request) {
+    this.disjunction = request.isDisjunction();
+    this.keyset = request.isKeyset();
+    this.filters = compile(request.getFilters());
+    this.context = compile(request.getContext());
+    List<SortStep> sortSteps = new ArrayList<>();
+    boolean sortedById = false;
+    for (SortRequest sort : request.getSorts()) {
+      sortSteps.add(new SortStep(sort.getKey(), split(sort.getKey()),
+                                 sort.getDirection()));
+      sortedById |= ID.equals(sort.getKey());
+    }
+    if (keyset && !sortedById) {
+      sortSteps.add(new SortStep(ID, new String[] { ID }, SortDirection.ASC));
+    }
+    this.sorts = List.copyOf(sortSteps);
+    this.keysetKeys = keyset ? sorts.stream().map(SortStep::key).toList()
+        : List.of();
+  }
+
+  /**
+   * Obtém o plano do formato da requisição, compilando-o na primeira vez.
+   *
+   * @param request requisição de busca
+   * @return plano compartilhado por todas as requisições com o mesmo formato
+   */
+  public static PredicatePlan of(SearchRequest request) {
+    return PLANS.computeIfAbsent(shape(request),
+                                 key -> new PredicatePlan(request));
+  }
+
+  /**
+   * @return chaves do cursor da paginação por chave, na ordem de comparação;
+   *         vazio fora desse modo
+   */
+  public List<String> getKeysetKeys() {
+    return keysetKeys;
+  }
+
+  /**
+   * @return cache de planos, para métricas e testes
+   */
+  static BoundedCache<String, PredicatePlan> plans() {
+    return PLANS;
+  }
+
+  /**
+   * Aplica o plano a uma consulta, associando os valores da requisição.
+   *
+   * @param <T>     tipo da entidade
+   * @param request requisição com o mesmo formato do plano
+   * @param root    raiz da consulta
+   * @param query   consulta, que recebe a ordenação
+   * @param cb      construtor de critérios
+   * @return predicado da busca; {@code null} se não houver restrição
+   */
+  public <T> Predicate apply(SearchRequest request, Root<T> root,
+                             CriteriaQuery<?> query, CriteriaBuilder cb) {
+    Map<String, Path<?>> paths = new HashMap<>();
+
+    Predicate predicate = null;
+    if (!filters.isEmpty()) {
+      Predicate[] predicates = bind(filters, request.getFilters(), root, cb,
+                                    paths, 0);
+      // Mesma semântica do encadeamento por Operator#build: com disjunção os
+      // filtros são combinados com AND, senão com OR
+      predicate = disjunction ? cb.and(predicates) : cb.or(predicates);
+    } else if (!disjunction) {
+      // OR sem termos: nenhum registro
+      predicate = cb.disjunction();
+    }
+
+    if (!context.isEmpty()) {
+      int offset = predicate == null ? 0 : 1;
+      Predicate[] predicates = bind(context, request.getContext(), root, cb,
+                                    paths, offset);
+      if (predicate != null) {
+        predicates[0] = predicate;
+      }
+      predicate = cb.and(predicates);
+    }
+
+    if (keyset && request.getCursor() != null) {
+      Predicate seek = seek(KeysetCursor.decode(request.getCursor()), root,
+                            cb, paths);
+      predicate = predicate == null ? seek : cb.and(predicate, seek);
+    }
+
+    List<Order> orders = new ArrayList<>(sorts.size());
+    for (SortStep sort : sorts) {
+      orders.add(sort.build(root, cb, paths));
+    }
+    query.orderBy(orders);
+    return predicate;
+  }
+
+  /**
+   * Predicado das linhas posteriores ao cursor na ordenação do plano.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private Predicate seek(KeysetCursor cursor, Root<?> root, CriteriaBuilder cb,
+                         Map<String, Path<?>> paths) {
+    if (cursor.size() != sorts.size()) {
+      throw new IllegalArgumentException("Cursor de paginação incompatível com a ordenação");
+    }
+    Expression[] keys = new Expression[sorts.size()];
+    Object[] values = new Object[sorts.size()];
+    Predicate[] alternatives = new Predicate[sorts.size()];
+    for (int i = 0; i < sorts.size(); i++) {
+      SortStep sort = sorts.get(i);
+      keys[i] = resolve(root, sort.key(), sort.path(), paths);
+      values[i] = cursor.value(i, keys[i].getJavaType());
+      Predicate[] terms = new Predicate[i + 1];
+      for (int j = 0; j < i; j++) {
+        terms[j] = cb.equal(keys[j], values[j]);
+      }
+      terms[i] = sort.direction() == SortDirection.DESC
+          ? cb.lessThan(keys[i], (Comparable) values[i])
+          : cb.greaterThan(keys[i], (Comparable) values[i]);
+      alternatives[i] = i == 0 ? terms[0] : cb.and(terms);
+    }
+    return alternatives.length == 1 ? alternatives[0] : cb.or(alternatives);
+  }
+
+  /**
+   * Monta o formato da requisição: tudo o que determina o plano, exceto os
+   * valores.
+   *
+   * @param request requisição de busca
+   * @return chave do formato
+   */
+  static String shape(SearchRequest request) {
+    StringBuilder shape = new StringBuilder(64);
+    shape.append(request.isDisjunction() ? 'D' : 'C');
+    shape.append(request.isKeyset() ? 'K' : 'O');
+    appendShape(shape, request.getFilters());
+    appendShape(shape, request.getContext());
+    shape.append(SECTION_SEPARATOR);
+    for (SortRequest sort : request.getSorts()) {
+      shape.append(sort.getKey()).append(FIELD_SEPARATOR)
+          .append(sort.getDirection()).append(ITEM_SEPARATOR);
+    }
+    return shape.toString();
+  }
+
+  private static void appendShape(StringBuilder shape,
+                                  List<FilterRequest> filters) {
+    shape.append(SECTION_SEPARATOR);
+    for (FilterRequest filter : filters) {
+      shape.append(filter.getKey()).append(FIELD_SEPARATOR)
+          .append(filter.getOperator()).append(FIELD_SEPARATOR)
+          .append(filter.getFieldType()).append(FIELD_SEPARATOR)
+          .append(filter.isNegate() ? '!' : '=').append(ITEM_SEPARATOR);
+    }
+  }
+
+  private static List<Step> compile(List<FilterRequest> filters) {
+    List<Step> steps = new ArrayList<>(filters.size());
+    for (FilterRequest filter : filters) {
+      steps.add(new Step(filter.getKey(), split(filter.getKey()),
+                         filter.getOperator(), filter.getFieldType(),
+                         filter.isNegate()));
+    }
+    return List.copyOf(steps);
+  }
+
+  private static Predicate[] bind(List<Step> steps,
+                                  List<FilterRequest> values, Root<?> root,
+                                  CriteriaBuilder cb,
+                                  Map<String, Path<?>> paths, int offset) {
+    Predicate[] predicates = new Predicate[steps.size() + offset];
+    for (int i = 0; i < steps.size(); i++) {
+      predicates[i + offset] = steps.get(i)
+          .build(root, cb, values.get(i).getValue(), paths);
+    }
+    return predicates;
+  }
+
+  private static String[] split(String key) {
+    return key.split("\\.");
+  }
+
+  /**
+   * Resolve o caminho uma única vez por consulta, de modo que filtros e
+   * ordenações sobre a mesma chave compartilham as junções implícitas.
+   */
+  private static Path<?> resolve(Root<?> root, String key, String[] path,
+                                 Map<String, Path<?>> paths) {
+    Path<?> resolved = paths.get(key);
+    if (resolved == null) {
+      resolved = root;
+      for (String part : path) {
+        resolved = resolved.get(part);
+      }
+      paths.put(key, resolved);
+    }
+    return resolved;
+  }
+}
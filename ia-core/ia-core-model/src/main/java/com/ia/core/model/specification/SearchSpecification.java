@@ -2,15 +2,15 @@ package com.ia.core.model.specification;
 
 import com.ia.core.model.filter.FilterRequest;
 import com.ia.core.model.filter.SearchRequest;
-import com.ia.core.model.filter.SortRequest;
-import jakarta.persistence.criteria.*;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,7 +18,9 @@ import java.util.Optional;
  *
  * <p>Esta classe delega a construção de predicados ao enum {@link com.ia.core.model.filter.Operator}.
  * Esta abordagem respeita a estratégia encapsulada em cada operador e mantém a coesão:
- * cada operador conhece sua própria lógica de construção.
+ * cada operador conhece sua própria lógica de construção. A sequência de
+ * operadores, caminhos e ordenações é compilada num {@link PredicatePlan}
+ * reaproveitado entre requisições com o mesmo formato.
  *
  * <p><b>Por quê usar SearchSpecification?</b></p>
  * <ul>
@@ -83,41 +85,27 @@ public class SearchSpecification<T>
                           Optional.ofNullable(size).orElse(100));
   }
 
+  /**
+   * Constrói o predicado pelo {@link PredicatePlan} do formato da requisição,
+   * compilado uma única vez para todas as requisições com as mesmas chaves,
+   * operadores, tipos e ordenações.
+   */
   @Override
   public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query,
                                CriteriaBuilder cb) {
-    // Inicializa predicate com disjunção padrão
-    Predicate predicate = cb.equal(cb.literal(Boolean.TRUE),
-                                   request.isDisjunction());
-
-    // Aplica filtros normais através do enum Operator
-    if (request.getFilters() != null) {
-      for (FilterRequest filter : this.request.getFilters()) {
-        predicate = filter.getOperator().build(root, cb, filter, predicate,
-                                               request.isDisjunction());
-      }
-    }
-
-    // Aplica contexto (ex.: segurança) também via operador
-    if (request.getContext() != null) {
-      for (FilterRequest context : this.request.getContext()) {
-        predicate = cb.and(predicate,
-                           context.getOperator()
-                               .build(root, cb, context, cb
-                                   .equal(cb.literal(Boolean.TRUE), true),
-                                      true));
-      }
-    }
-
-    // Ordenação
-    List<Order> orders = new ArrayList<>();
-    if (this.request.getSorts() != null) {
-      for (SortRequest sort : this.request.getSorts()) {
-        orders.add(sort.getDirection().build(root, cb, sort));
-      }
-    }
+    return PredicatePlan.of(request).apply(request, root, query, cb);
+  }
 
-    query.orderBy(orders);
-    return predicate;
+  /**
+   * Cursor da paginação por chave posicionado num registro, normalmente o
+   * último da fatia retornada.
+   *
+   * @param last registro
+   * @return cursor opaco para a fatia seguinte
+   * @see SearchRequest#isKeyset()
+   */
+  public String nextCursor(T last) {
+    return KeysetCursor.of(last, PredicatePlan.of(request).getKeysetKeys())
+        .encode();
   }
 }
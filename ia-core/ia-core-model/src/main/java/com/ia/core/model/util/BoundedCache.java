@@ -0,0 +1,348 @@
+package com.ia.core.model.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Cache em memória limitado por tamanho (LRU) e, opcionalmente, por tempo de
+ * vida.
+ * <p>
+ * Entradas excedentes são descartadas na ordem do acesso menos recente e
+ * entradas expiradas são descartadas na próxima consulta. Os contadores de
+ * acertos, faltas e descartes ficam disponíveis para exposição como métricas.
+ * <p>
+ * A carga de valores em {@link #computeIfAbsent(Object, Function)} é feita
+ * fora da seção crítica, de modo que carregamentos lentos não bloqueiam as
+ * demais chaves. Carregamentos concorrentes da mesma chave podem ocorrer; o
+ * primeiro valor armazenado prevalece.
+ *
+ * @author Israel Araújo
+ * @param <K> tipo da chave
+ * @param <V> tipo do valor
+ * @since 1.0.0
+ */
+public class BoundedCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final BiConsumer<? super K, ? super V> evictionListener;
+  private final LinkedHashMap<K, Entry<V>> entries;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Cria um cache limitado apenas por tamanho.
+   *
+   * @param maxSize número máximo de entradas
+   */
+  public BoundedCache(int maxSize) {
+    this(maxSize, null, null);
+  }
+
+  /**
+   * Cria um cache limitado por tamanho e tempo de vida.
+   *
+   * @param maxSize número máximo de entradas
+   * @param ttl tempo de vida das entradas ({@code null} ou zero para não
+   *          expirar)
+   */
+  public BoundedCache(int maxSize, Duration ttl) {
+    this(maxSize, ttl, null);
+  }
+
+  /**
+   * Cria um cache limitado por tamanho e tempo de vida, notificando os
+   * descartes.
+   *
+   * @param maxSize número máximo de entradas
+   * @param ttl tempo de vida das entradas ({@code null} ou zero para não
+   *          expirar)
+   * @param evictionListener ouvinte chamado para cada entrada descartada por
+   *          tamanho, expiração ou remoção explícita (pode ser {@code null})
+   */
+  public BoundedCache(int maxSize, Duration ttl,
+                      BiConsumer<? super K, ? super V> evictionListener) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize deve ser positivo: "
+          + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl == null || ttl.isZero() || ttl.isNegative() ? 0
+                                                                  : ttl.toNanos();
+    this.evictionListener = evictionListener;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Retorna o valor associado à chave, se presente e não expirado.
+   *
+   * @param key a chave
+   * @return o valor ou {@code null}
+   */
+  public V get(K key) {
+    Entry<V> expired = null;
+    V value = null;
+    synchronized (entries) {
+      Entry<V> entry = entries.get(key);
+      if (entry != null) {
+        if (isExpired(entry)) {
+          entries.remove(key);
+          expired = entry;
+        } else {
+          value = entry.value;
+        }
+      }
+    }
+    if (value != null) {
+      hits.increment();
+    } else {
+      misses.increment();
+    }
+    if (expired != null) {
+      notifyEviction(key, expired.value, true);
+    }
+    return value;
+  }
+
+  /**
+   * Retorna o valor associado à chave, carregando-o quando ausente.
+   *
+   * @param key a chave
+   * @param loader função de carga; um retorno {@code null} não é armazenado
+   * @return o valor armazenado ou carregado
+   */
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+    V value = get(key);
+    if (value != null) {
+      return value;
+    }
+    V loaded = loader.apply(key);
+    if (loaded == null) {
+      return null;
+    }
+    return putIfAbsent(key, loaded);
+  }
+
+  /**
+   * Armazena um valor, substituindo o anterior.
+   *
+   * @param key a chave
+   * @param value o valor (não nulo)
+   */
+  public void put(K key, V value) {
+    Objects.requireNonNull(value, "value");
+    List<Map.Entry<K, V>> removed;
+    Entry<V> previous;
+    synchronized (entries) {
+      previous = entries.put(key, new Entry<>(value, expiresAt()));
+      removed = trim();
+    }
+    if (previous != null && previous.value != value) {
+      notifyEviction(key, previous.value, false);
+    }
+    notifyEvictions(removed, true);
+  }
+
+  /**
+   * Armazena um valor apenas se não houver outro válido para a chave.
+   *
+   * @param key a chave
+   * @param value o valor (não nulo)
+   * @return o valor efetivamente associado à chave
+   */
+  public V putIfAbsent(K key, V value) {
+    Objects.requireNonNull(value, "value");
+    List<Map.Entry<K, V>> removed;
+    V current;
+    synchronized (entries) {
+      Entry<V> entry = entries.get(key);
+      if (entry != null && !isExpired(entry)) {
+        return entry.value;
+      }
+      entries.put(key, new Entry<>(value, expiresAt()));
+      current = value;
+      removed = trim();
+      if (entry != null) {
+        removed.add(Map.entry(key, entry.value));
+      }
+    }
+    notifyEvictions(removed, true);
+    return current;
+  }
+
+  /**
+   * Remove a entrada associada à chave.
+   *
+   * @param key a chave
+   * @return o valor removido ou {@code null}
+   */
+  public V remove(K key) {
+    Entry<V> entry;
+    synchronized (entries) {
+      entry = entries.remove(key);
+    }
+    if (entry == null) {
+      return null;
+    }
+    notifyEviction(key, entry.value, false);
+    return entry.value;
+  }
+
+  /**
+   * Remove as entradas que satisfazem o predicado.
+   *
+   * @param predicate o predicado sobre chave e valor
+   * @return número de entradas removidas
+   */
+  public int removeIf(BiPredicate<? super K, ? super V> predicate) {
+    List<Map.Entry<K, V>> removed = new ArrayList<>();
+    synchronized (entries) {
+      Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+      while (it.hasNext()) {
+        Map.Entry<K, Entry<V>> e = it.next();
+        if (predicate.test(e.getKey(), e.getValue().value)) {
+          it.remove();
+          removed.add(Map.entry(e.getKey(), e.getValue().value));
+        }
+      }
+    }
+    notifyEvictions(removed, false);
+    return removed.size();
+  }
+
+  /**
+   * Remove as entradas expiradas.
+   *
+   * @return número de entradas removidas
+   */
+  public int purgeExpired() {
+    if (ttlNanos == 0) {
+      return 0;
+    }
+    List<Map.Entry<K, V>> removed = new ArrayList<>();
+    synchronized (entries) {
+      Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+      while (it.hasNext()) {
+        Map.Entry<K, Entry<V>> e = it.next();
+        if (isExpired(e.getValue())) {
+          it.remove();
+          removed.add(Map.entry(e.getKey(), e.getValue().value));
+        }
+      }
+    }
+    notifyEvictions(removed, true);
+    return removed.size();
+  }
+
+  /**
+   * Remove todas as entradas.
+   */
+  public void clear() {
+    List<Map.Entry<K, V>> removed = new ArrayList<>();
+    synchronized (entries) {
+      entries.forEach((k, e) -> removed.add(Map.entry(k, e.value)));
+      entries.clear();
+    }
+    notifyEvictions(removed, false);
+  }
+
+  /**
+   * @return número de entradas armazenadas (incluindo expiradas ainda não
+   *         descartadas)
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * @return número máximo de entradas
+   */
+  public int maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @return número de consultas atendidas pelo cache
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return número de consultas não atendidas pelo cache
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return número de entradas descartadas por tamanho ou expiração
+   */
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Retorna o instante atual em nanossegundos. Pode ser sobrescrito em testes.
+   *
+   * @return instante atual
+   */
+  protected long now() {
+    return System.nanoTime();
+  }
+
+  private long expiresAt() {
+    return ttlNanos == 0 ? Long.MAX_VALUE : now() + ttlNanos;
+  }
+
+  private boolean isExpired(Entry<V> entry) {
+    return entry.expiresAt != Long.MAX_VALUE && now() - entry.expiresAt >= 0;
+  }
+
+  private List<Map.Entry<K, V>> trim() {
+    List<Map.Entry<K, V>> removed = new ArrayList<>();
+    Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+    while (entries.size() > maxSize && it.hasNext()) {
+      Map.Entry<K, Entry<V>> eldest = it.next();
+      it.remove();
+      removed.add(Map.entry(eldest.getKey(), eldest.getValue().value));
+    }
+    return removed;
+  }
+
+  private void notifyEvictions(List<Map.Entry<K, V>> removed,
+                               boolean counted) {
+    for (Map.Entry<K, V> e : removed) {
+      notifyEviction(e.getKey(), e.getValue(), counted);
+    }
+  }
+
+  private void notifyEviction(K key, V value, boolean counted) {
+    if (counted) {
+      evictions.increment();
+    }
+    if (evictionListener != null) {
+      evictionListener.accept(key, value);
+    }
+  }
+
+  /**
+   * Entrada armazenada com o instante de expiração.
+   *
+   * @param <V> tipo do valor
+   */
+  private record Entry<V>(V value, long expiresAt) {
+  }
+}
@@ -0,0 +1,56 @@
+package com.ia.core.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BaseEntity")
+class BaseEntityTest {
+
+    @SuppressWarnings("serial")
+    static class Entidade extends BaseEntity {
+    }
+
+    @Test
+    @DisplayName("Deve manter o identificador já atribuído")
+    void deveManterIdentificadorAtribuido() {
+        Entidade entidade = new Entidade();
+        entidade.setId(42L);
+        entidade.generateIdIfAbsent();
+        assertThat(entidade.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Deve usar os identificadores reservados na ordem de persistência")
+    void deveUsarIdentificadoresReservados() {
+        Entidade primeira = new Entidade();
+        Entidade segunda = new Entidade();
+        Entidade terceira = new Entidade();
+        try (var ids = BaseEntity.reserveIds(2)) {
+            primeira.generateIdIfAbsent();
+            segunda.generateIdIfAbsent();
+            assertThat(ids.remaining()).isZero();
+            // Esgotada a reserva, volta a gerar um a um
+            terceira.generateIdIfAbsent();
+        }
+        assertThat(segunda.getId()).isGreaterThan(primeira.getId());
+        assertThat(terceira.getId()).isGreaterThan(segunda.getId());
+    }
+
+    @Test
+    @DisplayName("Deve restaurar a reserva anterior ao fechar uma reserva aninhada")
+    void deveRestaurarReservaAnterior() {
+        Entidade entidade = new Entidade();
+        try (var externa = BaseEntity.reserveIds(1)) {
+            try (var interna = BaseEntity.reserveIds(1)) {
+                assertThat(interna.remaining()).isEqualTo(1);
+            }
+            entidade.generateIdIfAbsent();
+            assertThat(externa.remaining()).isZero();
+        }
+        Entidade semReserva = new Entidade();
+        semReserva.generateIdIfAbsent();
+        assertThat(semReserva.getId()).isNotNull();
+    }
+}
@@ -0,0 +1,156 @@
+package com.ia.core.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TSID.Factory")
+class TSIDFactoryTest {
+
+    private static final int NODE = 7;
+
+    private static TSID.Factory lockFree(Clock clock) {
+        return TSID.Factory.builder().withNodeBits(TSID.Factory.NODE_BITS_4096)
+            .withNode(NODE).withClock(clock).withLockFree(true).build();
+    }
+
+    @Nested
+    @DisplayName("modo sem bloqueio")
+    class SemBloqueio {
+
+        @Test
+        @DisplayName("Deve gerar identificadores crescentes com o nó configurado")
+        void deveGerarCrescentes() {
+            TSID.Factory factory = lockFree(Clock.systemUTC());
+            long anterior = 0;
+            for (int i = 0; i < 10_000; i++) {
+                TSID tsid = factory.generate();
+                assertThat(tsid.toLong()).isGreaterThan(anterior);
+                assertThat((tsid.getRandom() >>> 10) & 0xfff).isEqualTo(NODE);
+                anterior = tsid.toLong();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve manter a monotonicidade com o relógio parado ou retrocedendo")
+        void deveManterMonotonicidadeComRelogioParado() {
+            Instant instante = Instant.parse("2025-01-01T00:00:00Z");
+            Clock[] relogio = { Clock.fixed(instante, ZoneOffset.UTC) };
+            TSID.Factory factory = lockFree(new Clock() {
+                @Override
+                public ZoneId getZone() {
+                    return ZoneOffset.UTC;
+                }
+
+                @Override
+                public Clock withZone(ZoneId zone) {
+                    return this;
+                }
+
+                @Override
+                public Instant instant() {
+                    return relogio[0].instant();
+                }
+            });
+            long anterior = 0;
+            // Mais identificadores que o contador comporta em 1 ms
+            for (int i = 0; i < 5_000; i++) {
+                long atual = factory.generate().toLong();
+                assertThat(atual).isGreaterThan(anterior);
+                anterior = atual;
+            }
+            relogio[0] = Clock.fixed(instante.minusSeconds(1), ZoneOffset.UTC);
+            assertThat(factory.generate().toLong()).isGreaterThan(anterior);
+        }
+
+        @Test
+        @DisplayName("Deve gerar identificadores únicos e crescentes por thread sob concorrência")
+        void deveGerarUnicosSobConcorrencia() throws Exception {
+            TSID.Factory factory = lockFree(Clock.systemUTC());
+            int threads = 16;
+            int porThread = 5_000;
+            List<Future<long[]>> futuros = new ArrayList<>();
+            try (ExecutorService executor = Executors
+                .newVirtualThreadPerTaskExecutor()) {
+                for (int t = 0; t < threads; t++) {
+                    futuros.add(executor.submit(() -> {
+                        long[] ids = new long[porThread];
+                        for (int i = 0; i < porThread; i++) {
+                            ids[i] = factory.generate().toLong();
+                        }
+                        return ids;
+                    }));
+                }
+            }
+            Set<Long> todos = new HashSet<>();
+            for (Future<long[]> futuro : futuros) {
+                long[] ids = futuro.get();
+                for (int i = 0; i < ids.length; i++) {
+                    if (i > 0) {
+                        assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                    }
+                    todos.add(ids[i]);
+                }
+            }
+            assertThat(todos).hasSize(threads * porThread);
+        }
+
+        @Test
+        @DisplayName("Deve ser o modo da instância usada pelas entidades")
+        void deveSerModoPadraoDasEntidades() {
+            long anterior = TSID.Factory.getTsid4096().toLong();
+            assertThat(TSID.Factory.getTsid4096().toLong()).isGreaterThan(anterior);
+        }
+    }
+
+    @Nested
+    @DisplayName("bloco de identificadores")
+    class Bloco {
+
+        @Test
+        @DisplayName("Deve reservar um bloco contíguo e crescente nos dois modos")
+        void deveReservarBlocoContiguo() {
+            Instant instante = Instant.parse("2025-01-01T00:00:00Z");
+            for (boolean semBloqueio : new boolean[] { false, true }) {
+                TSID.Factory factory = TSID.Factory.builder()
+                    .withNodeBits(TSID.Factory.NODE_BITS_4096).withNode(NODE)
+                    .withClock(Clock.fixed(instante, ZoneOffset.UTC))
+                    .withLockFree(semBloqueio).build();
+                long antes = factory.generate().toLong();
+                // Maior que o contador de 10 bits, forçando o transporte para o tempo
+                long[] bloco = factory.generateBlock(3_000);
+                assertThat(bloco).hasSize(3_000);
+                assertThat(bloco[0]).isGreaterThan(antes);
+                for (int i = 1; i < bloco.length; i++) {
+                    assertThat(bloco[i]).isGreaterThan(bloco[i - 1]);
+                    assertThat((TSID.from(bloco[i]).getRandom() >>> 10) & 0xfff)
+                        .isEqualTo(NODE);
+                }
+                assertThat(factory.generate().toLong())
+                    .isGreaterThan(bloco[bloco.length - 1]);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar bloco vazio")
+        void deveRejeitarBlocoVazio() {
+            assertThatThrownBy(() -> TSID.Factory.getTsid4096Block(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ia.core.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TSID")
+class TSIDTest {
+
+    private static final long[] NUMEROS = { 0L, 1L, -1L, Long.MAX_VALUE,
+        Long.MIN_VALUE, 0x0575FDC1786137D6L };
+
+    @Nested
+    @DisplayName("forma canônica")
+    class FormaCanonica {
+
+        @Test
+        @DisplayName("Deve converter ida e volta, inclusive o maior valor sem sinal")
+        void deveConverterIdaEVolta() {
+            for (long numero : NUMEROS) {
+                String texto = TSID.from(numero).toString();
+                assertThat(TSID.parse(texto)).isEqualTo(numero);
+                assertThat(TSID.from(texto).toLong()).isEqualTo(numero);
+                assertThat(TSID.isValid(texto)).isTrue();
+            }
+            assertThat(TSID.parse("FZZZZZZZZZZZZ")).isEqualTo(-1L);
+        }
+
+        @Test
+        @DisplayName("Deve escrever em char[], StringBuilder e ByteBuffer")
+        void deveEscreverEmDestinos() {
+            TSID tsid = TSID.from(0x0575FDC1786137D6L);
+            String esperado = tsid.toString();
+
+            char[] chars = new char[TSID.TSID_CHARS + 2];
+            assertThat(tsid.writeTo(chars, 2)).isEqualTo(chars.length);
+            assertThat(new String(chars, 2, TSID.TSID_CHARS)).isEqualTo(esperado);
+            assertThat(TSID.parse(chars, 2)).isEqualTo(tsid.toLong());
+
+            StringBuilder builder = new StringBuilder("id=");
+            assertThat(tsid.appendTo(builder).toString()).isEqualTo("id=" + esperado);
+
+            ByteBuffer buffer = ByteBuffer.allocate(TSID.TSID_CHARS);
+            tsid.writeTo(buffer);
+            assertThat(new String(buffer.array(), StandardCharsets.US_ASCII))
+                .isEqualTo(esperado);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar textos inválidos")
+        void deveRejeitarTextosInvalidos() {
+            for (String texto : new String[] { null, "", "0AXS751X00W7", "GZZZZZZZZZZZZ",
+                "0AXS751X00W7U", "0AXS751X00W7é" }) {
+                assertThat(TSID.isValid(texto)).as(texto).isFalse();
+                assertThatThrownBy(() -> TSID.from(texto))
+                    .isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("base N")
+    class BaseN {
+
+        @Test
+        @DisplayName("Deve codificar como a conversão de precisão arbitrária")
+        void deveCodificarComoBigInteger() {
+            SplittableRandom random = new SplittableRandom(42);
+            for (int base = 2; base <= 62; base++) {
+                for (int i = 0; i < 200; i++) {
+                    long numero = i < NUMEROS.length ? NUMEROS[i] : random.nextLong();
+                    String codificado = TSID.from(numero).encode(base);
+                    assertThat(codificado).hasSize(TSID.encodedLength(base));
+                    assertThat(decodificar(codificado, base))
+                        .isEqualTo(new BigInteger(Long.toUnsignedString(numero)));
+                    assertThat(TSID.decode(codificado, base).toLong()).isEqualTo(numero);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Deve escrever em char[] com deslocamento")
+        void deveEscreverEmCharArray() {
+            TSID tsid = TSID.from(0x0575FDC1786137D6L);
+            char[] chars = new char[1 + TSID.encodedLength(62)];
+            assertThat(tsid.encode(62, chars, 1)).isEqualTo(chars.length);
+            assertThat(new String(chars, 1, chars.length - 1)).isEqualTo(tsid.encode(62));
+            assertThat(TSID.decodeToLong(tsid.encode(16), 16)).isEqualTo(tsid.toLong());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar valores acima de 64 bits")
+        void deveRejeitarEstouro() {
+            // 2^64 em base 10
+            assertThatThrownBy(() -> TSID.decode("18446744073709551616", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("overflow");
+            assertThat(TSID.decode("18446744073709551615", 10).toLong()).isEqualTo(-1L);
+        }
+
+        private BigInteger decodificar(String texto, int base) {
+            String alfabeto = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+            BigInteger valor = BigInteger.ZERO;
+            for (char c : texto.toCharArray()) {
+                valor = valor.multiply(BigInteger.valueOf(base))
+                    .add(BigInteger.valueOf(alfabeto.indexOf(c)));
+            }
+            return valor;
+        }
+    }
+}
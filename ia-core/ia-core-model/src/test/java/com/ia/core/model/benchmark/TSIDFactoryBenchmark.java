@@ -0,0 +1,109 @@
+package com.ia.core.model.benchmark;
+
+import com.ia.core.model.TSID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a geração de TSID com bloqueio global e sem bloqueio.
+ * <p>
+ * Os métodos {@code locked} e {@code lockFree} são medidos com 1, 8 e 64
+ * threads de plataforma; os métodos {@code virtual*} disparam
+ * {@link #VIRTUAL_OPERATIONS} gerações repartidas entre {@code virtualThreads}
+ * threads virtuais. Execução: rodar {@link #main(String[])} com o classpath de
+ * teste do módulo.
+ *
+ * @author Israel Araújo
+ * @see TSID.Factory
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TSIDFactoryBenchmark {
+
+  /** Gerações por invocação dos métodos com threads virtuais */
+  static final int VIRTUAL_OPERATIONS = 65_536;
+
+  private final TSID.Factory locked = TSID.Factory.newInstance4096();
+
+  private final TSID.Factory lockFree = TSID.Factory
+      .newLockFreeInstance4096();
+
+  @Param({ "1", "8", "64" })
+  public int virtualThreads;
+
+  @Benchmark
+  public TSID locked() {
+    return locked.generate();
+  }
+
+  @Benchmark
+  public TSID lockFree() {
+    return lockFree.generate();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(VIRTUAL_OPERATIONS)
+  public void virtualLocked(Blackhole blackhole) {
+    runOnVirtualThreads(locked, blackhole);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(VIRTUAL_OPERATIONS)
+  public void virtualLockFree(Blackhole blackhole) {
+    runOnVirtualThreads(lockFree, blackhole);
+  }
+
+  private void runOnVirtualThreads(TSID.Factory factory,
+                                   Blackhole blackhole) {
+    int perThread = VIRTUAL_OPERATIONS / virtualThreads;
+    try (ExecutorService executor = Executors
+        .newVirtualThreadPerTaskExecutor()) {
+      for (int t = 0; t < virtualThreads; t++) {
+        executor.execute(() -> {
+          for (int i = 0; i < perThread; i++) {
+            blackhole.consume(factory.generate());
+          }
+        });
+      }
+    }
+  }
+
+  /**
+   * Executa as medições.
+   *
+   * @param args não utilizado
+   * @throws RunnerException em caso de falha do JMH
+   */
+  public static void main(String[] args)
+    throws RunnerException {
+    String name = TSIDFactoryBenchmark.class.getSimpleName();
+    for (int threads : new int[] { 1, 8, 64 }) {
+      new Runner(new OptionsBuilder()
+          .include(name + "\\.(locked|lockFree)$").param("virtualThreads", "1")
+          .threads(threads).build()).run();
+    }
+    new Runner(new OptionsBuilder().include(name + "\\.virtual.*").threads(1)
+        .build()).run();
+  }
+}
@@ -0,0 +1,109 @@
+package com.ia.core.model.specification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor")
+class KeysetCursorTest {
+
+    public enum Situacao {
+        ATIVO, INATIVO
+    }
+
+    public static class Linha {
+        private final String nome;
+        private final Long id;
+        private final LocalDate data;
+        private final Situacao situacao;
+        private final BigDecimal valor;
+
+        Linha(String nome, Long id, LocalDate data, Situacao situacao,
+              BigDecimal valor) {
+            this.nome = nome;
+            this.id = id;
+            this.data = data;
+            this.situacao = situacao;
+            this.valor = valor;
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public LocalDate getData() {
+            return data;
+        }
+
+        public Situacao getSituacao() {
+            return situacao;
+        }
+
+        public BigDecimal getValor() {
+            return valor;
+        }
+    }
+
+    private static final List<String> CHAVES = List.of("nome", "data",
+                                                       "situacao", "valor",
+                                                       "id");
+
+    @Test
+    @DisplayName("Deve ler as chaves do registro e convertê-las de volta ao tipo do atributo")
+    void deveConverterValores() {
+        Linha linha = new Linha("Ana", 42L, LocalDate.of(2024, 2, 29),
+                                Situacao.INATIVO, new BigDecimal("1E+3"));
+
+        KeysetCursor cursor = KeysetCursor
+            .decode(KeysetCursor.of(linha, CHAVES).encode());
+
+        assertThat(cursor.size()).isEqualTo(5);
+        assertThat(cursor.value(0, String.class)).isEqualTo("Ana");
+        assertThat(cursor.value(1, LocalDate.class))
+            .isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(cursor.value(2, Situacao.class)).isEqualTo(Situacao.INATIVO);
+        assertThat(cursor.value(3, BigDecimal.class))
+            .isEqualTo(new BigDecimal("1000"));
+        assertThat(cursor.value(4, Long.class)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Deve preservar separadores, escapes e nulos")
+    void devePreservarTextoEspecial() {
+        Linha linha = new Linha("~a\tb\\c", 1L, null, null, null);
+
+        KeysetCursor cursor = KeysetCursor
+            .decode(KeysetCursor.of(linha, CHAVES).encode());
+
+        assertThat(cursor.value(0, String.class)).isEqualTo("~a\tb\\c");
+        assertThat(cursor.value(1, LocalDate.class)).isNull();
+        assertThat(cursor.value(2, Situacao.class)).isNull();
+        assertThat(cursor.value(4, Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor malformado")
+    void deveRejeitarCursorMalformado() {
+        assertThatThrownBy(() -> KeysetCursor.decode("@@@"))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        KeysetCursor cursor = KeysetCursor
+            .decode(KeysetCursor.of(new Linha("Ana", 1L, null, null, null),
+                                    List.of("nome")).encode());
+        assertThatThrownBy(() -> cursor.value(0, Long.class))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cursor.value(0, Object.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Tipo não suportado");
+    }
+}
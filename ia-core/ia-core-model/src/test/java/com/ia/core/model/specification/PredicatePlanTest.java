@@ -0,0 +1,153 @@
+package com.ia.core.model.specification;
+
+import com.ia.core.model.filter.FieldType;
+import com.ia.core.model.filter.FilterRequest;
+import com.ia.core.model.filter.Operator;
+import com.ia.core.model.filter.SearchRequest;
+import com.ia.core.model.filter.SortDirection;
+import com.ia.core.model.filter.SortRequest;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PredicatePlan")
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class PredicatePlanTest {
+
+    private static SearchRequest request(String nome, long idade) {
+        return SearchRequest.builder()
+            .filters(List.of(
+                FilterRequest.builder().key("nome").operator(Operator.EQUAL)
+                    .fieldType(FieldType.STRING).value(nome).build(),
+                FilterRequest.builder().key("idade")
+                    .operator(Operator.GREATER_THAN).fieldType(FieldType.LONG)
+                    .value(idade).build()))
+            .sorts(List.of(SortRequest.builder().key("nome")
+                .direction(SortDirection.DESC).build()))
+            .build();
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar o plano entre requisições com o mesmo formato")
+    void deveCompartilharPlanoPorFormato() {
+        assertThat(PredicatePlan.shape(request("Ana", 10)))
+            .isEqualTo(PredicatePlan.shape(request("Bia", 20)));
+        assertThat(PredicatePlan.of(request("Ana", 10)))
+            .isSameAs(PredicatePlan.of(request("Bia", 20)));
+
+        SearchRequest negado = request("Ana", 10);
+        negado.getFilters().get(0).setNegate(true);
+        assertThat(PredicatePlan.shape(negado))
+            .isNotEqualTo(PredicatePlan.shape(request("Ana", 10)));
+
+        SearchRequest conjuncao = request("Ana", 10);
+        conjuncao.setDisjunction(false);
+        assertThat(PredicatePlan.shape(conjuncao))
+            .isNotEqualTo(PredicatePlan.shape(request("Ana", 10)));
+    }
+
+    @Test
+    @DisplayName("Deve resolver cada caminho uma vez e combinar sem predicado literal")
+    void deveResolverCaminhoUmaVez() {
+        Root root = mock(Root.class);
+        Path nome = mock(Path.class);
+        Path idade = mock(Path.class);
+        when(root.get("nome")).thenReturn(nome);
+        when(root.get("idade")).thenReturn(idade);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        CriteriaQuery query = mock(CriteriaQuery.class);
+        Predicate igual = mock(Predicate.class);
+        Predicate maior = mock(Predicate.class);
+        Predicate combinado = mock(Predicate.class);
+        Order ordem = mock(Order.class);
+        when(cb.equal(nome, "Ana")).thenReturn(igual);
+        when(cb.greaterThan(idade, (Comparable) 10L)).thenReturn(maior);
+        when(cb.and(new Predicate[] { igual, maior })).thenReturn(combinado);
+        when(cb.desc(nome)).thenReturn(ordem);
+
+        SearchRequest request = request("Ana", 10);
+        Predicate predicate = new SearchSpecification<>(request)
+            .toPredicate(root, query, cb);
+
+        assertThat(predicate).isSameAs(combinado);
+        verify(root, times(1)).get("nome");
+        verify(query).orderBy(List.of(ordem));
+        verify(cb, times(0)).literal(any());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pelo id e buscar a partir do cursor na paginação por chave")
+    void deveBuscarAPartirDoCursor() {
+        Root root = mock(Root.class);
+        Path nome = mock(Path.class);
+        Path id = mock(Path.class);
+        when(root.get("nome")).thenReturn(nome);
+        when(root.get("id")).thenReturn(id);
+        when(nome.getJavaType()).thenReturn(String.class);
+        when(id.getJavaType()).thenReturn(Long.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        CriteriaQuery query = mock(CriteriaQuery.class);
+        Predicate antes = mock(Predicate.class);
+        Predicate mesmoNome = mock(Predicate.class);
+        Predicate idMaior = mock(Predicate.class);
+        Predicate empate = mock(Predicate.class);
+        Predicate busca = mock(Predicate.class);
+        Order porNome = mock(Order.class);
+        Order porId = mock(Order.class);
+        when(cb.lessThan(nome, (Comparable) "Ana")).thenReturn(antes);
+        when(cb.equal(nome, (Object) "Ana")).thenReturn(mesmoNome);
+        when(cb.greaterThan(id, (Comparable) 5L)).thenReturn(idMaior);
+        when(cb.and(new Predicate[] { mesmoNome, idMaior })).thenReturn(empate);
+        when(cb.or(new Predicate[] { antes, empate })).thenReturn(busca);
+        when(cb.desc(nome)).thenReturn(porNome);
+        when(cb.asc(id)).thenReturn(porId);
+
+        SearchRequest request = SearchRequest.builder().keyset(true)
+            .sorts(List.of(SortRequest.builder().key("nome")
+                .direction(SortDirection.DESC).build()))
+            .build();
+        PredicatePlan plan = PredicatePlan.of(request);
+        assertThat(plan.getKeysetKeys()).containsExactly("nome", "id");
+
+        request.setCursor(encode("Ana", "5"));
+        Predicate predicate = plan.apply(request, root, query, cb);
+
+        assertThat(predicate).isSameAs(busca);
+        verify(query).orderBy(List.of(porNome, porId));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor com quantidade de chaves diferente da ordenação")
+    void deveRejeitarCursorIncompativel() {
+        SearchRequest request = SearchRequest.builder().keyset(true)
+            .cursor(encode("Ana", "5", "x")).build();
+
+        assertThatThrownBy(() -> PredicatePlan.of(request)
+            .apply(request, mock(Root.class), mock(CriteriaQuery.class),
+                   mock(CriteriaBuilder.class)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String... values) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(String.join("\t", values)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+package com.ia.core.model.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedCache")
+class BoundedCacheTest {
+
+    /** Cache com relógio controlado pelo teste. */
+    static class ManualClockCache<K, V> extends BoundedCache<K, V> {
+        long nanos;
+
+        ManualClockCache(int maxSize, Duration ttl) {
+            super(maxSize, ttl);
+        }
+
+        @Override
+        protected long now() {
+            return nanos;
+        }
+    }
+
+    @Nested
+    @DisplayName("tamanho")
+    class Tamanho {
+
+        @Test
+        @DisplayName("Deve descartar a entrada acessada há mais tempo")
+        void deveDescartarEntradaMenosRecente() {
+            List<String> descartadas = new ArrayList<>();
+            BoundedCache<String, Integer> cache = new BoundedCache<>(2, null,
+                (k, v) -> descartadas.add(k));
+            cache.put("a", 1);
+            cache.put("b", 2);
+            cache.get("a");
+            cache.put("c", 3);
+
+            assertThat(cache.get("b")).isNull();
+            assertThat(cache.get("a")).isEqualTo(1);
+            assertThat(cache.get("c")).isEqualTo(3);
+            assertThat(descartadas).containsExactly("b");
+            assertThat(cache.evictionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar tamanho não positivo")
+        void deveRejeitarTamanhoInvalido() {
+            assertThatThrownBy(() -> new BoundedCache<>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("expiração")
+    class Expiracao {
+
+        @Test
+        @DisplayName("Deve expirar entradas após o tempo de vida")
+        void deveExpirarEntradas() {
+            ManualClockCache<String, Integer> cache = new ManualClockCache<>(10,
+                Duration.ofSeconds(1));
+            cache.put("a", 1);
+
+            cache.nanos = Duration.ofMillis(999).toNanos();
+            assertThat(cache.get("a")).isEqualTo(1);
+
+            cache.nanos = Duration.ofSeconds(1).toNanos();
+            assertThat(cache.get("a")).isNull();
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve remover expiradas em lote")
+        void deveRemoverExpiradasEmLote() {
+            ManualClockCache<String, Integer> cache = new ManualClockCache<>(10,
+                Duration.ofSeconds(1));
+            cache.put("a", 1);
+            cache.put("b", 2);
+            cache.nanos = Duration.ofSeconds(2).toNanos();
+
+            assertThat(cache.purgeExpired()).isEqualTo(2);
+            assertThat(cache.evictionCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("computeIfAbsent")
+    class ComputeIfAbsent {
+
+        @Test
+        @DisplayName("Deve carregar apenas na primeira consulta e contar acertos")
+        void deveCarregarUmaVez() {
+            BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+            AtomicInteger cargas = new AtomicInteger();
+
+            cache.computeIfAbsent("a", k -> cargas.incrementAndGet());
+            cache.computeIfAbsent("a", k -> cargas.incrementAndGet());
+
+            assertThat(cargas).hasValue(1);
+            assertThat(cache.hitCount()).isEqualTo(1);
+            assertThat(cache.missCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Não deve armazenar carga nula")
+        void naoDeveArmazenarNulo() {
+            BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+
+            assertThat(cache.computeIfAbsent("a", k -> null)).isNull();
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve remover por predicado sem contar como descarte")
+    void deveRemoverPorPredicado() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertThat(cache.removeIf((k, v) -> v > 1)).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.evictionCount()).isZero();
+    }
+}
@@ -0,0 +1,240 @@
+package com.ia.core.quartz.service.model.recorrencia.dto;
+
+import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
+import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
+import org.dmfs.rfc5545.recur.RecurrenceRule;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Forma compilada e imutável de uma periodicidade.
+ * <p>
+ * Reúne o que o cálculo de ocorrências precisa e que é custoso de derivar do
+ * DTO: a RRULE já interpretada, a zona, a duração, as RDATEs ordenadas e as
+ * EXDATEs indexadas por dia. Pode ser compartilhada entre threads e entre
+ * cursores, pois cada {@link LibRecurOccurrenceCursor} cria o seu próprio
+ * iterador.
+ *
+ * @author Israel Araújo
+ * @see LibRecurOccurrenceCursor
+ * @since 1.0.0
+ */
+public final class CompiledPeriodicidade {
+
+  /** Milissegundos em um dia. */
+  static final long MILLIS_PER_DAY = 86_400_000L;
+
+  /** Periodicidade compilada que nunca produz ocorrências. */
+  private static final CompiledPeriodicidade INATIVA = new CompiledPeriodicidade(
+      null, Duration.ZERO, false, null, Long.MAX_VALUE, new long[0],
+      Collections.emptySet());
+
+  private final ZoneId zone;
+  private final Duration duration;
+  private final boolean recurrent;
+  private final RecurrenceRule rule;
+  private final long baseStart;
+  private final long[] includeDates;
+  private final Set<Long> exceptionDays;
+
+  private CompiledPeriodicidade(ZoneId zone, Duration duration,
+                                boolean recurrent, RecurrenceRule rule,
+                                long baseStart, long[] includeDates,
+                                Set<Long> exceptionDays) {
+    this.zone = zone;
+    this.duration = duration;
+    this.recurrent = recurrent;
+    this.rule = rule;
+    this.baseStart = baseStart;
+    this.includeDates = includeDates;
+    this.exceptionDays = exceptionDays;
+  }
+
+  /**
+   * Compila uma periodicidade.
+   *
+   * @param p a periodicidade
+   * @return a forma compilada; periodicidades nulas ou inativas resultam em
+   *         uma compilação sem ocorrências
+   * @throws IllegalArgumentException se a regra de recorrência for inválida
+   */
+  public static CompiledPeriodicidade compile(PeriodicidadeDTO p) {
+    if (p == null || !Boolean.TRUE.equals(p.getAtivo())) {
+      return INATIVA;
+    }
+    ZoneId zone = p.getZoneIdValue();
+    boolean recurrent = p.hasRecurrence();
+    return new CompiledPeriodicidade(zone, p.duration(), recurrent,
+                                     recurrent ? RecurrenceRuleAdapter
+                                         .toRecurrenceRule(p.getRegra())
+                                               : null,
+                                     baseStart(p, zone), includeDates(p),
+                                     exceptionDays(p));
+  }
+
+  /**
+   * Calcula a chave de conteúdo de uma periodicidade.
+   * <p>
+   * A chave é um SHA-256 da representação canônica dos campos que afetam o
+   * cálculo de ocorrências (zona, situação, intervalo base, regra, RDATEs e
+   * EXDATEs), com coleções ordenadas. Periodicidades com o mesmo conteúdo
+   * produzem a mesma chave, independentemente de id, versão ou ordem de
+   * inserção nos conjuntos.
+   *
+   * @param p a periodicidade
+   * @return a chave em hexadecimal
+   */
+  public static String contentKey(PeriodicidadeDTO p) {
+    StringBuilder sb = new StringBuilder(128);
+    if (p != null) {
+      sb.append(p.getZoneId()).append('|').append(p.getAtivo()).append('|');
+      IntervaloTemporalDTO base = p.getIntervaloBase();
+      if (base != null) {
+        sb.append(base.getStartDate()).append('T').append(base.getStartTime())
+            .append('/').append(base.getEndDate()).append('T')
+            .append(base.getEndTime());
+      }
+      sb.append('|');
+      RecorrenciaDTO regra = p.getRegra();
+      if (regra != null) {
+        sb.append(regra.getFrequency()).append(';')
+            .append(regra.getIntervalValue()).append(';')
+            .append(regra.getCountLimit()).append(';')
+            .append(regra.getUntilDate()).append(';')
+            .append(regra.getWeekStartDay()).append(';')
+            .append(sorted(regra.getByDay())).append(';')
+            .append(sorted(regra.getByMonthDay())).append(';')
+            .append(sorted(regra.getByMonth())).append(';')
+            .append(sorted(regra.getBySetPosition())).append(';')
+            .append(sorted(regra.getByHour())).append(';')
+            .append(sorted(regra.getByMinute())).append(';')
+            .append(sorted(regra.getBySecond()));
+      }
+      sb.append('|').append(sorted(p.getExceptionDates())).append('|')
+          .append(sorted(p.getIncludeDates()));
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest
+          .digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+
+  /**
+   * @return a zona da periodicidade ou {@code null} se não houver ocorrências
+   */
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  /**
+   * @return a duração de cada ocorrência
+   */
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /**
+   * @return se a periodicidade produz ocorrências
+   */
+  public boolean isAtiva() {
+    return zone != null;
+  }
+
+  /**
+   * @return se há regra de recorrência definida
+   */
+  boolean isRecurrent() {
+    return recurrent;
+  }
+
+  /**
+   * @return a RRULE interpretada ou {@code null}
+   */
+  RecurrenceRule getRule() {
+    return rule;
+  }
+
+  /**
+   * @return o início do evento base como timestamp UTC ou
+   *         {@link Long#MAX_VALUE} se ausente
+   */
+  long getBaseStart() {
+    return baseStart;
+  }
+
+  /**
+   * @return as RDATEs como timestamps UTC ordenados e distintos
+   */
+  long[] getIncludeDates() {
+    return includeDates;
+  }
+
+  /**
+   * Verifica se o timestamp cai em uma data de exceção.
+   *
+   * @param timestamp timestamp UTC da ocorrência
+   * @return true se a data estiver excluída
+   */
+  boolean isExcluded(long timestamp) {
+    return !exceptionDays.isEmpty()
+        && exceptionDays.contains(Math.floorDiv(timestamp, MILLIS_PER_DAY));
+  }
+
+  // ---------- Métodos auxiliares ----------
+
+  private static String sorted(Collection<?> values) {
+    if (values == null || values.isEmpty()) {
+      return "";
+    }
+    return values.stream().filter(Objects::nonNull).map(String::valueOf)
+        .sorted().collect(Collectors.joining(","));
+  }
+
+  private static long baseStart(PeriodicidadeDTO p, ZoneId zone) {
+    if (p.getIntervaloBase() == null
+        || p.getIntervaloBase().getStartDate() == null
+        || p.getIntervaloBase().getStartTime() == null) {
+      return Long.MAX_VALUE;
+    }
+    return DateTimeAdapter
+        .toUtcDateTime(p.getIntervaloBase().getStartDate(),
+                       p.getIntervaloBase().getStartTime(), zone)
+        .getTimestamp();
+  }
+
+  private static long[] includeDates(PeriodicidadeDTO p) {
+    if (p.getIncludeDates() == null) {
+      return new long[0];
+    }
+    // RDATEs são tratadas como all-day
+    return p.getIncludeDates().stream()
+        .mapToLong(date -> date.toEpochDay() * MILLIS_PER_DAY).sorted()
+        .distinct().toArray();
+  }
+
+  private static Set<Long> exceptionDays(PeriodicidadeDTO p) {
+    if (p.getExceptionDates() == null || p.getExceptionDates().isEmpty()) {
+      return Collections.emptySet();
+    }
+    Set<Long> days = new HashSet<>();
+    for (LocalDate exclude : p.getExceptionDates()) {
+      days.add(exclude.toEpochDay());
+    }
+    return Collections.unmodifiableSet(days);
+  }
+}
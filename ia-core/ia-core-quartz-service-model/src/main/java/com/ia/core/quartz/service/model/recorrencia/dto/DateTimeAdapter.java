@@ -66,13 +66,45 @@ public class DateTimeAdapter {
    */
   public static ZonedDateTime fromUtcDateTime(DateTime dt,
                                               ZoneId targetZone) {
-    long millis = dt.getTimestamp();
+    return fromUtcTimestamp(dt.getTimestamp(), targetZone);
+  }
+
+  /**
+   * Converte um timestamp UTC (horário de parede rotulado como UTC) para
+   * ZonedDateTime na zona alvo.
+   *
+   * @param millis o timestamp em milissegundos
+   * @param targetZone a zona horária alvo
+   * @return ZonedDateTime na zona especificada
+   */
+  public static ZonedDateTime fromUtcTimestamp(long millis,
+                                               ZoneId targetZone) {
     Instant instant = Instant.ofEpochMilli(millis);
     LocalDateTime localDateTime = instant.atZone(ZoneOffset.UTC)
         .toLocalDateTime();
     return ZonedDateTime.of(localDateTime, targetZone);
   }
 
+  /**
+   * Converte ZonedDateTime para o timestamp UTC (horário de parede na zona
+   * informada rotulado como UTC), na mesma representação usada por
+   * {@link #toUtcDateTime(LocalDate, LocalTime, ZoneId)}.
+   * <p>
+   * Frações de milissegundo são arredondadas para cima, de forma que uma
+   * ocorrência anterior a {@code zdt} nunca seja considerada posterior.
+   *
+   * @param zdt o ZonedDateTime a ser convertido
+   * @param zone a zona horária de referência
+   * @return timestamp em milissegundos
+   */
+  public static long toUtcTimestamp(ZonedDateTime zdt, ZoneId zone) {
+    LocalDateTime local = zdt.withZoneSameInstant(zone).toLocalDateTime();
+    int nanos = local.getNano();
+    long millis = local.toEpochSecond(ZoneOffset.UTC) * 1000L
+        + nanos / 1_000_000;
+    return nanos % 1_000_000 == 0 ? millis : millis + 1;
+  }
+
   /**
    * Converte DateTime UTC e duração para IntervaloTemporalDTO.
    *
@@ -84,7 +116,21 @@ public class DateTimeAdapter {
   public static IntervaloTemporalDTO toIntervaloTemporalDTO(DateTime startUtc,
                                                             Duration duration,
                                                             ZoneId zone) {
-    ZonedDateTime start = fromUtcDateTime(startUtc, zone);
+    return toIntervaloTemporalDTO(startUtc.getTimestamp(), duration, zone);
+  }
+
+  /**
+   * Converte timestamp UTC e duração para IntervaloTemporalDTO.
+   *
+   * @param startUtc o timestamp de início em UTC
+   * @param duration a duração do intervalo
+   * @param zone a zona horária
+   * @return IntervaloTemporalDTO configurado
+   */
+  public static IntervaloTemporalDTO toIntervaloTemporalDTO(long startUtc,
+                                                            Duration duration,
+                                                            ZoneId zone) {
+    ZonedDateTime start = fromUtcTimestamp(startUtc, zone);
     ZonedDateTime end = start.plus(duration);
     return IntervaloTemporalDTO.builder().startDate(start.toLocalDate())
         .startTime(start.toLocalTime()).endDate(end.toLocalDate())
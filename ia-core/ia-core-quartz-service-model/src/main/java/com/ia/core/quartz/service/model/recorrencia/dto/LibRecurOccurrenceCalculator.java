@@ -3,8 +3,6 @@ package com.ia.core.quartz.service.model.recorrencia.dto;
 import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
 import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
 import org.dmfs.rfc5545.DateTime;
-import org.dmfs.rfc5545.recur.RecurrenceRule;
-import org.dmfs.rfc5545.recur.RecurrenceRuleIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,11 +47,15 @@ public class LibRecurOccurrenceCalculator
   private LibRecurOccurrenceCalculator() {
   }
 
+  @Override
+  public OccurrenceCursor openCursor(PeriodicidadeDTO p) {
+    return new LibRecurOccurrenceCursor(p);
+  }
+
   @Override
   public Optional<IntervaloTemporalDTO> nextOccurrence(PeriodicidadeDTO p,
                                                        ZonedDateTime after) {
-    List<IntervaloTemporalDTO> list = generateOccurrences(p, after, 1);
-    return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
+    return openCursor(p).next(after);
   }
 
   @Override
@@ -63,39 +65,16 @@ public class LibRecurOccurrenceCalculator
     return nextOccurrence(p, after);
   }
 
-@Override
-     public List<IntervaloTemporalDTO> generateOccurrences(PeriodicidadeDTO periodicidade,
-                                                          ZonedDateTime after,
-                                                          int maxCount) {
-      if (periodicidade == null || !Boolean.TRUE.equals(periodicidade.getAtivo()) || maxCount <= 0) {
-        return Collections.emptyList();
-      }
-
-     // Constrói o conjunto ordenado de todas as ocorrências (RRULE + RDATE) e
-     // aplica EXDATE
-     SortedSet<DateTime> allInstances = buildAllInstances(periodicidade);
-
-     // Filtra após 'after' e limita
-     // Usa stream filter em vez de tailSet para garantir consistência com o comparator
-     List<IntervaloTemporalDTO> results = new ArrayList<>();
-     Duration duration = periodicidade.duration();
-     ZoneId zone = periodicidade.getZoneIdValue();
-     
-     Comparator<? super DateTime> comparator = createDateTimeComparator(periodicidade);
-     ZonedDateTime afterForComparison = after;
-     
-     for (DateTime dt : allInstances) {
-       ZonedDateTime dtTime = DateTimeAdapter.fromUtcDateTime(dt, zone);
-       if (dtTime.isBefore(afterForComparison)) {
-         continue;
-       }
-       if (results.size() >= maxCount) {
-         break;
-       }
-       results.add(DateTimeAdapter.toIntervaloTemporalDTO(dt, duration, zone));
-     }
-     return results;
-   }
+  @Override
+  public List<IntervaloTemporalDTO> generateOccurrences(PeriodicidadeDTO periodicidade,
+                                                        ZonedDateTime after,
+                                                        int maxCount) {
+    if (periodicidade == null
+        || !Boolean.TRUE.equals(periodicidade.getAtivo()) || maxCount <= 0) {
+      return Collections.emptyList();
+    }
+    return openCursor(periodicidade).next(after, maxCount);
+  }
 
   @Override
   public List<IntervaloTemporalDTO> generateOccurrences(PeriodicidadeDTO periodicidade,
@@ -106,29 +85,17 @@ public class LibRecurOccurrenceCalculator
     return generateOccurrences(periodicidade, start, maxCount);
   }
 
-@Override
-     public List<IntervaloTemporalDTO> generateOccurrences(PeriodicidadeDTO periodicidade,
-                                                          ZonedDateTime start,
-                                                          ZonedDateTime end) {
-      if (periodicidade == null || !Boolean.TRUE.equals(periodicidade.getAtivo()) || start.isAfter(end)) {
-        return Collections.emptyList();
-      }
-
-     SortedSet<DateTime> allInstances = buildAllInstances(periodicidade);
-
-     List<IntervaloTemporalDTO> results = new ArrayList<>();
-     Duration duration = periodicidade.duration();
-     ZoneId zone = periodicidade.getZoneIdValue();
-
-     for (DateTime dt : allInstances) {
-       ZonedDateTime dtTime = DateTimeAdapter.fromUtcDateTime(dt, zone);
-       if (!dtTime.isBefore(start) && !dtTime.isAfter(end)) {
-         results
-             .add(DateTimeAdapter.toIntervaloTemporalDTO(dt, duration, zone));
-       }
-     }
-     return results;
-   }
+  @Override
+  public List<IntervaloTemporalDTO> generateOccurrences(PeriodicidadeDTO periodicidade,
+                                                        ZonedDateTime start,
+                                                        ZonedDateTime end) {
+    if (periodicidade == null
+        || !Boolean.TRUE.equals(periodicidade.getAtivo())
+        || start.isAfter(end)) {
+      return Collections.emptyList();
+    }
+    return openCursor(periodicidade).between(start, end);
+  }
 
   @Override
   public boolean intersects(PeriodicidadeDTO a, PeriodicidadeDTO b,
@@ -137,67 +104,76 @@ public class LibRecurOccurrenceCalculator
     ZonedDateTime start = windowStart.atZone(zoneId);
     ZonedDateTime end = windowEnd.atZone(zoneId);
 
-    List<IntervaloTemporalDTO> occA = generateOccurrences(a, start, end);
-    List<IntervaloTemporalDTO> occB = generateOccurrences(b, start, end);
-
-    for (IntervaloTemporalDTO ia : occA) {
-      ZonedDateTime startA = ZonedDateTime.of(ia.getStartDate(),
-                                              ia.getStartTime(), zoneId);
-      ZonedDateTime endA = ZonedDateTime.of(ia.getEndDate(),
-                                            ia.getEndTime(), zoneId);
-      for (IntervaloTemporalDTO ib : occB) {
-        ZonedDateTime startB = ZonedDateTime.of(ib.getStartDate(),
-                                                ib.getStartTime(), zoneId);
-        ZonedDateTime endB = ZonedDateTime.of(ib.getEndDate(),
-                                              ib.getEndTime(), zoneId);
-        if (intervalsIntersect(startA, endA, startB, endB)) {
-          return true;
-        }
+    // Varredura linear: os dois fluxos são ordenados por início e por fim
+    OccurrenceStream occA = new OccurrenceStream(a, start, end);
+    OccurrenceStream occB = new OccurrenceStream(b, start, end);
+    while (occA.hasCurrent() && occB.hasCurrent()) {
+      if (occA.end() < occB.start()) {
+        occA.advance();
+      } else if (occB.end() < occA.start()) {
+        occB.advance();
+      } else {
+        return true;
       }
     }
     return false;
   }
 
-  // ---------- Métodos auxiliares ----------
-
-  private SortedSet<DateTime> buildAllInstances(PeriodicidadeDTO p) {
-    TreeSet<DateTime> instances = new TreeSet<>(createDateTimeComparator(p));
-
-    // 1. Adiciona as ocorrências da RRULE (se houver)
-    if (p.hasRecurrence()) {
-      RecurrenceRuleIterator it = createRecurrenceIterator(p);
-      if (it != null) {
-        // Para evitar loop infinito, limitamos a um número razoável (ex: 1000)
-        int maxIter = 1000;
-        while (it.hasNext() && maxIter-- > 0) {
-          instances.add(it.nextDateTime());
-        }
-      }
-    } else {
-      // Sem recorrência: adiciona apenas o evento base
-      DateTime start = DateTimeAdapter
-          .toUtcDateTime(p.getIntervaloBase().getStartDate(),
-                         p.getIntervaloBase().getStartTime(),
-                         p.getZoneIdValue());
-      instances.add(start);
+  @Override
+  public List<OccurrenceConflict> findConflicts(PeriodicidadeDTO candidate,
+                                                Collection<PeriodicidadeDTO> existing,
+                                                ZonedDateTime windowStart,
+                                                ZonedDateTime windowEnd) {
+    OccurrenceStream occCandidate = new OccurrenceStream(candidate,
+                                                         windowStart,
+                                                         windowEnd);
+    if (!occCandidate.hasCurrent() || existing == null
+        || existing.isEmpty()) {
+      return Collections.emptyList();
     }
 
-    // 2. Adiciona RDATEs (includeDates) – tratamos como all-day
-    for (LocalDate include : p.getIncludeDates()) {
-      DateTime includeDt = DateTimeAdapter.toAllDayUtcDateTime(include);
-      instances.add(includeDt);
+    // Mescla os fluxos existentes por ordem de início (heap de tamanho k)
+    PriorityQueue<OccurrenceStream> heap = new PriorityQueue<>(existing
+        .size(), Comparator.comparingLong(OccurrenceStream::start));
+    for (PeriodicidadeDTO p : existing) {
+      if (p == null) {
+        continue;
+      }
+      OccurrenceStream stream = new OccurrenceStream(p, windowStart,
+                                                     windowEnd);
+      if (stream.hasCurrent()) {
+        heap.add(stream);
+      }
     }
 
-    // 3. Remove EXDATEs (exceptionDates)
-    for (LocalDate exclude : p.getExceptionDates()) {
-      DateTime excludeDt = DateTimeAdapter.toAllDayUtcDateTime(exclude);
-      // Remove todas as instâncias que caem neste dia (all-day)
-      instances.removeIf(dt -> DateTimeAdapter.isSameAllDay(dt, excludeDt));
+    List<OccurrenceConflict> conflicts = new ArrayList<>();
+    while (!heap.isEmpty()) {
+      OccurrenceStream next = heap.poll();
+      // Ocorrências da candidata que terminam antes desta não alcançam as
+      // seguintes, que começam mais tarde
+      while (occCandidate.hasCurrent()
+          && occCandidate.end() < next.start()) {
+        occCandidate.advance();
+      }
+      if (!occCandidate.hasCurrent()) {
+        break;
+      }
+      if (occCandidate.start() <= next.end()) {
+        conflicts.add(new OccurrenceConflict(candidate, next.periodicidade(),
+                                             occCandidate.current(),
+                                             next.current()));
+        continue;
+      }
+      next.advance();
+      if (next.hasCurrent()) {
+        heap.add(next);
+      }
     }
-
-    return instances;
+    return conflicts;
   }
 
+  // ---------- Métodos auxiliares ----------
+
   /**
    * Cria um comparador para ordenação de DateTimes na zona da periodicidade.
    *
@@ -209,25 +185,4 @@ public class LibRecurOccurrenceCalculator
         .fromUtcDateTime(a, p.getZoneIdValue())
         .compareTo(DateTimeAdapter.fromUtcDateTime(b, p.getZoneIdValue()));
   }
-
-  private RecurrenceRuleIterator createRecurrenceIterator(PeriodicidadeDTO p) {
-    if (!p.hasRecurrence() || p.getRegra() == null)
-      return null;
-    RecurrenceRule rrule = RecurrenceRuleAdapter
-        .toRecurrenceRule(p.getRegra());
-    if (rrule == null)
-      return null;
-    DateTime start = DateTimeAdapter
-        .toUtcDateTime(p.getIntervaloBase().getStartDate(),
-                       p.getIntervaloBase().getStartTime(),
-                       p.getZoneIdValue());
-    return rrule.iterator(start);
-  }
-
-  private boolean intervalsIntersect(ZonedDateTime startA,
-                                     ZonedDateTime endA,
-                                     ZonedDateTime startB,
-                                     ZonedDateTime endB) {
-    return !(endA.isBefore(startB) || endB.isBefore(startA));
-  }
 }
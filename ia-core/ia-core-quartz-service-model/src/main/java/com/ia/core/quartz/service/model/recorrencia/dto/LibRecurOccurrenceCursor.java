@@ -0,0 +1,223 @@
+package com.ia.core.quartz.service.model.recorrencia.dto;
+
+import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
+import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
+import org.dmfs.rfc5545.DateTime;
+import org.dmfs.rfc5545.recur.RecurrenceRule;
+import org.dmfs.rfc5545.recur.RecurrenceRuleIterator;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementação do cursor de ocorrências usando a biblioteca libRecur.
+ * <p>
+ * As ocorrências são representadas internamente como timestamps UTC (horário
+ * de parede rotulado como UTC, conforme {@link DateTimeAdapter}). A RRULE
+ * compilada em {@link CompiledPeriodicidade} é percorrida de forma preguiçosa
+ * com {@link RecurrenceRuleIterator#fastForward(long)}, as RDATEs são
+ * mescladas a partir de um vetor ordenado e as EXDATEs são aplicadas por
+ * consulta em um conjunto de dias.
+ *
+ * @author Israel Araújo
+ * @see OccurrenceCursor
+ * @since 1.0.0
+ */
+public class LibRecurOccurrenceCursor
+  implements OccurrenceCursor {
+
+  /** Marca uma fonte ainda não carregada. */
+  private static final long NOT_LOADED = Long.MIN_VALUE;
+
+  /** Marca uma fonte sem mais ocorrências. */
+  static final long EXHAUSTED = Long.MAX_VALUE;
+
+  private final PeriodicidadeDTO periodicidade;
+  private final CompiledPeriodicidade compiled;
+  private final ZoneId zone;
+  private final long[] includeDates;
+
+  private RecurrenceRuleIterator ruleIterator;
+  private long pendingRule;
+  private int includeIndex;
+  private long position;
+  private long head;
+
+  /**
+   * Cria o cursor para uma periodicidade, compilando-a.
+   *
+   * @param periodicidade a periodicidade a ser percorrida
+   */
+  public LibRecurOccurrenceCursor(PeriodicidadeDTO periodicidade) {
+    this(periodicidade, CompiledPeriodicidade.compile(periodicidade));
+  }
+
+  /**
+   * Cria o cursor a partir de uma periodicidade já compilada.
+   *
+   * @param periodicidade a periodicidade a ser percorrida
+   * @param compiled a forma compilada de {@code periodicidade}
+   */
+  public LibRecurOccurrenceCursor(PeriodicidadeDTO periodicidade,
+                                  CompiledPeriodicidade compiled) {
+    this.periodicidade = periodicidade;
+    this.compiled = compiled;
+    this.zone = compiled.getZone();
+    this.includeDates = compiled.getIncludeDates();
+    reset();
+  }
+
+  @Override
+  public PeriodicidadeDTO getPeriodicidade() {
+    return periodicidade;
+  }
+
+  @Override
+  public Optional<ZonedDateTime> nextStart(ZonedDateTime after) {
+    if (zone == null) {
+      return Optional.empty();
+    }
+    long next = seek(DateTimeAdapter.toUtcTimestamp(after, zone));
+    return next == EXHAUSTED ? Optional.empty()
+                             : Optional.of(DateTimeAdapter
+                                 .fromUtcTimestamp(next, zone));
+  }
+
+  @Override
+  public Optional<IntervaloTemporalDTO> next(ZonedDateTime after) {
+    if (zone == null) {
+      return Optional.empty();
+    }
+    long next = seek(DateTimeAdapter.toUtcTimestamp(after, zone));
+    return next == EXHAUSTED ? Optional.empty()
+                             : Optional.of(toIntervalo(next));
+  }
+
+  @Override
+  public List<IntervaloTemporalDTO> next(ZonedDateTime after,
+                                         int maxCount) {
+    if (zone == null || maxCount <= 0) {
+      return Collections.emptyList();
+    }
+    List<IntervaloTemporalDTO> results = new ArrayList<>();
+    long target = DateTimeAdapter.toUtcTimestamp(after, zone);
+    long next;
+    while (results.size() < maxCount
+        && (next = seek(target)) != EXHAUSTED) {
+      results.add(toIntervalo(next));
+      target = next + 1;
+    }
+    return results;
+  }
+
+  @Override
+  public List<IntervaloTemporalDTO> between(ZonedDateTime start,
+                                            ZonedDateTime end) {
+    if (zone == null || start.isAfter(end)) {
+      return Collections.emptyList();
+    }
+    List<IntervaloTemporalDTO> results = new ArrayList<>();
+    long target = DateTimeAdapter.toUtcTimestamp(start, zone);
+    long limit = DateTimeAdapter
+        .toUtcTimestamp(end.truncatedTo(ChronoUnit.MILLIS), zone);
+    long next;
+    while ((next = seek(target)) != EXHAUSTED && next <= limit) {
+      results.add(toIntervalo(next));
+      target = next + 1;
+    }
+    return results;
+  }
+
+  @Override
+  public void reset() {
+    RecurrenceRule rule = compiled.getRule();
+    long baseStart = compiled.getBaseStart();
+    if (rule != null && baseStart != EXHAUSTED) {
+      ruleIterator = rule.iterator(new DateTime(DateTime.UTC, baseStart));
+      pendingRule = NOT_LOADED;
+    } else {
+      ruleIterator = null;
+      // Sem recorrência: apenas o evento base. Regra inválida: nenhum.
+      pendingRule = compiled.isRecurrent() ? EXHAUSTED : baseStart;
+    }
+    includeIndex = 0;
+    position = Long.MIN_VALUE;
+    head = NOT_LOADED;
+  }
+
+  // ---------- Métodos auxiliares ----------
+
+  /**
+   * Posiciona o cursor na primeira ocorrência válida igual ou posterior ao
+   * alvo, sem consumi-la.
+   *
+   * @param target timestamp de referência
+   * @return timestamp da ocorrência ou {@link #EXHAUSTED}
+   */
+  long seek(long target) {
+    if (target < position) {
+      reset();
+    }
+    position = target;
+    if (head != NOT_LOADED && head >= target) {
+      return head;
+    }
+    long from = target;
+    while (true) {
+      long candidate = Math.min(ruleHead(from), includeHead(from));
+      if (candidate == EXHAUSTED || !compiled.isExcluded(candidate)) {
+        head = candidate;
+        return candidate;
+      }
+      from = candidate + 1;
+    }
+  }
+
+  private long ruleHead(long target) {
+    if (pendingRule >= target) {
+      return pendingRule;
+    }
+    if (ruleIterator == null) {
+      pendingRule = EXHAUSTED;
+      return EXHAUSTED;
+    }
+    ruleIterator.fastForward(target);
+    pendingRule = ruleIterator.hasNext() ? ruleIterator.nextMillis()
+                                         : EXHAUSTED;
+    return pendingRule;
+  }
+
+  private long includeHead(long target) {
+    while (includeIndex < includeDates.length
+        && includeDates[includeIndex] < target) {
+      includeIndex++;
+    }
+    return includeIndex < includeDates.length ? includeDates[includeIndex]
+                                              : EXHAUSTED;
+  }
+
+  /**
+   * @return a zona da periodicidade ou {@code null} se não houver ocorrências
+   */
+  ZoneId zone() {
+    return zone;
+  }
+
+  /**
+   * @return a duração de cada ocorrência
+   */
+  Duration duration() {
+    return compiled.getDuration();
+  }
+
+  IntervaloTemporalDTO toIntervalo(long start) {
+    return DateTimeAdapter
+        .toIntervaloTemporalDTO(start, compiled.getDuration(), zone);
+  }
+}
@@ -7,6 +7,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +40,17 @@ public interface OccurrenceCalculator {
     return LibRecurOccurrenceCalculator.get();
   }
 
+  /**
+   * Abre um cursor incremental sobre as ocorrências de uma periodicidade.
+   * <p>
+   * Indicado para consultas repetidas e monotônicas sobre a mesma
+   * periodicidade, como as realizadas por triggers a cada disparo.
+   *
+   * @param p a periodicidade
+   * @return cursor posicionado no início da regra
+   */
+  OccurrenceCursor openCursor(PeriodicidadeDTO p);
+
   /**
    * Retorna a próxima ocorrência após uma data/hora.
    *
@@ -111,4 +123,23 @@ public interface OccurrenceCalculator {
                      LocalDateTime windowStart, LocalDateTime windowEnd,
                      ZoneId zoneId);
 
+  /**
+   * Encontra as periodicidades existentes que conflitam com uma candidata.
+   * <p>
+   * As ocorrências são percorridas em fluxo, sem materialização, mesclando as
+   * periodicidades existentes por ordem de início. Cada periodicidade
+   * existente aparece no máximo uma vez no resultado, com o primeiro par de
+   * ocorrências sobrepostas na janela.
+   *
+   * @param candidate a periodicidade candidata
+   * @param existing as periodicidades existentes
+   * @param windowStart início da janela de verificação
+   * @param windowEnd fim da janela de verificação
+   * @return lista de conflitos na ordem em que foram encontrados
+   */
+  List<OccurrenceConflict> findConflicts(PeriodicidadeDTO candidate,
+                                         Collection<PeriodicidadeDTO> existing,
+                                         ZonedDateTime windowStart,
+                                         ZonedDateTime windowEnd);
+
 }
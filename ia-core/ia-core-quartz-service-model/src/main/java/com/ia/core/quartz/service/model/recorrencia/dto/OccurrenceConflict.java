@@ -0,0 +1,26 @@
+package com.ia.core.quartz.service.model.recorrencia.dto;
+
+import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
+import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
+
+/**
+ * Conflito entre uma periodicidade candidata e uma periodicidade existente.
+ * <p>
+ * Registra o primeiro par de ocorrências sobrepostas encontrado na janela de
+ * verificação.
+ *
+ * @param candidate a periodicidade candidata
+ * @param existing a periodicidade existente em conflito
+ * @param candidateOccurrence a ocorrência da candidata
+ * @param existingOccurrence a ocorrência da existente
+ * @author Israel Araújo
+ * @see OccurrenceCalculator#findConflicts
+ * @since 1.0.0
+ */
+public record OccurrenceConflict(
+  PeriodicidadeDTO candidate,
+  PeriodicidadeDTO existing,
+  IntervaloTemporalDTO candidateOccurrence,
+  IntervaloTemporalDTO existingOccurrence
+) {
+}
@@ -0,0 +1,75 @@
+package com.ia.core.quartz.service.model.recorrencia.dto;
+
+import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
+import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cursor incremental sobre as ocorrências de uma periodicidade.
+ * <p>
+ * Diferente do {@link OccurrenceCalculator}, que recalcula as ocorrências a
+ * cada chamada, o cursor mantém o estado da iteração (RRULE, RDATE e EXDATE)
+ * e apenas avança quando consultado com uma data de referência posterior à
+ * anterior. Consultas com datas anteriores reposicionam o cursor no início da
+ * regra. O custo amortizado de consultas monotônicas, como as feitas por um
+ * trigger a cada disparo, é constante.
+ * <p>
+ * Implementações não são thread-safe.
+ *
+ * @author Israel Araújo
+ * @see OccurrenceCalculator#openCursor(PeriodicidadeDTO)
+ * @since 1.0.0
+ */
+public interface OccurrenceCursor {
+
+  /**
+   * Retorna a periodicidade percorrida pelo cursor.
+   *
+   * @return a periodicidade
+   */
+  PeriodicidadeDTO getPeriodicidade();
+
+  /**
+   * Retorna o início da primeira ocorrência igual ou posterior a uma
+   * data/hora.
+   *
+   * @param after a data/hora de referência
+   * @return Optional contendo o início da ocorrência, se existir
+   */
+  Optional<ZonedDateTime> nextStart(ZonedDateTime after);
+
+  /**
+   * Retorna a primeira ocorrência igual ou posterior a uma data/hora.
+   *
+   * @param after a data/hora de referência
+   * @return Optional contendo a ocorrência, se existir
+   */
+  Optional<IntervaloTemporalDTO> next(ZonedDateTime after);
+
+  /**
+   * Retorna as próximas ocorrências iguais ou posteriores a uma data/hora.
+   *
+   * @param after a data/hora de referência
+   * @param maxCount número máximo de ocorrências
+   * @return lista de ocorrências
+   */
+  List<IntervaloTemporalDTO> next(ZonedDateTime after, int maxCount);
+
+  /**
+   * Retorna as ocorrências cujo início está dentro de um período (inclusivo).
+   *
+   * @param start data/hora de início
+   * @param end data/hora de fim
+   * @return lista de ocorrências dentro do período
+   */
+  List<IntervaloTemporalDTO> between(ZonedDateTime start,
+                                     ZonedDateTime end);
+
+  /**
+   * Reposiciona o cursor no início da regra.
+   */
+  void reset();
+}
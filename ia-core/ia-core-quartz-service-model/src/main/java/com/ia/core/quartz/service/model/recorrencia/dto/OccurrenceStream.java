@@ -0,0 +1,114 @@
+package com.ia.core.quartz.service.model.recorrencia.dto;
+
+import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
+import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Fluxo ordenado das ocorrências de uma periodicidade dentro de uma janela.
+ * <p>
+ * Mantém apenas a ocorrência corrente, expressa em instantes (epoch millis)
+ * para que fluxos de periodicidades com zonas diferentes possam ser
+ * comparados diretamente. Como todas as ocorrências de uma periodicidade têm
+ * a mesma duração, o fluxo é ordenado tanto pelo início quanto pelo fim, o que
+ * permite as varreduras lineares de {@link LibRecurOccurrenceCalculator}.
+ *
+ * @author Israel Araújo
+ * @see LibRecurOccurrenceCalculator#intersects
+ * @see LibRecurOccurrenceCalculator#findConflicts
+ * @since 1.0.0
+ */
+final class OccurrenceStream {
+
+  private final PeriodicidadeDTO periodicidade;
+  private final LibRecurOccurrenceCursor cursor;
+  private final ZoneId zone;
+  private final long durationMillis;
+  private final long limit;
+
+  private long wall;
+  private long start;
+  private long end;
+
+  /**
+   * Cria o fluxo das ocorrências com início dentro da janela (inclusiva).
+   *
+   * @param periodicidade a periodicidade
+   * @param windowStart início da janela
+   * @param windowEnd fim da janela
+   */
+  OccurrenceStream(PeriodicidadeDTO periodicidade, ZonedDateTime windowStart,
+                   ZonedDateTime windowEnd) {
+    this.periodicidade = periodicidade;
+    this.cursor = new LibRecurOccurrenceCursor(periodicidade);
+    this.zone = cursor.zone();
+    this.durationMillis = cursor.duration().toMillis();
+    if (zone == null || windowStart.isAfter(windowEnd)) {
+      this.limit = Long.MIN_VALUE;
+      this.wall = LibRecurOccurrenceCursor.EXHAUSTED;
+    } else {
+      this.limit = DateTimeAdapter
+          .toUtcTimestamp(windowEnd.truncatedTo(ChronoUnit.MILLIS), zone);
+      moveTo(DateTimeAdapter.toUtcTimestamp(windowStart, zone));
+    }
+  }
+
+  /**
+   * @return a periodicidade percorrida
+   */
+  PeriodicidadeDTO periodicidade() {
+    return periodicidade;
+  }
+
+  /**
+   * @return se há ocorrência corrente
+   */
+  boolean hasCurrent() {
+    return wall != LibRecurOccurrenceCursor.EXHAUSTED;
+  }
+
+  /**
+   * @return início da ocorrência corrente em epoch millis
+   */
+  long start() {
+    return start;
+  }
+
+  /**
+   * @return fim da ocorrência corrente em epoch millis
+   */
+  long end() {
+    return end;
+  }
+
+  /**
+   * @return a ocorrência corrente como DTO
+   */
+  IntervaloTemporalDTO current() {
+    return cursor.toIntervalo(wall);
+  }
+
+  /**
+   * Avança para a próxima ocorrência.
+   */
+  void advance() {
+    if (hasCurrent()) {
+      moveTo(wall + 1);
+    }
+  }
+
+  private void moveTo(long target) {
+    long next = cursor.seek(target);
+    if (next == LibRecurOccurrenceCursor.EXHAUSTED || next > limit) {
+      wall = LibRecurOccurrenceCursor.EXHAUSTED;
+      return;
+    }
+    wall = next;
+    start = DateTimeAdapter.fromUtcTimestamp(next, zone).toInstant()
+        .toEpochMilli();
+    end = start + durationMillis;
+  }
+}
@@ -0,0 +1,51 @@
+package com.ia.core.quartz.config;
+
+import com.ia.core.quartz.service.CompiledScheduleCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuração do cache compartilhado de periodicidades compiladas.
+ * <p>
+ * Aplica o tamanho máximo definido em
+ * {@code ia-core.quartz.schedule-cache.max-size} e registra as métricas de
+ * acertos, faltas, descartes e tamanho do cache.
+ *
+ * @author Israel Araújo
+ * @see CompiledScheduleCache
+ * @since 1.0.0
+ */
+@Component
+public class CompiledScheduleCacheConfig {
+
+  /**
+   * Construtor com injeção de dependências.
+   *
+   * @param quartzConfigurationProvider provedor de configurações
+   * @param registry registro de métricas
+   */
+  public CompiledScheduleCacheConfig(QuartzConfigurationProvider quartzConfigurationProvider,
+                                     MeterRegistry registry) {
+    CompiledScheduleCache.configure(quartzConfigurationProvider
+        .getQuartzProperties().getScheduleCache().getMaxSize());
+
+    FunctionCounter.builder("quartz_schedule_cache_hits_total", this,
+                            c -> CompiledScheduleCache.get().hitCount())
+        .description("Consultas atendidas pelo cache de periodicidades compiladas")
+        .register(registry);
+    FunctionCounter.builder("quartz_schedule_cache_misses_total", this,
+                            c -> CompiledScheduleCache.get().missCount())
+        .description("Periodicidades compiladas por ausência no cache")
+        .register(registry);
+    FunctionCounter.builder("quartz_schedule_cache_evictions_total", this,
+                            c -> CompiledScheduleCache.get().evictionCount())
+        .description("Periodicidades compiladas descartadas por limite de tamanho")
+        .register(registry);
+    Gauge.builder("quartz_schedule_cache_size", this,
+                  c -> CompiledScheduleCache.get().size())
+        .description("Periodicidades compiladas em cache")
+        .register(registry);
+  }
+}
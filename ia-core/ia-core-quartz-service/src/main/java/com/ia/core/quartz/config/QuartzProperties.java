@@ -1,5 +1,6 @@
 package com.ia.core.quartz.config;
 
+import com.ia.core.quartz.service.CompiledScheduleCache;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -45,6 +46,8 @@ import java.util.Map;
  *       max-misfires-to-handle-at-a-time: 20
  *       dont-set-auto-commit-false: false
  *       acquire-triggers-within-lock: false
+ *     schedule-cache:
+ *       max-size: 10000
  * </pre>
  *
  * @author Israel Araújo
@@ -81,6 +84,11 @@ public class QuartzProperties {
      */
     private PluginsConfig plugins = new PluginsConfig();
 
+    /**
+     * Configurações do cache de periodicidades compiladas.
+     */
+    private ScheduleCacheConfig scheduleCache = new ScheduleCacheConfig();
+
     @Getter
     @Setter
     public static class SchedulerConfig {
@@ -381,4 +389,13 @@ public class QuartzProperties {
          */
         private Map<String, String> properties = new HashMap<>();
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Setter
+    public static class ScheduleCacheConfig {
+        /**
+         * Máximo de periodicidades compiladas mantidas em cache.
+         */
+        private int maxSize = CompiledScheduleCache.DEFAULT_MAX_SIZE;
+    }
+}
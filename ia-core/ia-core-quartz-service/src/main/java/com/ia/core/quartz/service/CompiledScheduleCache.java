@@ -0,0 +1,137 @@
+package com.ia.core.quartz.service;
+
+import com.ia.core.model.util.BoundedCache;
+import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
+import com.ia.core.quartz.service.model.recorrencia.dto.CompiledPeriodicidade;
+import com.ia.core.quartz.service.model.recorrencia.dto.LibRecurOccurrenceCursor;
+import com.ia.core.quartz.service.model.recorrencia.dto.OccurrenceCursor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache compartilhado de periodicidades compiladas.
+ * <p>
+ * Os triggers do Quartz são desserializados pelo JobStore fora do contexto
+ * Spring, por isso o cache é um singleton estático, no mesmo padrão de
+ * {@link com.ia.core.quartz.service.model.recorrencia.dto.OccurrenceCalculator#libRecurCalculator()}.
+ * As entradas são indexadas pela chave de conteúdo
+ * ({@link CompiledPeriodicidade#contentKey(PeriodicidadeDTO)}), de forma que
+ * triggers distintos com a mesma regra compartilham a mesma compilação e uma
+ * rajada de misfires após reinício não interpreta a mesma RRULE repetidas
+ * vezes.
+ *
+ * @author Israel Araújo
+ * @see CompiledPeriodicidade
+ * @see PeriodicidadeTrigger
+ * @since 1.0.0
+ */
+@Slf4j
+public final class CompiledScheduleCache {
+
+  /** Tamanho máximo padrão do cache. */
+  public static final int DEFAULT_MAX_SIZE = 10_000;
+
+  private static volatile CompiledScheduleCache INSTANCE = null;
+
+  private final BoundedCache<String, CompiledPeriodicidade> cache;
+
+  /**
+   * Cria um cache com o tamanho máximo informado.
+   *
+   * @param maxSize número máximo de periodicidades compiladas
+   */
+  public CompiledScheduleCache(int maxSize) {
+    this.cache = new BoundedCache<>(maxSize);
+  }
+
+  /**
+   * Retorna a instância compartilhada do cache.
+   *
+   * @return a instância compartilhada
+   */
+  public static CompiledScheduleCache get() {
+    if (INSTANCE == null) {
+      synchronized (CompiledScheduleCache.class) {
+        if (INSTANCE == null) {
+          INSTANCE = new CompiledScheduleCache(DEFAULT_MAX_SIZE);
+        }
+      }
+    }
+    return INSTANCE;
+  }
+
+  /**
+   * Substitui a instância compartilhada por uma com o tamanho informado. As
+   * entradas atuais são descartadas.
+   *
+   * @param maxSize número máximo de periodicidades compiladas
+   */
+  public static synchronized void configure(int maxSize) {
+    if (INSTANCE == null || INSTANCE.cache.maxSize() != maxSize) {
+      log.info("Configurando cache de periodicidades compiladas com {} entradas",
+               maxSize);
+      INSTANCE = new CompiledScheduleCache(maxSize);
+    }
+  }
+
+  /**
+   * Retorna a forma compilada da periodicidade, compilando-a na primeira
+   * consulta do seu conteúdo.
+   *
+   * @param periodicidade a periodicidade
+   * @return a periodicidade compilada
+   */
+  public CompiledPeriodicidade compile(PeriodicidadeDTO periodicidade) {
+    if (periodicidade == null) {
+      return CompiledPeriodicidade.compile(null);
+    }
+    return cache.computeIfAbsent(CompiledPeriodicidade
+        .contentKey(periodicidade), key -> CompiledPeriodicidade
+            .compile(periodicidade));
+  }
+
+  /**
+   * Abre um cursor de ocorrências sobre a forma compilada da periodicidade.
+   *
+   * @param periodicidade a periodicidade
+   * @return cursor posicionado no início da regra
+   */
+  public OccurrenceCursor openCursor(PeriodicidadeDTO periodicidade) {
+    return new LibRecurOccurrenceCursor(periodicidade,
+                                        compile(periodicidade));
+  }
+
+  /**
+   * Descarta todas as periodicidades compiladas.
+   */
+  public void clear() {
+    cache.clear();
+  }
+
+  /**
+   * @return número de periodicidades compiladas armazenadas
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * @return número de consultas atendidas pelo cache
+   */
+  public long hitCount() {
+    return cache.hitCount();
+  }
+
+  /**
+   * @return número de consultas que exigiram compilação
+   */
+  public long missCount() {
+    return cache.missCount();
+  }
+
+  /**
+   * @return número de compilações descartadas por limite de tamanho
+   */
+  public long evictionCount() {
+    return cache.evictionCount();
+  }
+}
@@ -1,8 +1,7 @@
 package com.ia.core.quartz.service;
 
-import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
 import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
-import com.ia.core.quartz.service.model.recorrencia.dto.OccurrenceCalculator;
+import com.ia.core.quartz.service.model.recorrencia.dto.OccurrenceCursor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +29,12 @@ public class PeriodicidadeTrigger
     extends AbstractTrigger<PeriodicidadeTrigger>
     implements Serializable {
     private static final int MISFIRE_INSTRUCTION_DO_NOTHING = 2;
-    private transient OccurrenceCalculator calculator;
+    /**
+     * Cursor incremental de ocorrências sobre a periodicidade compilada em
+     * {@link CompiledScheduleCache}. Como os disparos avançam no tempo, o
+     * cursor apenas avança a partir da última posição consultada.
+     */
+    private transient OccurrenceCursor cursor;
 
     @Getter
     private PeriodicidadeDTO periodicidade;
@@ -68,11 +72,19 @@ public class PeriodicidadeTrigger
         setStartTime(Date.from(startDateTime.toInstant()));
     }
 
-    private OccurrenceCalculator calculator() {
-        if (calculator == null) {
-            calculator = OccurrenceCalculator.libRecurCalculator();
+    private OccurrenceCursor cursor() {
+        if (cursor == null) {
+            cursor = CompiledScheduleCache.get().openCursor(periodicidade);
         }
-        return calculator;
+        return cursor;
+    }
+
+    @Override
+    public Object clone() {
+        PeriodicidadeTrigger copy = (PeriodicidadeTrigger) super.clone();
+        // O cursor mantém estado de iteração e não pode ser compartilhado
+        copy.cursor = null;
+        return copy;
     }
 
     @Override
@@ -97,29 +109,24 @@ public class PeriodicidadeTrigger
                 periodicidade.getIntervaloBase().getStartTime(), zone);
         ZonedDateTime after = startDateTime.minusSeconds(1);
 
-        Optional<IntervaloTemporalDTO> next = calculator()
-            .nextOccurrence(periodicidade, after);
+        Optional<ZonedDateTime> next = cursor().nextStart(after);
 
         if (next.isEmpty()) {
             log.error("PeriodicidadeTrigger - nextOccurrence retornou vazio para periodicidade: {}", periodicidade);
             return null;
         }
 
-        // Combina startDate e startTime para ZonedDateTime
-        ZonedDateTime nextStart = ZonedDateTime
-            .of(next.get().getStartDate(), next.get().getStartTime(), zone);
+        ZonedDateTime nextStart = next.get();
         Date nextDate = Date.from(nextStart.toInstant());
 
         if (calendar != null && !calendar.isTimeIncluded(nextDate.getTime())) {
 
-            next = calculator().nextOccurrence(periodicidade, nextStart);
+            next = cursor().nextStart(nextStart);
 
             if (next.isEmpty())
                 return null;
 
-            ZonedDateTime nextOccurrenceStart = ZonedDateTime
-                .of(next.get().getStartDate(), next.get().getStartTime(), zone);
-            nextDate = Date.from(nextOccurrenceStart.toInstant());
+            nextDate = Date.from(next.get().toInstant());
         }
 
         this.nextFireTime = nextDate;
@@ -143,28 +150,22 @@ public class PeriodicidadeTrigger
         ZonedDateTime after = ZonedDateTime
             .ofInstant(previousFireTime.toInstant(), zone).plusSeconds(1);
 
-        Optional<IntervaloTemporalDTO> next = calculator()
-            .nextOccurrence(periodicidade, after);
+        Optional<ZonedDateTime> next = cursor().nextStart(after);
 
         if (next.isEmpty()) {
             this.nextFireTime = null;
             return;
         }
 
-        // Combina startDate e startTime para ZonedDateTime
-        ZonedDateTime nextStart = ZonedDateTime
-            .of(next.get().getStartDate(), next.get().getStartTime(), zone);
+        ZonedDateTime nextStart = next.get();
         Date nextDate = Date.from(nextStart.toInstant());
 
         if (calendar != null && !calendar.isTimeIncluded(nextDate.getTime())) {
 
-            next = calculator().nextOccurrence(periodicidade, nextStart);
+            next = cursor().nextStart(nextStart);
 
-            ZonedDateTime nextOccurrenceStart = next.isPresent() ? ZonedDateTime
-                .of(next.get().getStartDate(), next.get().getStartTime(), zone)
+            nextDate = next.isPresent() ? Date.from(next.get().toInstant())
                 : null;
-            nextDate = nextOccurrenceStart != null ? Date
-                .from(nextOccurrenceStart.toInstant()) : null;
         }
 
         this.nextFireTime = nextDate;
@@ -181,13 +182,9 @@ public class PeriodicidadeTrigger
         ZoneId zone = periodicidade.getZoneIdValue();
         ZonedDateTime now = ZonedDateTime.now(zone);
 
-        Optional<IntervaloTemporalDTO> next = calculator()
-            .nextOccurrence(periodicidade, now);
+        Optional<ZonedDateTime> next = cursor().nextStart(now);
 
-        ZonedDateTime nextStart = next.isPresent() ? ZonedDateTime
-            .of(next.get().getStartDate(), next.get().getStartTime(), zone)
-            : null;
-        this.nextFireTime = nextStart != null ? Date.from(nextStart.toInstant())
+        this.nextFireTime = next.isPresent() ? Date.from(next.get().toInstant())
             : null;
     }
 
@@ -235,10 +232,10 @@ public class PeriodicidadeTrigger
                             periodicidade.getIntervaloBase().getStartTime(),
                             periodicidade.getZoneIdValue());
 
-                    var occurrences = calculator()
-                        .generateOccurrences(periodicidade, start,
-                            periodicidade.getRegra().getCountLimit()
-                                + 1);
+                    var occurrences = CompiledScheduleCache.get()
+                        .openCursor(periodicidade)
+                        .next(start, periodicidade.getRegra().getCountLimit()
+                            + 1);
 
                     if (!occurrences.isEmpty()) {
                         var lastOccurrence = occurrences.get(occurrences.size() - 1);
@@ -281,19 +278,13 @@ public class PeriodicidadeTrigger
         ZonedDateTime after = ZonedDateTime.ofInstant(afterTime.toInstant(),
             zone);
 
-        Optional<IntervaloTemporalDTO> next = calculator()
-            .nextOccurrence(periodicidade, after);
+        Optional<ZonedDateTime> next = cursor().nextStart(after);
 
         if (next.isEmpty()) {
             return null;
         }
 
-        ZonedDateTime nextStart = next.isPresent() ? ZonedDateTime
-            .of(next.get().getStartDate(), next.get().getStartTime(), zone)
-            : null;
-        if (nextStart == null) {
-            return null;
-        }
+        ZonedDateTime nextStart = next.get();
         if (getEndTime() != null
             && nextStart.toInstant().isAfter(getEndTime().toInstant())) {
             return null;
@@ -0,0 +1,112 @@
+package com.ia.core.quartz.service;
+
+import com.ia.core.quartz.model.periodicidade.Frequencia;
+import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
+import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
+import com.ia.core.quartz.service.model.recorrencia.dto.CompiledPeriodicidade;
+import com.ia.core.quartz.service.model.recorrencia.dto.RecorrenciaDTO;
+import com.ia.test.CoreBaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for CompiledScheduleCache.
+ * <p>
+ * Tests content-keyed reuse of compiled periodicidades.
+ * </p>
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+@DisplayName("CompiledScheduleCache Tests")
+class CompiledScheduleCacheTest extends CoreBaseUnitTest {
+
+    private CompiledScheduleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CompiledScheduleCache(2);
+    }
+
+    private PeriodicidadeDTO weekly(List<DayOfWeek> days) {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        return PeriodicidadeDTO.builder()
+            .intervaloBase(IntervaloTemporalDTO.builder().startDate(start)
+                .startTime(LocalTime.of(9, 0)).endDate(start)
+                .endTime(LocalTime.of(10, 0)).build())
+            .regra(RecorrenciaDTO.builder().frequency(Frequencia.SEMANALMENTE)
+                .byDay(new LinkedHashSet<>(days)).build())
+            .zoneId("UTC").build();
+    }
+
+    @Test
+    @DisplayName("Should reuse compilation for equal content")
+    void shouldReuseCompilationForEqualContent() {
+        // Arrange
+        PeriodicidadeDTO a = weekly(List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+        PeriodicidadeDTO b = weekly(List.of(DayOfWeek.FRIDAY, DayOfWeek.MONDAY));
+        b.setId(42L);
+
+        // Act
+        CompiledPeriodicidade first = cache.compile(a);
+        CompiledPeriodicidade second = cache.compile(b);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should compile again when content changes")
+    void shouldCompileAgainWhenContentChanges() {
+        // Arrange
+        PeriodicidadeDTO a = weekly(List.of(DayOfWeek.MONDAY));
+        PeriodicidadeDTO b = weekly(List.of(DayOfWeek.MONDAY));
+        b.setExceptionDates(Set.of(LocalDate.of(2024, 1, 8)));
+
+        // Act & Assert
+        assertThat(cache.compile(b)).isNotSameAs(cache.compile(a));
+        assertThat(CompiledPeriodicidade.contentKey(a))
+            .isNotEqualTo(CompiledPeriodicidade.contentKey(b));
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used compilation")
+    void shouldEvictLeastRecentlyUsed() {
+        // Act
+        cache.compile(weekly(List.of(DayOfWeek.MONDAY)));
+        cache.compile(weekly(List.of(DayOfWeek.TUESDAY)));
+        cache.compile(weekly(List.of(DayOfWeek.WEDNESDAY)));
+
+        // Assert
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should open cursors over the compiled schedule")
+    void shouldOpenCursorOverCompiledSchedule() {
+        // Arrange
+        PeriodicidadeDTO periodicidade = weekly(List.of(DayOfWeek.MONDAY));
+
+        // Act
+        var next = cache.openCursor(periodicidade)
+            .next(LocalDate.of(2024, 1, 2).atStartOfDay(periodicidade
+                .getZoneIdValue()));
+
+        // Assert
+        assertThat(next).isPresent();
+        assertThat(next.get().getStartDate()).isEqualTo(LocalDate.of(2024, 1, 8));
+    }
+}
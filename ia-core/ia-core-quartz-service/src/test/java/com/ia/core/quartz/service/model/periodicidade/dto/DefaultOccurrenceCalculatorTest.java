@@ -4,6 +4,7 @@ import com.ia.core.quartz.model.periodicidade.Frequencia;
 import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
 import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
 import com.ia.core.quartz.service.model.recorrencia.dto.OccurrenceCalculator;
+import com.ia.core.quartz.service.model.recorrencia.dto.OccurrenceConflict;
 import com.ia.core.quartz.service.model.recorrencia.dto.RecorrenciaDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -228,4 +229,79 @@ class DefaultOccurrenceCalculatorTest {
       assertTrue(results.size() <= 3);
     }
   }
+
+  @Nested
+  @DisplayName("intersects e findConflicts")
+  class ConflictTests {
+
+    private final ZoneId zone = ZoneId.of("UTC");
+    private final LocalDate segunda = LocalDate.of(2024, 1, 1);
+
+    private PeriodicidadeDTO semanal(DayOfWeek dia, int hora, int minutos) {
+      LocalDate inicio = segunda.with(java.time.temporal.TemporalAdjusters
+          .nextOrSame(dia));
+      LocalDateTime start = LocalDateTime.of(inicio, LocalTime.of(hora, 0));
+      LocalDateTime end = start.plusMinutes(minutos);
+      return PeriodicidadeDTO.builder()
+          .intervaloBase(IntervaloTemporalDTO.builder()
+              .startDate(start.toLocalDate()).startTime(start.toLocalTime())
+              .endDate(end.toLocalDate()).endTime(end.toLocalTime()).build())
+          .regra(RecorrenciaDTO.builder().frequency(Frequencia.SEMANALMENTE)
+              .build())
+          .zoneId(zone.getId()).build();
+    }
+
+    @Test
+    @DisplayName("Deve detectar interseção entre eventos sobrepostos")
+    void testIntersectsOverlapping() {
+      PeriodicidadeDTO a = semanal(DayOfWeek.MONDAY, 10, 60);
+      PeriodicidadeDTO b = semanal(DayOfWeek.MONDAY, 10, 30);
+
+      assertTrue(calculator.intersects(a, b, segunda.atStartOfDay(),
+                                       segunda.plusWeeks(4).atStartOfDay(),
+                                       zone));
+    }
+
+    @Test
+    @DisplayName("Não deve detectar interseção entre dias diferentes")
+    void testIntersectsDisjoint() {
+      PeriodicidadeDTO a = semanal(DayOfWeek.MONDAY, 10, 60);
+      PeriodicidadeDTO b = semanal(DayOfWeek.TUESDAY, 10, 60);
+
+      assertFalse(calculator.intersects(a, b, segunda.atStartOfDay(),
+                                        segunda.plusWeeks(4).atStartOfDay(),
+                                        zone));
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas as periodicidades em conflito")
+    void testFindConflicts() {
+      PeriodicidadeDTO candidata = semanal(DayOfWeek.WEDNESDAY, 14, 120);
+      PeriodicidadeDTO conflitante = semanal(DayOfWeek.WEDNESDAY, 15, 30);
+      PeriodicidadeDTO livre = semanal(DayOfWeek.WEDNESDAY, 17, 30);
+      PeriodicidadeDTO outroDia = semanal(DayOfWeek.THURSDAY, 14, 120);
+
+      List<OccurrenceConflict> conflitos = calculator
+          .findConflicts(candidata, List.of(livre, conflitante, outroDia),
+                         segunda.atStartOfDay(zone),
+                         segunda.plusWeeks(8).atStartOfDay(zone));
+
+      assertEquals(1, conflitos.size());
+      assertSame(conflitante, conflitos.get(0).existing());
+      assertEquals(LocalDate.of(2024, 1, 3),
+                   conflitos.get(0).existingOccurrence().getStartDate());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio sem periodicidades existentes")
+    void testFindConflictsEmpty() {
+      PeriodicidadeDTO candidata = semanal(DayOfWeek.WEDNESDAY, 14, 60);
+
+      assertTrue(calculator.findConflicts(candidata, List.of(),
+                                          segunda.atStartOfDay(zone),
+                                          segunda.plusWeeks(1)
+                                              .atStartOfDay(zone))
+          .isEmpty());
+    }
+  }
 }
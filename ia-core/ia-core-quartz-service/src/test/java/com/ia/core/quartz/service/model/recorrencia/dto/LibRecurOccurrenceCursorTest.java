@@ -0,0 +1,143 @@
+package com.ia.core.quartz.service.model.recorrencia.dto;
+
+import com.ia.core.quartz.model.periodicidade.Frequencia;
+import com.ia.core.quartz.service.model.periodicidade.dto.IntervaloTemporalDTO;
+import com.ia.core.quartz.service.model.periodicidade.dto.PeriodicidadeDTO;
+import com.ia.test.CoreBaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for LibRecurOccurrenceCursor.
+ * <p>
+ * Tests incremental seeking over RRULE, RDATE and EXDATE occurrences.
+ * </p>
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+@DisplayName("LibRecurOccurrenceCursor Tests")
+class LibRecurOccurrenceCursorTest extends CoreBaseUnitTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    private PeriodicidadeDTO daily(Set<LocalDate> exceptions,
+                                   Set<LocalDate> includes) {
+        return PeriodicidadeDTO.builder()
+            .intervaloBase(IntervaloTemporalDTO.builder().startDate(START)
+                .startTime(LocalTime.of(10, 0)).endDate(START)
+                .endTime(LocalTime.of(11, 0)).build())
+            .regra(RecorrenciaDTO.builder().frequency(Frequencia.DIARIAMENTE)
+                .build())
+            .exceptionDates(exceptions).includeDates(includes)
+            .zoneId(ZONE.getId()).build();
+    }
+
+    private ZonedDateTime at(LocalDate date, int hour) {
+        return ZonedDateTime.of(date, LocalTime.of(hour, 0), ZONE);
+    }
+
+    @Test
+    @DisplayName("Should seek beyond the first thousand instances")
+    void shouldSeekBeyondFirstThousandInstances() {
+        // Arrange
+        OccurrenceCursor cursor = new LibRecurOccurrenceCursor(daily(Set.of(),
+                                                                     Set.of()));
+        LocalDate target = START.plusDays(2000);
+
+        // Act
+        Optional<ZonedDateTime> result = cursor.nextStart(at(target, 9));
+
+        // Assert
+        assertThat(result).contains(at(target, 10));
+    }
+
+    @Test
+    @DisplayName("Should return the same occurrence for repeated queries")
+    void shouldBeIdempotentForSameReference() {
+        // Arrange
+        OccurrenceCursor cursor = new LibRecurOccurrenceCursor(daily(Set.of(),
+                                                                     Set.of()));
+
+        // Act
+        Optional<ZonedDateTime> first = cursor.nextStart(at(START, 10));
+        Optional<ZonedDateTime> second = cursor.nextStart(at(START, 10));
+
+        // Assert
+        assertThat(first).contains(at(START, 10));
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should reposition when seeking backwards")
+    void shouldRepositionWhenSeekingBackwards() {
+        // Arrange
+        OccurrenceCursor cursor = new LibRecurOccurrenceCursor(daily(Set.of(),
+                                                                     Set.of()));
+        cursor.nextStart(at(START.plusDays(30), 11));
+
+        // Act
+        Optional<ZonedDateTime> result = cursor.nextStart(at(START, 11));
+
+        // Assert
+        assertThat(result).contains(at(START.plusDays(1), 10));
+    }
+
+    @Test
+    @DisplayName("Should skip exception dates and merge include dates")
+    void shouldApplyExceptionAndIncludeDates() {
+        // Arrange
+        LocalDate excluded = START.plusDays(1);
+        LocalDate included = START.plusDays(2);
+        OccurrenceCursor cursor = new LibRecurOccurrenceCursor(daily(Set
+            .of(excluded), Set.of(included)));
+
+        // Act
+        List<IntervaloTemporalDTO> result = cursor.next(at(START, 10), 3);
+
+        // Assert
+        assertThat(result).extracting(IntervaloTemporalDTO::getStartDate)
+            .containsExactly(START, included, included);
+        assertThat(result).extracting(IntervaloTemporalDTO::getStartTime)
+            .containsExactly(LocalTime.of(10, 0), LocalTime.MIDNIGHT,
+                             LocalTime.of(10, 0));
+    }
+
+    @Test
+    @DisplayName("Should return no occurrences for inactive periodicidade")
+    void shouldReturnEmptyForInactivePeriodicidade() {
+        // Arrange
+        PeriodicidadeDTO periodicidade = daily(Set.of(), Set.of());
+        periodicidade.setAtivo(Boolean.FALSE);
+        OccurrenceCursor cursor = new LibRecurOccurrenceCursor(periodicidade);
+
+        // Act & Assert
+        assertThat(cursor.next(at(START, 0))).isEmpty();
+        assertThat(cursor.between(at(START, 0), at(START.plusDays(5), 0)))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the base event when there is no recurrence")
+    void shouldReturnBaseEventWithoutRecurrence() {
+        // Arrange
+        PeriodicidadeDTO periodicidade = daily(Set.of(), Set.of());
+        periodicidade.setRegra(null);
+        OccurrenceCursor cursor = new LibRecurOccurrenceCursor(periodicidade);
+
+        // Act & Assert
+        assertThat(cursor.nextStart(at(START, 9))).contains(at(START, 10));
+        assertThat(cursor.nextStart(at(START, 11))).isEmpty();
+    }
+}
@@ -10,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -86,45 +85,32 @@ public class BulkheadStrategyHandler extends AbstractResilienceStrategyHandler<B
       */
     @Override
     public Object execute(ResilienceContext context, Supplier<Object> next) {
+        return execute(resolve(context), next);
+    }
+
+    /**
+     * Vincula o Bulkhead do método, resolvido uma única vez.
+     *
+     * @param context o contexto de resiliência do método
+     * @return a estratégia vinculada ao Bulkhead resolvido
+     */
+    @Override
+    public BoundStrategy bind(ResilienceContext context) {
         Bulkhead bulkhead = resolve(context);
+        return next -> execute(bulkhead, next);
+    }
+
+    /**
+     * Executa o próximo passo na thread atual; a permissão do Bulkhead é mantida
+     * até o fim da execução.
+     */
+    private Object execute(Bulkhead bulkhead, Supplier<Object> next) {
         try {
-            return bulkhead.executeSupplier(() ->
-                CompletableFuture.supplyAsync(next::get)
-            ).join();
+            return bulkhead.executeSupplier(next);
         } catch (BulkheadFullException e) {
             // Only wrap BulkheadFullException - these are truly caused by Bulkhead
             throw new RuntimeException("Bulkhead full: " + bulkhead.getName() + 
                     ". Max concurrent calls: " + bulkhead.getBulkheadConfig().getMaxConcurrentCalls(), e);
-        } catch (Exception e) {
-            // Unwrap CompletionException to check the actual cause
-            e = (Exception) unwrapCompletionException(e);
-            // For other exceptions, check if they're caused by Bulkhead
-            // If not, rethrow as-is to prevent message accumulation
-            if (isCausedBy(e, BulkheadFullException.class)) {
-                throw new RuntimeException("Bulkhead full: " + bulkhead.getName() + 
-                        ". Max concurrent calls: " + bulkhead.getBulkheadConfig().getMaxConcurrentCalls(), e);
-            }
-            // Rethrow without wrapping to prevent nested message accumulation
-            if (e instanceof RuntimeException) {
-                throw (RuntimeException) e;
-            }
-            throw new RuntimeException(e);
-        }
-    }
-
-    /**
-      * Unwraps CompletionException to get the actual cause.
-      *
-      * <p>This method safely unwraps CompletionException without causing issues
-      * if the cause is null.</p>
-      */
-    private Throwable unwrapCompletionException(Throwable t) {
-        if (t instanceof java.util.concurrent.CompletionException) {
-            Throwable cause = t.getCause();
-            if (cause != null) {
-                return cause;
-            }
         }
-        return t;
     }
-}
\ No newline at end of file
+}
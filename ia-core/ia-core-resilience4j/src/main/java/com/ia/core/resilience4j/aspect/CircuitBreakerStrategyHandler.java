@@ -97,7 +97,22 @@ public class CircuitBreakerStrategyHandler extends AbstractResilienceStrategyHan
      */
     @Override
     public Object execute(ResilienceContext context, Supplier<Object> next) {
+        return execute(resolve(context), next);
+    }
+
+    /**
+     * Vincula o CircuitBreaker do método, resolvido uma única vez.
+     *
+     * @param context o contexto de resiliência do método
+     * @return a estratégia vinculada ao CircuitBreaker resolvido
+     */
+    @Override
+    public BoundStrategy bind(ResilienceContext context) {
         CircuitBreaker circuitBreaker = resolve(context);
+        return next -> execute(circuitBreaker, next);
+    }
+
+    private Object execute(CircuitBreaker circuitBreaker, Supplier<Object> next) {
         try {
             return circuitBreaker.executeSupplier(next::get);
         } catch (CallNotPermittedException e) {
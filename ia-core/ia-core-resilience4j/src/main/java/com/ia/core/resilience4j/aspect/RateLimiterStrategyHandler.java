@@ -87,7 +87,22 @@ public class RateLimiterStrategyHandler extends AbstractResilienceStrategyHandle
      */
     @Override
     public Object execute(ResilienceContext context, Supplier<Object> next) {
+        return execute(resolve(context), next);
+    }
+
+    /**
+     * Vincula o RateLimiter do método, resolvido uma única vez.
+     *
+     * @param context o contexto de resiliência do método
+     * @return a estratégia vinculada ao RateLimiter resolvido
+     */
+    @Override
+    public BoundStrategy bind(ResilienceContext context) {
         RateLimiter rateLimiter = resolve(context);
+        return next -> execute(rateLimiter, next);
+    }
+
+    private Object execute(RateLimiter rateLimiter, Supplier<Object> next) {
         try {
             return rateLimiter.executeSupplier(next::get);
         } catch (RequestNotPermitted e) {
@@ -14,7 +14,7 @@ import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
 import java.util.Objects;
-import java.util.function.Supplier;
+import java.util.function.Function;
 
 /**
  * AOP Aspect that intercepts methods annotated with {@link Resilient}
@@ -31,8 +31,9 @@ import java.util.function.Supplier;
  * <p>Execution flow:</p>
  * <ol>
  *   <li>Resolve the resilience profile</li>
- *   <li>Call resolve() on all handlers to configure context</li>
- *   <li>Execute the method with the configured handlers</li>
+ *   <li>On the first call of a method, build its {@link ResilienceExecutionPlan},
+ *       binding the enabled handlers to their resilience4j instances</li>
+ *   <li>Execute the method with the cached plan</li>
  *   <li>In case of failure, apply the configured fallback</li>
  * </ol>
  *
@@ -56,6 +57,7 @@ public class ResilienceAspect {
     private final ResilienceRegistry resilienceRegistry;
     private final ResilienceTemplate resilienceTemplate;
     private final ResilienceExecutionChainBuilder executionChainBuilder;
+    private final Function<Method, ResilienceContext> contextFactory = this::createContext;
 
     public ResilienceAspect(ResilienceRegistry resilienceRegistry,
                             ResilienceTemplate resilienceTemplate,
@@ -71,25 +73,28 @@ public class ResilienceAspect {
     @Around("@annotation(com.ia.core.resilience4j.annotation.Resilient)")
     public Object applyResilience(ProceedingJoinPoint joinPoint) throws Throwable {
         Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-        Resilient annotation = method.getAnnotation(Resilient.class);
 
-        // 1. Resolve the profile
-        ResilienceProfile profile = resolveProfile(annotation);
+        // Execute the method's precomputed plan within the resilient template
+        return executionChainBuilder.plan(method, contextFactory)
+                .execute(joinPoint, resilienceTemplate);
+    }
 
-        // 2. Create the resilience context
-        ResilienceContext context = ResilienceContext.builder()
-                .profile(profile)
+    /**
+     * Creates the resilience context shared by all calls of the method.
+     *
+     * <p>Invoked once per method, when its execution plan is built.</p>
+     *
+     * @param method the intercepted method
+     * @return the method's resilience context
+     */
+    private ResilienceContext createContext(Method method) {
+        Resilient annotation = method.getAnnotation(Resilient.class);
+        return ResilienceContext.builder()
+                .profile(resolveProfile(annotation))
                 .method(method)
-                .joinPoint(joinPoint)
                 .annotation(annotation)
                 .resilienceRegistry(resilienceRegistry)
                 .build();
-
-
-        // 5. Execute within the resilient template
-
-            return resilienceTemplate.execute(context, buildExecutionChain(context, joinPoint));
-
     }
 
     /**
@@ -100,26 +105,6 @@ public class ResilienceAspect {
     }
 
 
-
-    /**
-     * Builds the execution chain with all resilience handlers.
-     *
-     * <p>Cria a cadeia de execução com os handlers na ordem correta:
-     * RateLimiter → Bulkhead → CircuitBreaker → Retry → TimeLimiter → Metrics</p>
-     *
-     * <p>Delegada para {@link ResilienceExecutionChainBuilder} para manter SRP
-     * e permitir extensibilidade sem violação do OCP.</p>
-     *
-     * @param context o contexto de resiliência
-     * @param joinPoint o join point para execução do método
-     * @return o supplier com a cadeia de execução
-     */
-    private Supplier<Object> buildExecutionChain(ResilienceContext context,
-                                                  ProceedingJoinPoint joinPoint) {
-        return executionChainBuilder.build(context, joinPoint);
-    }
-
-
     /**
      * Encapsulates context propagation for thread environments (e.g., SecurityContext, MDC, etc).
      *
@@ -6,9 +6,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -22,6 +26,10 @@ import java.util.function.Supplier;
  *   <li>Separar a construção da execução</li>
  * </ul>
  *
+ * <p>Para o aspecto, a cadeia de cada método é pré-computada uma única vez em um
+ * {@link ResilienceExecutionPlan} ({@link #plan(Method, Function)}), mantido em cache
+ * por método.</p>
+ *
  * <p>Exemplo de uso:</p>
  * <pre>
  * Supplier<Object> chain = executionChainBuilder.build(context, joinPoint, externalContext);
@@ -57,6 +65,9 @@ public class ResilienceExecutionChainBuilder {
     @Getter
     private final List<ResilienceStrategyHandler<?>> handlers = new ArrayList<>();
 
+    // Planos de execução pré-computados por método
+    private final Map<Method, ResilienceExecutionPlan> plans = new ConcurrentHashMap<>();
+
     public ResilienceExecutionChainBuilder(
             ResilienceMetricsCollector resilienceMetricsCollector,
             ResilienceAspect.ResilienceAspectContext contextPropagator,
@@ -100,7 +111,48 @@ public class ResilienceExecutionChainBuilder {
         return buildMetricsSupplier(context, joinPoint, chainSupplier);
     }
 
-/**
+    /**
+     * Obtém o plano de execução do método, montado na primeira chamada.
+     *
+     * <p>O plano mantém apenas os handlers habilitados para o contexto
+     * ({@link ResilienceStrategyHandler#isEnabled(ResilienceContext)}), já vinculados
+     * aos componentes resilience4j do método
+     * ({@link ResilienceStrategyHandler#bind(ResilienceContext)}).</p>
+     *
+     * @param method o método interceptado
+     * @param contextFactory cria o contexto do método, chamado apenas na montagem do plano
+     * @return o plano de execução do método
+     */
+    public ResilienceExecutionPlan plan(Method method,
+                                        Function<Method, ResilienceContext> contextFactory) {
+        ResilienceExecutionPlan plan = plans.get(method);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(method, m -> buildPlan(contextFactory.apply(m)));
+        }
+        return plan;
+    }
+
+    /**
+     * Monta o plano de execução para o contexto do método.
+     *
+     * @param context contexto de resiliência do método
+     * @return o plano com os handlers habilitados
+     */
+    private ResilienceExecutionPlan buildPlan(ResilienceContext context) {
+        List<ResilienceStrategyHandler.BoundStrategy> strategies = new ArrayList<>();
+        List<String> order = new ArrayList<>();
+        for (ResilienceStrategyHandler<?> handler : handlers) {
+            if (handler.isEnabled(context)) {
+                strategies.add(handler.bind(context));
+                order.add(handler.getClass().getSimpleName());
+            }
+        }
+        log.debug("Resilience execution plan for {}: {}", context.getMethod().getName(), order);
+        return new ResilienceExecutionPlan(context, strategies, order,
+                resilienceMetricsCollector, contextPropagator);
+    }
+
+    /**
       * Constrói o supplier base que executa o método original.
       *
       * <p>Não envolve exceções - apenas delega para o joinPoint,
@@ -110,24 +162,36 @@ public class ResilienceExecutionChainBuilder {
       * @return supplier que executa o método original
       */
      private Supplier<Object> buildBaseSupplier(ProceedingJoinPoint joinPoint) {
-         return () -> {
-             try {
-                 return joinPoint.proceed();
-             } catch (RuntimeException e) {
-                 // Rethrow RuntimeExceptions as-is to prevent message accumulation
-                 throw e;
-             } catch (Error e) {
-                 // Rethrow Errors as-is (JVM errors should not be wrapped)
-                 throw e;
-             } catch (Throwable e) {
-                 throw new RuntimeException(e.getCause() != null ? e.getCause() : e);
-             }
-         };
+         return () -> proceed(joinPoint);
      }
 
+    /**
+     * Executa o método original.
+     *
+     * @param joinPoint o join point do método
+     * @return o resultado do método
+     */
+    static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException e) {
+            // Rethrow RuntimeExceptions as-is to prevent message accumulation
+            throw e;
+        } catch (Error e) {
+            // Rethrow Errors as-is (JVM errors should not be wrapped)
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
     /**
      * Envolve o supplier com propagação de contexto.
      *
+     * <p>A propagação só ocorre quando o supplier é executado em outra thread;
+     * na thread que capturou o contexto (TimeLimiter SAME_THREAD), o contexto já
+     * está presente e não deve ser substituído nem limpo.</p>
+     *
      * @param externalContext o snapshot do contexto
      * @param nextSupplier o próximo passo na cadeia
      * @return supplier com contexto propagado
@@ -135,7 +199,10 @@ public class ResilienceExecutionChainBuilder {
     private Supplier<Object> buildContextPropagationSupplier(
             Object externalContext,
             Supplier<Object> nextSupplier) {
-        return () -> contextPropagator.executeWithContext(externalContext, nextSupplier::get);
+        Thread capturingThread = Thread.currentThread();
+        return () -> Thread.currentThread() == capturingThread
+                ? nextSupplier.get()
+                : contextPropagator.executeWithContext(externalContext, nextSupplier::get);
     }
 
     /**
@@ -203,6 +270,7 @@ public class ResilienceExecutionChainBuilder {
     public void setHandlers(List<ResilienceStrategyHandler<?>> newHandlers) {
         this.handlers.clear();
         this.handlers.addAll(newHandlers);
+        this.plans.clear();
         log.info("Handlers reordered: {}", getHandlerOrder());
     }
 }
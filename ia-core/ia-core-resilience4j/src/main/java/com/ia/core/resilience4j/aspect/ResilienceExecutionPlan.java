@@ -0,0 +1,125 @@
+package com.ia.core.resilience4j.aspect;
+
+import com.ia.core.resilience4j.aspect.ResilienceStrategyHandler.BoundStrategy;
+import com.ia.core.resilience4j.dto.ResilienceContext;
+import com.ia.core.resilience4j.template.ResilienceTemplate;
+import org.aspectj.lang.ProceedingJoinPoint;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Plano de execução de resiliência de um método anotado com
+ * {@link com.ia.core.resilience4j.annotation.Resilient}.
+ *
+ * <p>Montado uma única vez por método pelo {@link ResilienceExecutionChainBuilder}:
+ * o contexto do método é compartilhado entre as chamadas, os handlers desabilitados
+ * pelo perfil ficam de fora e os componentes resilience4j já estão resolvidos nas
+ * {@link BoundStrategy}. A cada chamada são criados apenas os suppliers da
+ * invocação.</p>
+ *
+ * <p>A ordem de execução é a mesma de
+ * {@link ResilienceExecutionChainBuilder#build(ResilienceContext, ProceedingJoinPoint)}:
+ * métricas, handlers na ordem configurada, propagação de contexto e o método
+ * original.</p>
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+public final class ResilienceExecutionPlan {
+
+    private final ResilienceContext context;
+    private final BoundStrategy[] strategies;
+    private final List<String> handlerOrder;
+    private final ResilienceMetricsCollector metricsCollector;
+    private final ResilienceAspect.ResilienceAspectContext contextPropagator;
+
+    ResilienceExecutionPlan(ResilienceContext context,
+                            List<BoundStrategy> strategies,
+                            List<String> handlerOrder,
+                            ResilienceMetricsCollector metricsCollector,
+                            ResilienceAspect.ResilienceAspectContext contextPropagator) {
+        this.context = Objects.requireNonNull(context, "context must not be null");
+        this.strategies = strategies.toArray(BoundStrategy[]::new);
+        this.handlerOrder = List.copyOf(handlerOrder);
+        this.metricsCollector = Objects.requireNonNull(metricsCollector, "metricsCollector must not be null");
+        this.contextPropagator = Objects.requireNonNull(contextPropagator, "contextPropagator must not be null");
+    }
+
+    /**
+     * Executa o método interceptado com o plano, dentro do template de resiliência.
+     *
+     * <p>Com fallback habilitado, o contexto da chamada recebe o join point e os
+     * argumentos, usados pelas estratégias de fallback.</p>
+     *
+     * @param joinPoint o join point do método original
+     * @param template o template de resiliência
+     * @return o resultado da execução
+     */
+    public Object execute(ProceedingJoinPoint joinPoint, ResilienceTemplate template) {
+        ResilienceContext invocationContext = context;
+        if (context.getAnnotation().fallbackEnabled()) {
+            invocationContext = ResilienceContext.builder()
+                    .profile(context.getProfile())
+                    .method(context.getMethod())
+                    .joinPoint(joinPoint)
+                    .annotation(context.getAnnotation())
+                    .args(joinPoint.getArgs())
+                    .resilienceRegistry(context.getResilienceRegistry())
+                    .build();
+        }
+        return template.execute(invocationContext, new Invocation(joinPoint));
+    }
+
+    /**
+     * Contexto compartilhado pelas chamadas do método.
+     *
+     * @return o contexto do método
+     */
+    public ResilienceContext getContext() {
+        return context;
+    }
+
+    /**
+     * Handlers aplicados pelo plano, na ordem de execução.
+     *
+     * @return lista de nomes dos handlers
+     */
+    public List<String> getHandlerOrder() {
+        return handlerOrder;
+    }
+
+    /**
+     * Execução de uma chamada: percorre as estratégias pelo índice, sem montar a
+     * cadeia de suppliers de antemão.
+     */
+    private final class Invocation implements Supplier<Object> {
+
+        private final ProceedingJoinPoint joinPoint;
+        private final Object externalContext;
+        private final Thread capturingThread;
+
+        Invocation(ProceedingJoinPoint joinPoint) {
+            this.joinPoint = joinPoint;
+            this.externalContext = contextPropagator.captureContext();
+            this.capturingThread = Thread.currentThread();
+        }
+
+        @Override
+        public Object get() {
+            return metricsCollector.executeWithMetrics(context, joinPoint, () -> proceed(0));
+        }
+
+        private Object proceed(int index) {
+            if (index < strategies.length) {
+                return strategies[index].execute(() -> proceed(index + 1));
+            }
+            // Propagação só ocorre quando a chamada troca de thread
+            return Thread.currentThread() == capturingThread
+                    ? ResilienceExecutionChainBuilder.proceed(joinPoint)
+                    : contextPropagator.executeWithContext(externalContext,
+                            () -> ResilienceExecutionChainBuilder.proceed(joinPoint));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ia.core.resilience4j.aspect;
 
+import com.ia.core.resilience4j.config.TimeLimiterExecutionStrategy;
 import com.ia.core.resilience4j.dto.ResilienceContext;
 import com.ia.core.resilience4j.metrics.ResilienceMetrics;
 import com.ia.core.resilience4j.profile.ResilienceProfile;
@@ -75,4 +76,18 @@ public class ResilienceMetricsCollector {
             throw new RuntimeException(ex);
         }
     }
+
+    /**
+     * Records how long a call waited before starting on the TimeLimiter thread.
+     *
+     * @param context  the resilience context
+     * @param strategy the TimeLimiter execution strategy
+     * @param delay    the queueing delay
+     */
+    public void recordQueueDelay(ResilienceContext context, TimeLimiterExecutionStrategy strategy,
+                                 Duration delay) {
+        Objects.requireNonNull(context, "context must not be null");
+        resilienceMetrics.recordQueueDelay(context.getProfile().getName(), context.getMethod().getName(),
+                strategy.name().toLowerCase(java.util.Locale.ROOT), delay.toNanos());
+    }
 }
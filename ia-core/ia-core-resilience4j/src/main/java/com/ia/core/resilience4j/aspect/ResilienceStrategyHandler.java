@@ -58,4 +58,46 @@ public interface ResilienceStrategyHandler<T> {
      * @return o resultado da execução
      */
     Object execute(ResilienceContext context, Supplier<Object> next);
+
+    /**
+     * Indica se a estratégia se aplica ao contexto.
+     *
+     * <p>Estratégias desabilitadas pelo perfil ou pela anotação (por exemplo,
+     * retry com uma única tentativa) ficam fora do plano de execução do método.</p>
+     *
+     * @param context o contexto de resiliência contendo perfil e anotação
+     * @return {@code true} se a estratégia deve ser aplicada
+     */
+    default boolean isEnabled(ResilienceContext context) {
+        return true;
+    }
+
+    /**
+     * Vincula a estratégia ao contexto de um método, resolvendo o componente
+     * resilience4j uma única vez.
+     *
+     * <p>A implementação padrão delega para {@link #execute(ResilienceContext, Supplier)},
+     * que resolve o componente a cada chamada; os handlers do módulo guardam o
+     * componente resolvido.</p>
+     *
+     * @param context o contexto de resiliência do método
+     * @return a estratégia vinculada, usada em todas as chamadas do método
+     */
+    default BoundStrategy bind(ResilienceContext context) {
+        return next -> execute(context, next);
+    }
+
+    /**
+     * Estratégia de resiliência vinculada a um método, com o componente
+     * resilience4j já resolvido.
+     */
+    @FunctionalInterface
+    interface BoundStrategy {
+
+        /**
+         * @param next o próximo passo na cadeia de execução
+         * @return o resultado da execução
+         */
+        Object execute(Supplier<Object> next);
+    }
 }
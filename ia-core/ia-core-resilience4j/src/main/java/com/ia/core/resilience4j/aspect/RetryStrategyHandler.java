@@ -11,7 +11,6 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.time.Duration;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
@@ -76,16 +75,31 @@ public class RetryStrategyHandler extends AbstractResilienceStrategyHandler<Retr
         return context.getResilienceRegistry().retry(name, config);
     }
 
+    /**
+     * Retry só se aplica com mais de uma tentativa; com {@code maxRetryAttempts}
+     * igual a 0 ou 1, a estratégia fica fora do plano de execução.
+     *
+     * @param context o contexto de resiliência do método
+     * @return {@code true} se houver novas tentativas
+     */
+    @Override
+    public boolean isEnabled(ResilienceContext context) {
+        ProfileAnnotation data = extractProfileAndAnnotation(context);
+        return getIntValue(data.annotation().maxRetryAttempts(),
+                data.profile().getMaxRetryAttempts()) > 1;
+    }
+
     /**
       * Executes the next step with the resolved Retry.
       *
       * <p>Retrieves the Retry from the context and applies it to the next supplier.
-      * The Retry is expected to be stored in the context during the resolve phase.</p>
+      * A chamada executa na thread atual, de modo que cada tentativa repete a
+      * execução do próximo passo.</p>
       *
       * <p>Tratamento de exceções:</p>
       * <ul>
       *   <li>Retries are handled by Resilience4j's internal retry logic</li>
-      *   <li>After max retries exceeded, exceptions are unwrapped from CompletionException
+      *   <li>After max retries exceeded, the last exception is rethrown as-is
       *       to prevent message accumulation</li>
       * </ul>
       *
@@ -95,41 +109,22 @@ public class RetryStrategyHandler extends AbstractResilienceStrategyHandler<Retr
       */
     @Override
     public Object execute(ResilienceContext context, Supplier<Object> next) {
-        Retry retry = resolve(context);
-        try {
-            return retry.executeSupplier(() ->
-                CompletableFuture.supplyAsync(next::get)
-            ).join();
-        } catch (Exception e) {
-            // Unwrap CompletionException to get the actual cause and prevent
-            // nested message accumulation in error dialogs
-            Throwable cause = unwrapCompletionException(e);
-            // Rethrow without wrapping to prevent message accumulation.
-            // The exception already contains the retry context in its cause chain.
-            if (cause instanceof RuntimeException) {
-                throw (RuntimeException) cause;
-            }
-            throw new RuntimeException(cause);
-        }
+        return execute(resolve(context), next);
     }
 
     /**
-      * Unwraps CompletionException to get the actual cause.
-      *
-      * <p>CompletableFuture.join() wraps checked exceptions in CompletionException.
-      * We need to extract the actual cause to prevent message duplication
-      * in error dialogs and logs.</p>
-      *
-      * @param throwable the exception to unwrap
-      * @return the unwrapped cause, or the original if not a CompletionException
-      */
-    private Throwable unwrapCompletionException(Throwable throwable) {
-        if (throwable instanceof java.util.concurrent.CompletionException) {
-            Throwable cause = throwable.getCause();
-            if (cause != null) {
-                return cause;
-            }
-        }
-        return throwable;
+     * Vincula o Retry do método, resolvido uma única vez.
+     *
+     * @param context o contexto de resiliência do método
+     * @return a estratégia vinculada ao Retry resolvido
+     */
+    @Override
+    public BoundStrategy bind(ResilienceContext context) {
+        Retry retry = resolve(context);
+        return next -> execute(retry, next);
+    }
+
+    private Object execute(Retry retry, Supplier<Object> next) {
+        return retry.executeSupplier(next);
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,30 @@
 package com.ia.core.resilience4j.aspect;
 
 import com.ia.core.resilience4j.annotation.Resilient;
+import com.ia.core.resilience4j.config.ResilienceProperties;
+import com.ia.core.resilience4j.config.TimeLimiterExecutionStrategy;
 import com.ia.core.resilience4j.dto.ResilienceContext;
 import com.ia.core.resilience4j.profile.ResilienceProfile;
 import io.github.resilience4j.timelimiter.TimeLimiter;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.ResourceHolderSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
 
+import java.lang.reflect.Field;
 import java.time.Duration;
-import java.util.concurrent.CompletableFuture;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
@@ -19,6 +34,12 @@ import java.util.function.Supplier;
  * <p>This class encapsulates the logic for creating and configuring TimeLimiter instances
  * based on resilience profiles and annotations.</p>
  *
+ * <p>A thread de execução segue a {@link TimeLimiterExecutionStrategy} do perfil
+ * ({@link ResilienceProperties.TimeLimiterExecution}): por padrão, DATABASE executa na
+ * thread chamadora, com o prazo aplicado às transações vinculadas, e os demais perfis
+ * em uma thread virtual por chamada. O tempo de espera até o início da execução é
+ * registrado pelo {@link ResilienceMetricsCollector}.</p>
+ *
  * <p>Princípios SOLID aplicados:</p>
  * <ul>
  *   <li><b>Single Responsibility</b>: Apenas lida com TimeLimiter</li>
@@ -33,7 +54,25 @@ import java.util.function.Supplier;
  */
 @Slf4j
 @Component
-public class TimeLimiterStrategyHandler extends AbstractResilienceStrategyHandler<TimeLimiter> {
+public class TimeLimiterStrategyHandler extends AbstractResilienceStrategyHandler<TimeLimiter>
+        implements DisposableBean {
+
+    /** Campo de prazo dos recursos transacionais; {@code null} se indisponível */
+    private static final Field DEADLINE_FIELD = findDeadlineField();
+
+    private final ResilienceProperties.TimeLimiterExecution execution;
+    private final ResilienceMetricsCollector metricsCollector;
+    private final ExecutorService virtualExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("resilience-timelimiter-", 0).factory());
+    private volatile ExecutorService platformExecutor;
+
+    public TimeLimiterStrategyHandler(ResilienceProperties properties,
+                                      ResilienceMetricsCollector metricsCollector) {
+        this.execution = properties != null && properties.getTimeLimiterExecution() != null
+                ? properties.getTimeLimiterExecution()
+                : new ResilienceProperties.TimeLimiterExecution();
+        this.metricsCollector = Objects.requireNonNull(metricsCollector, "metricsCollector must not be null");
+    }
 
     /**
       * Creates or resolves a TimeLimiter instance for the given context.
@@ -84,16 +123,56 @@ public class TimeLimiterStrategyHandler extends AbstractResilienceStrategyHandle
       * @return o resultado da execução
       */
     @Override
-    @SuppressWarnings("unchecked")
     public Object execute(ResilienceContext context, Supplier<Object> next) {
+        return execute(context, resolve(context), execution.strategyFor(context.getProfile()), next);
+    }
+
+    /**
+     * TimeLimiter só se aplica com timeout positivo.
+     *
+     * @param context o contexto de resiliência do método
+     * @return {@code true} se houver timeout configurado
+     */
+    @Override
+    public boolean isEnabled(ResilienceContext context) {
+        ProfileAnnotation data = extractProfileAndAnnotation(context);
+        return getLongValue(data.annotation().timeoutMs(), data.profile().getTimeoutMs()) > 0;
+    }
+
+    /**
+     * Vincula o TimeLimiter e a estratégia de execução do método, resolvidos uma
+     * única vez.
+     *
+     * @param context o contexto de resiliência do método
+     * @return a estratégia vinculada ao TimeLimiter resolvido
+     */
+    @Override
+    public BoundStrategy bind(ResilienceContext context) {
         TimeLimiter timeLimiter = resolve(context);
+        TimeLimiterExecutionStrategy strategy = execution.strategyFor(context.getProfile());
+        return next -> execute(context, timeLimiter, strategy, next);
+    }
+
+    private Object execute(ResilienceContext context, TimeLimiter timeLimiter,
+                           TimeLimiterExecutionStrategy strategy, Supplier<Object> next) {
+        if (strategy == TimeLimiterExecutionStrategy.SAME_THREAD) {
+            return executeOnCallerThread(context, timeLimiter, next);
+        }
+        ExecutorService executor = strategy == TimeLimiterExecutionStrategy.PLATFORM_POOL
+                ? platformExecutor()
+                : virtualExecutor;
         try {
-            return timeLimiter.executeFutureSupplier(() ->
-                    CompletableFuture.supplyAsync(next::get)
-            );
+            return timeLimiter.executeFutureSupplier(() -> {
+                long submitted = System.nanoTime();
+                return executor.submit(() -> {
+                    metricsCollector.recordQueueDelay(context, strategy,
+                            Duration.ofNanos(System.nanoTime() - submitted));
+                    return next.get();
+                });
+            });
         } catch (TimeoutException e) {
             // Only wrap TimeoutException - these are truly caused by TimeLimiter
-            throw new RuntimeException("TimeLimiter timed out after " + 
+            throw new RuntimeException("TimeLimiter timed out after " +
                     timeLimiter.getTimeLimiterConfig().getTimeoutDuration().toMillis() + "ms", e);
         } catch (Exception e) {
             // Unwrap CompletionException to check the actual cause
@@ -101,7 +180,7 @@ public class TimeLimiterStrategyHandler extends AbstractResilienceStrategyHandle
             // For other exceptions, check if they're caused by TimeLimiter
             // If not, rethrow as-is to prevent message accumulation
             if (isCausedBy(e, TimeoutException.class)) {
-                throw new RuntimeException("TimeLimiter timed out after " + 
+                throw new RuntimeException("TimeLimiter timed out after " +
                         timeLimiter.getTimeLimiterConfig().getTimeoutDuration().toMillis() + "ms", e);
             }
             // Rethrow without wrapping to prevent nested message accumulation
@@ -112,6 +191,122 @@ public class TimeLimiterStrategyHandler extends AbstractResilienceStrategyHandle
         }
     }
 
+    /**
+     * Executa na thread chamadora, sem troca de thread.
+     *
+     * <p>O prazo do TimeLimiter é aplicado aos recursos transacionais vinculados à
+     * thread (EntityManager, Connection), que o repassam às consultas como query
+     * timeout; o Spring rejeita as consultas após o prazo. Prazos mais curtos já
+     * definidos são mantidos e os anteriores, inclusive a ausência de prazo, são
+     * restaurados ao final. Sem transação vinculada, a duração excedida é apenas
+     * registrada em log, pois a chamada já terminou.</p>
+     */
+    private Object executeOnCallerThread(ResilienceContext context, TimeLimiter timeLimiter,
+                                         Supplier<Object> next) {
+        long timeoutMs = timeLimiter.getTimeLimiterConfig().getTimeoutDuration().toMillis();
+        List<Runnable> restore = applyTransactionDeadline(timeoutMs);
+        long start = System.nanoTime();
+        try {
+            return next.get();
+        } finally {
+            restore.forEach(Runnable::run);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMs > timeoutMs) {
+                log.warn("{} exceeded TimeLimiter timeout of {}ms on caller thread: {}ms",
+                        context.getMethod().getName(), timeoutMs, elapsedMs);
+            }
+        }
+    }
+
+    /**
+     * Reduz o prazo dos recursos transacionais da thread para o timeout informado.
+     *
+     * <p>Recursos sem prazo voltam a não ter prazo ao final; como
+     * {@link ResourceHolderSupport} não expõe a remoção isolada do prazo
+     * ({@code clear()} também desfaz o estado da transação), o campo é limpo
+     * por reflexão. Se o campo não estiver disponível, esses recursos não
+     * recebem prazo.</p>
+     *
+     * @param timeoutMs timeout em milissegundos
+     * @return ações que restauram os prazos anteriores
+     */
+    private List<Runnable> applyTransactionDeadline(long timeoutMs) {
+        List<Runnable> restore = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (!(resource instanceof ResourceHolderSupport holder)) {
+                continue;
+            }
+            Date previous = holder.getDeadline();
+            if (previous == null) {
+                if (DEADLINE_FIELD == null) {
+                    continue;
+                }
+                holder.setTimeoutInMillis(timeoutMs);
+                restore.add(() -> ReflectionUtils.setField(DEADLINE_FIELD, holder, null));
+            } else if (previous.getTime() > deadline) {
+                holder.setTimeoutInMillis(timeoutMs);
+                restore.add(() -> holder.setTimeoutInMillis(
+                        Math.max(0, previous.getTime() - System.currentTimeMillis())));
+            }
+        }
+        return restore;
+    }
+
+    /**
+     * Obtém o campo de prazo de {@link ResourceHolderSupport}, usado para remover
+     * o prazo aplicado a recursos que não tinham prazo.
+     *
+     * @return o campo acessível, ou {@code null} se indisponível
+     */
+    private static Field findDeadlineField() {
+        try {
+            Field field = ReflectionUtils.findField(ResourceHolderSupport.class, "deadline");
+            if (field == null || field.getType().isPrimitive()) {
+                return null;
+            }
+            ReflectionUtils.makeAccessible(field);
+            return field;
+        } catch (RuntimeException e) {
+            log.warn("Prazo de transação indisponível para restauração: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Obtém o pool limitado de threads de plataforma, criado no primeiro uso.
+     */
+    private ExecutorService platformExecutor() {
+        ExecutorService executor = platformExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = platformExecutor;
+                if (executor == null) {
+                    executor = new ThreadPoolExecutor(execution.getPlatformPoolSize(),
+                            execution.getPlatformPoolSize(), 60L, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(execution.getPlatformQueueCapacity()),
+                            Thread.ofPlatform().name("resilience-timelimiter-pool-", 0)
+                                    .daemon(true).factory(),
+                            new ThreadPoolExecutor.AbortPolicy());
+                    platformExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Encerra os executores do TimeLimiter.
+     */
+    @Override
+    public void destroy() {
+        virtualExecutor.shutdownNow();
+        ExecutorService executor = platformExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
     /**
       * Unwraps CompletionException to get the actual cause.
       *
@@ -127,4 +322,4 @@ public class TimeLimiterStrategyHandler extends AbstractResilienceStrategyHandle
         }
         return t;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.ia.core.resilience4j.config;
 
+import com.ia.core.resilience4j.profile.ResilienceProfile;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -62,6 +63,10 @@ public class ResilienceProperties {
     // Default values for Timeout configuration
     private static final long DEFAULT_TIMEOUT_DURATION_MS = 10000;
 
+    // Default values for TimeLimiter execution
+    private static final int DEFAULT_TIME_LIMITER_PLATFORM_POOL_SIZE = 16;
+    private static final int DEFAULT_TIME_LIMITER_PLATFORM_QUEUE_CAPACITY = 256;
+
     /** Default global configurations */
     private Global global = new Global();
 
@@ -71,6 +76,9 @@ public class ResilienceProperties {
     /** Metrics/observability configurations */
     private Metrics metrics = new Metrics();
 
+    /** Thread strategy for TimeLimiter executions */
+    private TimeLimiterExecution timeLimiterExecution = new TimeLimiterExecution();
+
     @Getter
     @Setter
     public static class Global {
@@ -145,6 +153,40 @@ public class ResilienceProperties {
         private boolean cancelRunningFuture = true;
     }
 
+    /**
+     * Estratégia de execução das chamadas com TimeLimiter, por perfil.
+     *
+     * <pre>
+     * resilience4j:
+     *   time-limiter-execution:
+     *     default-strategy: virtual-thread
+     *     profiles:
+     *       database: same-thread
+     *       llm-service: platform-pool
+     *     platform-pool-size: 16
+     *     platform-queue-capacity: 256
+     * </pre>
+     */
+    @Getter
+    @Setter
+    public static class TimeLimiterExecution {
+        private TimeLimiterExecutionStrategy defaultStrategy = TimeLimiterExecutionStrategy.VIRTUAL_THREAD;
+        private Map<String, TimeLimiterExecutionStrategy> profiles = new HashMap<>(
+                Map.of(ResilienceProfile.DATABASE.getName(), TimeLimiterExecutionStrategy.SAME_THREAD));
+        private int platformPoolSize = DEFAULT_TIME_LIMITER_PLATFORM_POOL_SIZE;
+        private int platformQueueCapacity = DEFAULT_TIME_LIMITER_PLATFORM_QUEUE_CAPACITY;
+
+        /**
+         * @param profile perfil de resiliência
+         * @return estratégia configurada para o perfil ou a padrão
+         */
+        public TimeLimiterExecutionStrategy strategyFor(ResilienceProfile profile) {
+            TimeLimiterExecutionStrategy strategy = profile == null ? null
+                    : profiles.get(profile.getName());
+            return strategy != null ? strategy : defaultStrategy;
+        }
+    }
+
     @Getter
     @Setter
     public static class Fallback {
@@ -0,0 +1,28 @@
+package com.ia.core.resilience4j.config;
+
+/**
+ * Estratégias de thread para a execução de chamadas com TimeLimiter.
+ *
+ * <ul>
+ *   <li>SAME_THREAD - executa na thread chamadora, sem troca de thread; o
+ *   prazo é aplicado às transações vinculadas à thread e chega ao JDBC como
+ *   query timeout. Indicada para DATABASE, em que a transação e o contexto
+ *   de segurança já estão na thread chamadora.</li>
+ *   <li>VIRTUAL_THREAD - executa em uma thread virtual por chamada; o prazo é
+ *   garantido pelo TimeLimiter, que interrompe a chamada expirada. Indicada
+ *   para chamadas de I/O (APIs externas, LLM, scraping).</li>
+ *   <li>PLATFORM_POOL - executa em um pool limitado de threads de plataforma,
+ *   com fila limitada; chamadas além da fila são rejeitadas.</li>
+ * </ul>
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+public enum TimeLimiterExecutionStrategy {
+
+    SAME_THREAD,
+
+    VIRTUAL_THREAD,
+
+    PLATFORM_POOL
+}
@@ -97,6 +97,24 @@ public class ResilienceMetrics {
         counter("rejection", "timeout", profile, methodName).increment();
     }
 
+    /**
+     * Registra o tempo de espera de uma chamada até iniciar a execução na
+     * thread do TimeLimiter.
+     *
+     * @param profile nome do perfil de resiliência
+     * @param methodName nome do método executado
+     * @param strategy estratégia de execução do TimeLimiter
+     * @param delayNanos tempo de espera em nanossegundos
+     */
+    public void recordQueueDelay(String profile, String methodName, String strategy, long delayNanos) {
+        String key = String.join(".", "queue", strategy, profile, methodName);
+        timerCache.computeIfAbsent(key, k ->
+                Timer.builder(METRIC_PREFIX + ".queue.delay")
+                        .tags("strategy", strategy, "profile", profile, "method", methodName)
+                        .publishPercentileHistogram().register(meterRegistry))
+                .record(delayNanos, java.util.concurrent.TimeUnit.NANOSECONDS);
+    }
+
     private Counter counter(String... tags) {
         String key = String.join(".", tags);
         return counterCache.computeIfAbsent(key, k ->
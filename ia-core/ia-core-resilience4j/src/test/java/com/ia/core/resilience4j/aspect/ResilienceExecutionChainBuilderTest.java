@@ -1,6 +1,10 @@
 package com.ia.core.resilience4j.aspect;
 
+import com.ia.core.resilience4j.annotation.Resilient;
 import com.ia.core.resilience4j.dto.ResilienceContext;
+import com.ia.core.resilience4j.fallback.FallbackStrategyRegistry;
+import com.ia.core.resilience4j.profile.ResilienceProfile;
+import com.ia.core.resilience4j.template.ResilienceTemplate;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,10 +13,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +32,7 @@ import static org.mockito.Mockito.*;
  *   <li>A cadeia é construída na ordem correta</li>
  *   <li>Os handlers são executados em sequência</li>
  *   <li>A cadeia é extensível sem modificação</li>
+ *   <li>O plano de execução é montado uma vez por método, sem handlers desabilitados</li>
  *   <li>Os testes são independentes da implementação interna</li>
  * </ul>
  *
@@ -258,13 +265,84 @@ class ResilienceExecutionChainBuilderTest {
         assertEquals("RATE_LIMITER", executionOrder.get(0));
         assertEquals("BULKHEAD", executionOrder.get(1));
     }
-}
-
 
+    @Resilient(ResilienceProfile.DATABASE)
+    public void database() {
+    }
 
+    private ResilienceContext planContext(Method method) {
+        return ResilienceContext.builder()
+                .profile(ResilienceProfile.DATABASE)
+                .method(method)
+                .annotation(method.getAnnotation(Resilient.class))
+                .build();
+    }
 
+    @Test
+    @DisplayName("Plano de execução é montado uma única vez por método")
+    void testPlanCachedPerMethod() throws Throwable {
+        // Arrange
+        Method method = getClass().getMethod("database");
+        AtomicInteger created = new AtomicInteger();
 
+        // Act
+        ResilienceExecutionPlan first = builder.plan(method, m -> {
+            created.incrementAndGet();
+            return planContext(m);
+        });
+        ResilienceExecutionPlan second = builder.plan(method, m -> {
+            created.incrementAndGet();
+            return planContext(m);
+        });
 
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        verify(rateLimiterHandler).isEnabled(any());
+        verify(rateLimiterHandler, never()).execute(any(), any());
+
+        // Redefinir os handlers descarta os planos montados
+        builder.setHandlers(new ArrayList<>(builder.getHandlers()));
+        assertNotSame(first, builder.plan(method, this::planContext));
+    }
 
+    @Test
+    @DisplayName("Plano executa apenas os handlers habilitados, na ordem configurada")
+    void testPlanSkipsDisabledHandlers() throws Throwable {
+        // Arrange
+        List<String> executionOrder = new ArrayList<>();
+        when(rateLimiterHandler.isEnabled(any())).thenReturn(true);
+        when(rateLimiterHandler.bind(any())).thenReturn(next -> {
+            executionOrder.add("RATE_LIMITER");
+            return next.get();
+        });
+        when(retryHandler.isEnabled(any())).thenReturn(true);
+        when(retryHandler.bind(any())).thenReturn(next -> {
+            executionOrder.add("RETRY");
+            return next.get();
+        });
+        when(metricsCollector.executeWithMetrics(any(), any(), any(Callable.class)))
+                .thenAnswer(invocation -> {
+                    Callable<?> callable = invocation.getArgument(2);
+                    return callable.call();
+                });
+        when(joinPoint.proceed()).thenAnswer(invocation -> "SUCCESS");
+        ResilienceTemplate template = new ResilienceTemplate(
+                new ResilienceFallbackHandler(new FallbackStrategyRegistry()));
 
+        // Act
+        ResilienceExecutionPlan plan = builder.plan(getClass().getMethod("database"), this::planContext);
+        Object first = plan.execute(joinPoint, template);
+        Object second = plan.execute(joinPoint, template);
 
+        // Assert
+        assertEquals("SUCCESS", first);
+        assertEquals("SUCCESS", second);
+        assertEquals(List.of("RateLimiterStrategyHandler", "RetryStrategyHandler"), plan.getHandlerOrder());
+        assertEquals(List.of("RATE_LIMITER", "RETRY", "RATE_LIMITER", "RETRY"), executionOrder);
+        verify(rateLimiterHandler, times(1)).bind(any());
+        verify(bulkheadHandler, never()).bind(any());
+        // Na thread chamadora o contexto já está presente
+        verify(contextPropagator, never()).executeWithContext(any(), any());
+    }
+}
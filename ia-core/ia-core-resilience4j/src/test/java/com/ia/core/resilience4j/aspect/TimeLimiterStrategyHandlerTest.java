@@ -0,0 +1,201 @@
+package com.ia.core.resilience4j.aspect;
+
+import com.ia.core.resilience4j.annotation.Resilient;
+import com.ia.core.resilience4j.config.ResilienceProperties;
+import com.ia.core.resilience4j.config.TimeLimiterExecutionStrategy;
+import com.ia.core.resilience4j.dto.ResilienceContext;
+import com.ia.core.resilience4j.metrics.ResilienceMetrics;
+import com.ia.core.resilience4j.profile.ResilienceProfile;
+import com.ia.core.resilience4j.registry.ResilienceRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.ResourceHolderSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes para {@link TimeLimiterStrategyHandler}.
+ *
+ * <p>Valida que:</p>
+ * <ul>
+ *   <li>DATABASE executa na thread chamadora, com o prazo aplicado à transação</li>
+ *   <li>Os demais perfis executam em threads virtuais e registram a espera</li>
+ *   <li>O pool limitado de plataforma é usado quando configurado</li>
+ *   <li>O timeout continua sendo reportado pelo TimeLimiter</li>
+ * </ul>
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+@DisplayName("TimeLimiterStrategyHandler Tests")
+class TimeLimiterStrategyHandlerTest {
+
+    private ResilienceProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private TimeLimiterStrategyHandler handler;
+
+    @Resilient(ResilienceProfile.DATABASE)
+    void database() {
+    }
+
+    @Resilient(value = ResilienceProfile.EXTERNAL_API, timeoutMs = 50)
+    void externalApi() {
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResilienceProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        handler = newHandler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.destroy();
+    }
+
+    private TimeLimiterStrategyHandler newHandler() {
+        return new TimeLimiterStrategyHandler(properties,
+                new ResilienceMetricsCollector(new ResilienceMetrics(meterRegistry)));
+    }
+
+    private ResilienceContext context(String methodName) throws NoSuchMethodException {
+        Method method = getClass().getDeclaredMethod(methodName);
+        Resilient annotation = method.getAnnotation(Resilient.class);
+        return ResilienceContext.builder()
+                .profile(annotation.value())
+                .method(method)
+                .annotation(annotation)
+                .resilienceRegistry(new ResilienceRegistry(properties))
+                .build();
+    }
+
+    @Test
+    @DisplayName("DATABASE executa na thread chamadora")
+    void testDatabaseRunsOnCallerThread() throws Exception {
+        Thread caller = Thread.currentThread();
+
+        Object result = handler.execute(context("database"), Thread::currentThread);
+
+        assertThat(result).isSameAs(caller);
+        assertThat(meterRegistry.find("resilience4j.queue.delay").timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DATABASE reduz o prazo da transação vinculada e restaura o anterior")
+    void testDatabaseAppliesTransactionDeadline() throws Exception {
+        ResourceHolderSupport holder = new ResourceHolderSupport() {
+        };
+        holder.setTimeoutInSeconds(60);
+        Object key = new Object();
+        TransactionSynchronizationManager.bindResource(key, holder);
+        try {
+            AtomicLong timeToLive = new AtomicLong();
+
+            handler.execute(context("database"), () -> {
+                timeToLive.set(holder.getTimeToLiveInMillis());
+                return null;
+            });
+
+            assertThat(timeToLive.get()).isPositive()
+                    .isLessThanOrEqualTo(ResilienceProfile.DATABASE.getTimeoutMs());
+            assertThat(holder.getTimeToLiveInMillis()).isGreaterThan(50_000);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(key);
+        }
+    }
+
+    @Test
+    @DisplayName("DATABASE remove o prazo aplicado a transação vinculada sem prazo")
+    void testDatabaseClearsDeadlineOfHolderWithoutTimeout() throws Exception {
+        ResourceHolderSupport holder = new ResourceHolderSupport() {
+        };
+        Object key = new Object();
+        TransactionSynchronizationManager.bindResource(key, holder);
+        try {
+            AtomicBoolean hadTimeout = new AtomicBoolean();
+
+            handler.execute(context("database"), () -> {
+                hadTimeout.set(holder.hasTimeout());
+                return null;
+            });
+            handler.execute(context("database"), () -> null);
+
+            assertThat(hadTimeout).isTrue();
+            assertThat(holder.hasTimeout()).isFalse();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(key);
+        }
+    }
+
+    @Test
+    @DisplayName("Perfis de I/O executam em thread virtual e registram a espera")
+    void testExternalApiRunsOnVirtualThread() throws Exception {
+        AtomicReference<Thread> worker = new AtomicReference<>();
+
+        Object result = handler.execute(context("externalApi"), () -> {
+            worker.set(Thread.currentThread());
+            return "SUCCESS";
+        });
+
+        assertThat(result).isEqualTo("SUCCESS");
+        assertThat(worker.get().isVirtual()).isTrue();
+        Timer timer = meterRegistry.find("resilience4j.queue.delay")
+                .tag("strategy", "virtual_thread").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Pool de plataforma é usado quando configurado para o perfil")
+    void testPlatformPoolWhenConfigured() throws Exception {
+        properties.getTimeLimiterExecution().getProfiles()
+                .put(ResilienceProfile.EXTERNAL_API.getName(), TimeLimiterExecutionStrategy.PLATFORM_POOL);
+        handler.destroy();
+        handler = newHandler();
+        AtomicReference<Thread> worker = new AtomicReference<>();
+
+        handler.execute(context("externalApi"), () -> {
+            worker.set(Thread.currentThread());
+            return null;
+        });
+
+        assertThat(worker.get().isVirtual()).isFalse();
+        assertThat(worker.get().getName()).startsWith("resilience-timelimiter-pool-");
+    }
+
+    @Test
+    @DisplayName("Timeout é reportado pelo TimeLimiter")
+    void testTimeout() {
+        assertThatThrownBy(() -> handler.execute(context("externalApi"), () -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        })).isInstanceOf(RuntimeException.class)
+                .hasMessageStartingWith("TimeLimiter timed out after 50ms");
+    }
+
+    @Test
+    @DisplayName("Exceções da chamada são repassadas sem encapsulamento")
+    void testExceptionRethrownAsIs() {
+        IllegalStateException failure = new IllegalStateException("falha");
+
+        assertThatThrownBy(() -> handler.execute(context("externalApi"), () -> {
+            throw failure;
+        })).isSameAs(failure);
+    }
+}
@@ -0,0 +1,141 @@
+package com.ia.core.resilience4j.benchmark;
+
+import com.ia.core.resilience4j.annotation.Resilient;
+import com.ia.core.resilience4j.aspect.BulkheadStrategyHandler;
+import com.ia.core.resilience4j.aspect.CircuitBreakerStrategyHandler;
+import com.ia.core.resilience4j.aspect.NullResilienceContextPropagator;
+import com.ia.core.resilience4j.aspect.RateLimiterStrategyHandler;
+import com.ia.core.resilience4j.aspect.ResilienceAspect;
+import com.ia.core.resilience4j.aspect.ResilienceExecutionChainBuilder;
+import com.ia.core.resilience4j.aspect.ResilienceExecutionPlan;
+import com.ia.core.resilience4j.aspect.ResilienceFallbackHandler;
+import com.ia.core.resilience4j.aspect.ResilienceMetricsCollector;
+import com.ia.core.resilience4j.aspect.RetryStrategyHandler;
+import com.ia.core.resilience4j.aspect.TimeLimiterStrategyHandler;
+import com.ia.core.resilience4j.config.ResilienceProperties;
+import com.ia.core.resilience4j.fallback.FallbackStrategyRegistry;
+import com.ia.core.resilience4j.metrics.ResilienceMetrics;
+import com.ia.core.resilience4j.profile.ResilienceProfile;
+import com.ia.core.resilience4j.registry.ResilienceRegistry;
+import com.ia.core.resilience4j.template.ResilienceTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo do {@link ResilienceAspect} sobre um método que não faz nada.
+ *
+ * <p>{@code direct} chama o serviço sem proxy; {@code database} passa pelo
+ * aspecto com o perfil DATABASE, executado na thread chamadora; {@code externalApi}
+ * passa pelo aspecto com o perfil EXTERNAL_API, que troca para uma thread virtual
+ * no TimeLimiter. O limite do RateLimiter é elevado para não limitar a medição.
+ * Os {@link ResilienceExecutionPlan} são montados na primeira chamada de cada
+ * método. Execução: rodar {@link #main(String[])} com o classpath de teste do
+ * módulo.</p>
+ *
+ * @author Israel Araújo
+ * @see ResilienceExecutionPlan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResilienceAspectBenchmark {
+
+    private NoOpService target;
+
+    private NoOpService proxy;
+
+    private TimeLimiterStrategyHandler timeLimiterHandler;
+
+    @Setup
+    public void setup() {
+        ResilienceProperties properties = new ResilienceProperties();
+        ResilienceRegistry registry = new ResilienceRegistry(properties);
+        ResilienceMetricsCollector metricsCollector = new ResilienceMetricsCollector(
+                new ResilienceMetrics(new SimpleMeterRegistry()));
+        timeLimiterHandler = new TimeLimiterStrategyHandler(properties, metricsCollector);
+        ResilienceExecutionChainBuilder builder = new ResilienceExecutionChainBuilder(
+                metricsCollector,
+                new NullResilienceContextPropagator(),
+                List.of(new RateLimiterStrategyHandler(),
+                        new BulkheadStrategyHandler(),
+                        new CircuitBreakerStrategyHandler(),
+                        new RetryStrategyHandler(),
+                        timeLimiterHandler));
+        ResilienceTemplate template = new ResilienceTemplate(
+                new ResilienceFallbackHandler(new FallbackStrategyRegistry()));
+
+        target = new NoOpService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ResilienceAspect(registry, template, builder));
+        proxy = factory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        timeLimiterHandler.destroy();
+    }
+
+    @Benchmark
+    public Object direct() {
+        return target.database();
+    }
+
+    @Benchmark
+    public Object database() {
+        return proxy.database();
+    }
+
+    @Benchmark
+    public Object externalApi() {
+        return proxy.externalApi();
+    }
+
+    /**
+     * Serviço com métodos vazios, um por perfil medido.
+     */
+    public static class NoOpService {
+
+        @Resilient(value = ResilienceProfile.DATABASE, rateLimiterLimit = Integer.MAX_VALUE)
+        public Object database() {
+            return this;
+        }
+
+        @Resilient(value = ResilienceProfile.EXTERNAL_API, rateLimiterLimit = Integer.MAX_VALUE)
+        public Object externalApi() {
+            return this;
+        }
+    }
+
+    /**
+     * Executa as medições.
+     *
+     * @param args não utilizado
+     * @throws RunnerException em caso de falha do JMH
+     */
+    public static void main(String[] args)
+        throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ResilienceAspectBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ia.core.rest.control;
 
 import com.ia.core.model.filter.SearchRequest;
+import com.ia.core.model.specification.CursorSlice;
 import com.ia.core.service.ListBaseService;
 import com.ia.core.service.dto.DTO;
 import com.ia.core.service.dto.request.SearchRequestDTO;
@@ -69,4 +70,41 @@ public interface ListBaseController<T extends Serializable, D extends DTO<?>>
         return ResponseEntity.status(HttpStatus.OK).body(page);
     }
 
+    /**
+     * Busca os elementos com paginação por chave (cursor).
+     *
+     * @param request     {@link SearchRequest} - validado automaticamente via @Valid
+     * @param httpRequest {@link HttpServletRequest}
+     * @return {@link CursorSlice} com status OK (200) e o cursor da fatia seguinte
+     * @see ListBaseService#findSlice(SearchRequestDTO)
+     */
+    @Operation(
+        summary = "Lista os objetos que atendem aos critérios de busca, por cursor",
+        description = "Retorna uma fatia de objetos a partir do cursor informado e o cursor da fatia seguinte"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Fatia retornada com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = CursorSlice.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Parâmetros de busca ou cursor inválidos",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Token inválido ou expirado"
+        )
+    })
+    @SecurityRequirement(name = BaseController.TOKEN_AUTENTICACAO)
+    @PostMapping("/slice")
+    default ResponseEntity<CursorSlice<D>> findSlice(@Valid @RequestBody SearchRequestDTO request,
+                                                     HttpServletRequest httpRequest) {
+        CursorSlice<D> slice = ((ListBaseService<?, D>) getService()).findSlice(request);
+        return ResponseEntity.status(HttpStatus.OK).body(slice);
+    }
+
 }
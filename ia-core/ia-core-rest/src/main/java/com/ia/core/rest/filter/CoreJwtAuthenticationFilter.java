@@ -1,6 +1,7 @@
 package com.ia.core.rest.filter;
 
-import com.ia.core.security.model.authentication.JwtManager;
+import com.ia.core.security.service.authentication.JwtPrincipal;
+import com.ia.core.security.service.authentication.JwtPrincipalResolver;
 import com.ia.core.security.service.exception.UserNotFountException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,11 @@ import java.util.Objects;
  * Este filtro é aplicado apenas a endpoints que requerem autenticação. Endpoints
  * de autenticação (como /authentication/**) são automaticamente ignorados.
  * </p>
+ * <p>
+ * O token é verificado uma única vez, pelo {@link JwtPrincipalResolver}; a
+ * autenticação traz o {@link JwtPrincipal} como principal e o token como
+ * credencial.
+ * </p>
  *
  * @author Israel Araújo
  */
@@ -34,6 +40,15 @@ public class CoreJwtAuthenticationFilter
 
   private final UserDetailsService userDetailService;
 
+  private final JwtPrincipalResolver principalResolver;
+
+  /**
+   * @param userDetailService serviço de detalhes do usuário
+   */
+  public CoreJwtAuthenticationFilter(UserDetailsService userDetailService) {
+    this(userDetailService, new JwtPrincipalResolver());
+  }
+
   @Override
   public Authentication getAuthentication(HttpServletRequest request)
     throws UserNotFountException {
@@ -86,12 +101,12 @@ public class CoreJwtAuthenticationFilter
     if (token == null) {
       throw new IllegalArgumentException("Token jwt não informado");
     }
-    String userCode = JwtManager.get().getUserCodeFromJWT(token);
-    UserDetails user = getUserByUserCode(userCode);
+    JwtPrincipal principal = principalResolver.resolve(token);
+    UserDetails user = getUserByUserCode(principal.userCode());
     if (user == null) {
-      throw new UserNotFountException(userCode);
+      throw new UserNotFountException(principal.userCode());
     }
-    return new UsernamePasswordAuthenticationToken(token, null,
+    return new UsernamePasswordAuthenticationToken(principal, token,
                                                    user.getAuthorities());
   }
 
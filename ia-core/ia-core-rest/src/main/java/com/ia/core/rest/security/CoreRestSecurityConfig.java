@@ -2,14 +2,16 @@ package com.ia.core.rest.security;
 
 import com.ia.core.rest.filter.CoreJwtAuthenticationFilter;
 import com.ia.core.rest.filter.OncePerRequestAuthenticationFilter;
-import com.ia.core.security.model.authentication.JwtCoreManager;
 import com.ia.core.security.service.authentication.JwtAuthenticationService;
+import com.ia.core.security.service.authentication.JwtPrincipal;
+import com.ia.core.security.service.authentication.JwtPrincipalResolver;
 import com.ia.core.security.service.authorization.CoreAuthorizationManager;
 import com.ia.core.security.service.authorization.JWTPrivilegeContext;
 import com.ia.core.security.service.config.CoreSecurityServiceConfiguration;
 import com.ia.core.security.service.config.SecurityConfigurationProvider;
 import com.ia.core.security.service.config.SecurityProperties;
 import com.ia.core.security.service.log.operation.LogOperationService;
+import com.ia.core.security.service.model.authorization.AuthorizationIndex;
 import com.ia.core.security.service.model.authorization.CoreSecurityAuthorizationManager;
 import com.ia.core.security.service.model.user.UserPasswordEncoder;
 import com.ia.core.security.service.user.UserRepository;
@@ -131,6 +133,11 @@ public abstract class CoreRestSecurityConfig
      */
     private static final String USUARIO_ANONIMO = "anonymous";
 
+    /**
+     * Principals dos tokens já verificados, compartilhados pelos filtros JWT.
+     */
+    private final JwtPrincipalResolver jwtPrincipalResolver = new JwtPrincipalResolver();
+
     /**
      * Construtor principal para injeção de dependências.
      *
@@ -161,7 +168,8 @@ public abstract class CoreRestSecurityConfig
      */
     protected OncePerRequestAuthenticationFilter authenticationFilter(UserDetailsService userDetailsService) {
         log.info(LOG_INICIALIZANDO_AUTH_FILTER);
-        CoreJwtAuthenticationFilter authenticationFilter = new CoreJwtAuthenticationFilter(userDetailsService);
+        CoreJwtAuthenticationFilter authenticationFilter = new CoreJwtAuthenticationFilter(userDetailsService,
+            jwtPrincipalResolver);
         configure(authenticationFilter);
         return authenticationFilter;
     }
@@ -194,37 +202,31 @@ public abstract class CoreRestSecurityConfig
             @Override
             public HasRoles getCurrentRoles() {
                 return () -> {
-                    Authentication authentication = SecurityContextHolder.getContext()
-                        .getAuthentication();
-                    if (authentication == null) {
-                        return Collections.emptyList();
-                    }
-                    Object principal = authentication.getPrincipal();
+                    JwtPrincipal principal = getCurrentPrincipal();
                     if (principal == null) {
                         return Collections.emptyList();
                     }
-                    return JwtCoreManager.get()
-                        .getFunctionalitiesFromJWT((String) principal);
+                    return principal.functionalities();
                 };
             }
 
             @Override
             public HasContextDefinitions getCurrentContextDefinitions() {
                 return () -> {
-                    Authentication authentication = SecurityContextHolder.getContext()
-                        .getAuthentication();
-                    if (authentication == null) {
-                        return new JWTPrivilegeContext(Collections.emptySet());
-                    }
-                    Object principal = authentication.getPrincipal();
+                    JwtPrincipal principal = getCurrentPrincipal();
                     if (principal == null) {
                         return new JWTPrivilegeContext(Collections.emptySet());
                     }
-                    return JwtCoreManager.get()
-                        .getFunctionalitiesContextFromJWT((String) principal,
-                            JWTPrivilegeContext.class);
+                    return principal.context();
                 };
             }
+
+            @Override
+            public AuthorizationIndex getCurrentAuthorizationIndex() {
+                JwtPrincipal principal = getCurrentPrincipal();
+                return principal == null ? AuthorizationIndex.EMPTY
+                                         : principal.authorizationIndex();
+            }
         };
         configure(authorizationManager);
         return authorizationManager;
@@ -240,6 +242,35 @@ public abstract class CoreRestSecurityConfig
         return SecurityContextHolder.getContext().getAuthentication();
     }
 
+    /**
+     * Obtém o principal JWT da autenticação atual, sem verificar novamente o
+     * token. Autenticações cujo principal é o próprio token são resolvidas
+     * pelo {@link JwtPrincipalResolver}.
+     *
+     * @return principal JWT atual ou null se não autenticado
+     */
+    public JwtPrincipal getCurrentPrincipal() {
+        Authentication authentication = getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal;
+        }
+        if (principal instanceof String token) {
+            return jwtPrincipalResolver.resolve(token);
+        }
+        return null;
+    }
+
+    /**
+     * @return resolvedor de principals compartilhado pelos filtros JWT
+     */
+    protected JwtPrincipalResolver getJwtPrincipalResolver() {
+        return jwtPrincipalResolver;
+    }
+
     /**
      * Bean para fornecer o codificador de senhas.
      *
@@ -369,7 +400,8 @@ public abstract class CoreRestSecurityConfig
     @Bean
     UserDetailsService userDetailsService(UserRepository repository) {
         log.info(LOG_INICIALIZANDO_USER_DETAILS_SERVICE);
-        CoreUserDetailsService userDetailsService = new CoreUserDetailsService(repository);
+        CoreUserDetailsService userDetailsService = new CoreUserDetailsService(repository,
+            getSecurityConfigurationProvider().getSecurityProperties().getUserDetailsCache());
         configure(userDetailsService);
         return userDetailsService;
     }
@@ -449,13 +481,10 @@ public abstract class CoreRestSecurityConfig
     protected void configureUserDetails(String userCodeLabel,
                                         String userNameLabel,
                                         Map<String, Object> map) {
-        Authentication authentication = getAuthentication();
-        if (authentication != null) {
-            String token = authentication.getName();
-            String userName = JwtCoreManager.get().getUserNameFromJWT(token);
-            String userCode = JwtCoreManager.get().getUserCodeFromJWT(token);
-            map.put(userCodeLabel, userCode);
-            map.put(userNameLabel, userName);
+        JwtPrincipal principal = getCurrentPrincipal();
+        if (principal != null) {
+            map.put(userCodeLabel, principal.userCode());
+            map.put(userNameLabel, principal.userName());
         } else {
             map.put(userCodeLabel, USUARIO_ANONIMO);
             map.put(userNameLabel, USUARIO_ANONIMO);
@@ -1,20 +1,24 @@
 package com.ia.core.rest.security;
 
-import com.ia.core.security.model.privilege.Privilege;
-import com.ia.core.security.model.role.RolePrivilege;
+import com.ia.core.model.util.BoundedCache;
 import com.ia.core.security.model.user.User;
-import com.ia.core.security.model.user.UserPrivilege;
+import com.ia.core.security.service.config.SecurityProperties;
+import com.ia.core.security.service.model.privilege.PrivilegeDTO;
+import com.ia.core.security.service.model.role.RoleDTO;
+import com.ia.core.security.service.model.user.UserDTO;
 import com.ia.core.security.service.user.UserRepository;
-import com.ia.core.service.annotations.TransactionalReadOnly;
-import lombok.RequiredArgsConstructor;
+import com.ia.core.service.event.BaseServiceEvent;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Service de detalhes de usuário para autenticação JWT.
@@ -30,16 +34,54 @@ import java.util.stream.Stream;
  * <p>
  * Responsável por gerenciar as funcionalidades relacionadas a CoreUserDetailsService
  * dentro do sistema.
+ * <p>
+ * O usuário e os nomes de seus privilégios são carregados em duas consultas,
+ * sem percorrer perfis e privilégios de forma preguiçosa. Com o cache
+ * habilitado, os detalhes ficam em um {@link BoundedCache} por código de
+ * usuário, até o tempo de vida configurado ou até a confirmação de um evento
+ * de gravação ou exclusão de usuário (descarta o usuário), perfil ou
+ * privilégio (descarta todos). Cada consulta devolve uma cópia, pois a autenticação pode apagar a
+ * senha do objeto recebido.
  *
  * @author IA
  * @since 1.0
  */
-@RequiredArgsConstructor
+@Slf4j
 public class CoreUserDetailsService
   implements UserDetailsService {
 
   private final UserRepository repository;
 
+  private final BoundedCache<String, UserDetails> cache;
+
+  /**
+   * Geração do cache, avançada a cada descarte: cargas iniciadas antes de um
+   * descarte não são guardadas.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Cria o serviço sem cache.
+   *
+   * @param repository repositório de usuários
+   */
+  public CoreUserDetailsService(UserRepository repository) {
+    this(repository, null);
+  }
+
+  /**
+   * @param repository repositório de usuários
+   * @param config     configuração do cache ({@code null} ou desabilitado
+   *                   para não usar cache)
+   */
+  public CoreUserDetailsService(UserRepository repository,
+                                SecurityProperties.UserDetailsCacheConfig config) {
+    this.repository = repository;
+    this.cache = config == null || !config.isEnabled() ? null
+                                                        : new BoundedCache<>(config.getMaxSize(),
+                                                                             config.getTtl());
+  }
+
   /**
    * Extrai privilégios de um usuário.
    * <p>
@@ -48,23 +90,77 @@ public class CoreUserDetailsService
    * @param user Usuário
    * @return Coleção de autoridades
    */
-  @TransactionalReadOnly
   protected Collection<SimpleGrantedAuthority> getPrivilegesFromUser(User user) {
-    return Stream
-        .concat(user.getRoles().stream()
-            .flatMap(role -> role.getPrivileges().stream())
-            .map(RolePrivilege::getPrivilege).map(Privilege::getName),
-                user.getPrivileges().stream()
-                    .map(UserPrivilege::getPrivilege)
-                    .map(Privilege::getName))
+    return repository.findPrivilegeNamesByUserCode(user.getUserCode()).stream()
         .map(SimpleGrantedAuthority::new)
         .collect(Collectors.toUnmodifiableSet());
   }
 
-  @TransactionalReadOnly
   @Override
   public UserDetails loadUserByUsername(String username)
     throws UsernameNotFoundException {
+    if (cache == null) {
+      return load(username);
+    }
+    UserDetails cached = cache.get(username);
+    if (cached == null) {
+      long loadGeneration = generation.get();
+      cached = load(username);
+      if (generation.get() == loadGeneration) {
+        UserDetails previous = cache.putIfAbsent(username, cached);
+        cached = previous == null ? cached : previous;
+      }
+    }
+    return org.springframework.security.core.userdetails.User
+        .withUserDetails(cached).build();
+  }
+
+  /**
+   * Descarta os detalhes do usuário.
+   *
+   * @param userCode código do usuário
+   */
+  public void invalidate(String userCode) {
+    generation.incrementAndGet();
+    if (cache != null && userCode != null) {
+      cache.remove(userCode);
+    }
+  }
+
+  /**
+   * Descarta os detalhes de todos os usuários.
+   */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Descarta os detalhes afetados por gravações e exclusões de usuários,
+   * perfis e privilégios. Os eventos são publicados dentro da transação de
+   * gravação; o descarte ocorre após o commit, para que uma carga concorrente
+   * anterior ao commit não guarde os privilégios antigos.
+   *
+   * @param event evento do serviço
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onSecurityChanged(BaseServiceEvent<?> event) {
+    if (event.getDto() instanceof UserDTO user) {
+      invalidate(user.getUserCode());
+      log.debug("Detalhes do usuário {} descartados: {}", user.getUserCode(),
+                event.getEventType().name());
+    } else if (event.getDto() instanceof RoleDTO
+        || event.getDto() instanceof PrivilegeDTO) {
+      invalidateAll();
+      log.debug("Detalhes de usuários descartados: {} {}",
+                event.getDto().getClass().getSimpleName(),
+                event.getEventType().name());
+    }
+  }
+
+  private UserDetails load(String username) {
     User user = repository.findByUserCode(username).orElseThrow(()->new UsernameNotFoundException(username));
     UserDetails userDetails = new org.springframework.security.core.userdetails.User(user
         .getUserCode(), user.getPassword(), user.isEnabled(),
@@ -0,0 +1,140 @@
+package com.ia.core.rest.security;
+
+import com.ia.core.security.model.user.User;
+import com.ia.core.security.service.config.SecurityProperties;
+import com.ia.core.security.service.model.role.RoleDTO;
+import com.ia.core.security.service.model.user.UserDTO;
+import com.ia.core.security.service.user.UserRepository;
+import com.ia.core.service.event.BaseServiceEvent;
+import com.ia.core.service.event.CrudOperationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes para {@link CoreUserDetailsService}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("CoreUserDetailsService")
+class CoreUserDetailsServiceTest {
+
+  private UserRepository repository;
+  private CoreUserDetailsService service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(UserRepository.class);
+    service = new CoreUserDetailsService(repository,
+                                         new SecurityProperties.UserDetailsCacheConfig());
+    User user = User.builder().userCode("joao").userName("João").password("hash")
+        .enabled(true).accountNotLocked(true).build();
+    when(repository.findByUserCode("joao")).thenReturn(Optional.of(user));
+    when(repository.findPrivilegeNamesByUserCode("joao")).thenReturn(List.of("USER", "ROLE"));
+  }
+
+  @Test
+  @DisplayName("Deve carregar usuário e privilégios uma única vez")
+  void deveCarregarUmaVez() {
+    UserDetails first = service.loadUserByUsername("joao");
+    UserDetails second = service.loadUserByUsername("joao");
+
+    assertThat(first.getUsername()).isEqualTo("joao");
+    assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+        .containsExactlyInAnyOrder("USER", "ROLE");
+    assertThat(second.getAuthorities()).isEqualTo(first.getAuthorities());
+    verify(repository, times(1)).findByUserCode("joao");
+    verify(repository, times(1)).findPrivilegeNamesByUserCode("joao");
+  }
+
+  @Test
+  @DisplayName("Deve devolver cópias que não apagam a senha guardada")
+  void deveDevolverCopias() {
+    UserDetails first = service.loadUserByUsername("joao");
+    ((CredentialsContainer) first).eraseCredentials();
+
+    assertThat(service.loadUserByUsername("joao").getPassword()).isEqualTo("hash");
+  }
+
+  @Test
+  @DisplayName("Deve descartar o usuário gravado e todos ao gravar um perfil")
+  void deveDescartarPorEvento() {
+    service.loadUserByUsername("joao");
+
+    service.onSecurityChanged(new BaseServiceEvent<>(this,
+        UserDTO.builder().userCode("joao").build(), CrudOperationType.UPDATED));
+    service.loadUserByUsername("joao");
+    service.onSecurityChanged(new BaseServiceEvent<>(this,
+        RoleDTO.builder().build(), CrudOperationType.UPDATED));
+    service.loadUserByUsername("joao");
+
+    verify(repository, times(3)).findByUserCode("joao");
+    verify(repository, times(3)).findPrivilegeNamesByUserCode("joao");
+  }
+
+  @Test
+  @DisplayName("Deve descartar após o commit, e não a carga concorrente anterior ao commit")
+  void deveDescartarAposCommit() {
+    service.loadUserByUsername("joao");
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+      context.registerBean(TransactionalEventListenerFactory.class);
+      context.registerBean(CoreUserDetailsService.class, () -> service);
+      context.refresh();
+      TransactionSynchronizationManager.initSynchronization();
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+      try {
+        // Revogação gravada na transação, ainda não confirmada
+        context.publishEvent(new BaseServiceEvent<>(this,
+            UserDTO.builder().userCode("joao").build(), CrudOperationType.UPDATED));
+        UserDetails beforeCommit = CompletableFuture
+            .supplyAsync(() -> service.loadUserByUsername("joao")).join();
+        assertThat(beforeCommit.getAuthorities()).hasSize(2);
+
+        // Commit
+        when(repository.findPrivilegeNamesByUserCode("joao")).thenReturn(List.of("USER"));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager
+            .getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+            TransactionSynchronization.STATUS_COMMITTED);
+      } finally {
+        TransactionSynchronizationManager.clear();
+      }
+    }
+
+    assertThat(service.loadUserByUsername("joao").getAuthorities())
+        .extracting(GrantedAuthority::getAuthority).containsExactly("USER");
+  }
+
+  @Test
+  @DisplayName("Não deve guardar usuário inexistente")
+  void naoDeveGuardarInexistente() {
+    when(repository.findByUserCode("maria")).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> service.loadUserByUsername("maria"))
+        .isInstanceOf(UsernameNotFoundException.class);
+    assertThatThrownBy(() -> service.loadUserByUsername("maria"))
+        .isInstanceOf(UsernameNotFoundException.class);
+    verify(repository, times(2)).findByUserCode("maria");
+  }
+}
@@ -2,6 +2,7 @@ package com.ia.core.security.model.authentication;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -142,29 +143,52 @@ public class JwtCoreManager
 
   @Override
   public Collection<String> getFunctionalitiesFromJWT(String token) {
-    Objects.requireNonNull(token, "Token não pode ser null");
-
-    return Jwts.parser()
-        .verifyWith(getKey(getSecret()))
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .get(getClaimFunctionalitiesKey(), Collection.class);
+    return getFunctionalities(parseClaims(token));
   }
 
   @Override
   public <T> T getFunctionalitiesContextFromJWT(String token,
                                                 Class<T> type) {
-    Objects.requireNonNull(token, "Token não pode ser null");
     Objects.requireNonNull(type, "Type não pode ser null");
+    return getFunctionalitiesContext(parseClaims(token), type);
+  }
+
+  /**
+   * Verifica a assinatura e a validade do token e retorna suas claims.
+   * <p>
+   * Permite extrair todos os dados do token com uma única verificação.
+   *
+   * @param token token JWT
+   * @return claims do token
+   * @throws io.jsonwebtoken.JwtException se o token for inválido ou expirado
+   */
+  public Claims parseClaims(String token) {
+    Objects.requireNonNull(token, "Token não pode ser null");
 
-    Object context = Jwts.parser()
+    return Jwts.parser()
         .verifyWith(getKey(getSecret()))
         .build()
         .parseSignedClaims(token)
-        .getPayload()
-        .get(getClaimFunctionalitiesContextKey(), Object.class);
+        .getPayload();
+  }
 
+  /**
+   * @param claims claims do token
+   * @return funcionalidades do token
+   */
+  @SuppressWarnings("unchecked")
+  public Collection<String> getFunctionalities(Claims claims) {
+    return claims.get(getClaimFunctionalitiesKey(), Collection.class);
+  }
+
+  /**
+   * @param claims claims do token
+   * @param type   tipo do contexto
+   * @return contexto de funcionalidades do token
+   */
+  public <T> T getFunctionalitiesContext(Claims claims, Class<T> type) {
+    Object context = claims.get(getClaimFunctionalitiesContextKey(),
+                                Object.class);
     Gson gson = new Gson();
     JsonElement jsonElement = gson.toJsonTree(context);
 
@@ -64,12 +64,15 @@ public class LogOperation
     @Lob
     @Column(name = "new_value")
     private String newValue;
+    @Lob
+    @Column(name = "diff")
+    private String diff;
 
     @Default
     @Column(name = "date_time_operation")
     private LocalDateTime dateTimeOperation = LocalDateTime.now();
 
-    @Column(name = "operataion")
+    @Column(name = "operation")
     private OperationEnum operation;
 
     @Override
@@ -106,6 +109,11 @@ public class LogOperation
             builder.append(newValue);
             builder.append(", ");
         }
+        if (diff != null) {
+            builder.append("diff=");
+            builder.append(diff);
+            builder.append(", ");
+        }
         if (dateTimeOperation != null) {
             builder.append("dateTimeOperation=");
             builder.append(dateTimeOperation);
@@ -0,0 +1,242 @@
+package com.ia.core.security.service.model.authorization;
+
+import com.ia.core.security.model.authentication.JwtManager.Context;
+import com.ia.core.security.model.functionality.Operation;
+import com.ia.core.security.model.functionality.OperationEnum;
+import com.ia.core.security.service.model.authorization.CoreSecurityAuthorizationManager.HasContextDefinitions.PrivilegeContext;
+import com.ia.core.security.service.model.privilege.PrivilegeOperationContextDTO;
+import com.ia.core.security.service.model.privilege.PrivilegeOperationDTO;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Índice de decisões de autorização de um usuário, montado uma única vez a
+ * partir de seus papéis e definições de contexto.
+ * <p>
+ * Os nomes de funcionalidades e de contextos são convertidos em ids inteiros
+ * compartilhados por todos os índices. As funcionalidades concedidas ficam em
+ * um {@link BitSet} e os contextos com privilégio em um {@link BitSet} por
+ * {@link OperationEnum}. As restrições de contexto são pré-calculadas por
+ * contexto e operação, com um mapa de chave para valores por operação
+ * privilegiada: a decisão exige que todas as operações privilegiadas aceitem o
+ * valor do serviço, como em
+ * {@link CoreSecurityAuthorizationManager#check(HasContext, Operation, Object)}.
+ * Os valores continuam comparados por {@link HasContext#matches}, pois a
+ * comparação padrão é por conteúdo e não por igualdade.
+ * <p>
+ * O índice é imutável e pode ser compartilhado entre threads.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+public final class AuthorizationIndex {
+
+  private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+
+  private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+  /** Índice sem funcionalidades nem restrições */
+  public static final AuthorizationIndex EMPTY = of(null, null);
+
+  private final BitSet functionalities;
+
+  private final Map<OperationEnum, BitSet> operations;
+
+  private final Map<String, Map<OperationEnum, List<Map<String, Set<String>>>>> restrictions;
+
+  private final Map<String, Map<OperationEnum, List<PrivilegeOperationContextDTO>>> definitions;
+
+  private AuthorizationIndex(BitSet functionalities,
+                             Map<OperationEnum, BitSet> operations,
+                             Map<String, Map<OperationEnum, List<Map<String, Set<String>>>>> restrictions,
+                             Map<String, Map<OperationEnum, List<PrivilegeOperationContextDTO>>> definitions) {
+    this.functionalities = functionalities;
+    this.operations = operations;
+    this.restrictions = restrictions;
+    this.definitions = definitions;
+  }
+
+  /**
+   * Monta o índice. Entradas nulas são ignoradas.
+   *
+   * @param roles              funcionalidades concedidas
+   * @param contextDefinitions definições de contexto do usuário
+   * @return índice de decisões
+   */
+  public static AuthorizationIndex of(Collection<String> roles,
+                                      Context<PrivilegeContext> contextDefinitions) {
+    BitSet functionalities = new BitSet();
+    if (roles != null) {
+      for (String role : roles) {
+        if (role != null) {
+          functionalities.set(intern(role));
+        }
+      }
+    }
+
+    Map<OperationEnum, BitSet> operations = new EnumMap<>(OperationEnum.class);
+    Map<String, Map<OperationEnum, List<Map<String, Set<String>>>>> restrictions = new HashMap<>();
+    Map<String, Map<OperationEnum, List<PrivilegeOperationContextDTO>>> definitions = new HashMap<>();
+    Collection<PrivilegeContext> contexts = contextDefinitions == null ? null
+                                                                        : contextDefinitions.getContext();
+    if (contexts != null) {
+      for (PrivilegeContext context : contexts) {
+        if (context == null || context.getPrivilege() == null
+            || context.getPrivilege().getName() == null
+            || context.getPrivilegeOperations() == null) {
+          continue;
+        }
+        String name = context.getPrivilege().getName();
+        Set<OperationEnum> granted = EnumSet.noneOf(OperationEnum.class);
+        List<Map<String, Set<String>>> contextRestrictions = new ArrayList<>();
+        for (PrivilegeOperationDTO privilegeOperation : context.getPrivilegeOperations()) {
+          if (privilegeOperation == null) {
+            continue;
+          }
+          Collection<PrivilegeOperationContextDTO> values = privilegeOperation.getContext() == null
+              ? List.of()
+              : privilegeOperation.getContext();
+          if (privilegeOperation.getOperation() != null) {
+            granted.add(privilegeOperation.getOperation());
+            definitions.computeIfAbsent(name, n -> new EnumMap<>(OperationEnum.class))
+                .computeIfAbsent(privilegeOperation.getOperation(), op -> new ArrayList<>())
+                .addAll(values);
+          }
+          Map<String, Set<String>> restriction = restriction(values);
+          if (!restriction.isEmpty()) {
+            contextRestrictions.add(restriction);
+          }
+        }
+        for (OperationEnum operation : granted) {
+          operations.computeIfAbsent(operation, op -> new BitSet()).set(intern(name));
+          restrictions.computeIfAbsent(name, n -> new EnumMap<>(OperationEnum.class))
+              .computeIfAbsent(operation, op -> new ArrayList<>()).addAll(contextRestrictions);
+        }
+      }
+    }
+    return new AuthorizationIndex(functionalities, operations, freeze(restrictions),
+                                  freeze(definitions));
+  }
+
+  /**
+   * @param functionality nome da funcionalidade
+   * @return {@code true} se a funcionalidade foi concedida
+   */
+  public boolean hasFunctionality(String functionality) {
+    Integer id = functionality == null ? null : IDS.get(functionality);
+    return id != null && functionalities.get(id);
+  }
+
+  /**
+   * @param contextName nome do contexto
+   * @param operation   operação
+   * @return {@code true} se há privilégio do contexto para a operação
+   */
+  public boolean hasOperation(String contextName, Operation operation) {
+    if (contextName == null || !(operation instanceof OperationEnum op)) {
+      return false;
+    }
+    Integer id = IDS.get(contextName);
+    BitSet granted = operations.get(op);
+    return id != null && granted != null && granted.get(id);
+  }
+
+  /**
+   * Verifica as restrições de contexto do usuário contra os valores do
+   * serviço.
+   *
+   * @param hasContext          serviço com contexto
+   * @param operation           operação
+   * @param serviceContextValue valores de contexto do serviço
+   * @return {@code true} se não há restrição ou se todas as operações
+   *         privilegiadas aceitam os valores
+   */
+  public boolean matches(HasContext hasContext, Operation operation,
+                         Map<String, String> serviceContextValue) {
+    String contextName = hasContext.getContextName();
+    if (!hasOperation(contextName, operation)) {
+      return true;
+    }
+    for (Map<String, Set<String>> restriction : restrictions.get(contextName)
+        .get((OperationEnum) operation)) {
+      if (!matches(restriction, hasContext, serviceContextValue)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param contextName nome do contexto
+   * @param operation   operação
+   * @return definições de contexto das operações privilegiadas do contexto
+   */
+  public List<PrivilegeOperationContextDTO> getContextDefinitions(String contextName,
+                                                                  OperationEnum operation) {
+    Map<OperationEnum, List<PrivilegeOperationContextDTO>> byOperation = contextName == null
+        ? null
+        : definitions.get(contextName);
+    if (byOperation == null) {
+      return List.of();
+    }
+    return byOperation.getOrDefault(operation, List.of());
+  }
+
+  private static boolean matches(Map<String, Set<String>> restriction, HasContext hasContext,
+                                 Map<String, String> serviceContextValue) {
+    boolean relevant = false;
+    for (Map.Entry<String, Set<String>> entry : restriction.entrySet()) {
+      if (!serviceContextValue.containsKey(entry.getKey())) {
+        continue;
+      }
+      relevant = true;
+      String serviceValue = serviceContextValue.get(entry.getKey());
+      for (String userValue : entry.getValue()) {
+        if (hasContext.matches(entry.getKey(), serviceValue, userValue)) {
+          return true;
+        }
+      }
+    }
+    return !relevant;
+  }
+
+  private static Map<String, Set<String>> restriction(Collection<PrivilegeOperationContextDTO> values) {
+    Map<String, Set<String>> restriction = new HashMap<>();
+    for (PrivilegeOperationContextDTO value : values) {
+      if (value == null || value.getContextKey() == null) {
+        continue;
+      }
+      Set<String> keyValues = restriction.computeIfAbsent(value.getContextKey(),
+                                                          k -> new LinkedHashSet<>());
+      if (value.getValues() != null) {
+        keyValues.addAll(value.getValues());
+      }
+    }
+    restriction.replaceAll((key, keyValues) -> Collections.unmodifiableSet(keyValues));
+    return Collections.unmodifiableMap(restriction);
+  }
+
+  private static <V> Map<String, Map<OperationEnum, List<V>>> freeze(Map<String, Map<OperationEnum, List<V>>> map) {
+    map.replaceAll((name, byOperation) -> {
+      byOperation.replaceAll((operation, list) -> Collections.unmodifiableList(list));
+      return Collections.unmodifiableMap(byOperation);
+    });
+    return Collections.unmodifiableMap(map);
+  }
+
+  private static int intern(String name) {
+    return IDS.computeIfAbsent(name, n -> NEXT_ID.getAndIncrement());
+  }
+}
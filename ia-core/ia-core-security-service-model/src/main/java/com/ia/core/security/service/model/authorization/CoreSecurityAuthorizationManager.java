@@ -90,8 +90,10 @@ public interface CoreSecurityAuthorizationManager {
       return true;
     }
     final String name = root.getFunctionalityTypeName();
-    boolean hasAuthority = getCurrentRoles().roles().stream()
-        .anyMatch(authority -> Objects.equals(name, authority));
+    AuthorizationIndex index = getCurrentAuthorizationIndex();
+    boolean hasAuthority = index != null ? index.hasFunctionality(name)
+                                         : getCurrentRoles().roles().stream()
+                                             .anyMatch(authority -> Objects.equals(name, authority));
     if (HasContext.class.isInstance(root)) {
       return hasAuthority && check((HasContext) root, operation, object);
     }
@@ -121,6 +123,11 @@ public interface CoreSecurityAuthorizationManager {
       return true;
     }
 
+    AuthorizationIndex index = getCurrentAuthorizationIndex();
+    if (index != null) {
+      return index.matches(hasContext, operation, serviceContextValue);
+    }
+
     // Get user privileges for this functionality and operation
     Collection<PrivilegeOperationDTO> userPrivileges = getUserPrivileges(operation, hasContext);
 
@@ -129,6 +136,41 @@ public interface CoreSecurityAuthorizationManager {
         hasMatchingContext(userPrivilege, serviceContextValue, hasContext));
   }
 
+  /**
+   * Obtém as definições de contexto do usuário para o contexto e a operação,
+   * usadas como filtro de consultas.
+   *
+   * @param contextName nome do contexto
+   * @param operation   operação
+   * @return definições de contexto das operações privilegiadas
+   */
+  default Collection<PrivilegeOperationContextDTO> getContextDefinitions(String contextName,
+                                                                         OperationEnum operation) {
+    AuthorizationIndex index = getCurrentAuthorizationIndex();
+    if (index != null) {
+      return index.getContextDefinitions(contextName, operation);
+    }
+    return getCurrentContextDefinitions().definitions().getContext().stream()
+        .filter(up -> Objects.equals(up.getPrivilege().getName(), contextName))
+        .flatMap(po -> po.getPrivilegeOperations().stream())
+        .filter(op -> Objects.equals(op.getOperation(), operation))
+        .flatMap(op -> op.getContext().stream())
+        .toList();
+  }
+
+  /**
+   * Índice de decisões do usuário atual. Implementações que guardam o índice
+   * por usuário evitam percorrer papéis e definições de contexto a cada
+   * verificação.
+   *
+   * @return índice do usuário atual ou {@code null} para verificar diretamente
+   *         sobre {@link #getCurrentRoles()} e
+   *         {@link #getCurrentContextDefinitions()}
+   */
+  default AuthorizationIndex getCurrentAuthorizationIndex() {
+    return null;
+  }
+
   /**
    * Obtém os privilégios do usuário para a operação e funcionalidade.
    */
@@ -93,6 +93,13 @@ public class LogOperationDTO
    */
   private String newValue;
 
+  /**
+   * Diferença campo a campo entre o valor antigo e o novo, serializada por
+   * {@link LogOperationDiff#encode()}. Quando presente, dispensa
+   * {@link #oldValue} e {@link #newValue}.
+   */
+  private String diff;
+
   /**
    * Data e hora da operação.
    * <p>
@@ -140,6 +147,7 @@ public class LogOperationDTO
     public static final String VALUE_ID = "valueId";
     public static final String OLD_VALUE = "oldValue";
     public static final String NEW_VALUE = "newValue";
+    public static final String DIFF = "diff";
 
     /**
      * Retorna todos os nomes de campos deste DTO incluindo os da superclasse.
@@ -148,7 +156,7 @@ public class LogOperationDTO
      */
     public static Set<String> values() {
       var baseValues = AbstractBaseEntityDTO.CAMPOS.values();
-      var currentValues = Set.of(USER_CODE, OPERATION, TYPE, DATE_TIME_OPERATION, USER_NAME, VALUE_ID, OLD_VALUE, NEW_VALUE);
+      var currentValues = Set.of(USER_CODE, OPERATION, TYPE, DATE_TIME_OPERATION, USER_NAME, VALUE_ID, OLD_VALUE, NEW_VALUE, DIFF);
       var allValues = new java.util.HashSet<String>();
       allValues.addAll(baseValues);
       allValues.addAll(currentValues);
@@ -14,10 +14,18 @@ import java.util.*;
  * Esta classe fornece informações detalhadas sobre uma operação realizada
  * no sistema, incluindo valores antigos, novos e as diferenças entre eles.
  * Utilizada para auditoria e histórico de mudanças.
+ * <p>
+ * Registros gravados com {@link LogOperationDTO#getDiff()} são lidos
+ * diretamente da diferença calculada na gravação ({@link LogOperationDiff});
+ * nesse caso os mapas de valores contêm apenas as propriedades alteradas.
+ * Registros antigos, com os valores completos em JSON, continuam sendo
+ * comparados a partir de {@link LogOperationDTO#getOldValue()} e
+ * {@link LogOperationDTO#getNewValue()}.
  *
  * @author Israel Araújo
  * @see LogOperationDTO
  * @see OperationItemDetailsDTO
+ * @see LogOperationDiff
  * @since 1.0.0
  */
 @SuperBuilder(toBuilder = true)
@@ -71,6 +79,10 @@ public class LogOperationDetailsDTO
    * Calcula as diferenças entre os valores antigos e novos.
    */
   public void calculateDiff() {
+    if (logOperation.getDiff() != null) {
+      readDiff(LogOperationDiff.decode(logOperation.getDiff()));
+      return;
+    }
     if (OperationEnum.UPDATE.equals(logOperation.getOperation())) {
       this.oldValue
           .putAll(JsonUtil.getProperties(logOperation.getOldValue()));
@@ -100,6 +112,28 @@ public class LogOperationDetailsDTO
     });
   }
 
+  /**
+   * Preenche os valores e itens a partir de uma diferença já calculada, sem
+   * interpretar JSON.
+   *
+   * @param diff diferença gravada
+   */
+  private void readDiff(LogOperationDiff diff) {
+    for (LogOperationDiff.Change change : diff.getChanges()) {
+      if (change.before() != null) {
+        this.oldValue.put(change.path(), change.before());
+        this.diffOldValue.put(change.path(), change.before());
+      }
+      if (change.after() != null) {
+        this.newValue.put(change.path(), change.after());
+        this.diffNewValue.put(change.path(), change.after());
+      }
+      this.itens.add(new OperationItemDetailsDTO(change.path(),
+                                                 change.before(),
+                                                 change.after()));
+    }
+  }
+
   /**
    * Calcula a diferença entre objetos baseado no novo valor.
    *
@@ -113,16 +147,11 @@ public class LogOperationDetailsDTO
     if (newObject == null) {
       return diffFromNew;
     }
-    diffFromNew.putAll(newObject);
-    if (oldObject == null) {
-      return diffFromNew;
-    }
-    oldObject.entrySet().forEach(entryFromOldObject -> {
-      newObject.entrySet().forEach(entryFromNewObject -> {
-        if (Objects.equals(entryFromNewObject, entryFromOldObject)) {
-          diffFromNew.remove(entryFromOldObject.getKey());
-        }
-      });
+    newObject.forEach((key, value) -> {
+      if (oldObject == null || !oldObject.containsKey(key)
+          || !Objects.equals(oldObject.get(key), value)) {
+        diffFromNew.put(key, value);
+      }
     });
     return diffFromNew;
   }
@@ -140,16 +169,11 @@ public class LogOperationDetailsDTO
     if (oldObject == null) {
       return diffFromOld;
     }
-    diffFromOld.putAll(oldObject);
-    if (newObject == null) {
-      return diffFromOld;
-    }
-    newObject.entrySet().forEach(entryFromNewObject -> {
-      oldObject.entrySet().forEach(entryFromOldObject -> {
-        if (Objects.equals(entryFromNewObject, entryFromOldObject)) {
-          diffFromOld.remove(entryFromOldObject.getKey());
-        }
-      });
+    oldObject.forEach((key, value) -> {
+      if (newObject == null || !newObject.containsKey(key)
+          || !Objects.equals(newObject.get(key), value)) {
+        diffFromOld.put(key, value);
+      }
     });
     return diffFromOld;
   }
@@ -0,0 +1,349 @@
+package com.ia.core.security.service.model.log.operation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.ia.core.service.util.JsonUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Diferença, campo a campo, entre o estado anterior e o posterior de um objeto
+ * registrado no log de operações.
+ * <p>
+ * É calculada no momento da gravação, percorrendo as árvores JSON dos dois
+ * estados, e guarda apenas os caminhos folha alterados (na mesma notação de
+ * {@link JsonUtil#getProperties(String)}: {@code pessoa.endereco.rua},
+ * {@code itens[0]}) com os valores anterior e posterior. Na inserção todos os
+ * campos aparecem sem valor anterior, e na exclusão sem valor posterior.
+ * <p>
+ * A forma serializada ({@link #encode()}) é textual e compacta: uma linha por
+ * alteração, com caminho, valor anterior e valor posterior separados por
+ * tabulação. Cada valor é prefixado pelo tipo ({@code S} texto, {@code N}
+ * número, {@code B} lógico, {@code ~} ausente), e tabulações, quebras de linha
+ * e barras invertidas são escapadas. {@link #decode(String)} lê esse formato
+ * numa única passagem, sem interpretar JSON.
+ *
+ * @author Israel Araújo
+ * @see LogOperationDTO#getDiff()
+ * @see LogOperationDetailsDTO
+ * @since 1.0.0
+ */
+public final class LogOperationDiff {
+  /** Diferença vazia */
+  public static final LogOperationDiff EMPTY = new LogOperationDiff(List.of());
+
+  private static final char SEPARATOR = '\t';
+  private static final char LINE_END = '\n';
+  private static final char ESCAPE = '\\';
+  private static final char ABSENT = '~';
+  private static final char STRING = 'S';
+  private static final char NUMBER = 'N';
+  private static final char BOOLEAN = 'B';
+
+  /**
+   * Alteração de um caminho.
+   *
+   * @param path   caminho da propriedade
+   * @param before valor anterior ({@code null} se ausente)
+   * @param after  valor posterior ({@code null} se ausente)
+   */
+  public record Change(String path, Object before, Object after) {
+  }
+
+  private final List<Change> changes;
+
+  private LogOperationDiff(List<Change> changes) {
+    this.changes = Collections.unmodifiableList(changes);
+  }
+
+  /**
+   * Calcula a diferença entre dois objetos.
+   *
+   * @param before estado anterior ({@code null} na inserção)
+   * @param after  estado posterior ({@code null} na exclusão)
+   * @return diferença calculada
+   */
+  public static LogOperationDiff between(Object before, Object after) {
+    return between(JsonUtil.toJsonTree(before), JsonUtil.toJsonTree(after));
+  }
+
+  /**
+   * Calcula a diferença entre duas árvores JSON.
+   *
+   * @param before árvore do estado anterior
+   * @param after  árvore do estado posterior
+   * @return diferença calculada
+   */
+  public static LogOperationDiff between(JsonElement before,
+                                         JsonElement after) {
+    List<Change> changes = new ArrayList<>();
+    compare(new StringBuilder(), normalize(before), normalize(after),
+            changes);
+    return changes.isEmpty() ? EMPTY : new LogOperationDiff(changes);
+  }
+
+  /**
+   * Lê uma diferença serializada por {@link #encode()}.
+   *
+   * @param encoded diferença serializada
+   * @return diferença lida; {@link #EMPTY} se o texto for nulo ou vazio
+   * @throws IllegalArgumentException se o texto não estiver no formato
+   *                                  esperado
+   */
+  public static LogOperationDiff decode(String encoded) {
+    if (encoded == null || encoded.isEmpty()) {
+      return EMPTY;
+    }
+    List<Change> changes = new ArrayList<>();
+    Reader reader = new Reader(encoded);
+    while (reader.hasMore()) {
+      String path = reader.field();
+      Object before = value(reader.field());
+      Object after = value(reader.field());
+      changes.add(new Change(path, before, after));
+    }
+    return new LogOperationDiff(changes);
+  }
+
+  /**
+   * @return alterações, na ordem em que foram encontradas
+   */
+  public List<Change> getChanges() {
+    return changes;
+  }
+
+  /**
+   * @return <code>true</code> se não houver alterações
+   */
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+
+  /**
+   * Serializa a diferença no formato compacto lido por
+   * {@link #decode(String)}.
+   *
+   * @return diferença serializada; texto vazio se não houver alterações
+   */
+  public String encode() {
+    StringBuilder builder = new StringBuilder(changes.size() * 32);
+    for (Change change : changes) {
+      escape(builder, change.path());
+      builder.append(SEPARATOR);
+      appendValue(builder, change.before());
+      builder.append(SEPARATOR);
+      appendValue(builder, change.after());
+      builder.append(LINE_END);
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return this == obj || obj instanceof LogOperationDiff other
+        && changes.equals(other.changes);
+  }
+
+  @Override
+  public int hashCode() {
+    return changes.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "LogOperationDiff " + changes;
+  }
+
+  /**
+   * Compara recursivamente dois elementos, acumulando as folhas alteradas. O
+   * caminho é mantido num único {@link StringBuilder}, materializado apenas
+   * quando há alteração.
+   */
+  private static void compare(StringBuilder path, JsonElement before,
+                              JsonElement after, List<Change> changes) {
+    if (before == null && after == null) {
+      return;
+    }
+    if (before != null && after != null && before.isJsonObject()
+        && after.isJsonObject()) {
+      JsonObject oldObject = before.getAsJsonObject();
+      JsonObject newObject = after.getAsJsonObject();
+      for (Map.Entry<String, JsonElement> entry : oldObject.entrySet()) {
+        int length = enter(path, entry.getKey());
+        compare(path, normalize(entry.getValue()),
+                normalize(newObject.get(entry.getKey())), changes);
+        path.setLength(length);
+      }
+      for (Map.Entry<String, JsonElement> entry : newObject.entrySet()) {
+        if (!oldObject.has(entry.getKey())) {
+          int length = enter(path, entry.getKey());
+          compare(path, null, normalize(entry.getValue()), changes);
+          path.setLength(length);
+        }
+      }
+    } else if (before != null && after != null && before.isJsonArray()
+        && after.isJsonArray()) {
+      JsonArray oldArray = before.getAsJsonArray();
+      JsonArray newArray = after.getAsJsonArray();
+      int size = Math.max(oldArray.size(), newArray.size());
+      for (int i = 0; i < size; i++) {
+        int length = path.length();
+        path.append('[').append(i).append(']');
+        compare(path,
+                i < oldArray.size() ? normalize(oldArray.get(i)) : null,
+                i < newArray.size() ? normalize(newArray.get(i)) : null,
+                changes);
+        path.setLength(length);
+      }
+    } else if (isLeaf(before) && isLeaf(after)) {
+      if (!Objects.equals(before, after)) {
+        changes.add(new Change(path.toString(), toValue(before),
+                               toValue(after)));
+      }
+    } else {
+      // Tipos diferentes (objeto x valor, lista x objeto): compara cada lado
+      // com a ausência.
+      if (!isLeaf(before)) {
+        compare(path, before, emptyLike(before), changes);
+        before = null;
+      }
+      if (!isLeaf(after)) {
+        compare(path, emptyLike(after), after, changes);
+        after = null;
+      }
+      if (before != null || after != null) {
+        changes.add(new Change(path.toString(), toValue(before),
+                               toValue(after)));
+      }
+    }
+  }
+
+  private static int enter(StringBuilder path, String key) {
+    int length = path.length();
+    if (length > 0) {
+      path.append('.');
+    }
+    path.append(key);
+    return length;
+  }
+
+  private static boolean isLeaf(JsonElement element) {
+    return element == null || element.isJsonPrimitive();
+  }
+
+  private static JsonElement emptyLike(JsonElement element) {
+    return element.isJsonArray() ? new JsonArray() : new JsonObject();
+  }
+
+  private static JsonElement normalize(JsonElement element) {
+    return element == null || element.isJsonNull() ? null : element;
+  }
+
+  private static Object toValue(JsonElement element) {
+    if (element == null) {
+      return null;
+    }
+    JsonPrimitive primitive = element.getAsJsonPrimitive();
+    if (primitive.isBoolean()) {
+      return primitive.getAsBoolean();
+    }
+    if (primitive.isNumber()) {
+      return primitive.getAsBigDecimal();
+    }
+    return primitive.getAsString();
+  }
+
+  private static void appendValue(StringBuilder builder, Object value) {
+    if (value == null) {
+      builder.append(ABSENT);
+    } else if (value instanceof Boolean) {
+      builder.append(BOOLEAN).append(value);
+    } else if (value instanceof Number number) {
+      builder.append(NUMBER).append(number instanceof BigDecimal decimal
+          ? decimal.toPlainString() : number.toString());
+    } else {
+      builder.append(STRING);
+      escape(builder, value.toString());
+    }
+  }
+
+  private static Object value(String field) {
+    if (field.isEmpty()) {
+      throw new IllegalArgumentException("Valor sem tipo na diferença do log de operação");
+    }
+    String text = field.substring(1);
+    return switch (field.charAt(0)) {
+      case ABSENT -> null;
+      case STRING -> text;
+      case NUMBER -> new BigDecimal(text);
+      case BOOLEAN -> Boolean.valueOf(text);
+      default -> throw new IllegalArgumentException("Tipo de valor desconhecido na diferença do log de operação: "
+          + field.charAt(0));
+    };
+  }
+
+  private static void escape(StringBuilder builder, String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case ESCAPE -> builder.append(ESCAPE).append(ESCAPE);
+        case SEPARATOR -> builder.append(ESCAPE).append('t');
+        case LINE_END -> builder.append(ESCAPE).append('n');
+        case '\r' -> builder.append(ESCAPE).append('r');
+        default -> builder.append(c);
+      }
+    }
+  }
+
+  /**
+   * Leitor sequencial dos campos da forma serializada.
+   */
+  private static final class Reader {
+    private final String text;
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+
+    Reader(String text) {
+      this.text = text;
+    }
+
+    boolean hasMore() {
+      return position < text.length();
+    }
+
+    /**
+     * Lê o próximo campo, desfazendo os escapes, e consome o separador.
+     */
+    String field() {
+      if (!hasMore()) {
+        throw new IllegalArgumentException("Diferença do log de operação incompleta");
+      }
+      field.setLength(0);
+      while (position < text.length()) {
+        char c = text.charAt(position++);
+        if (c == SEPARATOR || c == LINE_END) {
+          return field.toString();
+        }
+        if (c == ESCAPE && position < text.length()) {
+          char escaped = text.charAt(position++);
+          field.append(switch (escaped) {
+            case 't' -> SEPARATOR;
+            case 'n' -> LINE_END;
+            case 'r' -> '\r';
+            default -> escaped;
+          });
+        } else {
+          field.append(c);
+        }
+      }
+      return field.toString();
+    }
+  }
+}
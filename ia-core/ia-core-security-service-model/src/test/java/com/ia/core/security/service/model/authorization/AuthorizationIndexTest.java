@@ -0,0 +1,203 @@
+package com.ia.core.security.service.model.authorization;
+
+import com.ia.core.security.model.authentication.JwtManager.Context;
+import com.ia.core.security.model.functionality.Functionality;
+import com.ia.core.security.model.functionality.OperationEnum;
+import com.ia.core.security.service.model.authorization.CoreSecurityAuthorizationManager.HasContextDefinitions.PrivilegeContext;
+import com.ia.core.security.service.model.functionality.FunctionalityManager;
+import com.ia.core.security.service.model.functionality.HasFunctionality;
+import com.ia.core.security.service.model.privilege.PrivilegeDTO;
+import com.ia.core.security.service.model.privilege.PrivilegeOperationContextDTO;
+import com.ia.core.security.service.model.privilege.PrivilegeOperationDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes para {@link AuthorizationIndex}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("AuthorizationIndex")
+class AuthorizationIndexTest {
+
+  private static final List<String> ROLES = List.of("pessoa", "empresa");
+
+  private static final Context<PrivilegeContext> DEFINITIONS = new Context<>(List.of(
+      privilege("pessoa", operation(OperationEnum.READ, context("empresa", "10", "20")),
+                operation(OperationEnum.UPDATE, context("empresa", "10"))),
+      privilege("pessoa", operation(OperationEnum.READ, context("filial", "7"))),
+      privilege("empresa", operation(OperationEnum.READ),
+                operation(OperationEnum.DELETE, context("empresa", "")))) {
+  };
+
+  private static PrivilegeContext privilege(String name, PrivilegeOperationDTO... operations) {
+    return new PrivilegeContext(PrivilegeDTO.builder().name(name).build(), List.of(operations));
+  }
+
+  private static PrivilegeOperationDTO operation(OperationEnum operation,
+                                                 PrivilegeOperationContextDTO... contexts) {
+    return PrivilegeOperationDTO.builder().operation(operation).context(Set.of(contexts)).build();
+  }
+
+  private static PrivilegeOperationContextDTO context(String key, String... values) {
+    return PrivilegeOperationContextDTO.builder().contextKey(key).values(Set.of(values)).build();
+  }
+
+  @Test
+  @DisplayName("Deve decidir como a verificação sobre papéis e definições de contexto")
+  void deveDecidirComoVerificacaoDireta() {
+    Manager direct = new Manager(null);
+    Manager indexed = new Manager(AuthorizationIndex.of(ROLES, DEFINITIONS));
+
+    List<Map<String, String>> values = List.of(Map.of(), Map.of("empresa", "10"),
+                                               Map.of("empresa", "20"), Map.of("empresa", "30"),
+                                               Map.of("filial", "7"), Map.of("filial", "8"),
+                                               Map.of("empresa", "10", "filial", "7"),
+                                               Map.of("empresa", "30", "filial", "7"),
+                                               Map.of("outro", "1"));
+    int allowed = 0;
+    for (String name : List.of("pessoa", "empresa", "cidade")) {
+      for (OperationEnum operation : OperationEnum.values()) {
+        for (Map<String, String> value : values) {
+          HasFunctionality target = new Target(name, value);
+          boolean expected = direct.check(target, operation, value);
+          assertThat(indexed.check(target, operation, value))
+              .as("%s %s %s", name, operation, value).isEqualTo(expected);
+          allowed += expected ? 1 : 0;
+        }
+      }
+    }
+    assertThat(allowed).isPositive().isLessThan(3 * OperationEnum.values().length * values.size());
+  }
+
+  @Test
+  @DisplayName("Deve devolver as definições de contexto da operação")
+  void deveDevolverDefinicoesDaOperacao() {
+    Manager direct = new Manager(null);
+    Manager indexed = new Manager(AuthorizationIndex.of(ROLES, DEFINITIONS));
+
+    for (OperationEnum operation : OperationEnum.values()) {
+      assertThat(indexed.getContextDefinitions("pessoa", operation))
+          .containsExactlyInAnyOrderElementsOf(direct.getContextDefinitions("pessoa", operation));
+    }
+    assertThat(indexed.getContextDefinitions("pessoa", OperationEnum.READ)).hasSize(2);
+    assertThat(indexed.getContextDefinitions("cidade", OperationEnum.READ)).isEmpty();
+    assertThat(indexed.getContextDefinitions(null, OperationEnum.READ)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Deve ignorar entradas nulas")
+  void deveIgnorarEntradasNulas() {
+    AuthorizationIndex index = AuthorizationIndex.of(Arrays.asList("pessoa", null),
+                                                     new Context<>(Arrays.asList(null,
+                                                                                 new PrivilegeContext())) {
+                                                     });
+
+    assertThat(index.hasFunctionality("pessoa")).isTrue();
+    assertThat(index.hasFunctionality("empresa")).isFalse();
+    assertThat(index.hasFunctionality(null)).isFalse();
+    assertThat(AuthorizationIndex.EMPTY.hasFunctionality("pessoa")).isFalse();
+  }
+
+  /**
+   * Serviço com funcionalidade e contexto de mesmo nome.
+   */
+  private record Target(String name, Map<String, String> value)
+    implements HasFunctionality, HasContext {
+
+    @Override
+    public String getFunctionalityTypeName() {
+      return name;
+    }
+
+    @Override
+    public Set<Functionality> registryFunctionalities(FunctionalityManager manager) {
+      return Set.of();
+    }
+
+    @Override
+    public Map<String, String> getContextValue(Object object) {
+      return value;
+    }
+
+    @Override
+    public void createContext() {
+    }
+
+    @Override
+    public String getContextName() {
+      return name;
+    }
+  }
+
+  /**
+   * Gerenciador com todas as operações desabilitadas.
+   */
+  private static final class Manager
+    implements CoreSecurityAuthorizationManager {
+
+    private final AuthorizationIndex index;
+
+    Manager(AuthorizationIndex index) {
+      this.index = index;
+    }
+
+    @Override
+    public AuthorizationIndex getCurrentAuthorizationIndex() {
+      return index;
+    }
+
+    @Override
+    public HasRoles getCurrentRoles() {
+      return () -> ROLES;
+    }
+
+    @Override
+    public HasContextDefinitions getCurrentContextDefinitions() {
+      return () -> DEFINITIONS;
+    }
+
+    @Override
+    public boolean isCreateEnabled() {
+      return false;
+    }
+
+    @Override
+    public boolean isDeleteEnabled() {
+      return false;
+    }
+
+    @Override
+    public boolean isReadEnabled() {
+      return false;
+    }
+
+    @Override
+    public boolean isUpdateEnabled() {
+      return false;
+    }
+
+    @Override
+    public void setCreateEnabled(boolean createEnabled) {
+    }
+
+    @Override
+    public void setDeleteEnabled(boolean deleteEnabled) {
+    }
+
+    @Override
+    public void setReadEnabled(boolean readEnabled) {
+    }
+
+    @Override
+    public void setUpdateEnabled(boolean updateEnabled) {
+    }
+  }
+}
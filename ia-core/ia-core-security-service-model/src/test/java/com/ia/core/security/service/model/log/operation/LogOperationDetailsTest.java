@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 @DisplayName("LogOperationDetailsDTO")
 class LogOperationDetailsTest {
@@ -71,6 +72,27 @@ class LogOperationDetailsTest {
     assertThat(details.getDiffNewValue()).isEmpty();
   }
 
+  @Test
+  @DisplayName("Deve ler a diferença gravada sem os valores completos")
+  void deveLerDiferencaGravada() {
+    LogOperationDTO operation = LogOperationDTO.builder()
+        .userName("usuario")
+        .userCode("USR")
+        .type("User")
+        .valueId(1L)
+        .operation(OperationEnum.UPDATE)
+        .diff("name\tSJoão\tSJosé\nemail\t~\tSjose@example.com\n")
+        .build();
+
+    LogOperationDetailsDTO details = new LogOperationDetailsDTO(operation);
+
+    assertThat(details.getDiffProperties()).containsExactlyInAnyOrder("name", "email");
+    assertThat(details.getDiffOldValue()).containsOnly(entry("name", "João"));
+    assertThat(details.getDiffNewValue()).containsEntry("name", "José").containsEntry("email", "jose@example.com");
+    assertThat(details.getItens()).extracting(OperationItemDetailsDTO::getProperty)
+        .containsExactlyInAnyOrder("name", "email");
+  }
+
   @Test
   @DisplayName("Deve clonar detalhes")
   void deveClonarDetalhes() {
@@ -0,0 +1,83 @@
+package com.ia.core.security.service.model.log.operation;
+
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LogOperationDiff")
+class LogOperationDiffTest {
+
+  private static LogOperationDiff diff(String before, String after) {
+    return LogOperationDiff.between(before == null ? null : JsonParser.parseString(before),
+                                    after == null ? null : JsonParser.parseString(after));
+  }
+
+  @Test
+  @DisplayName("Deve registrar apenas os caminhos alterados")
+  void deveRegistrarApenasCaminhosAlterados() {
+    LogOperationDiff diff = diff("{\"name\":\"João\",\"enabled\":true,\"endereco\":{\"rua\":\"A\",\"numero\":1}}",
+                                 "{\"name\":\"João\",\"enabled\":false,\"endereco\":{\"rua\":\"B\",\"numero\":1}}");
+
+    assertThat(diff.getChanges()).containsExactly(
+        new LogOperationDiff.Change("enabled", true, false),
+        new LogOperationDiff.Change("endereco.rua", "A", "B"));
+  }
+
+  @Test
+  @DisplayName("Deve tratar campos e itens incluídos e removidos")
+  void deveTratarCamposIncluidosERemovidos() {
+    LogOperationDiff diff = diff("{\"roles\":[\"a\",\"b\"],\"email\":\"x@y\"}",
+                                 "{\"roles\":[\"a\"],\"name\":\"José\"}");
+
+    assertThat(diff.getChanges()).containsExactlyInAnyOrder(
+        new LogOperationDiff.Change("roles[1]", "b", null),
+        new LogOperationDiff.Change("email", "x@y", null),
+        new LogOperationDiff.Change("name", null, "José"));
+  }
+
+  @Test
+  @DisplayName("Deve listar todos os campos na inserção")
+  void deveListarTodosOsCamposNaInsercao() {
+    LogOperationDiff diff = LogOperationDiff.between(null, Map.of("valor", 10));
+
+    assertThat(diff.getChanges())
+        .containsExactly(new LogOperationDiff.Change("valor", null, new BigDecimal("10")));
+  }
+
+  @Test
+  @DisplayName("Deve ser vazio quando não há alterações")
+  void deveSerVazioSemAlteracoes() {
+    LogOperationDiff diff = diff("{\"name\":\"João\"}", "{\"name\":\"João\"}");
+
+    assertThat(diff.isEmpty()).isTrue();
+    assertThat(diff.encode()).isEmpty();
+    assertThat(LogOperationDiff.decode(diff.encode())).isSameAs(LogOperationDiff.EMPTY);
+  }
+
+  @Test
+  @DisplayName("Deve ler o que foi serializado, inclusive caracteres especiais")
+  void deveLerOQueFoiSerializado() {
+    LogOperationDiff diff = diff("{\"obs\":\"linha 1\\nlinha\\t2\\\\\",\"valor\":1.50,\"ativo\":true}",
+                                 "{\"obs\":\"\",\"valor\":2}");
+
+    LogOperationDiff lido = LogOperationDiff.decode(diff.encode());
+
+    assertThat(lido).isEqualTo(diff);
+    assertThat(lido.getChanges()).contains(
+        new LogOperationDiff.Change("obs", "linha 1\nlinha\t2\\", ""),
+        new LogOperationDiff.Change("ativo", true, null));
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar diferença com tipo desconhecido")
+  void deveRejeitarTipoDesconhecido() {
+    assertThatThrownBy(() -> LogOperationDiff.decode("name\tXa\t~\n"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
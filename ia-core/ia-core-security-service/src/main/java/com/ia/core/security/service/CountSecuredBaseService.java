@@ -16,7 +16,6 @@ import com.ia.core.service.util.JsonUtil;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -41,13 +40,7 @@ public interface CountSecuredBaseService<T extends Serializable, D extends DTO<?
 
     @Override
     default int count(SearchRequestDTO requestDTO) {
-        getAuthorizationManager().getCurrentContextDefinitions().definitions()
-            .getContext().stream()
-            .filter(up -> Objects.equals(up.getPrivilege().getName(),
-                getContextName()))
-            .flatMap(po -> po.getPrivilegeOperations().stream())
-            .filter(op -> Objects.equals(op.getOperation(), OperationEnum.READ))
-            .flatMap(op -> op.getContext().stream())
+        getAuthorizationManager().getContextDefinitions(getContextName(), OperationEnum.READ)
             .forEach(userContextDefinition -> {
                 var key = userContextDefinition.getContextKey();
                 Collection<String> values = userContextDefinition.getValues();
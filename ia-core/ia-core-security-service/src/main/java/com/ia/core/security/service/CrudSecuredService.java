@@ -1,6 +1,7 @@
 package com.ia.core.security.service;
 
 import com.ia.core.model.BaseEntity;
+import com.ia.core.model.specification.CursorSlice;
 import com.ia.core.security.model.functionality.Functionality;
 import com.ia.core.security.service.model.functionality.FunctionalityManager;
 import com.ia.core.service.CrudService;
@@ -91,4 +92,10 @@ public interface CrudSecuredService<T extends BaseEntity, D extends DTO<?>> exte
         return ListSecuredBaseService.super.findAll(requestDTO);
     }
 
+    @TransactionalReadOnly
+    @Override
+    default CursorSlice<D> findSlice(SearchRequestDTO requestDTO) {
+        return ListSecuredBaseService.super.findSlice(requestDTO);
+    }
+
 }
@@ -2,6 +2,7 @@ package com.ia.core.security.service;
 
 import com.ia.core.model.BaseEntity;
 import com.ia.core.model.filter.FieldType;
+import com.ia.core.model.specification.CursorSlice;
 import com.ia.core.security.model.functionality.Functionality;
 import com.ia.core.security.model.functionality.OperationEnum;
 import com.ia.core.security.service.model.functionality.FunctionalityManager;
@@ -18,7 +19,6 @@ import org.springframework.data.domain.Page;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -44,13 +44,24 @@ public interface ListSecuredBaseService<T extends Serializable, D extends DTO<?>
     @TransactionalReadOnly
     @Override
     default Page<D> findAll(SearchRequestDTO requestDTO) {
-        getAuthorizationManager().getCurrentContextDefinitions().definitions()
-            .getContext().stream()
-            .filter(up -> Objects.equals(up.getPrivilege().getName(),
-                getContextName()))
-            .flatMap(po -> po.getPrivilegeOperations().stream())
-            .filter(op -> Objects.equals(op.getOperation(), OperationEnum.READ))
-            .flatMap(op -> op.getContext().stream())
+        addReadContextFilters(requestDTO);
+        return ListBaseService.super.findAll(requestDTO);
+    }
+
+    @TransactionalReadOnly
+    @Override
+    default CursorSlice<D> findSlice(SearchRequestDTO requestDTO) {
+        addReadContextFilters(requestDTO);
+        return ListBaseService.super.findSlice(requestDTO);
+    }
+
+    /**
+     * Adiciona à requisição os filtros de contexto de leitura do usuário.
+     *
+     * @param requestDTO {@link SearchRequestDTO}
+     */
+    private void addReadContextFilters(SearchRequestDTO requestDTO) {
+        getAuthorizationManager().getContextDefinitions(getContextName(), OperationEnum.READ)
             .forEach(contextDefinitionValue -> {
                 var key = contextDefinitionValue.getContextKey();
                 Collection<String> values = contextDefinitionValue.getValues();
@@ -62,7 +73,6 @@ public interface ListSecuredBaseService<T extends Serializable, D extends DTO<?>
                             .value(getContextDefinitionValue(key, values)).build());
                 }
             });
-        return ListBaseService.super.findAll(requestDTO);
     }
 
     @Override
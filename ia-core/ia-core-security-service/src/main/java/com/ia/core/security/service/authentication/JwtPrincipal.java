@@ -0,0 +1,85 @@
+package com.ia.core.security.service.authentication;
+
+import com.ia.core.security.service.authorization.JWTPrivilegeContext;
+import com.ia.core.security.service.model.authorization.AuthorizationIndex;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Principal autenticado a partir de um token JWT já verificado.
+ * <p>
+ * Guarda os dados do token usados na autorização, de modo que as
+ * verificações de papéis e contextos não voltem a validar e interpretar o
+ * token. As coleções são cópias imutáveis e o índice de decisões é montado
+ * uma única vez, junto com o principal.
+ *
+ * @param userCode        código do usuário (subject do token)
+ * @param userName        nome do usuário
+ * @param functionalities funcionalidades concedidas
+ * @param context         contexto de privilégios
+ * @param expiresAt       expiração do token ({@code null} se não expira)
+ * @param authorizationIndex índice de decisões ({@code null} para montá-lo a
+ *                        partir das funcionalidades e do contexto)
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+public record JwtPrincipal(String userCode, String userName,
+                           Set<String> functionalities,
+                           JWTPrivilegeContext context, Instant expiresAt,
+                           AuthorizationIndex authorizationIndex)
+  implements Principal {
+
+  /**
+   * Copia as coleções recebidas, descartando funcionalidades nulas, e monta o
+   * índice de decisões quando não informado.
+   */
+  public JwtPrincipal {
+    Objects.requireNonNull(userCode, "userCode não pode ser null");
+    functionalities = functionalities == null ? Set.of()
+                                              : functionalities.stream().filter(Objects::nonNull)
+                                                  .collect(Collectors.toUnmodifiableSet());
+    context = context == null || context.getContext() == null
+        ? new JWTPrivilegeContext(List.of())
+        : new JWTPrivilegeContext(Collections.unmodifiableList(new ArrayList<>(context.getContext())));
+    if (authorizationIndex == null) {
+      authorizationIndex = AuthorizationIndex.of(functionalities, context);
+    }
+  }
+
+  /**
+   * Cria o principal montando o índice de decisões.
+   *
+   * @param userCode        código do usuário (subject do token)
+   * @param userName        nome do usuário
+   * @param functionalities funcionalidades concedidas
+   * @param context         contexto de privilégios
+   * @param expiresAt       expiração do token ({@code null} se não expira)
+   */
+  public JwtPrincipal(String userCode, String userName, Set<String> functionalities,
+                      JWTPrivilegeContext context, Instant expiresAt) {
+    this(userCode, userName, functionalities, context, expiresAt, null);
+  }
+
+  /**
+   * @param now instante de referência
+   * @return {@code true} se o token já expirou
+   */
+  public boolean isExpired(Instant now) {
+    return expiresAt != null && !expiresAt.isAfter(now);
+  }
+
+  /**
+   * @return código do usuário
+   */
+  @Override
+  public String getName() {
+    return userCode;
+  }
+}
@@ -0,0 +1,131 @@
+package com.ia.core.security.service.authentication;
+
+import com.ia.core.model.util.BoundedCache;
+import com.ia.core.security.model.authentication.JwtCoreManager;
+import com.ia.core.security.service.authorization.JWTPrivilegeContext;
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Obtém o {@link JwtPrincipal} de um token JWT, verificando cada token uma
+ * única vez.
+ * <p>
+ * Os principals ficam em um {@link BoundedCache} indexado pelo SHA-256 do
+ * token (o token em si não é guardado) e valem até a expiração do token;
+ * após ela, o token é verificado novamente e rejeitado. Tokens inválidos não
+ * são guardados.
+ *
+ * @author Israel Araújo
+ * @since 1.0.0
+ */
+public class JwtPrincipalResolver {
+
+  /** Quantidade padrão de tokens guardados */
+  public static final int DEFAULT_MAX_SIZE = 10_000;
+
+  private final BoundedCache<String, JwtPrincipal> principals;
+
+  /**
+   * Cria o resolvedor com {@link #DEFAULT_MAX_SIZE} tokens.
+   */
+  public JwtPrincipalResolver() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * @param maxSize quantidade máxima de tokens guardados
+   */
+  public JwtPrincipalResolver(int maxSize) {
+    this.principals = new BoundedCache<>(maxSize);
+  }
+
+  /**
+   * @param token token JWT
+   * @return principal do token
+   * @throws io.jsonwebtoken.JwtException se o token for inválido ou expirado
+   */
+  public JwtPrincipal resolve(String token) {
+    Objects.requireNonNull(token, "Token não pode ser null");
+    String key = hash(token);
+    JwtPrincipal cached = principals.get(key);
+    if (cached != null) {
+      if (!cached.isExpired(now())) {
+        return cached;
+      }
+      principals.remove(key);
+    }
+    JwtPrincipal principal = parse(token);
+    principals.put(key, principal);
+    return principal;
+  }
+
+  /**
+   * Descarta todos os principals guardados.
+   */
+  public void clear() {
+    principals.clear();
+  }
+
+  /**
+   * @return quantidade de tokens guardados
+   */
+  public int size() {
+    return principals.size();
+  }
+
+  /**
+   * @return consultas atendidas sem verificar o token
+   */
+  public long hitCount() {
+    return principals.hitCount();
+  }
+
+  /**
+   * @return consultas que verificaram o token
+   */
+  public long missCount() {
+    return principals.missCount();
+  }
+
+  /**
+   * @return instante atual (sobrescrito em testes)
+   */
+  protected Instant now() {
+    return Instant.now();
+  }
+
+  /**
+   * Verifica o token e extrai seus dados em uma única interpretação.
+   *
+   * @param token token JWT
+   * @return principal do token
+   */
+  protected JwtPrincipal parse(String token) {
+    JwtCoreManager jwtManager = JwtCoreManager.get();
+    Claims claims = jwtManager.parseClaims(token);
+    Collection<String> functionalities = jwtManager.getFunctionalities(claims);
+    return new JwtPrincipal(claims.getSubject(),
+                            claims.get(jwtManager.getClaimUserCodeKey(), String.class),
+                            functionalities == null ? null : new HashSet<>(functionalities),
+                            jwtManager.getFunctionalitiesContext(claims, JWTPrivilegeContext.class),
+                            claims.getExpiration() == null ? null
+                                                           : claims.getExpiration().toInstant());
+  }
+
+  private static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.ia.core.security.service.config;
+
+import com.ia.core.security.service.log.operation.LogOperationWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registro das métricas do gravador assíncrono do log de operações.
+ * <p>
+ * Expõe a ocupação da fila e os contadores de registros enfileirados,
+ * gravados, rejeitados (gravados na thread do chamador por falta de espaço na
+ * fila) e com falha, permitindo acompanhar a contrapressão da auditoria. As
+ * métricas só são registradas quando há um {@link MeterRegistry} no contexto.
+ *
+ * @author Israel Araújo
+ * @see LogOperationWriter
+ * @since 1.0.0
+ */
+@Component
+public class LogOperationWriterMetricsConfig {
+
+  /**
+   * Construtor com injeção de dependências.
+   *
+   * @param writer   gravador do log de operações
+   * @param registry registro de métricas
+   */
+  public LogOperationWriterMetricsConfig(LogOperationWriter writer,
+                                         ObjectProvider<MeterRegistry> registry) {
+    registry.ifAvailable(r -> register(writer, r));
+  }
+
+  private static void register(LogOperationWriter writer,
+                               MeterRegistry registry) {
+    Gauge.builder("security_audit_queue_size", writer,
+                  LogOperationWriter::getQueueSize)
+        .description("Registros de log de operações aguardando gravação")
+        .register(registry);
+    Gauge.builder("security_audit_queue_capacity", writer,
+                  LogOperationWriter::getQueueCapacity)
+        .description("Capacidade da fila de log de operações")
+        .register(registry);
+    FunctionCounter.builder("security_audit_enqueued_total", writer,
+                            LogOperationWriter::getEnqueuedCount)
+        .description("Registros de log de operações aceitos na fila")
+        .register(registry);
+    FunctionCounter.builder("security_audit_written_total", writer,
+                            LogOperationWriter::getWrittenCount)
+        .description("Registros de log de operações gravados em lote")
+        .register(registry);
+    FunctionCounter.builder("security_audit_batches_total", writer,
+                            LogOperationWriter::getBatchCount)
+        .description("Lotes de log de operações gravados")
+        .register(registry);
+    FunctionCounter.builder("security_audit_rejected_total", writer,
+                            LogOperationWriter::getRejectedCount)
+        .description("Registros gravados na thread do chamador por fila cheia")
+        .register(registry);
+    FunctionCounter.builder("security_audit_failed_total", writer,
+                            LogOperationWriter::getFailedCount)
+        .description("Falhas na gravação do log de operações")
+        .register(registry);
+  }
+}
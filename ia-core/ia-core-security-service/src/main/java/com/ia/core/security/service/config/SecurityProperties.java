@@ -1,9 +1,12 @@
 package com.ia.core.security.service.config;
 
+import com.ia.core.security.service.log.operation.LogOperationDurability;
+import com.ia.core.security.service.log.operation.LogOperationFormat;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,6 +30,13 @@ import java.util.List;
  *       require-lowercase: true
  *       require-digits: true
  *       require-special: false
+ *     audit:
+ *       durability: sync
+ *       format: diff
+ *       queue-capacity: 10000
+ *       batch-size: 200
+ *       flush-interval: 500ms
+ *       offer-timeout: 50ms
  * </pre>
  *
  * @author Israel Araújo
@@ -206,4 +216,71 @@ public class SecurityProperties {
          */
         private boolean sessionEnabled = false;
     }
+
+    /**
+     * Configurações da gravação do log de operações (auditoria).
+     */
+    private AuditConfig audit = new AuditConfig();
+
+    @Getter
+    @Setter
+    public static class AuditConfig {
+        /**
+         * Modo de durabilidade da gravação. Padrão: SYNC (na transação do
+         * chamador).
+         */
+        private LogOperationDurability durability = LogOperationDurability.SYNC;
+
+        /**
+         * Formato dos valores gravados. Padrão: DIFF (apenas os campos
+         * alterados).
+         */
+        private LogOperationFormat format = LogOperationFormat.DIFF;
+
+        /**
+         * Capacidade da fila de registros pendentes.
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * Quantidade máxima de registros por lote JDBC.
+         */
+        private int batchSize = 200;
+
+        /**
+         * Intervalo máximo entre gravações de lotes incompletos.
+         */
+        private Duration flushInterval = Duration.ofMillis(500);
+
+        /**
+         * Tempo máximo de espera por espaço na fila antes de gravar o registro
+         * na thread do chamador.
+         */
+        private Duration offerTimeout = Duration.ofMillis(50);
+    }
+
+    /**
+     * Configurações do cache de detalhes de usuário da autenticação.
+     */
+    private UserDetailsCacheConfig userDetailsCache = new UserDetailsCacheConfig();
+
+    @Getter
+    @Setter
+    public static class UserDetailsCacheConfig {
+        /**
+         * Habilitar o cache.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Quantidade máxima de usuários em cache.
+         */
+        private int maxSize = 10_000;
+
+        /**
+         * Tempo máximo de permanência de um usuário em cache, limite para
+         * alterações feitas fora dos serviços de usuário, perfil e privilégio.
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
 }
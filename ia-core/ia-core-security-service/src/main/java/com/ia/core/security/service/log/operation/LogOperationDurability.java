@@ -0,0 +1,29 @@
+package com.ia.core.security.service.log.operation;
+
+/**
+ * Modo de durabilidade da gravação do log de operações.
+ *
+ * @author Israel Araújo
+ * @see LogOperationWriter
+ * @since 1.0.0
+ */
+public enum LogOperationDurability {
+  /**
+   * Grava o log na transação do chamador, por meio do
+   * {@link LogOperationService}. O log é confirmado ou desfeito junto com a
+   * operação auditada.
+   */
+  SYNC,
+  /**
+   * Enfileira o log após a confirmação da transação do chamador e grava em
+   * lotes numa thread de fundo. Registros ainda na fila são perdidos em caso de
+   * queda abrupta do processo.
+   */
+  ASYNC,
+  /**
+   * Grava o log numa tabela de saída (outbox) na transação do chamador, com um
+   * único comando JDBC, e transfere os registros para a tabela de log em lotes
+   * numa thread de fundo. Nenhum registro confirmado é perdido.
+   */
+  ASYNC_OUTBOX;
+}
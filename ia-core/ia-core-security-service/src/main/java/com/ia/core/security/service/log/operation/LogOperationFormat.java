@@ -0,0 +1,22 @@
+package com.ia.core.security.service.log.operation;
+
+import com.ia.core.security.service.model.log.operation.LogOperationDiff;
+
+/**
+ * Formato dos valores gravados no log de operações.
+ *
+ * @author Israel Araújo
+ * @see LogOperationService
+ * @since 1.0.0
+ */
+public enum LogOperationFormat {
+  /**
+   * Valores antigo e novo completos, em JSON.
+   */
+  SNAPSHOT,
+  /**
+   * Apenas os campos alterados, com os valores anterior e posterior
+   * ({@link LogOperationDiff}).
+   */
+  DIFF;
+}
@@ -3,6 +3,8 @@ package com.ia.core.security.service.log.operation;
 import com.ia.core.model.BaseEntity;
 import com.ia.core.security.model.functionality.OperationEnum;
 import com.ia.core.security.model.log.operation.LogOperation;
+import com.ia.core.security.service.config.SecurityProperties.AuditConfig;
+import com.ia.core.security.service.model.log.operation.LogOperationDiff;
 import com.ia.core.security.service.model.log.operation.LogOperationDTO;
 import com.ia.core.security.service.model.log.operation.LogOperationTranslator;
 import com.ia.core.service.CrudBaseService;
@@ -52,12 +54,18 @@ public class LogOperationService
   private Runnable operationSetUserDetailsListenerRemover;
   /** Contexto */
   private ThreadLocal<Map<String, Object>> context;
+  /** Gravador assíncrono do log */
+  private final LogOperationWriter writer;
+  /** Configurações de auditoria */
+  private final AuditConfig audit;
   /**
    * Construtor para contexto no escopo de thread
    */
   public LogOperationService(LogOperationServiceConfig config) {
     super(config);
     this.context = ThreadLocal.withInitial(ConcurrentHashMap::new);
+    this.writer = config.getWriter();
+    this.audit = config.getAudit();
     initLogOperationListeners();
   }
 
@@ -74,11 +82,11 @@ public class LogOperationService
       String userName = getUserName(map);
       BaseEntityDTO<?> dto = getDeletedObject(map);
       if (dto != null && Objects.equals(entity.getId(), dto.getId())) {
-        LogOperationDTO logOperation = LogOperationDTO.builder()
-            .dateTimeOperation(LocalDateTime.now()).oldValue(toJson(dto))
+        LogOperationDTO logOperation = withValues(LogOperationDTO.builder()
+            .dateTimeOperation(LocalDateTime.now())
             .operation(OperationEnum.DELETE)
             .type(dto.getClass().getCanonicalName()).valueId(dto.getId())
-            .userCode(userCode).userName(userName).build();
+            .userCode(userCode).userName(userName), dto, null).build();
         log(logOperation, entity);
       }
     } catch (IOException e) {
@@ -114,11 +122,11 @@ public class LogOperationService
       String userName = getUserName(map);
       BaseEntityDTO<?> dto = getInsertedObject(map);
       if (dto != null && Objects.equals(entity.getId(), dto.getId())) {
-        LogOperationDTO logOperation = LogOperationDTO.builder()
-            .dateTimeOperation(LocalDateTime.now()).newValue(toJson(dto))
+        LogOperationDTO logOperation = withValues(LogOperationDTO.builder()
+            .dateTimeOperation(LocalDateTime.now())
             .operation(OperationEnum.CREATE)
             .type(dto.getClass().getCanonicalName()).valueId(dto.getId())
-            .userCode(userCode).userName(userName).build();
+            .userCode(userCode).userName(userName), null, dto).build();
         log(logOperation, entity);
       }
     } catch (IOException e) {
@@ -145,12 +153,12 @@ public class LogOperationService
       if (dtoOld != null && dtoNew != null
           && Objects.equals(dtoOld.getId(), dtoNew.getId())
           && Objects.equals(dtoOld.getId(), entity.getId())) {
-        LogOperationDTO logOperation = LogOperationDTO.builder()
-            .dateTimeOperation(LocalDateTime.now()).oldValue(toJson(dtoOld))
-            .newValue(toJson(dtoNew)).operation(OperationEnum.UPDATE)
+        LogOperationDTO logOperation = withValues(LogOperationDTO.builder()
+            .dateTimeOperation(LocalDateTime.now())
+            .operation(OperationEnum.UPDATE)
             .type(dtoNew.getClass().getCanonicalName())
-            .valueId(dtoNew.getId()).userCode(userCode).userName(userName)
-            .build();
+            .valueId(dtoNew.getId()).userCode(userCode).userName(userName),
+            dtoOld, dtoNew).build();
         log(logOperation, entity);
       }
     } catch (IOException e) {
@@ -259,6 +267,39 @@ public class LogOperationService
                              .logUpdate(map, (BaseEntityDTO<?>) entity));
   }
 
+  /**
+   * Atribui os valores do objeto logado conforme o formato configurado: a
+   * diferença campo a campo ({@link LogOperationFormat#DIFF}) ou os valores
+   * completos em JSON ({@link LogOperationFormat#SNAPSHOT}).
+   *
+   * @param builder construtor do log
+   * @param oldDTO  valor antigo; nulo na inserção
+   * @param newDTO  valor novo; nulo na exclusão
+   * @return o próprio construtor
+   * @throws IOException caso ocorra exceção ao converter o objeto para JSON.
+   */
+  protected LogOperationDTO.LogOperationDTOBuilder<?, ?> withValues(LogOperationDTO.LogOperationDTOBuilder<?, ?> builder,
+                                                                    DTO<?> oldDTO,
+                                                                    DTO<?> newDTO)
+    throws IOException {
+    if (audit != null && audit.getFormat() == LogOperationFormat.DIFF) {
+      builder.diff(toDiff(oldDTO, newDTO));
+    } else {
+      builder.oldValue(oldDTO != null ? toJson(oldDTO) : null)
+          .newValue(newDTO != null ? toJson(newDTO) : null);
+    }
+    return builder;
+  }
+
+  /**
+   * @param oldDTO valor antigo; nulo na inserção
+   * @param newDTO valor novo; nulo na exclusão
+   * @return diferença campo a campo serializada
+   */
+  protected String toDiff(DTO<?> oldDTO, DTO<?> newDTO) {
+    return LogOperationDiff.between(oldDTO, newDTO).encode();
+  }
+
   /**
    * @param dto DTO a ser convertido
    * @return String contendo a representação em JSON do DTO
@@ -271,17 +312,24 @@ public class LogOperationService
   }
 
   /**
-   * Realiza a operação de log sobre um objeto. Este método deve ser executado
-   * de forma síncrona para garantir que o log seja persistido na mesma
-   * transação que o objeto logado.
+   * Realiza a operação de log sobre um objeto. No modo
+   * {@link LogOperationDurability#SYNC} o log é persistido na mesma transação
+   * que o objeto logado; nos demais modos é entregue ao
+   * {@link LogOperationWriter}.
    *
    * @param logOperation {@link LogOperationDTO}
    * @param entity       {@link BaseEntityDTO} salva
-   * @return {@link LogOperationDTO} salvo.
+   * @return {@link LogOperationDTO} salvo, ou o próprio registro quando
+   *         entregue ao gravador assíncrono.
    */
   protected LogOperationDTO log(final LogOperationDTO logOperation,
                                 BaseEntityDTO<?> entity) {
     try {
+      if (writer != null
+          && writer.getDurability() != LogOperationDurability.SYNC) {
+        writer.submit(logOperation);
+        return logOperation;
+      }
       LogOperationDTO saved = save(logOperation);
       log.info("{}", saved);
       return saved;
@@ -478,26 +526,43 @@ public class LogOperationService
    * @return {@link DTO} a ser salvo.
    */
   public <T extends BaseEntity, D extends DTO<?>> D logBeforeSave(final D toSave,BaseEntityRepository<T> repository,Mapper<T, D> mapper) {
+    getContext().clear();
     try {
-
-      T model = mapper.toModel(toSave);
-      Long id = model.getId();
-      boolean isUpdating = model.getId() != null;
+      Long id = getId(toSave, mapper);
+      boolean isUpdating = id != null;
       if (isUpdating) {
-        model = repository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("Entity not found with id: " + id));
-        D oldDTO = mapper.toDTO(model);
-        putOldObject(oldDTO);
+        if (listenerEvaluator.apply(getContext(), toSave)) {
+          T model = repository.findById(id)
+              .orElseThrow(() -> new IllegalArgumentException("Entity not found with id: " + id));
+          D oldDTO = mapper.toDTO(model);
+          putOldObject(oldDTO);
+        }
         preUpdate(toSave);
       } else {
         prePersist(toSave);
       }
       return toSave;
-    } finally {
+    } catch (RuntimeException e) {
       getContext().clear();
+      throw e;
     }
   }
 
+  /**
+   * @param <T>    Tipo da entidade
+   * @param <D>    Tipo do DTO
+   * @param dto    DTO
+   * @param mapper {@link Mapper} usado quando o DTO não expõe o identificador
+   * @return identificador do DTO, sem convertê-lo em entidade quando possível
+   */
+  private <T extends BaseEntity, D extends DTO<?>> Long getId(D dto,
+                                                              Mapper<T, D> mapper) {
+    if (dto instanceof BaseEntityDTO<?> entityDTO) {
+      return entityDTO.getId();
+    }
+    return mapper.toModel(dto).getId();
+  }
+
   /**
    * Depois de salvar
    *
@@ -510,9 +575,7 @@ public class LogOperationService
   public <T extends BaseEntity, D extends DTO<?>> D logAfterSave(final D toSave,
                                                                  final D saved,BaseEntityRepository<T> repository,Mapper<T, D> mapper) {
     try {
-
-      T model = mapper.toModel(toSave);
-      boolean isUpdating = model.getId() != null;
+      boolean isUpdating = getId(toSave, mapper) != null;
       if (isUpdating) {
         putUpdatedObject(saved);
         postUpdated(saved);
@@ -551,6 +614,7 @@ public class LogOperationService
    * @return {@link DTO} que será excluído
    */
   public <T extends BaseEntity, D extends DTO<?>> D logBeforeDelete(final Long id,BaseEntityRepository<T> repository,Mapper<T, D> mapper) {
+    getContext().clear();
     try {
       T model = repository.findById(id)
           .orElseThrow(() -> new IllegalArgumentException("Entity not found with id: " + id));
@@ -558,8 +622,9 @@ public class LogOperationService
       putDeleteObject(dto);
       preDelete(dto);
       return dto;
-    } finally {
+    } catch (RuntimeException e) {
       getContext().clear();
+      throw e;
     }
   }
 
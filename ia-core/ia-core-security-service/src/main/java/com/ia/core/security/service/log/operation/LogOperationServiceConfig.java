@@ -1,6 +1,8 @@
 package com.ia.core.security.service.log.operation;
 
 import com.ia.core.security.model.log.operation.LogOperation;
+import com.ia.core.security.service.config.SecurityConfigurationProvider;
+import com.ia.core.security.service.config.SecurityProperties.AuditConfig;
 import com.ia.core.security.service.model.log.operation.LogOperationDTO;
 import com.ia.core.service.DefaultCrudBaseServiceConfig;
 import com.ia.core.service.mapper.BaseEntityMapper;
@@ -8,6 +10,7 @@ import com.ia.core.service.mapper.SearchRequestMapper;
 import com.ia.core.service.repository.BaseEntityRepository;
 import com.ia.core.service.translator.Translator;
 import com.ia.core.service.validators.IServiceValidator;
+import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -18,15 +21,26 @@ import java.util.List;
  * @author Israel Araújo
  * @since 1.0.0
  */
+@Getter
 @Component
 public class LogOperationServiceConfig
   extends DefaultCrudBaseServiceConfig<LogOperation, LogOperationDTO> {
 
+  /** Gravador assíncrono do log */
+  private final LogOperationWriter writer;
+  /** Configurações de auditoria */
+  private final AuditConfig audit;
+
   public LogOperationServiceConfig(BaseEntityRepository<LogOperation> repository,
                                    BaseEntityMapper<LogOperation, LogOperationDTO> mapper,
                                    SearchRequestMapper searchRequestMapper,
                                    Translator translator,
-                                   List<IServiceValidator<LogOperationDTO>> validators) {
+                                   List<IServiceValidator<LogOperationDTO>> validators,
+                                   LogOperationWriter writer,
+                                   SecurityConfigurationProvider securityConfigurationProvider) {
     super(repository, mapper, searchRequestMapper, translator, validators);
+    this.writer = writer;
+    this.audit = securityConfigurationProvider.getSecurityProperties()
+        .getAudit();
   }
 }
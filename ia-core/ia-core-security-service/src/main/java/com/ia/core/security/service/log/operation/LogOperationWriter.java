@@ -0,0 +1,429 @@
+package com.ia.core.security.service.log.operation;
+
+import com.ia.core.model.HasVersion;
+import com.ia.core.model.TSID;
+import com.ia.core.security.model.log.operation.LogOperation;
+import com.ia.core.security.service.config.SecurityConfigurationProvider;
+import com.ia.core.security.service.config.SecurityProperties.AuditConfig;
+import com.ia.core.security.service.model.log.operation.LogOperationDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gravador assíncrono e em lotes do log de operações.
+ * <p>
+ * Nos modos {@link LogOperationDurability#ASYNC} e
+ * {@link LogOperationDurability#ASYNC_OUTBOX} retira a gravação do log da
+ * transação do chamador:
+ * <ul>
+ * <li>{@code ASYNC}: o registro é enfileirado numa fila limitada somente após
+ * a confirmação da transação e gravado em lotes JDBC por uma thread de
+ * fundo;</li>
+ * <li>{@code ASYNC_OUTBOX}: o registro é inserido na tabela de saída na
+ * transação do chamador e transferido para a tabela de log em lotes, com um
+ * {@code INSERT ... SELECT} e um {@code DELETE} por lote.</li>
+ * </ul>
+ * Quando a fila está cheia por mais que o tempo de espera configurado, o
+ * registro é gravado na thread do chamador (contrapressão), numa transação
+ * própria, e a ocorrência é contabilizada em {@link #getRejectedCount()}. A fila é esvaziada ao encerrar
+ * o contexto.
+ *
+ * @author Israel Araújo
+ * @see LogOperationService
+ * @see LogOperationDurability
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class LogOperationWriter
+  implements SmartLifecycle {
+  /** Tabela de log */
+  static final String LOG_TABLE = LogOperation.SCHEMA_NAME + "."
+      + LogOperation.TABLE_NAME;
+  /** Tabela de saída */
+  static final String OUTBOX_TABLE = LOG_TABLE + "_OUTBOX";
+  /** Colunas gravadas */
+  private static final String COLUMNS = "id, user_name, user_code, value_id, type, old_value, new_value, diff, date_time_operation, operation, version";
+  /** Inserção na tabela de log */
+  static final String INSERT_LOG_SQL = "INSERT INTO " + LOG_TABLE + " ("
+      + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  /** Inserção na tabela de saída */
+  static final String INSERT_OUTBOX_SQL = "INSERT INTO " + OUTBOX_TABLE
+      + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  /** Consulta dos registros pendentes na tabela de saída */
+  static final String SELECT_OUTBOX_SQL = "SELECT id FROM " + OUTBOX_TABLE
+      + " ORDER BY id";
+  /** Transferência da tabela de saída para a tabela de log */
+  static final String RELAY_OUTBOX_SQL = "INSERT INTO " + LOG_TABLE + " ("
+      + COLUMNS + ") SELECT " + COLUMNS + " FROM " + OUTBOX_TABLE
+      + " WHERE id IN (%s)";
+  /** Exclusão dos registros transferidos */
+  static final String DELETE_OUTBOX_SQL = "DELETE FROM " + OUTBOX_TABLE
+      + " WHERE id IN (%s)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final AuditConfig config;
+  private final BlockingQueue<LogOperationDTO> queue;
+  private final Object flushLock = new Object();
+
+  private final AtomicLong enqueuedCount = new AtomicLong();
+  private final AtomicLong writtenCount = new AtomicLong();
+  private final AtomicLong rejectedCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
+  private final AtomicLong batchCount = new AtomicLong();
+
+  private volatile Thread worker;
+  private volatile boolean running;
+
+  /**
+   * Construtor com injeção de dependências.
+   *
+   * @param jdbcTemplate                  {@link JdbcTemplate}
+   * @param transactionManager            gerenciador de transações
+   * @param securityConfigurationProvider provedor de configurações
+   */
+  public LogOperationWriter(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            SecurityConfigurationProvider securityConfigurationProvider) {
+    this.jdbcTemplate = jdbcTemplate;
+    // Transação própria: a gravação na thread do chamador ocorre em afterCommit,
+    // quando a transação do chamador já foi confirmada
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate
+        .setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.config = securityConfigurationProvider.getSecurityProperties()
+        .getAudit();
+    this.queue = new ArrayBlockingQueue<>(Math
+        .max(1, config.getQueueCapacity()));
+  }
+
+  /**
+   * @return modo de durabilidade configurado
+   */
+  public LogOperationDurability getDurability() {
+    return config.getDurability();
+  }
+
+  /**
+   * @return quantidade de registros aguardando gravação na fila
+   */
+  public int getQueueSize() {
+    return queue.size();
+  }
+
+  /**
+   * @return capacidade da fila
+   */
+  public int getQueueCapacity() {
+    return queue.size() + queue.remainingCapacity();
+  }
+
+  /**
+   * @return registros aceitos na fila
+   */
+  public long getEnqueuedCount() {
+    return enqueuedCount.get();
+  }
+
+  /**
+   * @return registros gravados na tabela de log em lotes
+   */
+  public long getWrittenCount() {
+    return writtenCount.get();
+  }
+
+  /**
+   * @return registros gravados na thread do chamador por falta de espaço na
+   *         fila
+   */
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  /**
+   * @return registros ou lotes que não puderam ser gravados
+   */
+  public long getFailedCount() {
+    return failedCount.get();
+  }
+
+  /**
+   * @return lotes gravados
+   */
+  public long getBatchCount() {
+    return batchCount.get();
+  }
+
+  /**
+   * Submete um registro de log conforme o modo de durabilidade assíncrono
+   * configurado.
+   *
+   * @param logOperation registro de log
+   * @throws IllegalStateException se o modo configurado for
+   *                               {@link LogOperationDurability#SYNC}
+   */
+  public void submit(LogOperationDTO logOperation) {
+    switch (getDurability()) {
+      case ASYNC -> afterCommit(() -> enqueue(logOperation));
+      case ASYNC_OUTBOX -> jdbcTemplate
+          .update(INSERT_OUTBOX_SQL, ps -> bind(ps, logOperation, TSID.Factory
+              .getTsid4096().toLong()));
+      default -> throw new IllegalStateException("Modo de durabilidade síncrono não é tratado pelo gravador: "
+          + getDurability());
+    }
+  }
+
+  /**
+   * Executa a ação após a confirmação da transação corrente, ou imediatamente
+   * se não houver transação ativa.
+   *
+   * @param action ação
+   */
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager
+          .registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  /**
+   * Enfileira o registro. Se a fila continuar cheia após o tempo de espera, o
+   * registro é gravado na thread do chamador.
+   *
+   * @param logOperation registro de log
+   */
+  void enqueue(LogOperationDTO logOperation) {
+    boolean accepted;
+    try {
+      accepted = queue.offer(logOperation,
+                             config.getOfferTimeout().toNanos(),
+                             TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      accepted = false;
+    }
+    if (accepted) {
+      enqueuedCount.incrementAndGet();
+    } else {
+      rejectedCount.incrementAndGet();
+      log.warn("Fila de log de operações cheia ({}); gravando na thread do chamador",
+               getQueueCapacity());
+      write(List.of(logOperation));
+    }
+  }
+
+  /**
+   * Grava imediatamente todos os registros pendentes na fila e, no modo
+   * {@link LogOperationDurability#ASYNC_OUTBOX}, na tabela de saída.
+   */
+  public void flush() {
+    synchronized (flushLock) {
+      List<LogOperationDTO> batch = new ArrayList<>(batchSize());
+      while (queue.drainTo(batch, batchSize()) > 0) {
+        write(batch);
+        batch.clear();
+      }
+      if (getDurability() == LogOperationDurability.ASYNC_OUTBOX) {
+        while (relayOutbox() > 0) {
+          // transfere até esvaziar a tabela de saída
+        }
+      }
+    }
+  }
+
+  /**
+   * Grava um lote de registros na tabela de log. Se o lote falhar, os
+   * registros são gravados individualmente para isolar os inválidos.
+   *
+   * @param batch registros
+   */
+  void write(List<LogOperationDTO> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      transactionTemplate.executeWithoutResult(status -> jdbcTemplate
+          .batchUpdate(INSERT_LOG_SQL, batch, batch.size(),
+                       (ps, logOperation) -> bind(ps, logOperation,
+                                                  TSID.Factory.getTsid4096()
+                                                      .toLong())));
+      writtenCount.addAndGet(batch.size());
+      batchCount.incrementAndGet();
+    } catch (RuntimeException e) {
+      if (batch.size() == 1) {
+        failedCount.incrementAndGet();
+        log.error("Erro ao gravar log de operação {}: {}", batch.get(0),
+                  e.getLocalizedMessage(), e);
+      } else {
+        log.warn("Erro ao gravar lote de {} logs de operação; gravando individualmente: {}",
+                 batch.size(), e.getLocalizedMessage());
+        batch.forEach(logOperation -> write(List.of(logOperation)));
+      }
+    }
+  }
+
+  /**
+   * Transfere um lote de registros da tabela de saída para a tabela de log.
+   *
+   * @return quantidade de registros transferidos
+   */
+  int relayOutbox() {
+    try {
+      Integer relayed = transactionTemplate.execute(status -> {
+        List<Long> ids = jdbcTemplate.query(SELECT_OUTBOX_SQL, ps -> ps
+            .setMaxRows(batchSize()), (rs, row) -> rs.getLong(1));
+        if (ids.isEmpty()) {
+          return 0;
+        }
+        String placeholders = String
+            .join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        jdbcTemplate.update(String.format(RELAY_OUTBOX_SQL, placeholders),
+                            args);
+        jdbcTemplate.update(String.format(DELETE_OUTBOX_SQL, placeholders),
+                            args);
+        return ids.size();
+      });
+      int count = relayed == null ? 0 : relayed;
+      if (count > 0) {
+        writtenCount.addAndGet(count);
+        batchCount.incrementAndGet();
+      }
+      return count;
+    } catch (RuntimeException e) {
+      failedCount.incrementAndGet();
+      log.error("Erro ao transferir logs de operação da tabela de saída: {}",
+                e.getLocalizedMessage(), e);
+      return 0;
+    }
+  }
+
+  /**
+   * Laço da thread de fundo: aguarda o primeiro registro até o intervalo de
+   * gravação e grava o lote com os registros disponíveis.
+   */
+  private void run() {
+    List<LogOperationDTO> batch = new ArrayList<>(batchSize());
+    long interval = Math.max(1, config.getFlushInterval().toNanos());
+    while (running) {
+      try {
+        LogOperationDTO first = queue.poll(interval, TimeUnit.NANOSECONDS);
+        synchronized (flushLock) {
+          if (first != null) {
+            batch.add(first);
+            queue.drainTo(batch, batchSize() - 1);
+            write(batch);
+            batch.clear();
+          }
+          if (getDurability() == LogOperationDurability.ASYNC_OUTBOX) {
+            relayOutbox();
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("Erro no gravador de log de operações: {}",
+                  e.getLocalizedMessage(), e);
+      }
+    }
+  }
+
+  private int batchSize() {
+    return Math.max(1, config.getBatchSize());
+  }
+
+  /**
+   * Associa os valores do registro aos parâmetros do comando de inserção.
+   */
+  private static void bind(PreparedStatement ps, LogOperationDTO logOperation,
+                           long id)
+    throws SQLException {
+    ps.setLong(1, id);
+    ps.setString(2, logOperation.getUserName());
+    ps.setString(3, logOperation.getUserCode());
+    if (logOperation.getValueId() != null) {
+      ps.setLong(4, logOperation.getValueId());
+    } else {
+      ps.setNull(4, Types.BIGINT);
+    }
+    ps.setString(5, logOperation.getType());
+    ps.setString(6, logOperation.getOldValue());
+    ps.setString(7, logOperation.getNewValue());
+    ps.setString(8, logOperation.getDiff());
+    LocalDateTime dateTime = logOperation.getDateTimeOperation();
+    ps.setTimestamp(9, Timestamp
+        .valueOf(dateTime != null ? dateTime : LocalDateTime.now()));
+    if (logOperation.getOperation() != null) {
+      ps.setInt(10, logOperation.getOperation().ordinal());
+    } else {
+      ps.setNull(10, Types.TINYINT);
+    }
+    ps.setLong(11, HasVersion.DEFAULT_VERSION);
+  }
+
+  @Override
+  public void start() {
+    if (running || getDurability() == LogOperationDurability.SYNC) {
+      return;
+    }
+    running = true;
+    worker = Thread.ofPlatform().name("log-operation-writer").daemon()
+        .start(this::run);
+    log.info("Gravador de log de operações iniciado: durabilidade={}, lote={}, fila={}",
+             getDurability(), batchSize(), getQueueCapacity());
+  }
+
+  @Override
+  public void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    Thread current = worker;
+    if (current != null) {
+      try {
+        current.join(config.getFlushInterval().toMillis() + 1000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    worker = null;
+    flush();
+    log.info("Gravador de log de operações encerrado: gravados={}, rejeitados={}, falhas={}",
+             writtenCount.get(), rejectedCount.get(), failedCount.get());
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+}
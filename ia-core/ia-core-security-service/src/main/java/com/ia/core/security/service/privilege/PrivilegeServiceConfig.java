@@ -13,6 +13,7 @@ import com.ia.core.service.repository.BaseEntityRepository;
 import com.ia.core.service.translator.Translator;
 import com.ia.core.service.validators.IServiceValidator;
 import lombok.Getter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -49,10 +50,11 @@ public class PrivilegeServiceConfig
                                 SecurityContextService securityContextService,
                                 LogOperationService logOperationService,
                                 List<IServiceValidator<PrivilegeDTO>> validators,
-                                UserPrivilegeMapper userPrivilegeMapper) {
+                                UserPrivilegeMapper userPrivilegeMapper,
+                                ApplicationEventPublisher eventPublisher) {
     super(repository, mapper, searchRequestMapper, translator,
           authorizationManager, securityContextService, logOperationService,
-          validators);
+          validators, eventPublisher);
     this.userPrivilegeMapper = userPrivilegeMapper;
   }
 
@@ -5,6 +5,7 @@ import com.ia.core.service.repository.BaseEntityRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,4 +23,18 @@ public interface UserRepository
 
   @Query("select u from User u where u.userCode = :userCode")
   Optional<User> findByUserCode(@Param("userCode") String userCode);
+
+  /**
+   * Nomes dos privilégios do usuário, concedidos por seus perfis ou
+   * diretamente, obtidos em uma única consulta.
+   *
+   * @param userCode código do usuário
+   * @return nomes distintos dos privilégios
+   */
+  @Query("select distinct p.name from Privilege p"
+      + " where p in (select rp.privilege from User u join u.roles r join r.privileges rp"
+      + " where u.userCode = :userCode)"
+      + " or p in (select up.privilege from UserPrivilege up"
+      + " where up.user.userCode = :userCode)")
+  List<String> findPrivilegeNamesByUserCode(@Param("userCode") String userCode);
 }
@@ -13,6 +13,7 @@ import com.ia.core.service.repository.BaseEntityRepository;
 import com.ia.core.service.translator.Translator;
 import com.ia.core.service.validators.IServiceValidator;
 import lombok.Getter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -51,10 +52,11 @@ public class UserServiceConfig
                            SecurityContextService securityContextService,
                            LogOperationService logOperationService,
                            UserPasswordEncoder passwordEncoder,
-                           List<IServiceValidator<UserDTO>> validators) {
+                           List<IServiceValidator<UserDTO>> validators,
+                           ApplicationEventPublisher eventPublisher) {
     super(repository, mapper, searchRequestMapper, translator,
           authorizationManager, securityContextService, logOperationService,
-          validators);
+          validators, eventPublisher);
     this.passwordEncoder = passwordEncoder;
   }
 
@@ -0,0 +1,18 @@
+-- VSEC2025011213__create_log_operation_outbox_table.sql (ia-core-security-service)
+-- Creates the log_operation outbox table used by the ASYNC_OUTBOX audit durability mode
+-- Author: IA
+-- Dependencies: VSEC2025011212__create_log_operation_table.sql
+
+CREATE TABLE IF NOT EXISTS SECURITY.SEC_LOG_OPERATION_OUTBOX (
+    id BIGINT NOT NULL,
+    user_name VARCHAR(500) NOT NULL,
+    user_code VARCHAR(500) NOT NULL,
+    value_id BIGINT,
+    type VARCHAR(500),
+    old_value CLOB,
+    new_value CLOB,
+    date_time_operation TIMESTAMP,
+    operation TINYINT,
+    version BIGINT NOT NULL DEFAULT 1,
+    CONSTRAINT pk_sec_log_operation_outbox PRIMARY KEY (id)
+);
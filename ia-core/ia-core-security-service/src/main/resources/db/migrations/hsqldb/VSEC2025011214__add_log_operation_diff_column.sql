@@ -0,0 +1,8 @@
+-- VSEC2025011214__add_log_operation_diff_column.sql (ia-core-security-service)
+-- Adds the field-level diff column to the log_operation and log_operation outbox tables
+-- Author: IA
+-- Dependencies: VSEC2025011213__create_log_operation_outbox_table.sql
+
+ALTER TABLE SECURITY.SEC_LOG_OPERATION ADD COLUMN diff CLOB;
+
+ALTER TABLE SECURITY.SEC_LOG_OPERATION_OUTBOX ADD COLUMN diff CLOB;
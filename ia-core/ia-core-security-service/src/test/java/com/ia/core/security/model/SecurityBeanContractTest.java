@@ -32,7 +32,7 @@ class SecurityBeanContractTest {
   static Stream<Arguments> beanContracts() {
     return Stream.of(
         Arguments.of(AuthenticationRequest.class, List.of("codUsuario", "senha", "refreshToken")),
-        Arguments.of(LogOperation.class, List.of("userName", "userCode", "valueId", "type", "oldValue", "newValue", "dateTimeOperation", "operation")),
+        Arguments.of(LogOperation.class, List.of("userName", "userCode", "valueId", "type", "oldValue", "newValue", "diff", "dateTimeOperation", "operation")),
         Arguments.of(Privilege.class, List.of("name", "type", "values")),
         Arguments.of(PrivilegeOperation.class, List.of("operation", "context")),
         Arguments.of(PrivilegeOperationContext.class, List.of("privilegeOperation", "contextKey", "values")),
@@ -0,0 +1,179 @@
+package com.ia.core.security.service;
+
+import com.ia.core.model.filter.SearchRequest;
+import com.ia.core.model.specification.CursorSlice;
+import com.ia.core.security.model.functionality.OperationEnum;
+import com.ia.core.security.service.log.operation.LogOperationService;
+import com.ia.core.security.service.model.authorization.CoreSecurityAuthorizationManager;
+import com.ia.core.security.service.model.privilege.PrivilegeOperationContextDTO;
+import com.ia.core.service.dto.DTO;
+import com.ia.core.service.dto.filter.FilterRequestDTO;
+import com.ia.core.service.dto.filter.OperatorDTO;
+import com.ia.core.service.dto.request.SearchRequestDTO;
+import com.ia.core.service.mapper.Mapper;
+import com.ia.core.service.mapper.SearchRequestMapper;
+import com.ia.core.service.repository.BaseEntityRepository;
+import com.ia.core.service.translator.Translator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ListSecuredBaseService}.
+ *
+ * @author Israel Araújo
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListSecuredBaseService")
+class ListSecuredBaseServiceTest {
+
+    private static final String CONTEXT_NAME = "ITEM";
+
+    @Mock
+    private BaseEntityRepository<String> repository;
+
+    @Mock
+    private Mapper<String, ItemDTO> mapper;
+
+    @Mock
+    private SearchRequestMapper searchRequestMapper;
+
+    @Mock
+    private CoreSecurityAuthorizationManager authorizationManager;
+
+    private ItemService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ItemService(repository, mapper, searchRequestMapper,
+            authorizationManager);
+    }
+
+    @Test
+    @DisplayName("Should apply the READ context filters to keyset slices")
+    void shouldApplyReadContextFiltersToSlice() {
+        // Given
+        when(authorizationManager.canRead(any(), any())).thenReturn(true);
+        when(authorizationManager.getContextDefinitions(CONTEXT_NAME, OperationEnum.READ))
+            .thenReturn(List.of(
+                PrivilegeOperationContextDTO.builder().contextKey("unidade")
+                    .values(Set.of("10")).build(),
+                PrivilegeOperationContextDTO.builder().contextKey("setor").build()));
+        List<FilterRequestDTO> convertedContext = new ArrayList<>();
+        when(searchRequestMapper.toModel(any())).thenAnswer(invocation -> {
+            SearchRequestDTO request = invocation.getArgument(0);
+            convertedContext.addAll(request.getContext());
+            return new SearchRequest();
+        });
+        doReturn(List.of("a")).when(repository).findBy(any(), any());
+        when(mapper.toDTO("a")).thenReturn(new ItemDTO("a"));
+
+        // When
+        CursorSlice<ItemDTO> slice = service
+            .findSlice(SearchRequestDTO.builder().size(10).build());
+
+        // Then
+        assertThat(convertedContext).singleElement().satisfies(filter -> {
+            assertThat(filter.getKey()).isEqualTo("unidade");
+            assertThat(filter.getOperator()).isEqualTo(OperatorDTO.IN);
+            assertThat(filter.getValue()).isEqualTo(List.of("10"));
+        });
+        assertThat(slice.getContent()).containsExactly(new ItemDTO("a"));
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    /**
+     * DTO mínimo para o serviço de teste.
+     *
+     * @param nome nome do item
+     */
+    record ItemDTO(String nome) implements DTO<String> {
+
+        @Override
+        public ItemDTO cloneObject() {
+            return this;
+        }
+    }
+
+    /**
+     * Serviço de listagem seguro sobre os mocks do teste.
+     */
+    private static final class ItemService
+        implements ListSecuredBaseService<String, ItemDTO> {
+
+        private final BaseEntityRepository<String> repository;
+        private final Mapper<String, ItemDTO> mapper;
+        private final SearchRequestMapper searchRequestMapper;
+        private final CoreSecurityAuthorizationManager authorizationManager;
+
+        ItemService(BaseEntityRepository<String> repository,
+                    Mapper<String, ItemDTO> mapper,
+                    SearchRequestMapper searchRequestMapper,
+                    CoreSecurityAuthorizationManager authorizationManager) {
+            this.repository = repository;
+            this.mapper = mapper;
+            this.searchRequestMapper = searchRequestMapper;
+            this.authorizationManager = authorizationManager;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <M extends Mapper<String, ItemDTO>> M getMapper() {
+            return (M) mapper;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R extends BaseEntityRepository<String>> R getRepository() {
+            return (R) repository;
+        }
+
+        @Override
+        public SearchRequestMapper getSearchRequestMapper() {
+            return searchRequestMapper;
+        }
+
+        @Override
+        public Translator getTranslator() {
+            return null;
+        }
+
+        @Override
+        public CoreSecurityAuthorizationManager getAuthorizationManager() {
+            return authorizationManager;
+        }
+
+        @Override
+        public LogOperationService getLogOperationService() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionalityTypeName() {
+            return CONTEXT_NAME;
+        }
+
+        @Override
+        public void createContext() {
+        }
+
+        @Override
+        public Collection<Object> getContextDefinitionValue(String key,
+                                                            Collection<String> values) {
+            return new ArrayList<>(values);
+        }
+    }
+}
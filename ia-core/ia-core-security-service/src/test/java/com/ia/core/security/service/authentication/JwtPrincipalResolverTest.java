@@ -0,0 +1,94 @@
+package com.ia.core.security.service.authentication;
+
+import com.ia.core.security.model.authentication.JwtCoreManager;
+import com.ia.core.security.service.authorization.JWTPrivilegeContext;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link JwtPrincipalResolver}.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("JwtPrincipalResolver")
+class JwtPrincipalResolverTest {
+
+  private static String token(long expirationMillis) {
+    return JwtCoreManager.get().generateToken("user.code", "Usuário", expirationMillis,
+                                              List.of("USER", "ROLE"),
+                                              new JWTPrivilegeContext(List.of()));
+  }
+
+  @Test
+  @DisplayName("Deve verificar o token uma única vez e extrair seus dados")
+  void deveVerificarUmaVez() {
+    JwtPrincipalResolver resolver = new JwtPrincipalResolver();
+    String token = token(60_000);
+
+    JwtPrincipal first = resolver.resolve(token);
+    JwtPrincipal second = resolver.resolve(token);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.userCode()).isEqualTo("user.code");
+    assertThat(first.getName()).isEqualTo("user.code");
+    assertThat(first.userName()).isEqualTo("Usuário");
+    assertThat(first.functionalities()).containsExactlyInAnyOrder("USER", "ROLE");
+    assertThat(first.context().getContext()).isEmpty();
+    assertThat(first.expiresAt()).isAfter(Instant.now());
+    assertThat(resolver.missCount()).isEqualTo(1);
+    assertThat(resolver.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Deve expor coleções imutáveis")
+  void deveExporColecoesImutaveis() {
+    JwtPrincipal principal = new JwtPrincipalResolver().resolve(token(60_000));
+
+    assertThatThrownBy(() -> principal.functionalities().add("ADMIN"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> principal.context().getContext().add(null))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  @DisplayName("Deve verificar novamente o token após sua expiração")
+  void deveVerificarNovamenteAposExpirar() {
+    Instant[] now = { Instant.now() };
+    JwtPrincipalResolver resolver = new JwtPrincipalResolver() {
+      @Override
+      protected Instant now() {
+        return now[0];
+      }
+    };
+    String token = token(60_000);
+
+    JwtPrincipal first = resolver.resolve(token);
+    now[0] = now[0].plus(Duration.ofMinutes(2));
+    JwtPrincipal second = resolver.resolve(token);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(resolver.missCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Não deve guardar tokens inválidos")
+  void naoDeveGuardarTokensInvalidos() {
+    JwtPrincipalResolver resolver = new JwtPrincipalResolver();
+    String token = token(60_000);
+    String tampered = token.substring(0, token.length() - 2)
+        + (token.endsWith("AA") ? "BB" : "AA");
+
+    assertThatThrownBy(() -> resolver.resolve(tampered)).isInstanceOf(JwtException.class);
+    assertThatThrownBy(() -> resolver.resolve(token(-1_000)))
+        .isInstanceOf(JwtException.class);
+    assertThat(resolver.size()).isZero();
+  }
+}
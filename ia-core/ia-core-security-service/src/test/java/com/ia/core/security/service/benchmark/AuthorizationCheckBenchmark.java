@@ -0,0 +1,184 @@
+package com.ia.core.security.service.benchmark;
+
+import com.ia.core.security.model.functionality.Functionality;
+import com.ia.core.security.model.functionality.OperationEnum;
+import com.ia.core.security.service.authorization.CoreAuthorizationManager;
+import com.ia.core.security.service.authorization.JWTPrivilegeContext;
+import com.ia.core.security.service.model.authorization.AuthorizationIndex;
+import com.ia.core.security.service.model.authorization.CoreSecurityAuthorizationManager;
+import com.ia.core.security.service.model.authorization.CoreSecurityAuthorizationManager.HasContextDefinitions.PrivilegeContext;
+import com.ia.core.security.service.model.authorization.HasContext;
+import com.ia.core.security.service.model.functionality.FunctionalityManager;
+import com.ia.core.security.service.model.functionality.HasFunctionality;
+import com.ia.core.security.service.model.privilege.PrivilegeDTO;
+import com.ia.core.security.service.model.privilege.PrivilegeOperationContextDTO;
+import com.ia.core.security.service.model.privilege.PrivilegeOperationDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a verificação de autorização sobre papéis e definições de contexto
+ * com a verificação pelo {@link AuthorizationIndex} do usuário.
+ * <p>
+ * O usuário tem {@code privileges} funcionalidades e privilégios de contexto,
+ * cada um com leitura e atualização restritas por empresa; a verificação
+ * recai sobre o último privilégio, pior caso da busca linear. O método
+ * {@code buildIndex} mede a montagem do índice, feita uma vez por token.
+ * Execução: rodar {@link #main(String[])} com o classpath de teste do módulo.
+ *
+ * @author Israel Araújo
+ * @see AuthorizationIndex
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorizationCheckBenchmark {
+
+  @Param({ "100", "500" })
+  public int privileges;
+
+  private List<String> roles;
+
+  private JWTPrivilegeContext definitions;
+
+  private CoreSecurityAuthorizationManager direct;
+
+  private CoreSecurityAuthorizationManager indexed;
+
+  private Target target;
+
+  private Object object;
+
+  @Setup
+  public void setup() {
+    roles = new ArrayList<>();
+    List<PrivilegeContext> contexts = new ArrayList<>();
+    for (int i = 0; i < privileges; i++) {
+      String name = "funcionalidade." + i;
+      roles.add(name);
+      contexts.add(new PrivilegeContext(PrivilegeDTO.builder().name(name).build(),
+                                        List.of(operation(OperationEnum.READ, i),
+                                                operation(OperationEnum.UPDATE, i))));
+    }
+    definitions = new JWTPrivilegeContext(contexts);
+    direct = new Manager(null);
+    indexed = new Manager(AuthorizationIndex.of(roles, definitions));
+    String last = "funcionalidade." + (privileges - 1);
+    target = new Target(last, Map.of("empresa", String.valueOf(privileges - 1)));
+    object = new Object();
+  }
+
+  private static PrivilegeOperationDTO operation(OperationEnum operation, int i) {
+    PrivilegeOperationContextDTO context = PrivilegeOperationContextDTO.builder()
+        .contextKey("empresa").values(Set.of(String.valueOf(i), String.valueOf(i + 1))).build();
+    return PrivilegeOperationDTO.builder().operation(operation).context(Set.of(context)).build();
+  }
+
+  @Benchmark
+  public boolean direct() {
+    return direct.canUpdate(target, object);
+  }
+
+  @Benchmark
+  public boolean indexed() {
+    return indexed.canUpdate(target, object);
+  }
+
+  @Benchmark
+  public AuthorizationIndex buildIndex() {
+    return AuthorizationIndex.of(roles, definitions);
+  }
+
+  /**
+   * Serviço com funcionalidade e contexto de mesmo nome.
+   */
+  private record Target(String name, Map<String, String> value)
+    implements HasFunctionality, HasContext {
+
+    @Override
+    public String getFunctionalityTypeName() {
+      return name;
+    }
+
+    @Override
+    public Set<Functionality> registryFunctionalities(FunctionalityManager manager) {
+      return Set.of();
+    }
+
+    @Override
+    public Map<String, String> getContextValue(Object object) {
+      return value;
+    }
+
+    @Override
+    public void createContext() {
+    }
+
+    @Override
+    public String getContextName() {
+      return name;
+    }
+  }
+
+  /**
+   * Gerenciador sobre os papéis e definições do benchmark; com índice
+   * {@code null}, verifica diretamente.
+   */
+  private final class Manager
+    extends CoreAuthorizationManager {
+
+    private final AuthorizationIndex index;
+
+    Manager(AuthorizationIndex index) {
+      this.index = index;
+    }
+
+    @Override
+    public AuthorizationIndex getCurrentAuthorizationIndex() {
+      return index;
+    }
+
+    @Override
+    public HasRoles getCurrentRoles() {
+      return () -> roles;
+    }
+
+    @Override
+    public HasContextDefinitions getCurrentContextDefinitions() {
+      return () -> definitions;
+    }
+  }
+
+  /**
+   * Executa as medições.
+   *
+   * @param args não utilizado
+   * @throws RunnerException em caso de falha do JMH
+   */
+  public static void main(String[] args)
+    throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(AuthorizationCheckBenchmark.class.getSimpleName()).build()).run();
+  }
+}
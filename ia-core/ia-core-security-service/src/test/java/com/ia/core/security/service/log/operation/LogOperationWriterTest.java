@@ -0,0 +1,169 @@
+package com.ia.core.security.service.log.operation;
+
+import com.ia.core.security.model.functionality.OperationEnum;
+import com.ia.core.security.service.config.SecurityConfigurationProvider;
+import com.ia.core.security.service.config.SecurityProperties;
+import com.ia.core.security.service.model.log.operation.LogOperationDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link LogOperationWriter}.
+ *
+ * @author Israel Araújo
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogOperationWriter")
+class LogOperationWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SecurityConfigurationProvider securityConfigurationProvider;
+
+    private SecurityProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SecurityProperties();
+        properties.getAudit().setOfferTimeout(Duration.ZERO);
+        lenient().when(securityConfigurationProvider.getSecurityProperties())
+            .thenReturn(properties);
+    }
+
+    private LogOperationWriter writer(LogOperationDurability durability,
+                                      int queueCapacity) {
+        properties.getAudit().setDurability(durability);
+        properties.getAudit().setQueueCapacity(queueCapacity);
+        return new LogOperationWriter(jdbcTemplate, transactionManager,
+                                      securityConfigurationProvider);
+    }
+
+    private LogOperationDTO logOperation(long valueId) {
+        return LogOperationDTO.builder().userCode("admin").userName("Admin")
+            .type("com.ia.Type").valueId(valueId)
+            .operation(OperationEnum.UPDATE)
+            .dateTimeOperation(LocalDateTime.of(2025, 1, 1, 10, 0)).build();
+    }
+
+    @Nested
+    @DisplayName("ASYNC")
+    class AsyncTests {
+
+        @Test
+        @DisplayName("Should enqueue and write pending records in a single batch on flush")
+        void shouldEnqueueAndWriteInSingleBatch() {
+            // Arrange
+            LogOperationWriter writer = writer(LogOperationDurability.ASYNC, 10);
+
+            // Act
+            writer.submit(logOperation(1));
+            writer.submit(logOperation(2));
+            writer.submit(logOperation(3));
+
+            // Assert
+            assertThat(writer.getQueueSize()).isEqualTo(3);
+            verifyNoInteractions(jdbcTemplate);
+
+            writer.flush();
+
+            verify(jdbcTemplate).batchUpdate(eq(LogOperationWriter.INSERT_LOG_SQL),
+                argThat((List<LogOperationDTO> batch) -> batch.size() == 3), eq(3),
+                any(ParameterizedPreparedStatementSetter.class));
+            assertThat(writer.getQueueSize()).isZero();
+            assertThat(writer.getEnqueuedCount()).isEqualTo(3);
+            assertThat(writer.getWrittenCount()).isEqualTo(3);
+            assertThat(writer.getBatchCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should write on caller thread when queue is full")
+        void shouldWriteOnCallerThreadWhenQueueIsFull() {
+            // Arrange
+            LogOperationWriter writer = writer(LogOperationDurability.ASYNC, 1);
+
+            // Act
+            writer.submit(logOperation(1));
+            writer.submit(logOperation(2));
+
+            // Assert
+            assertThat(writer.getQueueSize()).isEqualTo(1);
+            assertThat(writer.getRejectedCount()).isEqualTo(1);
+            verify(jdbcTemplate).batchUpdate(eq(LogOperationWriter.INSERT_LOG_SQL),
+                argThat((List<LogOperationDTO> batch) -> batch.size() == 1
+                    && batch.get(0).getValueId() == 2L), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        }
+
+        @Test
+        @DisplayName("Should retry records individually when batch fails")
+        void shouldRetryIndividuallyWhenBatchFails() {
+            // Arrange
+            LogOperationWriter writer = writer(LogOperationDurability.ASYNC, 10);
+            lenient().when(jdbcTemplate.batchUpdate(anyString(),
+                argThat((List<LogOperationDTO> batch) -> batch != null && batch.size() > 1),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new IllegalStateException("lote inválido"));
+            writer.submit(logOperation(1));
+            writer.submit(logOperation(2));
+
+            // Act
+            writer.flush();
+
+            // Assert
+            verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList(),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class));
+            assertThat(writer.getWrittenCount()).isEqualTo(2);
+            assertThat(writer.getFailedCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should insert into outbox table when durability is ASYNC_OUTBOX")
+    void shouldInsertIntoOutboxWhenDurabilityIsAsyncOutbox() {
+        // Arrange
+        LogOperationWriter writer = writer(LogOperationDurability.ASYNC_OUTBOX, 10);
+
+        // Act
+        writer.submit(logOperation(1));
+
+        // Assert
+        verify(jdbcTemplate).update(eq(LogOperationWriter.INSERT_OUTBOX_SQL),
+            any(PreparedStatementSetter.class));
+        assertThat(writer.getQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject submission when durability is SYNC")
+    void shouldRejectSubmissionWhenDurabilityIsSync() {
+        // Arrange
+        LogOperationWriter writer = writer(LogOperationDurability.SYNC, 10);
+
+        // Act & Assert
+        assertThatThrownBy(() -> writer.submit(logOperation(1)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(writer.isRunning()).isFalse();
+    }
+}
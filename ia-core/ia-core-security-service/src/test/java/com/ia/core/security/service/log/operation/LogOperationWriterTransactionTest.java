@@ -0,0 +1,127 @@
+package com.ia.core.security.service.log.operation;
+
+import com.ia.core.security.model.functionality.OperationEnum;
+import com.ia.core.security.model.log.operation.LogOperation;
+import com.ia.core.security.service.config.SecurityConfigurationProvider;
+import com.ia.core.security.service.config.SecurityProperties;
+import com.ia.core.security.service.model.log.operation.LogOperationDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link LogOperationWriter} with a real transaction on an embedded
+ * database.
+ *
+ * @author Israel Araújo
+ */
+@DisplayName("LogOperationWriter with transaction")
+class LogOperationWriterTransactionTest {
+
+    private EmbeddedDatabase database;
+
+    private DataSourceTransactionManager transactionManager;
+
+    private LogOperationWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.HSQL)
+            .generateUniqueName(true).build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("SET DATABASE TRANSACTION CONTROL MVCC");
+        jdbcTemplate.execute("CREATE SCHEMA " + LogOperation.SCHEMA_NAME);
+        jdbcTemplate.execute("CREATE TABLE " + LogOperationWriter.LOG_TABLE
+            + " (id BIGINT PRIMARY KEY, user_name VARCHAR(500), user_code VARCHAR(500),"
+            + " value_id BIGINT, type VARCHAR(500), old_value VARCHAR(4000),"
+            + " new_value VARCHAR(4000), diff VARCHAR(4000), date_time_operation TIMESTAMP,"
+            + " operation TINYINT, version BIGINT)");
+        transactionManager = new DataSourceTransactionManager(database);
+
+        SecurityProperties properties = new SecurityProperties();
+        properties.getAudit().setDurability(LogOperationDurability.ASYNC);
+        properties.getAudit().setQueueCapacity(1);
+        properties.getAudit().setOfferTimeout(Duration.ZERO);
+        SecurityConfigurationProvider provider = mock(SecurityConfigurationProvider.class);
+        when(provider.getSecurityProperties()).thenReturn(properties);
+        writer = new LogOperationWriter(jdbcTemplate, transactionManager, provider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private LogOperationDTO logOperation(long valueId) {
+        return LogOperationDTO.builder().userCode("admin").userName("Admin")
+            .type("com.ia.Type").valueId(valueId)
+            .operation(OperationEnum.UPDATE)
+            .dateTimeOperation(LocalDateTime.of(2025, 1, 1, 10, 0)).build();
+    }
+
+    private long countLogRows() {
+        // Conexão nova: enxerga apenas registros confirmados
+        try (Connection connection = database.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM "
+                 + LogOperationWriter.LOG_TABLE)) {
+            rs.next();
+            return rs.getLong(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("Should commit the caller-thread write when the queue is full after commit")
+    void shouldCommitCallerThreadWriteWhenQueueIsFull() {
+        // Arrange
+        AtomicLong committedAfterWrite = new AtomicLong(-1);
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            writer.submit(logOperation(1));
+            writer.submit(logOperation(2));
+            // Registrada após as do gravador: executa depois da gravação de contrapressão
+            TransactionSynchronizationManager
+                .registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        committedAfterWrite.set(countLogRows());
+                    }
+                });
+        });
+
+        // Assert
+        assertThat(writer.getQueueSize()).isEqualTo(1);
+        assertThat(writer.getRejectedCount()).isEqualTo(1);
+        assertThat(writer.getFailedCount()).isZero();
+        assertThat(committedAfterWrite.get()).isEqualTo(1);
+        assertThat(countLogRows()).isEqualTo(1);
+
+        writer.flush();
+
+        assertThat(countLogRows()).isEqualTo(2);
+    }
+}
@@ -44,7 +44,7 @@ class SecurityDtoContractTest {
  static Stream<Arguments> dtoContracts() {
    return Stream.of(
        Arguments.of(JwtAuthenticationResponseDTO.class, List.of("token", "refreshToken"), List.of()),
-       Arguments.of(LogOperationDTO.class, List.of("userName", "userCode", "type", "valueId", "oldValue", "newValue", "dateTimeOperation", "operation"), List.of("type", "userCode")),
+       Arguments.of(LogOperationDTO.class, List.of("userName", "userCode", "type", "valueId", "oldValue", "newValue", "diff", "dateTimeOperation", "operation"), List.of("type", "userCode")),
        Arguments.of(PrivilegeDTO.class, List.of("name", "type", "values"), List.of("name")),
         Arguments.of(PrivilegeOperationContextDTO.class, List.of("contextKey", "values"), List.of()),
         Arguments.of(PrivilegeOperationDTO.class, List.of("operation", "context"), List.of()),
@@ -60,7 +60,7 @@ class SecurityDtoContractTest {
 
  static Stream<Arguments> camposContracts() {
    return Stream.of(
-       Arguments.of(LogOperationDTO.class, List.of("id", "version", "userCode", "operation", "type", "dateTimeOperation", "userName", "valueId", "oldValue", "newValue")),
+       Arguments.of(LogOperationDTO.class, List.of("id", "version", "userCode", "operation", "type", "dateTimeOperation", "userName", "valueId", "oldValue", "newValue", "diff")),
        Arguments.of(PrivilegeDTO.class, List.of("id", "version", "name", "type", "values")),
         Arguments.of(PrivilegeOperationContextDTO.class, List.of("id", "version", "contextKey", "values")),
         Arguments.of(PrivilegeOperationDTO.class, List.of("id", "version", "operation", "context")),
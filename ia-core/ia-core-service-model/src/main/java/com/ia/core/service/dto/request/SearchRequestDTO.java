@@ -68,6 +68,16 @@ public class SearchRequestDTO
    */
   @Builder.Default
   private boolean disjunction = true;
+  /**
+   * Indicativo de paginação por chave (keyset): ignora {@link #page} e
+   * continua a partir de {@link #cursor}.
+   */
+  @Builder.Default
+  private boolean keyset = false;
+  /**
+   * Cursor opaco da fatia anterior, na paginação por chave.
+   */
+  private String cursor;
 
   @Override
   public SearchRequestDTO cloneObject() {
@@ -173,5 +183,6 @@ public class SearchRequestDTO
     public static final String ORDENACAO = "sorts";
     public static final String PAGINA = "page";
     public static final String TAMANHO = "size";
+    public static final String CURSOR = "cursor";
   }
 }
@@ -315,6 +315,24 @@ public class JsonUtil {
     }
   }
 
+  /**
+   * Serializa um objeto para a árvore de elementos JSON, sem gerar o texto
+   * intermediário.
+   *
+   * @param object Objeto a ser serializado
+   * @return {@link JsonElement} representando o objeto; {@link JsonNull} se o
+   *         objeto for nulo
+   * @throws IllegalArgumentException se ocorrer erro durante a serialização
+   */
+  public static JsonElement toJsonTree(Object object) {
+    try {
+      return JSON.toJsonTree(object);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Erro ao serializar objeto para JSON",
+                                         e);
+    }
+  }
+
   /****************************************************************************
    * Adaptadores para tipos temporais do Java Time API
    ***************************************************************************/
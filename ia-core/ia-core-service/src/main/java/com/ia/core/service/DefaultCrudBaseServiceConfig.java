@@ -7,6 +7,7 @@ import com.ia.core.service.mapper.SearchRequestMapper;
 import com.ia.core.service.repository.BaseEntityRepository;
 import com.ia.core.service.translator.Translator;
 import com.ia.core.service.validators.IServiceValidator;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -32,4 +33,14 @@ public class DefaultCrudBaseServiceConfig<T extends BaseEntity, D extends DTO<T>
                                       List<IServiceValidator<D>> validators) {
     super(repository, mapper, searchRequestMapper, translator, validators);
   }
+
+  public DefaultCrudBaseServiceConfig(BaseEntityRepository<T> repository,
+                                      BaseEntityMapper<T, D> mapper,
+                                      SearchRequestMapper searchRequestMapper,
+                                      Translator translator,
+                                      List<IServiceValidator<D>> validators,
+                                      ApplicationEventPublisher eventPublisher) {
+    super(repository, mapper, searchRequestMapper, translator, validators,
+          eventPublisher);
+  }
 }
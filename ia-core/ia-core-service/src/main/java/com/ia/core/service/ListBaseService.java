@@ -2,6 +2,7 @@ package com.ia.core.service;
 
 import com.ia.core.model.BaseEntity;
 import com.ia.core.model.filter.SearchRequest;
+import com.ia.core.model.specification.CursorSlice;
 import com.ia.core.model.specification.SearchSpecification;
 import com.ia.core.resilience4j.annotation.Resilient;
 import com.ia.core.resilience4j.profile.ResilienceProfile;
@@ -13,6 +14,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -46,15 +48,7 @@ public interface ListBaseService<T extends Serializable, D extends DTO<?>>
     @Resilient(ResilienceProfile.DATABASE)
     default Page<D> findAll(SearchRequestDTO requestDTO) {
         if (canList(requestDTO)) {
-            SearchRequest request = getSearchRequestMapper().toModel(requestDTO);
-            request.setFilters(
-                request.getFilters() != null
-                    ? request.getFilters().stream()
-                    .filter(filter -> filter.getKey() != null
-                                      && filter.getOperator() != null)
-                    .collect(Collectors.toList())
-                    : null
-            );
+            SearchRequest request = toSearchRequest(requestDTO);
             // cria a especificação
             SearchSpecification<T> specification = new SearchSpecification<>(request);
             // cria a paginação
@@ -67,4 +61,56 @@ public interface ListBaseService<T extends Serializable, D extends DTO<?>>
         return Page.empty();
     }
 
+    /**
+     * Busca elementos com paginação por chave (keyset): em vez de saltar
+     * registros por deslocamento, a consulta parte do cursor da fatia
+     * anterior, com custo constante em qualquer profundidade e sem consulta
+     * de contagem.
+     *
+     * @param requestDTO {@link SearchRequestDTO}; {@code cursor} nulo para a
+     *                   primeira fatia
+     * @return {@link CursorSlice} com o cursor da fatia seguinte
+     * @see SearchRequest#isKeyset()
+     */
+    @TransactionalReadOnly
+    @Resilient(ResilienceProfile.DATABASE)
+    default CursorSlice<D> findSlice(SearchRequestDTO requestDTO) {
+        int size = requestDTO.getSize() != null && requestDTO.getSize() > 0
+            ? requestDTO.getSize() : 100;
+        if (!canList(requestDTO)) {
+            return CursorSlice.empty(size);
+        }
+        SearchRequest request = toSearchRequest(requestDTO);
+        request.setKeyset(true);
+        SearchSpecification<T> specification = new SearchSpecification<>(request);
+        // um registro a mais indica se há fatia seguinte
+        List<T> rows = getRepository()
+            .findBy(specification, query -> query.limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+            ? specification.nextCursor(content.get(size - 1)) : null;
+        return new CursorSlice<>(content, size, hasNext, nextCursor)
+            .map(this::toDTO);
+    }
+
+    /**
+     * Converte a requisição descartando filtros incompletos.
+     *
+     * @param requestDTO {@link SearchRequestDTO}
+     * @return {@link SearchRequest}
+     */
+    private SearchRequest toSearchRequest(SearchRequestDTO requestDTO) {
+        SearchRequest request = getSearchRequestMapper().toModel(requestDTO);
+        request.setFilters(
+            request.getFilters() != null
+                ? request.getFilters().stream()
+                .filter(filter -> filter.getKey() != null
+                                  && filter.getOperator() != null)
+                .collect(Collectors.toList())
+                : null
+        );
+        return request;
+    }
+
 }